@@ -30,6 +30,7 @@
 package com.mysql.cj;
 
 import java.util.Properties;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.conf.PropertySet;
 import com.mysql.cj.exceptions.ExceptionInterceptor;
@@ -57,6 +58,19 @@ public interface MysqlConnection {
 
     Object getConnectionMutex();
 
+    /**
+     * Returns the lock that serializes the use of this connection by statements and result sets. The driver no longer synchronizes on
+     * {@link #getConnectionMutex()}, so that a virtual thread blocked on network I/O while holding the connection does not pin its carrier thread.
+     * 
+     * The default implementation, for connections that don't provide their own lock, returns a lock shared by all connections with the same
+     * {@link #getConnectionMutex()}.
+     * 
+     * @return the connection lock; the lock of the owning multi-host proxy if this connection is part of one
+     */
+    default Lock getConnectionLock() {
+        return ConnectionMutexLocks.getLock(getConnectionMutex());
+    }
+
     Session getSession();
 
     String getURL();
@@ -31,66 +31,52 @@ package com.mysql.cj;
 
 import java.util.Set;
 
-import com.mysql.cj.util.LRUCache;
+import com.mysql.cj.util.ConcurrentLRUCache;
 
 public class PerConnectionLRUFactory implements CacheAdapterFactory<String, ParseInfo> {
 
     public CacheAdapter<String, ParseInfo> getInstance(Object syncMutex, String url, int cacheMaxSize, int maxKeySize) {
 
-        return new PerConnectionLRU(syncMutex, cacheMaxSize, maxKeySize);
+        return new PerConnectionLRU<>(cacheMaxSize, maxKeySize);
     }
 
-    class PerConnectionLRU implements CacheAdapter<String, ParseInfo> {
+    public static class PerConnectionLRU<V> implements CacheAdapter<String, V> {
         private final int cacheSqlLimit;
-        private final LRUCache<String, ParseInfo> cache;
-        private final Object syncMutex;
+        private final ConcurrentLRUCache<String, V> cache;
 
-        protected PerConnectionLRU(Object syncMutex, int cacheMaxSize, int maxKeySize) {
-            final int cacheSize = cacheMaxSize;
+        public PerConnectionLRU(int cacheMaxSize, int maxKeySize) {
             this.cacheSqlLimit = maxKeySize;
-            this.cache = new LRUCache<>(cacheSize);
-            this.syncMutex = syncMutex;
+            this.cache = new ConcurrentLRUCache<>(cacheMaxSize);
         }
 
-        public ParseInfo get(String key) {
+        public V get(String key) {
             if (key == null || key.length() > this.cacheSqlLimit) {
                 return null;
             }
 
-            synchronized (this.syncMutex) {
-                return this.cache.get(key);
-            }
+            return this.cache.get(key);
         }
 
-        public void put(String key, ParseInfo value) {
+        public void put(String key, V value) {
             if (key == null || key.length() > this.cacheSqlLimit) {
                 return;
             }
 
-            synchronized (this.syncMutex) {
-                this.cache.put(key, value);
-            }
+            this.cache.put(key, value);
         }
 
         public void invalidate(String key) {
-            synchronized (this.syncMutex) {
-                this.cache.remove(key);
-            }
+            this.cache.remove(key);
         }
 
         public void invalidateAll(Set<String> keys) {
-            synchronized (this.syncMutex) {
-                for (String key : keys) {
-                    this.cache.remove(key);
-                }
+            for (String key : keys) {
+                this.cache.remove(key);
             }
-
         }
 
         public void invalidateAll() {
-            synchronized (this.syncMutex) {
-                this.cache.clear();
-            }
+            this.cache.clear();
         }
     }
 }
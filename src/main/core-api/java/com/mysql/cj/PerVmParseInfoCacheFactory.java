@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.protocol.ServerSession;
+import com.mysql.cj.util.TinyLfuCache;
+
+/**
+ * {@link CacheAdapterFactory} sharing parsed statements among all the connections of the VM that have the same 'prepStmtCacheSize', so that a new connection
+ * doesn't parse again the SQL already parsed by others. Entries are keyed by the SQL plus the connection settings the parsing depends on, and are kept in a
+ * {@link TinyLfuCache} according to how often they are used.
+ * <p>
+ * Connections using this factory also share the results of the checks deciding whether a statement can be prepared on the server, see
+ * {@link #getServerPrepareCheckInstance(Object, int, int)}.
+ */
+public class PerVmParseInfoCacheFactory implements CacheAdapterFactory<String, ParseInfo> {
+    private static final ConcurrentHashMap<Integer, TinyLfuCache<StatementKey, ParseInfo>> parseInfoCaches = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Integer, TinyLfuCache<StatementKey, Boolean>> serverPrepareCheckCaches = new ConcurrentHashMap<>();
+
+    private static final int NO_BACKSLASH_ESCAPES = 1;
+    private static final int ANSI_QUOTES = 1 << 1;
+    private static final int DONT_CHECK_ON_DUPLICATE_KEY_UPDATE = 1 << 2;
+    private static final int REWRITE_BATCHED_STATEMENTS = 1 << 3;
+    private static final int ALLOW_MULTI_QUERIES = 1 << 4;
+
+    public CacheAdapter<String, ParseInfo> getInstance(Object syncMutex, String url, int cacheMaxSize, int maxKeySize) {
+        return new SharedCacheAdapter<ParseInfo>((MysqlConnection) syncMutex, parseInfoCaches.computeIfAbsent(cacheMaxSize, TinyLfuCache::new), maxKeySize) {
+            @Override
+            StatementKey keyFor(String sql, Session session) {
+                ServerSession serverSession = session.getServerSession();
+                int flags = (serverSession.isNoBackslashEscapesSet() ? NO_BACKSLASH_ESCAPES : 0)
+                        | (serverSession.useAnsiQuotedIdentifiers() ? ANSI_QUOTES : 0)
+                        | (session.getPropertySet().getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL).getValue()
+                                ? DONT_CHECK_ON_DUPLICATE_KEY_UPDATE
+                                : 0)
+                        | (session.getPropertySet().getBooleanProperty(PropertyKey.rewriteBatchedStatements).getValue() ? REWRITE_BATCHED_STATEMENTS : 0);
+                return new StatementKey(sql, session.getPropertySet().getStringProperty(PropertyKey.characterEncoding).getValue(), flags);
+            }
+        };
+    }
+
+    /**
+     * Returns a cache of the results of the checks deciding whether a statement can be prepared on the server, shared by the connections with the same cache
+     * size and keyed by the SQL plus the server version and connection settings the check depends on.
+     * 
+     * @param syncMutex
+     *            the connection using the cache, a {@link MysqlConnection}
+     * @param cacheMaxSize
+     *            maximum number of cached results
+     * @param maxKeySize
+     *            maximum length of the SQL of cached results
+     * @return cache
+     */
+    public CacheAdapter<String, Boolean> getServerPrepareCheckInstance(Object syncMutex, int cacheMaxSize, int maxKeySize) {
+        return new SharedCacheAdapter<Boolean>((MysqlConnection) syncMutex, serverPrepareCheckCaches.computeIfAbsent(cacheMaxSize, TinyLfuCache::new),
+                maxKeySize) {
+            @Override
+            StatementKey keyFor(String sql, Session session) {
+                ServerSession serverSession = session.getServerSession();
+                int flags = (serverSession.isNoBackslashEscapesSet() ? NO_BACKSLASH_ESCAPES : 0)
+                        | (serverSession.useAnsiQuotedIdentifiers() ? ANSI_QUOTES : 0)
+                        | (session.getPropertySet().getBooleanProperty(PropertyKey.allowMultiQueries).getValue() ? ALLOW_MULTI_QUERIES : 0);
+                return new StatementKey(sql, serverSession.getServerVersion().toString(), flags);
+            }
+        };
+    }
+
+    /**
+     * Returns the VM-wide cache of parsed statements used by the connections with the given 'prepStmtCacheSize', giving access to its statistics.
+     * 
+     * @param cacheMaxSize
+     *            cache size
+     * @return cache, or null if no connection used this cache size yet
+     */
+    public static TinyLfuCache<?, ?> getParseInfoCache(int cacheMaxSize) {
+        return parseInfoCaches.get(cacheMaxSize);
+    }
+
+    /**
+     * Returns the VM-wide cache of server-side prepare checks used by the connections with the given 'prepStmtCacheSize', giving access to its statistics.
+     * 
+     * @param cacheMaxSize
+     *            cache size
+     * @return cache, or null if no connection used this cache size yet
+     */
+    public static TinyLfuCache<?, ?> getServerPrepareCheckCache(int cacheMaxSize) {
+        return serverPrepareCheckCaches.get(cacheMaxSize);
+    }
+
+    static final class StatementKey {
+        private final String sql;
+        private final String settings;
+        private final int flags;
+        private final int hashCode;
+
+        StatementKey(String sql, String settings, int flags) {
+            this.sql = sql;
+            this.settings = settings;
+            this.flags = flags;
+            this.hashCode = 31 * (31 * sql.hashCode() + (settings == null ? 0 : settings.hashCode())) + flags;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey other = (StatementKey) obj;
+            return this.hashCode == other.hashCode && this.flags == other.flags && this.sql.equals(other.sql)
+                    && (this.settings == null ? other.settings == null : this.settings.equals(other.settings));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    abstract static class SharedCacheAdapter<V> implements CacheAdapter<String, V> {
+        private final MysqlConnection connection;
+        private final TinyLfuCache<StatementKey, V> cache;
+        private final int cacheSqlLimit;
+
+        SharedCacheAdapter(MysqlConnection connection, TinyLfuCache<StatementKey, V> cache, int maxKeySize) {
+            this.connection = connection;
+            this.cache = cache;
+            this.cacheSqlLimit = maxKeySize;
+        }
+
+        abstract StatementKey keyFor(String sql, Session session);
+
+        public V get(String key) {
+            if (key == null || key.length() > this.cacheSqlLimit) {
+                return null;
+            }
+            return this.cache.get(keyFor(key, this.connection.getSession()));
+        }
+
+        public void put(String key, V value) {
+            if (key == null || key.length() > this.cacheSqlLimit) {
+                return;
+            }
+            this.cache.put(keyFor(key, this.connection.getSession()), value);
+        }
+
+        public void invalidate(String key) {
+            if (key != null) {
+                this.cache.remove(keyFor(key, this.connection.getSession()));
+            }
+        }
+
+        public void invalidateAll(Set<String> keys) {
+            for (String key : keys) {
+                invalidate(key);
+            }
+        }
+
+        /**
+         * Clears the shared cache, for all the connections using it.
+         */
+        public void invalidateAll() {
+            this.cache.clear();
+        }
+    }
+}
@@ -31,6 +31,7 @@ package com.mysql.cj;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.protocol.Message;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
@@ -59,6 +60,14 @@ public interface Query {
 
     Object getCancelTimeoutMutex();
 
+    /**
+     * Returns the lock that keeps the cancel status of this query consistent while it is being cancelled and while its results are being returned. It is
+     * used instead of {@link #getCancelTimeoutMutex()}, whose monitor would pin virtual threads while the cancellation is sent to the server.
+     * 
+     * @return lock
+     */
+    Lock getCancelTimeoutLock();
+
     void resetCancelledState();
 
     void closeQuery();
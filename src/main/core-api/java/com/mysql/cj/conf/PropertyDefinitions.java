@@ -157,6 +157,10 @@ public class PropertyDefinitions {
         PLAIN, MYSQL41, SHA256_MEMORY, EXTERNAL;
     }
 
+    public enum CompressionAlgorithm { // classic protocol compression
+        ZLIB, ZSTD;
+    }
+
     public enum Compression { // xdevapi.compress
         PREFERRED, REQUIRED, DISABLED;
     }
@@ -291,6 +295,15 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.useCompression, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useCompression"), "3.0.17", CATEGORY_NETWORK, Integer.MIN_VALUE),
 
+                new EnumPropertyDefinition<>(PropertyKey.compressionAlgorithm, CompressionAlgorithm.ZLIB, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.compressionAlgorithm"), "8.0.21", CATEGORY_NETWORK, Integer.MIN_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.zstdCompressionLevel, 3, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.zstdCompressionLevel"), "8.0.21", CATEGORY_NETWORK, Integer.MIN_VALUE, 1, 22),
+
+                new StringPropertyDefinition(PropertyKey.zstdCompressionCodec, DEFAULT_VALUE_NULL_STRING, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.zstdCompressionCodec"), "8.0.21", CATEGORY_NETWORK, Integer.MIN_VALUE),
+
                 new IntegerPropertyDefinition(PropertyKey.maxAllowedPacket, 65535, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.maxAllowedPacket"), "5.1.8", CATEGORY_NETWORK, Integer.MIN_VALUE),
 
@@ -366,6 +379,10 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.queryTimeoutKillsConnection, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.queryTimeoutKillsConnection"), "5.1.9", CATEGORY_STATEMENTS, Integer.MIN_VALUE),
 
+                new IntegerPropertyDefinition(PropertyKey.queryCancellationSessionsPerHost, 2, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.queryCancellationSessionsPerHost"), "8.0.21", CATEGORY_STATEMENTS, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
                 new StringPropertyDefinition(PropertyKey.queryInterceptors, DEFAULT_VALUE_NULL_STRING, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.queryInterceptors"), "8.0.7", CATEGORY_STATEMENTS, Integer.MIN_VALUE),
 
@@ -428,6 +445,10 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.populateInsertRowWithDefaultValues, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.populateInsertRowWithDefaultValues"), "5.0.5", CATEGORY_RESULT_SETS, Integer.MIN_VALUE),
 
+                new IntegerPropertyDefinition(PropertyKey.streamingPrefetchRows, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.streamingPrefetchRows"), "8.0.21", CATEGORY_RESULT_SETS, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.strictUpdates, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.strictUpdates"), "3.0.4", CATEGORY_RESULT_SETS, Integer.MIN_VALUE),
 
@@ -623,6 +644,13 @@ public class PropertyDefinitions {
                 new IntegerPropertyDefinition(PropertyKey.callableStmtCacheSize, 100, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.callableStmtCacheSize"), "3.1.2", CATEGORY_PERFORMANCE, 5, 0, Integer.MAX_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.cursorFetchAhead, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.cursorFetchAhead"), "8.0.21", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
+                new MemorySizePropertyDefinition(PropertyKey.cursorFetchMemoryBudget, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.cursorFetchMemoryBudget"), "8.0.21", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
                 new IntegerPropertyDefinition(PropertyKey.defaultFetchSize, 0, RUNTIME_MODIFIABLE, Messages.getString("ConnectionProperties.defaultFetchSize"),
                         "3.1.9", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
@@ -648,12 +676,33 @@ public class PropertyDefinitions {
                 new IntegerPropertyDefinition(PropertyKey.prepStmtCacheSqlLimit, 256, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.prepStmtCacheSqlLimit"), "3.0.10", CATEGORY_PERFORMANCE, 11, 1, Integer.MAX_VALUE),
 
+                new IntegerPropertyDefinition(PropertyKey.prepStmtPromotionThreshold, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.prepStmtPromotionThreshold"), "8.0.21", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
                 new StringPropertyDefinition(PropertyKey.parseInfoCacheFactory, PerConnectionLRUFactory.class.getName(), RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.parseInfoCacheFactory"), "5.1.1", CATEGORY_PERFORMANCE, 12),
 
                 new BooleanPropertyDefinition(PropertyKey.rewriteBatchedStatements, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.rewriteBatchedStatements"), "3.1.13", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.pipelineBatchedStatements, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.pipelineBatchedStatements"), "8.0.21", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.maxPipelinedCommands, 128, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.maxPipelinedCommands"), "8.0.21", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 1,
+                        Integer.MAX_VALUE),
+
+                new MemorySizePropertyDefinition(PropertyKey.resultSetMemoryBudget, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.resultSetMemoryBudget"), "8.0.21", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.useBindingArena, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.useBindingArena"), "8.0.21", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.useCompactRowStorage, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.useCompactRowStorage"), "8.0.21", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.useCursorFetch, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useCursorFetch"), "5.0.0", CATEGORY_PERFORMANCE, Integer.MAX_VALUE),
 
@@ -92,12 +92,15 @@ public enum PropertyKey {
     clobberStreamingResults("clobberStreamingResults", true), //
     clobCharacterEncoding("clobCharacterEncoding", true), //
     compensateOnDuplicateKeyUpdateCounts("compensateOnDuplicateKeyUpdateCounts", true), //
+    compressionAlgorithm("compressionAlgorithm", true), //
     connectionAttributes("connectionAttributes", true), //
     connectionCollation("connectionCollation", true), //
     connectionLifecycleInterceptors("connectionLifecycleInterceptors", true), //
     connectTimeout("connectTimeout", true), //
     continueBatchOnError("continueBatchOnError", true), //
     createDatabaseIfNotExist("createDatabaseIfNotExist", true), //
+    cursorFetchAhead("cursorFetchAhead", true), //
+    cursorFetchMemoryBudget("cursorFetchMemoryBudget", true), //
     databaseTerm("databaseTerm", true), //
     defaultAuthenticationPlugin("defaultAuthenticationPlugin", true), //
     defaultFetchSize("defaultFetchSize", true), //
@@ -153,6 +156,7 @@ public enum PropertyKey {
     maintainTimeStats("maintainTimeStats", true), //
     maxAllowedPacket("maxAllowedPacket", true), //
     maxQuerySizeToLog("maxQuerySizeToLog", true), //
+    maxPipelinedCommands("maxPipelinedCommands", true), //
     maxReconnects("maxReconnects", true), //
     maxRows("maxRows", true), //
     metadataCacheSize("metadataCacheSize", true), //
@@ -167,15 +171,18 @@ public enum PropertyKey {
     parseInfoCacheFactory("parseInfoCacheFactory", true), //
     passwordCharacterEncoding("passwordCharacterEncoding", true), //
     pedantic("pedantic", true), //
+    pipelineBatchedStatements("pipelineBatchedStatements", true), //
     pinGlobalTxToPhysicalConnection("pinGlobalTxToPhysicalConnection", true), //
     populateInsertRowWithDefaultValues("populateInsertRowWithDefaultValues", true), //
     prepStmtCacheSize("prepStmtCacheSize", true), //
     prepStmtCacheSqlLimit("prepStmtCacheSqlLimit", true), //
+    prepStmtPromotionThreshold("prepStmtPromotionThreshold", true), //
     processEscapeCodesForPrepStmts("processEscapeCodesForPrepStmts", true), //
     profilerEventHandler("profilerEventHandler", true), //
     profileSQL("profileSQL", true), //
     propertiesTransform("propertiesTransform", true), //
     queriesBeforeRetryMaster("queriesBeforeRetryMaster", true), //
+    queryCancellationSessionsPerHost("queryCancellationSessionsPerHost", true), //
     queryInterceptors("queryInterceptors", true), //
     queryTimeoutKillsConnection("queryTimeoutKillsConnection", true), //
     readFromMasterWhenNoSlaves("readFromMasterWhenNoSlaves", true), //
@@ -185,6 +192,7 @@ public enum PropertyKey {
     reportMetricsIntervalMillis("reportMetricsIntervalMillis", true), //
     requireSSL("requireSSL", true), //
     resourceId("resourceId", true), //
+    resultSetMemoryBudget("resultSetMemoryBudget", true), //
     resultSetSizeThreshold("resultSetSizeThreshold", true), //
     retriesAllDown("retriesAllDown", true), //
     rewriteBatchedStatements("rewriteBatchedStatements", true), //
@@ -205,6 +213,7 @@ public enum PropertyKey {
     socksProxyHost("socksProxyHost", true), //
     socksProxyPort("socksProxyPort", true), //
     sslMode("sslMode", true), //
+    streamingPrefetchRows("streamingPrefetchRows", true), //
     strictUpdates("strictUpdates", true), //
     tcpKeepAlive("tcpKeepAlive", true), //
     tcpNoDelay("tcpNoDelay", true), //
@@ -220,7 +229,9 @@ public enum PropertyKey {
     trustCertificateKeyStoreUrl("trustCertificateKeyStoreUrl", true), //
     ultraDevHack("ultraDevHack", true), //
     useAffectedRows("useAffectedRows", true), //
+    useBindingArena("useBindingArena", true), //
     useColumnNamesInFindColumn("useColumnNamesInFindColumn", true), //
+    useCompactRowStorage("useCompactRowStorage", true), //
     useCompression("useCompression", true), //
     useConfigs("useConfigs", true), //
     useCursorFetch("useCursorFetch", true), //
@@ -255,7 +266,9 @@ public enum PropertyKey {
     xdevapiUseAsyncProtocol("xdevapi.useAsyncProtocol", "xdevapiUseAsyncProtocol", true), //
 
     yearIsDateType("yearIsDateType", true), //
-    zeroDateTimeBehavior("zeroDateTimeBehavior", true) //
+    zeroDateTimeBehavior("zeroDateTimeBehavior", true), //
+    zstdCompressionCodec("zstdCompressionCodec", true), //
+    zstdCompressionLevel("zstdCompressionLevel", true) //
     ;
 
     private String keyName;
@@ -29,8 +29,7 @@
 
 package com.mysql.cj.protocol;
 
-import java.util.Map;
-
+import com.mysql.cj.result.ColumnLabelIndex;
 import com.mysql.cj.result.Field;
 
 /**
@@ -45,7 +44,7 @@ public interface ColumnDefinition extends ProtocolEntity {
     void setFields(Field[] fields);
 
     /**
-     * Builds a hash between column names and their indices for fast retrieval.
+     * Builds the {@link ColumnLabelIndex} between column names and their indices for fast retrieval.
      * This is done lazily to support findColumn() and get*(String), as it
      * can be more expensive than just retrieving result set values by ordinal
      * index.
@@ -54,21 +53,14 @@ public interface ColumnDefinition extends ProtocolEntity {
 
     boolean hasBuiltIndexMapping();
 
-    public Map<String, Integer> getColumnLabelToIndex();
-
-    void setColumnLabelToIndex(Map<String, Integer> columnLabelToIndex);
-
-    public Map<String, Integer> getFullColumnNameToIndex();
-
-    void setFullColumnNameToIndex(Map<String, Integer> fullColNameToIndex);
-
-    public Map<String, Integer> getColumnNameToIndex();
-
-    void setColumnNameToIndex(Map<String, Integer> colNameToIndex);
-
-    public Map<String, Integer> getColumnToIndexCache();
+    /**
+     * Returns the case-insensitive column index used by {@link #findColumn(String, boolean, int)}, if it was already built.
+     * 
+     * @return {@link ColumnLabelIndex} or null
+     */
+    ColumnLabelIndex getColumnLabelIndex();
 
-    public void setColumnToIndexCache(Map<String, Integer> columnToIndexCache);
+    void setColumnLabelIndex(ColumnLabelIndex columnLabelIndex);
 
     void initializeFrom(ColumnDefinition columnDefinition);
 
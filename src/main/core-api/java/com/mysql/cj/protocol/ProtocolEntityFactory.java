@@ -57,6 +57,15 @@ public interface ProtocolEntityFactory<T, M extends Message> {
         throw ExceptionFactory.createException(CJOperationNotSupportedException.class, "Not allowed");
     }
 
+    /**
+     * Returns the number of bytes the rows of a fully read result set may take up on the heap before they are moved to a temporary file.
+     * 
+     * @return the memory budget in bytes, or 0 if the rows are always kept on the heap
+     */
+    default long getResultSetMemoryBudget() {
+        return 0;
+    }
+
     /**
      * Create object from protocol entity.
      * 
@@ -29,6 +29,8 @@
 
 package com.mysql.cj.protocol;
 
+import java.util.concurrent.locks.Lock;
+
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.Query;
 import com.mysql.cj.Session;
@@ -41,7 +43,12 @@ public interface ResultsetRowsOwner {
 
     Session getSession();
 
-    Object getSyncMutex();
+    /**
+     * Returns the lock that serializes access to the connection this owner reads its rows from.
+     * 
+     * @return the connection lock, or null if the owner is not bound to a connection
+     */
+    Lock getSyncLock();
 
     /**
      * StackTrace generated where ResultSet was created... used when profiling
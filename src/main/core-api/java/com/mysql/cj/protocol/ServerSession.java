@@ -139,6 +139,14 @@ public interface ServerSession {
 
     boolean isEOFDeprecated();
 
+    /**
+     * Has the CLIENT_OPTIONAL_RESULTSET_METADATA capability been negotiated? If so, result set and prepared statement headers carry a flag telling whether
+     * the column definitions follow, which depends on the "resultset_metadata" session variable.
+     * 
+     * @return true if the server may omit result set metadata
+     */
+    boolean isResultSetMetadataOptional();
+
     boolean hasLongColumnInfo();
 
     Map<String, String> getServerVariables();
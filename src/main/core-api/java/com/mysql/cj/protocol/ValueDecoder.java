@@ -35,6 +35,9 @@ import com.mysql.cj.result.ValueFactory;
 /**
  * A value decoder is responsible for interpreting a byte array as a value. The type of the value is encoded in the method call. After decoding, the value
  * decoder passes an <i>intermediate representation</i> of the value to a {@link ValueFactory} for result value creation.
+ * <p>
+ * Integer and floating point values can also be decoded to their intermediate primitive representation directly, to let callers that need a primitive value
+ * avoid boxing it.
  * 
  * @since 6.0
  */
@@ -74,4 +77,37 @@ public interface ValueDecoder {
     <T> T decodeSet(byte[] bytes, int offset, int length, Field f, ValueFactory<T> vf);
 
     <T> T decodeYear(byte[] bytes, int offset, int length, ValueFactory<T> vf);
+
+    long decodeInt1(byte[] bytes, int offset, int length);
+
+    long decodeUInt1(byte[] bytes, int offset, int length);
+
+    long decodeInt2(byte[] bytes, int offset, int length);
+
+    long decodeUInt2(byte[] bytes, int offset, int length);
+
+    long decodeInt4(byte[] bytes, int offset, int length);
+
+    long decodeUInt4(byte[] bytes, int offset, int length);
+
+    long decodeInt8(byte[] bytes, int offset, int length);
+
+    double decodeFloat(byte[] bytes, int offset, int length);
+
+    double decodeDouble(byte[] bytes, int offset, int length);
+
+    /**
+     * Decodes a DECIMAL value into its unscaled value at the given scale, i.e. the value multiplied by 10^scale.
+     * 
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset of the value
+     * @param length
+     *            length of the value
+     * @param scale
+     *            scale of the returned unscaled value
+     * @return unscaled value
+     */
+    long decodeUnscaledDecimal(byte[] bytes, int offset, int length, int scale);
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.result;
+
+/**
+ * Immutable case-insensitive index of the column labels, original column names and fully-qualified column names of a column layout.
+ * 
+ * The index is built once for a given array of fields and can then be shared by every result set having the same column definition. Lookups hash the
+ * requested name in place and compare it with {@link String#equalsIgnoreCase(String)}, so no objects are created per call.
+ * 
+ * Quoting the JDBC Spec: "Column names used as input to getter methods are case insensitive. When a getter method is called with a column name and several
+ * columns have the same name, the value of the first matching column will be returned."
+ */
+public final class ColumnLabelIndex {
+
+    private final Table labels;
+    private final Table names;
+    private final Table fullNames;
+
+    /**
+     * Builds the index for the given column layout.
+     * 
+     * @param fields
+     *            the fields of the column definition
+     */
+    public ColumnLabelIndex(Field[] fields) {
+        this.labels = new Table(fields.length);
+        this.names = new Table(fields.length);
+        this.fullNames = new Table(fields.length);
+
+        for (int i = 0; i < fields.length; i++) {
+            this.labels.put(fields[i].getName(), i);
+            this.names.put(fields[i].getOriginalName(), i);
+            this.fullNames.put(fields[i].getFullName(), i);
+        }
+    }
+
+    /**
+     * Finds the zero-based index of the first column matching the given name. Column labels are looked up first, then, if requested, original column names and
+     * finally fully-qualified column names.
+     * 
+     * @param columnName
+     *            the name to look up
+     * @param useColumnNamesInFindColumn
+     *            whether to look up original column names
+     * @return the zero-based column index, or -1 if no column matches the name
+     */
+    public int findColumn(String columnName, boolean useColumnNamesInFindColumn) {
+        if (columnName == null) {
+            return -1;
+        }
+
+        int hash = caseInsensitiveHash(columnName);
+
+        int index = this.labels.get(columnName, hash);
+
+        if (index == -1 && useColumnNamesInFindColumn) {
+            index = this.names.get(columnName, hash);
+        }
+
+        if (index == -1) {
+            index = this.fullNames.get(columnName, hash);
+        }
+
+        return index;
+    }
+
+    /**
+     * Computes a hash code which is equal for any two strings equal by {@link String#equalsIgnoreCase(String)}. Each code point is folded the same way
+     * String.equalsIgnoreCase() compares them, i.e. converted to upper case and then to lower case.
+     * 
+     * @param s
+     *            the string
+     * @return the case-insensitive hash code
+     */
+    static int caseInsensitiveHash(String s) {
+        int h = 0;
+        int len = s.length();
+        for (int i = 0; i < len;) {
+            int c = s.codePointAt(i);
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(c));
+            i += Character.charCount(c);
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Open-addressing hash table with linear probing, keeping the lowest column index for names found more than once.
+     */
+    private static final class Table {
+        private final String[] keys;
+        private final int[] hashes;
+        private final int[] indexes;
+        private final int mask;
+
+        Table(int numFields) {
+            int capacity = Integer.highestOneBit(Math.max(numFields, 1) * 2 - 1) << 1;
+            this.keys = new String[capacity];
+            this.hashes = new int[capacity];
+            this.indexes = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        void put(String key, int index) {
+            if (key == null) {
+                return;
+            }
+
+            int hash = caseInsensitiveHash(key);
+            int slot = hash & this.mask;
+
+            while (this.keys[slot] != null) {
+                if (this.hashes[slot] == hash && this.keys[slot].equalsIgnoreCase(key)) {
+                    return; // the first column with this name wins
+                }
+                slot = (slot + 1) & this.mask;
+            }
+
+            this.keys[slot] = key;
+            this.hashes[slot] = hash;
+            this.indexes[slot] = index;
+        }
+
+        int get(String key, int hash) {
+            int slot = hash & this.mask;
+
+            String k;
+            while ((k = this.keys[slot]) != null) {
+                if (this.hashes[slot] == hash && k.equalsIgnoreCase(key)) {
+                    return this.indexes[slot];
+                }
+                slot = (slot + 1) & this.mask;
+            }
+
+            return -1;
+        }
+    }
+}
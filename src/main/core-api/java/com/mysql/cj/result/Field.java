@@ -34,6 +34,7 @@ import com.mysql.cj.MysqlType;
 import com.mysql.cj.ServerVersion;
 import com.mysql.cj.protocol.ProtocolEntity;
 import com.mysql.cj.util.LazyString;
+import com.mysql.cj.util.StringDecoder;
 
 /**
  * Field is a class used to describe fields in a ResultSet
@@ -44,6 +45,9 @@ public class Field implements ProtocolEntity {
 
     private String encoding = "US-ASCII";
 
+    /** Decoder of this field's encoding, resolved on first use */
+    private StringDecoder stringDecoder = null;
+
     private int colDecimals;
 
     private short colFlag;
@@ -182,9 +186,23 @@ public class Field implements ProtocolEntity {
         return this.encoding;
     }
 
+    /**
+     * Returns the decoder building strings from values of this field, chosen once from the Java encoding mapped to the field collation.
+     * 
+     * @return {@link StringDecoder}
+     */
+    public StringDecoder getStringDecoder() {
+        StringDecoder decoder = this.stringDecoder;
+        if (decoder == null) {
+            this.stringDecoder = decoder = StringDecoder.forEncoding(this.encoding);
+        }
+        return decoder;
+    }
+
     // TODO Remove this after DBMD isn't using ByteArrayRow results.
     public void setEncoding(String javaEncodingName, ServerVersion version) {
         this.encoding = javaEncodingName;
+        this.stringDecoder = null;
         this.collationIndex = CharsetMapping.getCollationIndexForJavaEncoding(javaEncodingName, version);
     }
 
@@ -29,9 +29,12 @@
 
 package com.mysql.cj.result;
 
+import java.math.BigDecimal;
+
 import com.mysql.cj.Messages;
 import com.mysql.cj.exceptions.CJOperationNotSupportedException;
 import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.NumberOutOfRange;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ProtocolEntity;
 import com.mysql.cj.protocol.ValueDecoder;
@@ -53,6 +56,75 @@ public interface Row extends ProtocolEntity {
      */
     <T> T getValue(int columnIndex, ValueFactory<T> vf);
 
+    /**
+     * Retrieve a value for the given column as a primitive int. Rows that can decode the column straight to a primitive value do it without boxing,
+     * others fall back to {@link #getValue(int, ValueFactory)}.
+     *
+     * @param columnIndex
+     *            index of column to retrieve value from (0-indexed, not JDBC 1-indexed)
+     * @param vf
+     *            value factory used to convert the decoded value
+     * @return the value, or 0 if it is SQL <code>NULL</code>
+     */
+    default int getInt(int columnIndex, ToIntValueFactory<?> vf) {
+        Number value = getValue(columnIndex, vf);
+        return value == null ? 0 : value.intValue();
+    }
+
+    /**
+     * Retrieve a value for the given column as a primitive long. Rows that can decode the column straight to a primitive value do it without boxing,
+     * others fall back to {@link #getValue(int, ValueFactory)}.
+     *
+     * @param columnIndex
+     *            index of column to retrieve value from (0-indexed, not JDBC 1-indexed)
+     * @param vf
+     *            value factory used to convert the decoded value
+     * @return the value, or 0 if it is SQL <code>NULL</code>
+     */
+    default long getLong(int columnIndex, ToLongValueFactory<?> vf) {
+        Number value = getValue(columnIndex, vf);
+        return value == null ? 0 : value.longValue();
+    }
+
+    /**
+     * Retrieve a value for the given column as a primitive double. Rows that can decode the column straight to a primitive value do it without boxing,
+     * others fall back to {@link #getValue(int, ValueFactory)}.
+     *
+     * @param columnIndex
+     *            index of column to retrieve value from (0-indexed, not JDBC 1-indexed)
+     * @param vf
+     *            value factory used to convert the decoded value
+     * @return the value, or 0 if it is SQL <code>NULL</code>
+     */
+    default double getDouble(int columnIndex, ToDoubleValueFactory<?> vf) {
+        Number value = getValue(columnIndex, vf);
+        return value == null ? 0 : value.doubleValue();
+    }
+
+    /**
+     * Retrieve a value for the given column as its unscaled value at the given scale, i.e. the value multiplied by 10^scale. Rows that can decode DECIMAL
+     * columns straight to an unscaled long do it without creating a {@link BigDecimal}, others fall back to {@link #getValue(int, ValueFactory)}.
+     *
+     * @param columnIndex
+     *            index of column to retrieve value from (0-indexed, not JDBC 1-indexed)
+     * @param scale
+     *            scale of the returned unscaled value
+     * @param vf
+     *            value factory used to convert non-DECIMAL values
+     * @return the unscaled value, or 0 if it is SQL <code>NULL</code>
+     */
+    default long getUnscaledLong(int columnIndex, int scale, ValueFactory<BigDecimal> vf) {
+        BigDecimal value = getValue(columnIndex, vf);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return value.setScale(scale).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberOutOfRange(Messages.getString("ResultSet.UnscaledLongOutOfRange", new Object[] { value, scale }));
+        }
+    }
+
     /**
      * Set metadata to enable getValue functionality.
      * 
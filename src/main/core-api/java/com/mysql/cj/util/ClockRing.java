@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.Arrays;
+
+/**
+ * The CLOCK ring shared by the caches of this package: a compact array of entries swept by a clock hand that gives a second chance to the entries accessed
+ * since it last went by.
+ * <p>
+ * Readers only set {@link Entry#accessed}; everything else must be called under the lock of the owning cache.
+ * 
+ * @param <E>
+ *            entry type
+ */
+final class ClockRing<E extends ClockRing.Entry> {
+    /**
+     * Base class of the entries that can be held in a {@link ClockRing}.
+     */
+    static class Entry {
+        volatile boolean accessed = false;
+        int slot = -1; // guarded by the lock of the owning cache
+
+        /**
+         * Flags the entry as accessed, without writing to the shared field if it's already flagged.
+         */
+        final void markAccessed() {
+            if (!this.accessed) {
+                this.accessed = true;
+            }
+        }
+    }
+
+    private final int capacity;
+    private Entry[] slots;
+    private int count = 0;
+    private int hand = 0;
+
+    /**
+     * Creates a ring holding at most the given number of entries.
+     * 
+     * @param capacity
+     *            maximum number of entries
+     */
+    ClockRing(int capacity) {
+        this.capacity = Math.max(capacity, 0);
+        this.slots = new Entry[Math.min(this.capacity, 16)];
+    }
+
+    int size() {
+        return this.count;
+    }
+
+    boolean isFull() {
+        return this.count >= this.capacity;
+    }
+
+    /**
+     * Adds an entry to a free slot. The ring must not be full.
+     * 
+     * @param entry
+     *            entry
+     */
+    void add(E entry) {
+        if (this.count == this.slots.length) {
+            this.slots = Arrays.copyOf(this.slots, (int) Math.min((long) this.slots.length * 2, this.capacity));
+        }
+        entry.slot = this.count;
+        this.slots[this.count++] = entry;
+    }
+
+    /**
+     * Moves the clock hand to the first entry not accessed since the hand last went over it, clearing the access flags on its way. The entry stays in the
+     * ring. If readers keep flagging entries while the hand goes round, the entry under the hand after a full turn is returned anyway.
+     * 
+     * @return entry to evict, or null if the ring is empty
+     */
+    @SuppressWarnings("unchecked")
+    E nextVictim() {
+        if (this.count == 0) {
+            return null;
+        }
+        for (int i = this.count; i > 0; i--) {
+            if (this.hand >= this.count) {
+                this.hand = 0;
+            }
+            Entry entry = this.slots[this.hand++];
+            if (!entry.accessed) {
+                return (E) entry;
+            }
+            entry.accessed = false;
+        }
+        if (this.hand >= this.count) {
+            this.hand = 0;
+        }
+        return (E) this.slots[this.hand++];
+    }
+
+    /**
+     * Puts an entry in the slot of another one, typically a victim returned by {@link #nextVictim()}.
+     * 
+     * @param old
+     *            entry in the ring
+     * @param entry
+     *            entry taking its slot
+     */
+    void replace(E old, E entry) {
+        entry.slot = old.slot;
+        this.slots[entry.slot] = entry;
+        old.slot = -1;
+    }
+
+    /**
+     * Removes an entry, moving the last one into its slot.
+     * 
+     * @param entry
+     *            entry in the ring
+     */
+    void remove(E entry) {
+        Entry last = this.slots[--this.count];
+        this.slots[entry.slot] = last;
+        last.slot = entry.slot;
+        this.slots[this.count] = null;
+        entry.slot = -1;
+    }
+
+    void clear() {
+        Arrays.fill(this.slots, 0, this.count, null);
+        this.count = 0;
+        this.hand = 0;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * A concurrent size-bounded cache that approximates least-recently-used eviction with the CLOCK algorithm.
+ * <p>
+ * Unlike {@link LRUCache}, reading doesn't reorder anything: a lookup only goes to a {@link ConcurrentHashMap} and flags the entry found as accessed, so reads
+ * never lock nor need external synchronization. Writes take a short lock to keep the cache within its maximum size; when full, the clock hand sweeps over
+ * the entries, giving a second chance to those accessed since it last went by and evicting the first one that wasn't.
+ * 
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+public class ConcurrentLRUCache<K, V> {
+    private static final class Entry<K, V> extends ClockRing.Entry {
+        final K key;
+        volatile V value;
+
+        Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final int maxElements;
+    private final BiConsumer<K, V> evictionListener;
+    private final ConcurrentHashMap<K, Entry<K, V>> map;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ClockRing<Entry<K, V>> ring; // guarded by the lock
+
+    /**
+     * Creates a cache holding at most the given number of entries.
+     * 
+     * @param maxSize
+     *            maximum number of entries
+     */
+    public ConcurrentLRUCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * Creates a cache holding at most the given number of entries, notifying the entries evicted to make room for new ones.
+     * 
+     * @param maxSize
+     *            maximum number of entries
+     * @param evictionListener
+     *            called with the key and value of each evicted entry, after the cache is updated and outside of its lock, or null
+     */
+    public ConcurrentLRUCache(int maxSize, BiConsumer<K, V> evictionListener) {
+        this.maxElements = Math.max(maxSize, 0);
+        this.evictionListener = evictionListener;
+        this.map = new ConcurrentHashMap<>(Math.min(this.maxElements, 1024));
+        this.ring = new ClockRing<>(this.maxElements);
+    }
+
+    /**
+     * Returns the value cached for the given key.
+     * 
+     * @param key
+     *            key
+     * @return value, or null if not cached
+     */
+    public V get(Object key) {
+        Entry<K, V> entry = this.map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.markAccessed();
+        return entry.value;
+    }
+
+    /**
+     * Caches a value, evicting another entry if the cache is full.
+     * 
+     * @param key
+     *            key
+     * @param value
+     *            value
+     * @return the value previously cached for the key, or null
+     */
+    public V put(K key, V value) {
+        return put(key, value, false);
+    }
+
+    /**
+     * Caches a value if none is cached for the given key yet, evicting another entry if the cache is full.
+     * 
+     * @param key
+     *            key
+     * @param value
+     *            value
+     * @return the value already cached for the key, or null if the given value was cached
+     */
+    public V putIfAbsent(K key, V value) {
+        return put(key, value, true);
+    }
+
+    private V put(K key, V value, boolean onlyIfAbsent) {
+        Entry<K, V> evicted = null;
+
+        this.lock.lock();
+        try {
+            Entry<K, V> entry = this.map.get(key);
+            if (entry != null) {
+                V previous = entry.value;
+                if (!onlyIfAbsent) {
+                    entry.value = value;
+                }
+                entry.accessed = true;
+                return previous;
+            }
+
+            entry = new Entry<>(key, value);
+            if (!this.ring.isFull()) {
+                this.ring.add(entry);
+                this.map.put(key, entry);
+            } else if (this.ring.size() > 0) {
+                evicted = this.ring.nextVictim();
+                this.map.remove(evicted.key);
+                this.ring.replace(evicted, entry);
+                this.map.put(key, entry);
+            } else {
+                // nothing can be cached
+                evicted = entry;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (evicted != null && this.evictionListener != null) {
+            this.evictionListener.accept(evicted.key, evicted.value);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the value cached for the given key. The eviction listener isn't notified.
+     * 
+     * @param key
+     *            key
+     * @return the removed value, or null if none was cached
+     */
+    public V remove(Object key) {
+        this.lock.lock();
+        try {
+            Entry<K, V> entry = this.map.remove(key);
+            if (entry == null) {
+                return null;
+            }
+            this.ring.remove(entry);
+            return entry.value;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all cached values. The eviction listener isn't notified.
+     */
+    public void clear() {
+        this.lock.lock();
+        try {
+            this.map.clear();
+            this.ring.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a read-only view of the cached keys.
+     * 
+     * @return cached keys
+     */
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(this.map.keySet());
+    }
+
+    /**
+     * Returns the number of cached values.
+     * 
+     * @return number of cached values
+     */
+    public int size() {
+        return this.map.size();
+    }
+}
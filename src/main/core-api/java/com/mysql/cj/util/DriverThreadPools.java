@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread pools shared by all connections, for driver work that runs outside of the application threads. Pools are created on first use and shut down
+ * together by {@link #shutdown()}, which is called when the driver threads are shut down through
+ * <code>com.mysql.cj.jdbc.AbandonedConnectionCleanupThread</code>, so that no pool thread outlives an application that stopped the driver. A pool used again
+ * after a shutdown is created anew.
+ */
+public final class DriverThreadPools {
+
+    private static final Map<String, ExecutorService> pools = new HashMap<>();
+    private static final Map<String, ScheduledExecutorService> scheduledPools = new HashMap<>();
+
+    private DriverThreadPools() {
+    }
+
+    /**
+     * Returns the cached thread pool of the given name, creating it if needed. Its threads are daemon threads named after the pool, with the context class
+     * loader of the driver rather than the one of the thread that happened to create them.
+     * 
+     * @param name
+     *            pool name, also used to name its threads
+     * @return the thread pool
+     */
+    public static synchronized ExecutorService getCachedThreadPool(String name) {
+        ExecutorService pool = pools.get(name);
+        if (pool == null) {
+            pool = Executors.newCachedThreadPool(newThreadFactory(name));
+            pools.put(name, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Returns the single threaded scheduler of the given name, creating it if needed. Its thread is created as the ones of
+     * {@link #getCachedThreadPool(String)}, and cancelled tasks are removed from its queue right away.
+     * 
+     * @param name
+     *            scheduler name, also used to name its thread
+     * @return the scheduler
+     */
+    public static synchronized ScheduledExecutorService getScheduledThreadPool(String name) {
+        ScheduledExecutorService pool = scheduledPools.get(name);
+        if (pool == null) {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, newThreadFactory(name));
+            scheduler.setRemoveOnCancelPolicy(true);
+            pool = scheduler;
+            scheduledPools.put(name, pool);
+        }
+        return pool;
+    }
+
+    private static ThreadFactory newThreadFactory(String name) {
+        AtomicInteger count = new AtomicInteger();
+        ClassLoader classLoader = DriverThreadPools.class.getClassLoader() != null ? DriverThreadPools.class.getClassLoader()
+                : ClassLoader.getSystemClassLoader();
+        return r -> {
+            Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+            t.setDaemon(true);
+            t.setContextClassLoader(classLoader);
+            return t;
+        };
+    }
+
+    /**
+     * Shuts down all pools, interrupting their running tasks.
+     */
+    public static synchronized void shutdown() {
+        for (ExecutorService pool : pools.values()) {
+            pool.shutdownNow();
+        }
+        pools.clear();
+        for (ScheduledExecutorService pool : scheduledPools.values()) {
+            pool.shutdownNow();
+        }
+        scheduledPools.clear();
+    }
+}
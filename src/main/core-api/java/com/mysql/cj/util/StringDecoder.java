@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.WrongArgumentException;
+
+/**
+ * Builds strings straight from byte arrays in a given Java encoding.
+ * 
+ * Decoders are resolved once per encoding and keep the resolved {@link Charset}, so no charset lookup by name happens per call. Strings made only of
+ * characters in the range U+0000..U+00FF are built with a plain widening copy of the bytes, which takes the compact (Latin-1) string path on JVMs supporting
+ * it, whenever the encoding maps such bytes to themselves:
+ * <ul>
+ * <li>ISO-8859-1 values are always copied this way;</li>
+ * <li>windows-1252 (MySQL latin1) values are copied this way unless they contain bytes in the range 0x80..0x9F;</li>
+ * <li>values in ASCII-compatible encodings, such as UTF-8, are copied this way when they are pure ASCII.</li>
+ * </ul>
+ * Everything else is decoded by the {@link Charset} itself.
+ */
+public abstract class StringDecoder {
+
+    private static final ConcurrentMap<String, StringDecoder> DECODERS = new ConcurrentHashMap<>();
+
+    private static final StringDecoder DEFAULT = forCharset(Charset.defaultCharset());
+
+    protected final Charset charset;
+
+    protected StringDecoder(Charset charset) {
+        this.charset = charset;
+    }
+
+    /**
+     * Returns the decoder for the given Java encoding.
+     * 
+     * @param encoding
+     *            Java encoding name, the platform encoding is used if null or "null"
+     * @return {@link StringDecoder}
+     * @throws WrongArgumentException
+     *             if the encoding isn't supported
+     */
+    public static StringDecoder forEncoding(String encoding) {
+        if (encoding == null || "null".equalsIgnoreCase(encoding)) {
+            return DEFAULT;
+        }
+
+        StringDecoder decoder = DECODERS.get(encoding);
+        if (decoder == null) {
+            Charset cs;
+            try {
+                cs = Charset.forName(encoding);
+            } catch (UnsupportedCharsetException | IllegalCharsetNameException e) {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("StringUtils.0", new Object[] { encoding }), e);
+            }
+            decoder = forCharset(cs);
+            StringDecoder existing = DECODERS.putIfAbsent(encoding, decoder);
+            if (existing != null) {
+                decoder = existing;
+            }
+        }
+        return decoder;
+    }
+
+    private static StringDecoder forCharset(Charset cs) {
+        if (cs.equals(StandardCharsets.ISO_8859_1)) {
+            return new Latin1Decoder(cs);
+        } else if (cs.name().equals("windows-1252")) {
+            return new Cp1252Decoder(cs);
+        } else if (isAsciiCompatible(cs)) {
+            return new AsciiCompatibleDecoder(cs);
+        }
+        return new CharsetStringDecoder(cs);
+    }
+
+    /**
+     * Checks whether the charset decodes every byte in the range 0x00..0x7F to the same code point, so that pure ASCII values can be copied as they are.
+     * Stateful encodings, such as ISO-2022-JP, fail this check as the escape byte isn't decoded by itself.
+     * 
+     * @param cs
+     *            charset
+     * @return true if the charset is a superset of ASCII
+     */
+    private static boolean isAsciiCompatible(Charset cs) {
+        byte[] ascii = new byte[128];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (byte) i;
+        }
+        try {
+            String decoded = new String(ascii, cs);
+            if (decoded.length() != ascii.length) {
+                return false;
+            }
+            for (int i = 0; i < ascii.length; i++) {
+                if (decoded.charAt(i) != i) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Decodes a value.
+     * 
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset of the value
+     * @param length
+     *            length of the value in bytes
+     * @return string
+     */
+    public abstract String decode(byte[] bytes, int offset, int length);
+
+    public Charset getCharset() {
+        return this.charset;
+    }
+
+    /**
+     * Builds a string whose chars are the given bytes taken as unsigned values, i.e. as ISO-8859-1.
+     * 
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset of the value
+     * @param length
+     *            length of the value in bytes
+     * @return string
+     */
+    @SuppressWarnings("deprecation")
+    static String latin1String(byte[] bytes, int offset, int length) {
+        return new String(bytes, 0, offset, length);
+    }
+
+    private static class Latin1Decoder extends StringDecoder {
+        Latin1Decoder(Charset cs) {
+            super(cs);
+        }
+
+        @Override
+        public String decode(byte[] bytes, int offset, int length) {
+            return latin1String(bytes, offset, length);
+        }
+    }
+
+    private static class Cp1252Decoder extends StringDecoder {
+        Cp1252Decoder(Charset cs) {
+            super(cs);
+        }
+
+        @Override
+        public String decode(byte[] bytes, int offset, int length) {
+            int end = offset + length;
+            for (int i = offset; i < end; i++) {
+                // only 0x80..0x9F decode differently in windows-1252 and ISO-8859-1
+                if ((bytes[i] & 0xE0) == 0x80) {
+                    return new String(bytes, offset, length, this.charset);
+                }
+            }
+            return latin1String(bytes, offset, length);
+        }
+    }
+
+    private static class AsciiCompatibleDecoder extends StringDecoder {
+        AsciiCompatibleDecoder(Charset cs) {
+            super(cs);
+        }
+
+        @Override
+        public String decode(byte[] bytes, int offset, int length) {
+            int end = offset + length;
+            for (int i = offset; i < end; i++) {
+                if (bytes[i] < 0) {
+                    return new String(bytes, offset, length, this.charset);
+                }
+            }
+            return latin1String(bytes, offset, length);
+        }
+    }
+
+    private static class CharsetStringDecoder extends StringDecoder {
+        CharsetStringDecoder(Charset cs) {
+            super(cs);
+        }
+
+        @Override
+        public String decode(byte[] bytes, int offset, int length) {
+            return new String(bytes, offset, length, this.charset);
+        }
+    }
+}
@@ -1688,14 +1688,7 @@ public class StringUtils {
     }
 
     public static String toString(byte[] value, int offset, int length, String encoding) {
-        if (encoding == null || "null".equalsIgnoreCase(encoding)) {
-            return new String(value, offset, length);
-        }
-        try {
-            return new String(value, offset, length, encoding);
-        } catch (UnsupportedEncodingException uee) {
-            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("StringUtils.0", new Object[] { encoding }), uee);
-        }
+        return StringDecoder.forEncoding(encoding).decode(value, offset, length);
     }
 
     public static String toString(byte[] value, String encoding) {
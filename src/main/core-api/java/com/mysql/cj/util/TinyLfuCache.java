@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrent size-bounded cache with a W-TinyLFU style policy.
+ * <p>
+ * New entries go to a small admission window. When the window overflows, its oldest entry only takes the place of the main region's victim, chosen by a
+ * CLOCK sweep, if it was used more often, as estimated by a count-min sketch of recent accesses. A burst of one-off keys thus can't flush out the entries that
+ * keep being used.
+ * <p>
+ * Reads never lock. Writes are visible immediately but the policy is applied by whichever thread gets hold of the eviction lock, so the cache may briefly hold
+ * more entries than its maximum size while writers compete.
+ * 
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+public class TinyLfuCache<K, V> {
+    private static final int PENDING = 0;
+    private static final int WINDOW = 1;
+    private static final int MAIN = 2;
+
+    private static final class Node<K, V> extends ClockRing.Entry {
+        final K key;
+        final int hash;
+        volatile V value;
+
+        // guarded by the eviction lock
+        int queue = PENDING;
+        boolean removed = false;
+
+        Node(K key, int hash, V value) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int mainMaximum;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final ConcurrentLinkedQueue<Node<K, V>> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ArrayDeque<Node<K, V>> window = new ArrayDeque<>();
+    private final ClockRing<Node<K, V>> main;
+    private final FrequencySketch sketch;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a cache holding at most the given number of entries.
+     * 
+     * @param maximumSize
+     *            maximum number of entries, 0 or less to cache nothing
+     */
+    public TinyLfuCache(int maximumSize) {
+        this.maximumSize = Math.max(maximumSize, 0);
+        this.windowMaximum = Math.max(this.maximumSize / 100, 1);
+        this.mainMaximum = Math.max(this.maximumSize - this.windowMaximum, 0);
+        this.main = new ClockRing<>(this.mainMaximum);
+        this.data = new ConcurrentHashMap<>(Math.min(this.maximumSize, 1024));
+        this.sketch = new FrequencySketch(this.maximumSize);
+    }
+
+    private static int spread(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the value cached for the given key.
+     * 
+     * @param key
+     *            key
+     * @return value, or null if not cached
+     */
+    public V get(K key) {
+        Node<K, V> node = this.data.get(key);
+        if (node == null) {
+            this.missCount.increment();
+            return null;
+        }
+        this.sketch.increment(node.hash);
+        node.markAccessed();
+        this.hitCount.increment();
+        return node.value;
+    }
+
+    /**
+     * Caches a value, replacing the one cached for the same key if any.
+     * 
+     * @param key
+     *            key
+     * @param value
+     *            value
+     */
+    public void put(K key, V value) {
+        if (this.maximumSize == 0) {
+            return;
+        }
+
+        int hash = spread(key);
+        this.sketch.increment(hash);
+
+        Node<K, V> node = new Node<>(key, hash, value);
+        Node<K, V> existing = this.data.putIfAbsent(key, node);
+        if (existing != null) {
+            existing.value = value;
+            return;
+        }
+
+        this.pending.add(node);
+        while (!this.pending.isEmpty() && this.evictionLock.tryLock()) {
+            try {
+                maintain();
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes the value cached for the given key.
+     * 
+     * @param key
+     *            key
+     */
+    public void remove(K key) {
+        this.evictionLock.lock();
+        try {
+            Node<K, V> node = this.data.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        this.evictionLock.lock();
+        try {
+            for (Iterator<Node<K, V>> it = this.data.values().iterator(); it.hasNext();) {
+                Node<K, V> node = it.next();
+                it.remove();
+                node.removed = true;
+            }
+            this.pending.clear();
+            this.window.clear();
+            this.main.clear();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of cached values.
+     * 
+     * @return number of cached values
+     */
+    public int size() {
+        return this.data.size();
+    }
+
+    /**
+     * Returns the maximum number of cached values.
+     * 
+     * @return maximum number of cached values
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Returns the number of lookups that found a cached value.
+     * 
+     * @return hit count
+     */
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that didn't find a cached value.
+     * 
+     * @return miss count
+     */
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    /**
+     * Returns the number of values dropped to keep the cache within its maximum size.
+     * 
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return this.evictionCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + "[size=" + size() + ", maximumSize=" + this.maximumSize + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    /**
+     * Moves the pending entries to the window and the window overflow to the main region. Called with the eviction lock held.
+     */
+    private void maintain() {
+        Node<K, V> node;
+        while ((node = this.pending.poll()) != null) {
+            if (!node.removed) {
+                node.queue = WINDOW;
+                this.window.addLast(node);
+            }
+        }
+
+        while (this.window.size() > this.windowMaximum) {
+            admit(this.window.pollFirst());
+        }
+    }
+
+    private void admit(Node<K, V> candidate) {
+        if (!this.main.isFull()) {
+            candidate.queue = MAIN;
+            this.main.add(candidate);
+            return;
+        }
+
+        Node<K, V> victim = this.main.nextVictim();
+        if (victim != null && this.sketch.frequency(candidate.hash) > this.sketch.frequency(victim.hash)) {
+            evict(victim);
+            candidate.queue = MAIN;
+            this.main.replace(victim, candidate);
+        } else {
+            // the victim, if any, keeps its place in the main region
+            evict(candidate);
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        node.removed = true;
+        if (this.data.remove(node.key, node)) {
+            this.evictionCount.increment();
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.removed = true;
+        if (node.queue == WINDOW) {
+            this.window.remove(node);
+        } else if (node.queue == MAIN) {
+            this.main.remove(node);
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters estimating how often keys were used recently. All counters are halved once the number of increments reaches ten times
+     * the cache size, so that past popularity fades away.
+     * <p>
+     * Updates are not synchronized: a lost increment only makes an estimate slightly lower, which this policy can afford.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEED = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions = 0;
+
+        FrequencySketch(int maximumSize) {
+            int length = Integer.highestOneBit(Math.max(Math.min(maximumSize, 1 << 24), 8) - 1) << 1;
+            this.table = new long[length];
+            this.tableMask = length - 1;
+            this.sampleSize = Math.max(maximumSize, 1) * 10;
+        }
+
+        int frequency(int hash) {
+            int start = (hash & 3) << 2;
+            int frequency = 15;
+            for (int i = 0; i < 4; i++) {
+                int count = (int) ((this.table[indexOf(hash, i)] >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(int hash) {
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                added |= incrementAt(indexOf(hash, i), start + i);
+            }
+            if (added && ++this.additions >= this.sampleSize) {
+                reset();
+            }
+        }
+
+        private boolean incrementAt(int index, int counter) {
+            int offset = counter << 2;
+            long mask = 0xfL << offset;
+            long value = this.table[index];
+            if ((value & mask) != mask) {
+                this.table[index] = value + (1L << offset);
+                return true;
+            }
+            return false;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEED[i]) * SEED[i];
+            h += h >>> 32;
+            return ((int) h) & this.tableMask;
+        }
+
+        private void reset() {
+            for (int i = 0; i < this.table.length; i++) {
+                this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+            }
+            this.additions = this.sampleSize / 2;
+        }
+    }
+}
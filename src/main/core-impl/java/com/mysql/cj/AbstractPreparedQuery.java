@@ -259,9 +259,15 @@ public abstract class AbstractPreparedQuery<T extends QueryBindings<?>> extends
                 ensurePacketSize += 6; // for /*[space] [space]*/
             }
 
+            byte[][] staticSqlStrings = this.parseInfo.getStaticSql();
             for (int i = 0; i < bindValues.length; i++) {
-                if (bindValues[i].isStream() && useStreamLengths) {
-                    ensurePacketSize += bindValues[i].getStreamLength();
+                if (bindValues[i].isStream()) {
+                    if (useStreamLengths) {
+                        ensurePacketSize += bindValues[i].getStreamLength();
+                    }
+                } else if (bindValues[i] instanceof ClientPreparedQueryBindValue) {
+                    // size the packet once for all values
+                    ensurePacketSize += ((ClientPreparedQueryBindValue) bindValues[i]).getByteValueLength() + staticSqlStrings[i].length;
                 }
             }
 
@@ -275,7 +281,6 @@ public abstract class AbstractPreparedQuery<T extends QueryBindings<?>> extends
                 sendPacket.writeBytes(StringLengthDataType.STRING_FIXED, Constants.SPACE_STAR_SLASH_SPACE_AS_BYTES);
             }
 
-            byte[][] staticSqlStrings = this.parseInfo.getStaticSql();
             for (int i = 0; i < bindValues.length; i++) {
                 bindings.checkParameterSet(i);
 
@@ -283,6 +288,8 @@ public abstract class AbstractPreparedQuery<T extends QueryBindings<?>> extends
 
                 if (bindValues[i].isStream()) {
                     streamToBytes(sendPacket, bindValues[i].getStreamValue(), true, bindValues[i].getStreamLength(), useStreamLengths);
+                } else if (bindValues[i] instanceof ClientPreparedQueryBindValue) {
+                    ((ClientPreparedQueryBindValue) bindValues[i]).writeByteValue(sendPacket);
                 } else {
                     sendPacket.writeBytes(StringLengthDataType.STRING_FIXED, bindValues[i].getByteValue());
                 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import java.util.Arrays;
+
+import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * Buffer the values of the parameters of a client-side prepared statement are encoded to, so that setting parameters doesn't allocate a byte array per value.
+ * 
+ * Each parameter owns a region of the buffer. A new value is written over the previous one if it fits in its region, otherwise a new region is taken at the
+ * end of the buffer. When the buffer is full, the regions of the values still in use are first moved to its start, and the buffer is only grown if that
+ * doesn't free enough room, so that the buffer settles to the size of the values once a statement was executed a few times.
+ * 
+ * Values are written between {@link #begin(int, int)} and {@link #end()}, one parameter at a time.
+ */
+public class BindingArena {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final byte[] LONG_MIN_VALUE_BYTES = StringUtils.getBytes(String.valueOf(Long.MIN_VALUE));
+
+    private byte[] buffer = null;
+
+    private final int[] offsets;
+    private final int[] capacities;
+    /** Length of the value of each parameter, -1 if the parameter has no value in the arena. */
+    private final int[] lengths;
+
+    /** End of the last region. */
+    private int top = 0;
+
+    /** Parameter being written and write position. */
+    private int current = -1;
+    private int position = 0;
+
+    public BindingArena(int parameterCount) {
+        this.offsets = new int[parameterCount];
+        this.capacities = new int[parameterCount];
+        this.lengths = new int[parameterCount];
+        Arrays.fill(this.lengths, -1);
+    }
+
+    /**
+     * Starts writing the value of the given parameter.
+     * 
+     * @param parameterIndex
+     *            0-based parameter index
+     * @param maxLength
+     *            maximum number of bytes that will be written
+     */
+    public void begin(int parameterIndex, int maxLength) {
+        if (this.capacities[parameterIndex] < maxLength) {
+            this.capacities[parameterIndex] = 0;
+            this.lengths[parameterIndex] = -1;
+
+            if (this.buffer == null) {
+                this.buffer = new byte[Math.max(INITIAL_CAPACITY, maxLength)];
+            } else if (this.top + maxLength > this.buffer.length) {
+                compact();
+                if (this.top + maxLength > this.buffer.length) {
+                    this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.top + maxLength));
+                }
+            }
+
+            this.offsets[parameterIndex] = this.top;
+            this.capacities[parameterIndex] = maxLength;
+            this.top += maxLength;
+        }
+
+        this.current = parameterIndex;
+        this.position = this.offsets[parameterIndex];
+    }
+
+    /**
+     * Ends writing the value started with {@link #begin(int, int)}.
+     */
+    public void end() {
+        this.lengths[this.current] = this.position - this.offsets[this.current];
+        this.current = -1;
+    }
+
+    /**
+     * Abandons the value started with {@link #begin(int, int)}, leaving the parameter without a value in the arena.
+     */
+    public void abort() {
+        this.lengths[this.current] = -1;
+        this.current = -1;
+    }
+
+    /**
+     * Marks the given parameter as not having a value in the arena anymore. Its region is kept for the next value unless the arena gets compacted.
+     * 
+     * @param parameterIndex
+     *            0-based parameter index
+     */
+    public void release(int parameterIndex) {
+        this.lengths[parameterIndex] = -1;
+    }
+
+    /**
+     * Moves the regions of the parameters having a value to the start of the buffer, in their current order.
+     */
+    private void compact() {
+        int live = 0;
+        for (int i = 0; i < this.lengths.length; i++) {
+            if (this.lengths[i] >= 0) {
+                live++;
+            } else {
+                this.capacities[i] = 0;
+            }
+        }
+
+        long[] order = new long[live];
+        for (int i = 0, j = 0; i < this.lengths.length; i++) {
+            if (this.lengths[i] >= 0) {
+                order[j++] = ((long) this.offsets[i] << 32) | i;
+            }
+        }
+        Arrays.sort(order);
+
+        int pos = 0;
+        for (long o : order) {
+            int i = (int) o;
+            if (this.offsets[i] != pos) {
+                System.arraycopy(this.buffer, this.offsets[i], this.buffer, pos, this.lengths[i]);
+                this.offsets[i] = pos;
+            }
+            pos += this.capacities[i];
+        }
+        this.top = pos;
+    }
+
+    public void put(byte b) {
+        this.buffer[this.position++] = b;
+    }
+
+    public void put(char asciiChar) {
+        this.buffer[this.position++] = (byte) asciiChar;
+    }
+
+    /**
+     * Writes the decimal representation of the given value, taking up to 20 bytes.
+     * 
+     * @param value
+     *            value
+     */
+    public void putLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            System.arraycopy(LONG_MIN_VALUE_BYTES, 0, this.buffer, this.position, LONG_MIN_VALUE_BYTES.length);
+            this.position += LONG_MIN_VALUE_BYTES.length;
+            return;
+        }
+        if (value < 0) {
+            this.buffer[this.position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        putDigits(value, digits);
+    }
+
+    /**
+     * Writes the given number of trailing decimal digits of a non-negative value, zero-padded on the left.
+     * 
+     * @param value
+     *            non-negative value
+     * @param width
+     *            number of digits
+     */
+    public void putDigits(long value, int width) {
+        int end = this.position + width;
+        for (int i = end - 1; i >= this.position; i--) {
+            this.buffer[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        this.position = end;
+    }
+
+    /**
+     * Returns the number of bytes of the value of the given parameter.
+     * 
+     * @param parameterIndex
+     *            0-based parameter index
+     * @return value length, or -1 if the parameter has no value in the arena
+     */
+    public int getLength(int parameterIndex) {
+        return this.lengths[parameterIndex];
+    }
+
+    /**
+     * Returns a copy of the value of the given parameter.
+     * 
+     * @param parameterIndex
+     *            0-based parameter index
+     * @return value bytes, or null if the parameter has no value in the arena
+     */
+    public byte[] copyOf(int parameterIndex) {
+        if (this.lengths[parameterIndex] < 0) {
+            return null;
+        }
+        return Arrays.copyOfRange(this.buffer, this.offsets[parameterIndex], this.offsets[parameterIndex] + this.lengths[parameterIndex]);
+    }
+
+    /**
+     * Copies the value of the given parameter to the packet.
+     * 
+     * @param parameterIndex
+     *            0-based parameter index
+     * @param packet
+     *            packet to write to
+     */
+    public void writeTo(int parameterIndex, NativePacketPayload packet) {
+        packet.writeBytes(StringLengthDataType.STRING_FIXED, this.buffer, this.offsets[parameterIndex], this.lengths[parameterIndex]);
+    }
+}
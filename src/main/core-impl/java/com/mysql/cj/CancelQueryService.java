@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertyDefinition;
+import com.mysql.cj.conf.PropertyDefinitions;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.protocol.a.NativeMessageBuilder;
+import com.mysql.cj.util.DriverThreadPools;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * Driver-wide support for query timeouts and cancellation.
+ * 
+ * Query timeouts are scheduled in a single shared timer thread, and the cancellations they trigger run in a shared pool of worker threads, instead of a timer
+ * per connection and a new thread per timeout.
+ * 
+ * "KILL QUERY" commands are issued through "control" sessions, which are opened on demand and kept idle to be reused by the next cancellation. Control
+ * sessions are pooled by server, credentials and the values of all authentication, connection, networking and security properties, so that a cancellation
+ * never goes through a session opened with weaker or otherwise different settings than the connection it cancels. Each pool keeps up to
+ * "queryCancellationSessionsPerHost" idle sessions; as this value is part of the pool key, connections configured with different values use separate pools.
+ * Idle control sessions are closed after {@link #CONTROL_SESSION_IDLE_TIMEOUT_MILLIS}.
+ * 
+ * The timer and the worker threads come from {@link DriverThreadPools}, and {@link #shutdown()} closes the idle control sessions, so that nothing is left
+ * behind when the driver threads are shut down.
+ */
+public final class CancelQueryService {
+
+    private static final long CONTROL_SESSION_IDLE_TIMEOUT_MILLIS = 5 * 60 * 1000;
+
+    private static final String TIMER_POOL_NAME = "mysql-cj-cancellation-timer";
+    private static final String CANCELLATION_POOL_NAME = "mysql-cj-cancellation";
+
+    private static ScheduledFuture<?> idleSessionsEvictor = null;
+
+    /** Properties whose values must be the same for connections to share control sessions. */
+    private static final List<PropertyKey> CONTROL_SESSION_PROPERTIES;
+
+    static {
+        List<String> categories = Arrays.asList(PropertyDefinitions.CATEGORY_AUTH, PropertyDefinitions.CATEGORY_CONNECTION,
+                PropertyDefinitions.CATEGORY_NETWORK, PropertyDefinitions.CATEGORY_SECURITY);
+        List<PropertyKey> keys = new ArrayList<>();
+        for (PropertyDefinition<?> pdef : PropertyDefinitions.PROPERTY_KEY_TO_PROPERTY_DEFINITION.values()) {
+            if (categories.contains(pdef.getCategory())) {
+                keys.add(pdef.getPropertyKey());
+            }
+        }
+        keys.add(PropertyKey.queryCancellationSessionsPerHost);
+        CONTROL_SESSION_PROPERTIES = Collections.unmodifiableList(keys);
+    }
+
+    private static final Map<ControlSessionKey, ControlSessionPool> controlSessions = new ConcurrentHashMap<>();
+
+    private static final AtomicLong cancellationsIssued = new AtomicLong();
+    private static final AtomicLong cancellationsFailed = new AtomicLong();
+    private static final AtomicLong cancellationsTotalNanos = new AtomicLong();
+    private static final AtomicLong controlSessionsOpened = new AtomicLong();
+
+    /**
+     * Server, credentials and connection settings control sessions are opened with. "KILL QUERY" requires the same user as the session to cancel, or the
+     * CONNECTION_ADMIN privilege.
+     */
+    private static class ControlSessionKey {
+        final String host;
+        final int port;
+        final String user;
+        final String password;
+        /** Values of {@link CancelQueryService#CONTROL_SESSION_PROPERTIES}. */
+        final List<Object> propertyValues;
+        final int maxIdleSessions;
+
+        ControlSessionKey(HostInfo hostInfo, PropertySet propertySet) {
+            this.host = hostInfo.getHost();
+            this.port = hostInfo.getPort();
+            this.user = StringUtils.isNullOrEmpty(hostInfo.getUser()) ? "" : hostInfo.getUser();
+            this.password = StringUtils.isNullOrEmpty(hostInfo.getPassword()) ? "" : hostInfo.getPassword();
+            List<Object> values = new ArrayList<>(CONTROL_SESSION_PROPERTIES.size());
+            for (PropertyKey propertyKey : CONTROL_SESSION_PROPERTIES) {
+                values.add(propertySet.getProperty(propertyKey).getValue());
+            }
+            this.propertyValues = values;
+            this.maxIdleSessions = propertySet.getIntegerProperty(PropertyKey.queryCancellationSessionsPerHost).getValue();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ControlSessionKey)) {
+                return false;
+            }
+            ControlSessionKey other = (ControlSessionKey) obj;
+            return this.port == other.port && Objects.equals(this.host, other.host) && this.user.equals(other.user) && this.password.equals(other.password)
+                    && this.propertyValues.equals(other.propertyValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.host, this.port, this.user, this.propertyValues);
+        }
+    }
+
+    /**
+     * Idle control sessions of one {@link ControlSessionKey}. The pool owns its idle sessions limit, which is fixed by its key.
+     */
+    private static class ControlSessionPool {
+        /** Idle sessions, most recently used first. */
+        final Deque<ControlSession> idleSessions = new ConcurrentLinkedDeque<>();
+        final AtomicInteger idleCount = new AtomicInteger();
+        final int maxIdleSessions;
+
+        ControlSessionPool(int maxIdleSessions) {
+            this.maxIdleSessions = maxIdleSessions;
+        }
+
+        ControlSession poll() {
+            ControlSession controlSession = this.idleSessions.pollFirst();
+            if (controlSession != null) {
+                this.idleCount.decrementAndGet();
+            }
+            return controlSession;
+        }
+
+        boolean offer(ControlSession controlSession) {
+            if (this.idleCount.incrementAndGet() > this.maxIdleSessions) {
+                this.idleCount.decrementAndGet();
+                return false;
+            }
+            controlSession.lastUsed = System.currentTimeMillis();
+            this.idleSessions.addFirst(controlSession);
+            return true;
+        }
+
+        boolean remove(ControlSession controlSession) {
+            if (this.idleSessions.removeLastOccurrence(controlSession)) {
+                this.idleCount.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static class ControlSession {
+        final NativeSession session;
+        long lastUsed;
+
+        ControlSession(NativeSession session) {
+            this.session = session;
+        }
+    }
+
+    private CancelQueryService() {
+    }
+
+    private static ScheduledExecutorService getTimer() {
+        // timeouts are cancelled far more often than they fire, the driver scheduler doesn't keep cancelled tasks in its queue
+        return DriverThreadPools.getScheduledThreadPool(TIMER_POOL_NAME);
+    }
+
+    private static ExecutorService getCancellationExecutor() {
+        return DriverThreadPools.getCachedThreadPool(CANCELLATION_POOL_NAME);
+    }
+
+    /**
+     * Schedules a query timeout in the shared timer. The task is handed over to a worker thread when the timeout expires, so that slow cancellations don't
+     * delay other timeouts.
+     * 
+     * @param task
+     *            task to run when the timeout expires
+     * @param delayMillis
+     *            timeout in milliseconds
+     * @return {@link ScheduledFuture} that can be used to cancel the timeout
+     */
+    public static ScheduledFuture<?> schedule(Runnable task, long delayMillis) {
+        return getTimer().schedule(() -> getCancellationExecutor().execute(task), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Kills the statement currently executing in the given session by issuing a "KILL QUERY" command through a control session.
+     * 
+     * @param session
+     *            the session running the statement to cancel
+     * @throws IOException
+     *             if a control session can't be opened
+     */
+    public static void killQuery(NativeSession session) throws IOException {
+        HostInfo hostInfo = session.getHostInfo();
+        long threadId = session.getThreadId();
+        ControlSessionKey key = new ControlSessionKey(hostInfo, session.getPropertySet());
+        ControlSessionPool pool = controlSessions.computeIfAbsent(key, k -> new ControlSessionPool(k.maxIdleSessions));
+
+        long start = System.nanoTime();
+        try {
+            ControlSession controlSession = pool.poll();
+            if (controlSession != null) {
+                try {
+                    sendKillQuery(controlSession, threadId);
+                } catch (Throwable t) {
+                    // the server may have closed the idle session, retry once with a new one
+                    controlSession.session.forceClose();
+                    controlSession = null;
+                }
+            }
+            if (controlSession == null) {
+                controlSession = openControlSession(session, key);
+                try {
+                    sendKillQuery(controlSession, threadId);
+                } catch (Throwable t) {
+                    controlSession.session.forceClose();
+                    throw t;
+                }
+            }
+            releaseControlSession(pool, controlSession);
+            cancellationsIssued.incrementAndGet();
+        } catch (Throwable t) {
+            cancellationsFailed.incrementAndGet();
+            throw t;
+        } finally {
+            cancellationsTotalNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private static ControlSession openControlSession(NativeSession session, ControlSessionKey key) throws IOException {
+        NativeSession newSession = new NativeSession(session.getHostInfo(), session.getPropertySet());
+        newSession.connect(session.getHostInfo(), key.user, key.password, "", 30000, new TransactionEventHandler() {
+            @Override
+            public void transactionCompleted() {
+            }
+
+            @Override
+            public void transactionBegun() {
+            }
+        });
+        controlSessionsOpened.incrementAndGet();
+        return new ControlSession(newSession);
+    }
+
+    private static void sendKillQuery(ControlSession controlSession, long threadId) {
+        NativeSession s = controlSession.session;
+        s.sendCommand(new NativeMessageBuilder().buildComQuery(s.getSharedSendPacket(), "KILL QUERY " + threadId), false, 0);
+    }
+
+    private static void releaseControlSession(ControlSessionPool pool, ControlSession controlSession) {
+        if (pool.offer(controlSession)) {
+            scheduleIdleSessionsEviction();
+        } else {
+            controlSession.session.quit();
+        }
+    }
+
+    private static synchronized void scheduleIdleSessionsEviction() {
+        if (idleSessionsEvictor == null) {
+            idleSessionsEvictor = getTimer().scheduleWithFixedDelay(() -> getCancellationExecutor().execute(CancelQueryService::evictIdleSessions),
+                    CONTROL_SESSION_IDLE_TIMEOUT_MILLIS, CONTROL_SESSION_IDLE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void evictIdleSessions() {
+        long oldest = System.currentTimeMillis() - CONTROL_SESSION_IDLE_TIMEOUT_MILLIS;
+        for (ControlSessionPool pool : controlSessions.values()) {
+            // most recently used sessions are at the head of the deque
+            for (Iterator<ControlSession> it = pool.idleSessions.descendingIterator(); it.hasNext();) {
+                ControlSession controlSession = it.next();
+                if (controlSession.lastUsed < oldest && pool.remove(controlSession)) {
+                    try {
+                        controlSession.session.quit();
+                    } catch (Throwable t) {
+                        // ignore, the session is discarded anyway
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes all idle control sessions and stops their eviction. Called when the driver threads are shut down, before {@link DriverThreadPools#shutdown()}
+     * stops the timer and the worker threads. Control sessions in use are closed by the cancellations using them, or kept idle and opened anew if the driver
+     * is used again.
+     */
+    public static void shutdown() {
+        synchronized (CancelQueryService.class) {
+            if (idleSessionsEvictor != null) {
+                idleSessionsEvictor.cancel(false);
+                idleSessionsEvictor = null;
+            }
+        }
+        for (ControlSessionPool pool : controlSessions.values()) {
+            ControlSession controlSession;
+            while ((controlSession = pool.poll()) != null) {
+                try {
+                    // don't wait for the server while the driver is being shut down
+                    controlSession.session.forceClose();
+                } catch (Throwable t) {
+                    // ignore, the session is discarded anyway
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of "KILL QUERY" commands successfully issued since the driver was loaded.
+     * 
+     * @return the number of cancellations issued
+     */
+    public static long getCancellationsIssued() {
+        return cancellationsIssued.get();
+    }
+
+    /**
+     * Returns the number of "KILL QUERY" commands that couldn't be issued since the driver was loaded.
+     * 
+     * @return the number of cancellations failed
+     */
+    public static long getCancellationsFailed() {
+        return cancellationsFailed.get();
+    }
+
+    /**
+     * Returns the total time spent issuing "KILL QUERY" commands, including opening control sessions, since the driver was loaded.
+     * 
+     * @return the total time in nanoseconds
+     */
+    public static long getCancellationsTotalNanos() {
+        return cancellationsTotalNanos.get();
+    }
+
+    /**
+     * Returns the number of control sessions opened since the driver was loaded.
+     * 
+     * @return the number of control sessions opened
+     */
+    public static long getControlSessionsOpened() {
+        return controlSessionsOpened.get();
+    }
+
+    /**
+     * Returns the number of control sessions currently kept idle.
+     * 
+     * @return the number of idle control sessions
+     */
+    public static int getIdleControlSessions() {
+        int count = 0;
+        for (ControlSessionPool pool : controlSessions.values()) {
+            count += pool.idleCount.get();
+        }
+        return count;
+    }
+}
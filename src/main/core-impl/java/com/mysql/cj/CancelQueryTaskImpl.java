@@ -29,27 +29,25 @@
 
 package com.mysql.cj;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Query.CancelStatus;
-import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.OperationCancelledException;
-import com.mysql.cj.protocol.a.NativeMessageBuilder;
-import com.mysql.cj.util.StringUtils;
 
 //TODO should not be protocol-specific
 
 /**
- * Thread used to implement query timeouts...Eventually we could be more
- * efficient and have one thread with timers, but this is a straightforward
- * and simple way to implement a feature that isn't used all that often.
+ * Task used to implement query timeouts. It's scheduled in the driver-wide timer of {@link CancelQueryService} and, when the timeout expires, kills the
+ * query through one of the control sessions kept by the same service.
  */
-public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
+public class CancelQueryTaskImpl implements CancelQueryTask, Runnable {
 
     Query queryToCancel;
     Throwable caughtWhileCancelling = null;
     boolean queryTimeoutKillsConnection = false;
+    private volatile ScheduledFuture<?> timeoutFuture = null;
 
     public CancelQueryTaskImpl(Query cancellee) {
         this.queryToCancel = cancellee;
@@ -57,69 +55,58 @@ public class CancelQueryTaskImpl extends TimerTask implements CancelQueryTask {
         this.queryTimeoutKillsConnection = session.getPropertySet().getBooleanProperty(PropertyKey.queryTimeoutKillsConnection).getValue();
     }
 
+    /**
+     * Schedules this task to run after the given timeout.
+     * 
+     * @param timeout
+     *            timeout in milliseconds
+     */
+    public void schedule(long timeout) {
+        this.timeoutFuture = CancelQueryService.schedule(this, timeout);
+    }
+
     @Override
     public boolean cancel() {
-        boolean res = super.cancel();
+        ScheduledFuture<?> future = this.timeoutFuture;
+        boolean res = future != null && future.cancel(false);
         this.queryToCancel = null;
         return res;
     }
 
     @Override
     public void run() {
-
-        Thread cancelThread = new Thread() {
-
-            @Override
-            public void run() {
-                Query localQueryToCancel = CancelQueryTaskImpl.this.queryToCancel;
-                if (localQueryToCancel == null) {
-                    return;
-                }
-                NativeSession session = (NativeSession) localQueryToCancel.getSession();
-                if (session == null) {
-                    return;
-                }
-
+        Query localQueryToCancel = this.queryToCancel;
+        if (localQueryToCancel == null) {
+            return;
+        }
+        NativeSession session = (NativeSession) localQueryToCancel.getSession();
+        if (session == null) {
+            return;
+        }
+
+        try {
+            if (this.queryTimeoutKillsConnection) {
+                localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
+                session.invokeCleanupListeners(new OperationCancelledException(Messages.getString("Statement.ConnectionKilledDueToTimeout")));
+            } else {
+                Lock lock = localQueryToCancel.getCancelTimeoutLock();
+                lock.lock();
                 try {
-                    if (CancelQueryTaskImpl.this.queryTimeoutKillsConnection) {
-                        localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
-                        session.invokeCleanupListeners(new OperationCancelledException(Messages.getString("Statement.ConnectionKilledDueToTimeout")));
-                    } else {
-                        synchronized (localQueryToCancel.getCancelTimeoutMutex()) {
-                            long origConnId = session.getThreadId();
-                            HostInfo hostInfo = session.getHostInfo();
-                            String database = hostInfo.getDatabase();
-                            String user = StringUtils.isNullOrEmpty(hostInfo.getUser()) ? "" : hostInfo.getUser();
-                            String password = StringUtils.isNullOrEmpty(hostInfo.getPassword()) ? "" : hostInfo.getPassword();
-
-                            NativeSession newSession = new NativeSession(hostInfo, session.getPropertySet());
-                            newSession.connect(hostInfo, user, password, database, 30000, new TransactionEventHandler() {
-                                @Override
-                                public void transactionCompleted() {
-                                }
-
-                                public void transactionBegun() {
-                                }
-                            });
-                            newSession.sendCommand(new NativeMessageBuilder().buildComQuery(newSession.getSharedSendPacket(), "KILL QUERY " + origConnId),
-                                    false, 0);
-
-                            localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
-                        }
-                    }
-                    // } catch (NullPointerException npe) {
-                    // Case when connection closed while starting to cancel.
-                    // We can't easily synchronise this, because then one thread can't cancel() a running query.
-                    // Ignore, we shouldn't re-throw this, because the connection's already closed, so the statement has been timed out.
-                } catch (Throwable t) {
-                    CancelQueryTaskImpl.this.caughtWhileCancelling = t;
+                    CancelQueryService.killQuery(session);
+                    localQueryToCancel.setCancelStatus(CancelStatus.CANCELED_BY_TIMEOUT);
                 } finally {
-                    setQueryToCancel(null);
+                    lock.unlock();
                 }
             }
-        };
-
-        cancelThread.start();
+            // } catch (NullPointerException npe) {
+            // Case when connection closed while starting to cancel.
+            // We can't easily synchronise this, because then one thread can't cancel() a running query.
+            // Ignore, we shouldn't re-throw this, because the connection's already closed, so the statement has been timed out.
+        } catch (Throwable t) {
+            this.caughtWhileCancelling = t;
+        } finally {
+            setQueryToCancel(null);
+        }
     }
 
     public Throwable getCaughtWhileCancelling() {
@@ -31,6 +31,9 @@ package com.mysql.cj;
 
 import java.io.InputStream;
 
+import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+
 public class ClientPreparedQueryBindValue implements BindValue {
 
     /** NULL indicator */
@@ -50,6 +53,11 @@ public class ClientPreparedQueryBindValue implements BindValue {
     /** has this parameter been set? */
     protected boolean isSet = false;
 
+    /** Arena holding the value instead of {@link #value}, if any */
+    protected BindingArena arena = null;
+
+    protected int arenaIndex;
+
     public ClientPreparedQueryBindValue() {
     }
 
@@ -62,7 +70,9 @@ public class ClientPreparedQueryBindValue implements BindValue {
         this.isNull = copyMe.isNull;
         this.isStream = copyMe.isStream;
         this.parameterType = copyMe.parameterType;
-        if (copyMe.value != null && copyMe.value instanceof byte[]) {
+        if (copyMe.arena != null) {
+            this.value = copyMe.getByteValue();
+        } else if (copyMe.value != null && copyMe.value instanceof byte[]) {
             this.value = new byte[((byte[]) copyMe.value).length];
             System.arraycopy(copyMe.value, 0, this.value, 0, ((byte[]) copyMe.value).length);
         } else {
@@ -73,6 +83,7 @@ public class ClientPreparedQueryBindValue implements BindValue {
     }
 
     public void reset() {
+        releaseArenaValue();
         this.isNull = false;
         this.isStream = false;
         this.parameterType = MysqlType.NULL;
@@ -114,6 +125,9 @@ public class ClientPreparedQueryBindValue implements BindValue {
     }
 
     public byte[] getByteValue() {
+        if (this.arena != null) {
+            return this.arena.copyOf(this.arenaIndex);
+        }
         if (this.value instanceof byte[]) {
             return (byte[]) this.value;
         }
@@ -121,6 +135,7 @@ public class ClientPreparedQueryBindValue implements BindValue {
     }
 
     public void setByteValue(byte[] parameterValue) {
+        releaseArenaValue();
         this.isNull = false;
         this.isStream = false;
         this.value = parameterValue;
@@ -128,6 +143,57 @@ public class ClientPreparedQueryBindValue implements BindValue {
         this.isSet = true;
     }
 
+    /**
+     * Sets the value to the one last written to the given arena for this parameter.
+     * 
+     * @param valueArena
+     *            arena holding the value
+     * @param parameterIndex
+     *            0-based index of this parameter in the arena
+     */
+    public void setArenaValue(BindingArena valueArena, int parameterIndex) {
+        this.isNull = false;
+        this.isStream = false;
+        this.value = null;
+        this.streamLength = 0;
+        this.isSet = true;
+        this.arena = valueArena;
+        this.arenaIndex = parameterIndex;
+    }
+
+    private void releaseArenaValue() {
+        if (this.arena != null) {
+            this.arena.release(this.arenaIndex);
+            this.arena = null;
+        }
+    }
+
+    /**
+     * Returns the length of the value returned by {@link #getByteValue()}, without copying values held in an arena.
+     * 
+     * @return value length, 0 if there is no byte value
+     */
+    public int getByteValueLength() {
+        if (this.arena != null) {
+            return this.arena.getLength(this.arenaIndex);
+        }
+        return this.value instanceof byte[] ? ((byte[]) this.value).length : 0;
+    }
+
+    /**
+     * Writes the byte value to the given packet, without copying values held in an arena.
+     * 
+     * @param packet
+     *            packet to write to
+     */
+    public void writeByteValue(NativePacketPayload packet) {
+        if (this.arena != null) {
+            this.arena.writeTo(this.arenaIndex, packet);
+        } else {
+            packet.writeBytes(StringLengthDataType.STRING_FIXED, getByteValue());
+        }
+    }
+
     @Override
     public void setOrigByteValue(byte[] origParamValue) {
         this.origValue = origParamValue;
@@ -146,6 +212,7 @@ public class ClientPreparedQueryBindValue implements BindValue {
     }
 
     public void setStreamValue(InputStream parameterStream, long streamLength) {
+        releaseArenaValue();
         this.value = parameterStream;
         this.streamLength = streamLength;
         this.isSet = true;
@@ -48,6 +48,9 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
 
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.ExceptionFactory;
@@ -68,11 +71,31 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
 
     private SimpleDateFormat tsdf = null;
 
+    /** Strings can't be encoded to the arena */
+    private static final int ARENA_STRINGS_NONE = 0;
+    /** Strings containing only ASCII characters can be encoded to the arena */
+    private static final int ARENA_STRINGS_ASCII = 1;
+    /** All strings can be encoded to the arena */
+    private static final int ARENA_STRINGS_UTF8 = 2;
+
+    private boolean useBindingArena;
+
+    /** Arena values are encoded to if "useBindingArena" is set, created when first used */
+    private BindingArena arena = null;
+
+    /** One of ARENA_STRINGS_*, or -1 if not determined yet */
+    private int arenaStrings = -1;
+
+    private Calendar arenaCalendar = null;
+
+    private TimeZone arenaCalendarTimeZone = null;
+
     public ClientPreparedQueryBindings(int parameterCount, Session sess) {
         super(parameterCount, sess);
         if (((NativeSession) this.session).getRequiresEscapingEncoder()) {
             this.charsetEncoder = Charset.forName(this.charEncoding).newEncoder();
         }
+        this.useBindingArena = this.session.getPropertySet().getBooleanProperty(PropertyKey.useBindingArena).getValue();
     }
 
     @Override
@@ -184,11 +207,19 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
 
     @Override
     public void setBoolean(int parameterIndex, boolean x) {
+        if (this.useBindingArena) {
+            setArenaLong(parameterIndex, x ? 1 : 0, MysqlType.BOOLEAN);
+            return;
+        }
         setValue(parameterIndex, x ? "1" : "0", MysqlType.BOOLEAN);
     }
 
     @Override
     public void setByte(int parameterIndex, byte x) {
+        if (this.useBindingArena) {
+            setArenaLong(parameterIndex, x, MysqlType.TINYINT);
+            return;
+        }
         setValue(parameterIndex, String.valueOf(x), MysqlType.TINYINT);
     }
 
@@ -408,7 +439,8 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
             setNull(parameterIndex);
         } else if (cal != null) {
             setValue(parameterIndex, TimeUtil.getSimpleDateFormat("''yyyy-MM-dd''", cal).format(x), MysqlType.DATE);
-        } else {
+        } else if (!this.useBindingArena
+                || !setArenaDateTime(parameterIndex, x.getTime(), -1, this.session.getServerSession().getDefaultTimeZone(), true, false, MysqlType.DATE)) {
             this.ddf = TimeUtil.getSimpleDateFormat(this.ddf, "''yyyy-MM-dd''", this.session.getServerSession().getDefaultTimeZone());
             setValue(parameterIndex, this.ddf.format(x), MysqlType.DATE);
         }
@@ -431,11 +463,19 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
 
     @Override
     public void setInt(int parameterIndex, int x) {
+        if (this.useBindingArena) {
+            setArenaLong(parameterIndex, x, MysqlType.INT);
+            return;
+        }
         setValue(parameterIndex, String.valueOf(x), MysqlType.INT);
     }
 
     @Override
     public void setLong(int parameterIndex, long x) {
+        if (this.useBindingArena) {
+            setArenaLong(parameterIndex, x, MysqlType.BIGINT);
+            return;
+        }
         setValue(parameterIndex, String.valueOf(x), MysqlType.BIGINT);
     }
 
@@ -586,6 +626,10 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
 
     @Override
     public void setShort(int parameterIndex, short x) {
+        if (this.useBindingArena) {
+            setArenaLong(parameterIndex, x, MysqlType.SMALLINT);
+            return;
+        }
         setValue(parameterIndex, String.valueOf(x), MysqlType.SMALLINT);
     }
 
@@ -594,6 +638,10 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
         if (x == null) {
             setNull(parameterIndex);
         } else {
+            if (this.useBindingArena && setArenaString(parameterIndex, x)) {
+                return;
+            }
+
             int stringLength = x.length();
 
             if (this.session.getServerSession().isNoBackslashEscapesSet()) {
@@ -731,7 +779,8 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
             setNull(parameterIndex);
         } else if (cal != null) {
             setValue(parameterIndex, TimeUtil.getSimpleDateFormat("''HH:mm:ss''", cal).format(x), MysqlType.TIME);
-        } else {
+        } else if (!this.useBindingArena
+                || !setArenaDateTime(parameterIndex, x.getTime(), -1, this.session.getServerSession().getServerTimeZone(), false, true, MysqlType.TIME)) {
             this.tdf = TimeUtil.getSimpleDateFormat(this.tdf, "''HH:mm:ss''", this.session.getServerSession().getServerTimeZone());
             setValue(parameterIndex, this.tdf.format(x), MysqlType.TIME);
         }
@@ -770,7 +819,7 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
     public void setTimestamp(int parameterIndex, Timestamp x, Calendar targetCalendar, int fractionalLength) {
         if (x == null) {
             setNull(parameterIndex);
-        } else {
+        } else if (!this.useBindingArena || targetCalendar != null || !setArenaTimestamp(parameterIndex, x, fractionalLength)) {
 
             x = (Timestamp) x.clone();
 
@@ -805,4 +854,253 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
         }
     }
 
+    private BindingArena getArena() {
+        if (this.arena == null) {
+            this.arena = new BindingArena(this.bindValues.length);
+        }
+        return this.arena;
+    }
+
+    private void setArenaValue(int parameterIndex, MysqlType type) {
+        this.arena.end();
+        this.bindValues[parameterIndex].setArenaValue(this.arena, parameterIndex);
+        this.bindValues[parameterIndex].setMysqlType(type);
+    }
+
+    private void setArenaLong(int parameterIndex, long x, MysqlType type) {
+        BindingArena a = getArena();
+        a.begin(parameterIndex, 20);
+        a.putLong(x);
+        setArenaValue(parameterIndex, type);
+    }
+
+    /**
+     * Escapes, quotes and encodes a string to the arena in a single pass, the same way as {@link #setString(int, String)} does when NO_BACKSLASH_ESCAPES
+     * isn't set.
+     * 
+     * @param parameterIndex
+     *            0-based parameter index
+     * @param x
+     *            string value
+     * @return false if the string can't be encoded to the arena, in which case the parameter has to be set another way
+     */
+    private boolean setArenaString(int parameterIndex, String x) {
+        if (this.arenaStrings == -1) {
+            this.arenaStrings = ARENA_STRINGS_NONE;
+            if (this.charEncoding != null && this.charsetEncoder == null) {
+                try {
+                    String charsetName = Charset.forName(this.charEncoding).name();
+                    if (charsetName.equals("UTF-8")) {
+                        this.arenaStrings = ARENA_STRINGS_UTF8;
+                    } else if (charsetName.equals("windows-1252") || charsetName.equals("ISO-8859-1") || charsetName.equals("US-ASCII")) {
+                        this.arenaStrings = ARENA_STRINGS_ASCII;
+                    }
+                } catch (RuntimeException e) {
+                    // leave unknown encodings to StringUtils
+                }
+            }
+        }
+
+        int stringLength = x.length();
+        if (this.arenaStrings == ARENA_STRINGS_NONE || this.isLoadDataQuery || this.session.getServerSession().isNoBackslashEscapesSet()
+                || stringLength > (Integer.MAX_VALUE - 2) / 3) {
+            return false;
+        }
+        boolean utf8 = this.arenaStrings == ARENA_STRINGS_UTF8;
+        boolean useAnsiQuotedIdentifiers = this.session.getServerSession().useAnsiQuotedIdentifiers();
+
+        BindingArena a = getArena();
+        // escaped ASCII characters take 2 bytes, others up to 3 bytes in UTF-8, surrogate pairs 4 bytes
+        a.begin(parameterIndex, (utf8 ? 3 * stringLength : 2 * stringLength) + 2);
+        a.put('\'');
+
+        for (int i = 0; i < stringLength; ++i) {
+            char c = x.charAt(i);
+
+            if (c < 0x80) {
+                switch (c) {
+                    case 0: /* Must be escaped for 'mysql' */
+                        a.put('\\');
+                        a.put('0');
+                        break;
+                    case '\n': /* Must be escaped for logs */
+                        a.put('\\');
+                        a.put('n');
+                        break;
+                    case '\r':
+                        a.put('\\');
+                        a.put('r');
+                        break;
+                    case '\\':
+                        a.put('\\');
+                        a.put('\\');
+                        break;
+                    case '\'':
+                        a.put('\'');
+                        a.put('\'');
+                        break;
+                    case '"': /* Better safe than sorry */
+                        if (useAnsiQuotedIdentifiers) {
+                            a.put('\\');
+                        }
+                        a.put('"');
+                        break;
+                    case '\032': /* This gives problems on Win32 */
+                        a.put('\\');
+                        a.put('Z');
+                        break;
+                    default:
+                        a.put(c);
+                }
+            } else if (!utf8) {
+                a.abort();
+                return false;
+            } else if (c < 0x800) {
+                a.put((byte) (0xc0 | (c >> 6)));
+                a.put((byte) (0x80 | (c & 0x3f)));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < stringLength && Character.isLowSurrogate(x.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, x.charAt(++i));
+                    a.put((byte) (0xf0 | (codePoint >> 18)));
+                    a.put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+                    a.put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+                    a.put((byte) (0x80 | (codePoint & 0x3f)));
+                } else {
+                    // unpaired surrogates are replaced the same way as by String.getBytes()
+                    a.put('?');
+                }
+            } else {
+                a.put((byte) (0xe0 | (c >> 12)));
+                a.put((byte) (0x80 | ((c >> 6) & 0x3f)));
+                a.put((byte) (0x80 | (c & 0x3f)));
+            }
+        }
+
+        a.put('\'');
+        setArenaValue(parameterIndex, MysqlType.VARCHAR);
+        return true;
+    }
+
+    /**
+     * Writes a quoted date and/or time literal to the arena, the same way the SimpleDateFormat patterns of {@link #setDate(int, Date, Calendar)},
+     * {@link #setTime(int, Time, Calendar)} and {@link #setTimestamp(int, Timestamp, Calendar, int)} do, followed by fractional seconds if nanos isn't
+     * negative.
+     * 
+     * @param parameterIndex
+     *            0-based parameter index
+     * @param millis
+     *            epoch milliseconds
+     * @param nanos
+     *            fractional seconds in nanoseconds, already rounded to microseconds, or -1 to leave them out
+     * @param tz
+     *            time zone to render the value in
+     * @param date
+     *            write the date part
+     * @param time
+     *            write the time part
+     * @param type
+     *            parameter type
+     * @return false if the value can't be written to the arena, in which case the parameter has to be set another way
+     */
+    private boolean setArenaDateTime(int parameterIndex, long millis, int nanos, TimeZone tz, boolean date, boolean time, MysqlType type) {
+        if (tz == null) {
+            return false;
+        }
+        if (this.arenaCalendar == null) {
+            this.arenaCalendar = new GregorianCalendar(tz, Locale.US);
+        } else if (tz != this.arenaCalendarTimeZone) {
+            this.arenaCalendar.setTimeZone(tz);
+        }
+        this.arenaCalendarTimeZone = tz;
+
+        Calendar cal = this.arenaCalendar;
+        cal.setTimeInMillis(millis);
+        int year = cal.get(Calendar.YEAR);
+        if (cal.get(Calendar.ERA) != GregorianCalendar.AD || year > 9999) {
+            return false;
+        }
+
+        BindingArena a = getArena();
+        a.begin(parameterIndex, 29);
+        a.put('\'');
+        if (date) {
+            a.putDigits(year, 4);
+            a.put('-');
+            a.putDigits(cal.get(Calendar.MONTH) + 1, 2);
+            a.put('-');
+            a.putDigits(cal.get(Calendar.DAY_OF_MONTH), 2);
+        }
+        if (time) {
+            if (date) {
+                a.put(' ');
+            }
+            a.putDigits(cal.get(Calendar.HOUR_OF_DAY), 2);
+            a.put(':');
+            a.putDigits(cal.get(Calendar.MINUTE), 2);
+            a.put(':');
+            a.putDigits(cal.get(Calendar.SECOND), 2);
+        }
+        if (nanos >= 0) {
+            // same as TimeUtil.formatNanos(nanos, 6)
+            a.put('.');
+            int micros = nanos / 1000;
+            if (micros == 0) {
+                a.put('0');
+            } else {
+                int width = 6;
+                while (micros % 10 == 0) {
+                    micros /= 10;
+                    width--;
+                }
+                a.putDigits(micros, width);
+            }
+        }
+        a.put('\'');
+        setArenaValue(parameterIndex, type);
+        return true;
+    }
+
+    /**
+     * Writes a timestamp literal to the arena, truncating or rounding fractional seconds the same way as {@link #setTimestamp(int, Timestamp, Calendar, int)}
+     * without allocating adjusted Timestamp copies.
+     * 
+     * @param parameterIndex
+     *            0-based parameter index
+     * @param x
+     *            timestamp
+     * @param fractionalLength
+     *            fractional seconds precision, -1 for the default of 6
+     * @return false if the value can't be written to the arena, in which case the parameter has to be set another way
+     */
+    private boolean setArenaTimestamp(int parameterIndex, Timestamp x, int fractionalLength) {
+        boolean serverSupportsFracSecs = this.session.getServerSession().getCapabilities().serverSupportsFracSecs();
+
+        int nanos = x.getNanos();
+        if (!serverSupportsFracSecs || !this.sendFractionalSeconds.getValue() && fractionalLength == 0) {
+            nanos = 0;
+        }
+        if (fractionalLength < 0) {
+            fractionalLength = 6;
+        } else if (fractionalLength > 6) {
+            return false;
+        }
+
+        // whole seconds, Timestamp.getTime() includes the milliseconds of the nanos
+        long millis = Math.floorDiv(x.getTime(), 1000) * 1000;
+
+        // same as TimeUtil.adjustTimestampNanosPrecision()
+        double tail = Math.pow(10, 9 - fractionalLength);
+        if (!this.session.getServerSession().isServerTruncatesFracSecs()) {
+            nanos = (int) Math.round(nanos / tail) * (int) tail;
+            if (nanos > 999999999) {
+                nanos %= 1000000000;
+                millis += 1000;
+            }
+        } else {
+            nanos = (int) (nanos / tail) * (int) tail;
+        }
+
+        return setArenaDateTime(parameterIndex, millis, serverSupportsFracSecs ? nanos : -1, this.session.getServerSession().getServerTimeZone(), true, true,
+                MysqlType.TIMESTAMP);
+    }
 }
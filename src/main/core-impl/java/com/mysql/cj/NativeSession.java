@@ -41,13 +41,19 @@ import java.nio.charset.CharsetEncoder;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import com.mysql.cj.conf.HostInfo;
@@ -85,6 +91,7 @@ import com.mysql.cj.result.LongValueFactory;
 import com.mysql.cj.result.Row;
 import com.mysql.cj.result.StringValueFactory;
 import com.mysql.cj.result.ValueFactory;
+import com.mysql.cj.util.DriverThreadPools;
 import com.mysql.cj.util.StringUtils;
 
 public class NativeSession extends CoreSession implements Serializable {
@@ -125,7 +132,64 @@ public class NativeSession extends CoreSession implements Serializable {
 
     private CopyOnWriteArrayList<WeakReference<SessionEventListener>> listeners = new CopyOnWriteArrayList<>();
 
-    private transient Timer cancelTimer;
+    /** Serializes the server-side prepared statement commands that send several packets in a row. */
+    private final transient ReentrantLock sessionLock = new ReentrantLock();
+
+    /** Consumers of the responses to commands sent by {@link #execSQLAsync}, in the order the commands were sent. */
+    private transient Deque<AsyncResult<?>> asyncResults = new ConcurrentLinkedDeque<>();
+
+    /** Is a task reading the pending asynchronous results already scheduled? Guarded by the connection lock. */
+    private transient boolean asyncResultsReaderScheduled = false;
+
+    /**
+     * The future of a query sent by {@link NativeSession#execSQLAsync}, and what is needed to read its result.
+     *
+     * @param <T>
+     *            extends {@link Resultset}
+     */
+    private static class AsyncResult<T extends Resultset> {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final int maxRows;
+        final ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory;
+
+        AsyncResult(int maxRows, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) {
+            this.maxRows = maxRows;
+            this.resultSetFactory = resultSetFactory;
+        }
+
+        /**
+         * Reads the result and completes the future with it.
+         * 
+         * @param session
+         *            the session to read from
+         * @return the communications failure that prevented reading the result, after which nothing else can be read from the session, or null
+         */
+        CJCommunicationsException read(NativeSession session) {
+            T rs;
+            try {
+                rs = session.readPipelinedResult(this.resultSetFactory, false, this.maxRows);
+            } catch (Throwable t) {
+                completeExceptionally(t);
+                return t instanceof CJCommunicationsException ? (CJCommunicationsException) t : null;
+            }
+            completeAsync(() -> this.future.complete(rs));
+            return null;
+        }
+
+        void completeExceptionally(Throwable t) {
+            completeAsync(() -> this.future.completeExceptionally(t));
+        }
+
+        private void completeAsync(Runnable completion) {
+            try {
+                // don't run dependent stages in the reading thread, it holds the connection lock
+                getAsyncExecutor().execute(completion);
+            } catch (RejectedExecutionException e) {
+                // the driver threads are being shut down
+                completion.run();
+            }
+        }
+    }
 
     public NativeSession(HostInfo hostInfo, PropertySet propSet) {
         super(hostInfo, propSet);
@@ -171,17 +235,12 @@ public class NativeSession extends CoreSession implements Serializable {
     public void quit() {
         if (this.protocol != null) {
             try {
+                readAsyncResults();
                 ((NativeProtocol) this.protocol).quit();
             } catch (Exception e) {
             }
 
         }
-        synchronized (this) {
-            if (this.cancelTimer != null) {
-                this.cancelTimer.cancel();
-                this.cancelTimer = null;
-            }
-        }
         this.isClosed = true;
         super.quit();
     }
@@ -202,11 +261,10 @@ public class NativeSession extends CoreSession implements Serializable {
             }
             //this.protocol = null; // TODO actually we shouldn't remove protocol instance because some it's methods can be called after closing socket
         }
-        synchronized (this) {
-            if (this.cancelTimer != null) {
-                this.cancelTimer.cancel();
-                this.cancelTimer = null;
-            }
+        AsyncResult<?> asyncResult;
+        while ((asyncResult = this.asyncResults.poll()) != null) {
+            asyncResult.future.completeExceptionally(
+                    ExceptionFactory.createException(ConnectionIsClosedException.class, Messages.getString("Connection.2"), getExceptionInterceptor()));
         }
         this.isClosed = true;
         super.forceClose();
@@ -876,8 +934,8 @@ public class NativeSession extends CoreSession implements Serializable {
                     Resultset rs = ((NativeProtocol) this.protocol).readAllResults(-1, false, resultPacket, false, null,
                             new ResultsetFactory(Type.FORWARD_ONLY, null));
 
-                    int charsetColumn = rs.getColumnDefinition().getColumnNameToIndex().get("Charset");
-                    int maxlenColumn = rs.getColumnDefinition().getColumnNameToIndex().get("Maxlen");
+                    int charsetColumn = rs.getColumnDefinition().findColumn("Charset", false, 0);
+                    int maxlenColumn = rs.getColumnDefinition().findColumn("Maxlen", false, 0);
 
                     ValueFactory<String> svf = new StringValueFactory(this.propertySet);
                     Row r;
@@ -1027,7 +1085,7 @@ public class NativeSession extends CoreSession implements Serializable {
     /**
      * Send a query to the server. Returns one of the ResultSet objects.
      * To ensure that Statement's queries are serialized, calls to this method
-     * should be enclosed in a connection mutex synchronized block.
+     * should be made while holding the connection lock.
      * 
      * @param <T>
      *            extends {@link Resultset}
@@ -1120,6 +1178,151 @@ public class NativeSession extends CoreSession implements Serializable {
 
     }
 
+    /**
+     * Send a command to the server without waiting for its response. See {@link NativeProtocol#sendPipelinedCommand(com.mysql.cj.protocol.Message)}.
+     * To ensure that Statement's queries are serialized, calls to this method and to {@link #readPipelinedResult(ProtocolEntityFactory)} should be
+     * made while holding the connection lock.
+     * 
+     * @param query
+     *            the SQL statement to be executed
+     * @param packet
+     *            {@link NativePacketPayload} to send; if null then the packet is built from the query string
+     */
+    public void sendPipelinedSQL(String query, NativePacketPayload packet) {
+        this.lastQueryFinishedTime = 0; // we're busy!
+
+        try {
+            NativeProtocol nativeProtocol = (NativeProtocol) this.protocol;
+            nativeProtocol.sendPipelinedCommand(packet == null ? nativeProtocol.buildComQueryPacket(query, this.characterEncoding.getValue()) : packet);
+        } catch (CJException sqlE) {
+            handlePipelineException(sqlE);
+            throw sqlE;
+        }
+    }
+
+    /**
+     * Read the result of the oldest command sent with {@link #sendPipelinedSQL(String, NativePacketPayload)}.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @param isBinaryEncoded
+     *            true for binary protocol
+     * @return a ResultSet holding the results
+     */
+    public <T extends Resultset> T readPipelinedResult(ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, boolean isBinaryEncoded) {
+        return readPipelinedResult(resultSetFactory, isBinaryEncoded, -1);
+    }
+
+    private <T extends Resultset> T readPipelinedResult(ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, boolean isBinaryEncoded, int maxRows) {
+        try {
+            return ((NativeProtocol) this.protocol).readPipelinedResult(maxRows, isBinaryEncoded, null, resultSetFactory);
+
+        } catch (CJException sqlE) {
+            handlePipelineException(sqlE);
+            throw sqlE;
+
+        } catch (IOException ioEx) {
+            throw ExceptionFactory.createCommunicationsException(this.propertySet, getServerSession(), this.protocol.getPacketSentTimeHolder(),
+                    this.protocol.getPacketReceivedTimeHolder(), ioEx, getExceptionInterceptor());
+
+        } finally {
+            if (this.maintainTimeStats.getValue()) {
+                this.lastQueryFinishedTime = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Send a query to the server and return immediately. The result is read later by a shared driver thread, or by the first command that needs the
+     * connection, and is delivered through the returned future. Several queries may be in flight on the same connection at once; their results are read in
+     * the order the queries were sent, so no thread is blocked waiting for each one of them.
+     * 
+     * To ensure that Statement's queries are serialized, calls to this method should be made while holding the given connection lock.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param query
+     *            the SQL statement to be executed
+     * @param maxRows
+     *            rows limit
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @param connectionLock
+     *            the connection lock, acquired by the driver thread that reads the results
+     * @return a future completed with the result of the query
+     */
+    public <T extends Resultset> CompletableFuture<T> execSQLAsync(String query, int maxRows, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory,
+            Lock connectionLock) {
+        // any other command must read the pending results before it can be sent
+        ((NativeProtocol) this.protocol).setPipelinedResponsesConsumer(this::readAsyncResults);
+
+        sendPipelinedSQL(query, null);
+
+        AsyncResult<T> asyncResult = new AsyncResult<>(maxRows, resultSetFactory);
+        this.asyncResults.add(asyncResult);
+
+        if (!this.asyncResultsReaderScheduled) {
+            this.asyncResultsReaderScheduled = true;
+            try {
+                getAsyncExecutor().execute(() -> {
+                    connectionLock.lock();
+                    try {
+                        this.asyncResultsReaderScheduled = false;
+                        readAsyncResults();
+                    } finally {
+                        connectionLock.unlock();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // the driver threads are being shut down, the response is still read, and discarded, by the next command that needs the connection
+                this.asyncResultsReaderScheduled = false;
+                asyncResult.future.completeExceptionally(ExceptionFactory.createException(e.getMessage(), e, getExceptionInterceptor()));
+            }
+        }
+
+        return asyncResult.future;
+    }
+
+    /**
+     * Read the results of all queries sent by {@link #execSQLAsync(String, int, ProtocolEntityFactory, Lock)} that weren't read yet. Calls to this method
+     * should be made while holding the connection lock.
+     */
+    public void readAsyncResults() {
+        AsyncResult<?> asyncResult;
+        while ((asyncResult = this.asyncResults.poll()) != null) {
+            CJCommunicationsException failure = asyncResult.read(this);
+            if (failure != null) {
+                // nothing else can be read from this connection, the results still queued fail with the same exception
+                while ((asyncResult = this.asyncResults.poll()) != null) {
+                    asyncResult.completeExceptionally(failure);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the shared threads that read the responses to asynchronously executed queries and complete their futures.
+     * 
+     * @return executor
+     */
+    private static ExecutorService getAsyncExecutor() {
+        return DriverThreadPools.getCachedThreadPool("mysql-cj-async-results");
+    }
+
+    private void handlePipelineException(CJException sqlE) {
+        if (sqlE instanceof CJCommunicationsException) {
+            if (this.autoReconnect.getValue()) {
+                // IO may be dirty or damaged beyond repair, force close it.
+                this.protocol.getSocketConnection().forceClose();
+                this.needsPing = true;
+            } else {
+                invokeCleanupListeners(sqlE);
+            }
+        }
+    }
+
     public long getIdleFor() {
         return this.lastQueryFinishedTime == 0 ? 0 : System.currentTimeMillis() - this.lastQueryFinishedTime;
     }
@@ -1163,6 +1366,10 @@ public class NativeSession extends CoreSession implements Serializable {
         return this.isClosed;
     }
 
+    public Lock getSessionLock() {
+        return this.sessionLock;
+    }
+
     public void checkClosed() {
         if (this.isClosed) {
             if (this.forceClosedReason != null && this.forceClosedReason.getClass().equals(OperationCancelledException.class)) {
@@ -1234,11 +1441,4 @@ public class NativeSession extends CoreSession implements Serializable {
     public String getIdentifierQuoteString() {
         return this.protocol != null && this.protocol.getServerSession().useAnsiQuotedIdentifiers() ? "\"" : "`";
     }
-
-    public synchronized Timer getCancelTimer() {
-        if (this.cancelTimer == null) {
-            this.cancelTimer = new Timer("MySQL Statement Cancellation Timer", Boolean.TRUE);
-        }
-        return this.cancelTimer;
-    }
 }
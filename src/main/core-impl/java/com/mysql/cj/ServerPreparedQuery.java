@@ -32,6 +32,7 @@ package com.mysql.cj;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.RuntimeProperty;
@@ -46,6 +47,7 @@ import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.Resultset;
 import com.mysql.cj.protocol.Resultset.Type;
 import com.mysql.cj.protocol.a.ColumnDefinitionFactory;
+import com.mysql.cj.protocol.a.MergingColumnDefinitionFactory.MergedColumnDefinition;
 import com.mysql.cj.protocol.a.NativeConstants;
 import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
@@ -71,6 +73,12 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
     /** Field-level metadata for result sets. From statement prepare. */
     private ColumnDefinition resultFields;
 
+    /** Field-level metadata for result sets. From the last statement execution, reused by the next ones if "cacheResultSetMetadata" is enabled. */
+    private ColumnDefinition executeResultFields;
+
+    /** The "cacheResultSetMetadata" connection property */
+    protected RuntimeProperty<Boolean> cacheResultSetMetadata;
+
     /** The "profileSQL" connection property value */
     protected boolean profileSQL = false;
 
@@ -107,6 +115,7 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
         this.slowQueryThresholdMillis = sess.getPropertySet().getIntegerProperty(PropertyKey.slowQueryThresholdMillis);
         this.explainSlowQueries = sess.getPropertySet().getBooleanProperty(PropertyKey.explainSlowQueries);
         this.useCursorFetch = sess.getPropertySet().getBooleanProperty(PropertyKey.useCursorFetch).getValue();
+        this.cacheResultSetMetadata = sess.getPropertySet().getBooleanProperty(PropertyKey.cacheResultSetMetadata);
     }
 
     /**
@@ -119,7 +128,9 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
     public void serverPrepare(String sql) throws IOException {
         this.session.checkClosed();
 
-        synchronized (this.session) {
+        Lock lock = this.session.getSessionLock();
+        lock.lock();
+        try {
             long begin = this.profileSQL ? System.currentTimeMillis() : 0;
 
             boolean loadDataQuery = StringUtils.startsWithIgnoreCaseAndWs(sql, "LOAD DATA");
@@ -141,8 +152,16 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
             int fieldCount = (int) prepareResultPacket.readInteger(IntegerDataType.INT2);
             setParameterCount((int) prepareResultPacket.readInteger(IntegerDataType.INT2));
 
+            // the parameter and result set column definitions are omitted if "resultset_metadata" is set to NONE
+            boolean metadataFollows = true;
+            if (this.session.getServerSession().isResultSetMetadataOptional()) {
+                prepareResultPacket.setPosition(12); // skip the reserved byte and the warning count
+                metadataFollows = prepareResultPacket.readInteger(IntegerDataType.INT1) != NativeConstants.RESULTSET_METADATA_NONE;
+            }
+
             this.queryBindings = new ServerPreparedQueryBindings(this.parameterCount, this.session);
             this.queryBindings.setLoadDataQuery(loadDataQuery);
+            this.executeResultFields = null;
 
             if (this.gatherPerfMetrics) {
                 this.session.getProtocol().getMetricsHolder().incrementNumberOfPrepares();
@@ -155,7 +174,7 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
 
             boolean checkEOF = !this.session.getServerSession().isEOFDeprecated();
 
-            if (this.parameterCount > 0) {
+            if (this.parameterCount > 0 && metadataFollows) {
                 if (checkEOF) { // Skip the following EOF packet.
                     this.session.getProtocol().skipPacket();
                 }
@@ -165,9 +184,11 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
             }
 
             // Read in the result set column information
-            if (fieldCount > 0) {
+            if (fieldCount > 0 && metadataFollows) {
                 this.resultFields = this.session.getProtocol().read(ColumnDefinition.class, new ColumnDefinitionFactory(fieldCount, null));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -386,8 +407,19 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
         try {
             long fetchStartTime = this.profileSQL ? this.session.getCurrentTimeNanosOrMillis() : 0;
 
-            T rs = this.session.getProtocol().readAllResults(maxRowsToRetrieve, createStreamingResultSet, resultPacket, true,
-                    metadata != null ? metadata : this.resultFields, resultSetFactory);
+            ColumnDefinition cachedMetadata = metadata != null ? metadata : this.resultFields;
+            boolean cacheMetadata = this.cacheResultSetMetadata.getValue();
+            // the result columns may change with the parameter types, which are only sent again when they changed
+            if (cacheMetadata && this.executeResultFields != null && !this.queryBindings.getSendTypesToServer().get()) {
+                cachedMetadata = this.executeResultFields;
+            }
+
+            T rs = this.session.getProtocol().readAllResults(maxRowsToRetrieve, createStreamingResultSet, resultPacket, true, cachedMetadata,
+                    resultSetFactory);
+
+            if (cacheMetadata && rs.getColumnDefinition() instanceof MergedColumnDefinition) {
+                this.executeResultFields = rs.getColumnDefinition();
+            }
 
             if (this.session.shouldIntercept()) {
                 T interceptedResults = this.session.invokeQueryInterceptorsPost(() -> {
@@ -455,7 +487,9 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
      * 
      */
     private void serverLongData(int parameterIndex, ServerPreparedQueryBindValue longData) {
-        synchronized (this) {
+        Lock lock = this.session.getSessionLock();
+        lock.lock();
+        try {
             NativePacketPayload packet = this.session.getSharedSendPacket();
 
             Object value = longData.value;
@@ -476,6 +510,8 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
                 throw ExceptionFactory.createException(WrongArgumentException.class,
                         Messages.getString("ServerPreparedStatement.18") + value.getClass().getName() + "'", this.session.getExceptionInterceptor());
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -484,6 +520,7 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
         this.queryBindings = null;
         this.parameterFields = null;
         this.resultFields = null;
+        this.executeResultFields = null;
         super.closeQuery();
     }
 
@@ -513,7 +550,9 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
 
     public void storeStream(int parameterIndex, NativePacketPayload packet, InputStream inStream) {
         this.session.checkClosed();
-        synchronized (this.session) {
+        Lock lock = this.session.getSessionLock();
+        lock.lock();
+        try {
             byte[] buf = new byte[BLOB_STREAM_READ_BUF_SIZE];
 
             int numRead = 0;
@@ -573,13 +612,17 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
                     }
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     // TODO: Investigate using NIO to do this faster
     public void storeReader(int parameterIndex, NativePacketPayload packet, Reader inStream) {
         this.session.checkClosed();
-        synchronized (this.session) {
+        Lock lock = this.session.getSessionLock();
+        lock.lock();
+        try {
             String forcedEncoding = this.session.getPropertySet().getStringProperty(PropertyKey.clobCharacterEncoding).getStringValue();
 
             String clobEncoding = (forcedEncoding == null ? this.session.getPropertySet().getStringProperty(PropertyKey.characterEncoding).getValue()
@@ -660,6 +703,8 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
                     }
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -682,12 +727,16 @@ public class ServerPreparedQuery extends AbstractPreparedQuery<ServerPreparedQue
 
     public void serverResetStatement() {
         this.session.checkClosed();
-        synchronized (this.session) {
+        Lock lock = this.session.getSessionLock();
+        lock.lock();
+        try {
             try {
                 this.session.sendCommand(this.commandBuilder.buildComStmtReset(this.session.getSharedSendPacket(), this.serverStatementId), false, 0);
             } finally {
                 this.session.clearInputStream();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -61,18 +61,11 @@ public class ReadAheadInputStream extends InputStream {
 
         this.endOfCurrentData = this.currentPosition;
 
-        // Read at least as many bytes as the caller wants, but don't block to fill the whole buffer (like java.io.BufferdInputStream does)
+        // Offer the whole buffer to the underlying stream: a read() blocks only until some data is available and then returns whatever has already arrived,
+        // so this reads ahead as much as possible without blocking to fill the whole buffer (like java.io.BufferdInputStream does) and without querying
+        // available() on every fill
 
-        int bytesToRead = Math.min(this.buf.length - this.currentPosition, readAtLeastTheseManyBytes);
-
-        int bytesAvailable = this.underlyingStream.available();
-
-        if (bytesAvailable > bytesToRead) {
-
-            // Great, there's more available, let's grab those bytes too! (read-ahead)
-
-            bytesToRead = Math.min(this.buf.length - this.currentPosition, bytesAvailable);
-        }
+        int bytesToRead = this.buf.length - this.currentPosition;
 
         if (this.doDebug) {
             StringBuilder debugBuf = new StringBuilder();
@@ -85,14 +78,6 @@ public class ReadAheadInputStream extends InputStream {
             debugBuf.append(", need to read ");
             debugBuf.append(Math.min(this.buf.length - this.currentPosition, readAtLeastTheseManyBytes));
             debugBuf.append(" bytes to fill request,");
-
-            if (bytesAvailable > 0) {
-                debugBuf.append(" underlying InputStream reports ");
-                debugBuf.append(bytesAvailable);
-
-                debugBuf.append(" total bytes available,");
-            }
-
             debugBuf.append(" attempting to read ");
             debugBuf.append(bytesToRead);
             debugBuf.append(" bytes.");
@@ -166,7 +151,7 @@ public class ReadAheadInputStream extends InputStream {
     }
 
     @Override
-    public synchronized int read(byte b[], int off, int len) throws IOException {
+    public int read(byte b[], int off, int len) throws IOException {
         checkClosed(); // Check for closed stream
         if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
             throw new IndexOutOfBoundsException();
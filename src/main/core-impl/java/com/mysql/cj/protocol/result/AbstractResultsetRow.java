@@ -29,6 +29,8 @@
 
 package com.mysql.cj.protocol.result;
 
+import java.math.BigDecimal;
+
 import com.mysql.cj.Messages;
 import com.mysql.cj.MysqlType;
 import com.mysql.cj.exceptions.DataReadException;
@@ -38,6 +40,9 @@ import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ValueDecoder;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.Row;
+import com.mysql.cj.result.ToDoubleValueFactory;
+import com.mysql.cj.result.ToIntValueFactory;
+import com.mysql.cj.result.ToLongValueFactory;
 import com.mysql.cj.result.ValueFactory;
 
 public abstract class AbstractResultsetRow implements ResultsetRow {
@@ -243,6 +248,187 @@ public abstract class AbstractResultsetRow implements ResultsetRow {
         return retVal;
     }
 
+    /**
+     * Get a primitive int value from a byte array. Integer and floating point protocol types are decoded and converted without boxing, other types go through
+     * {@link #getValueFromBytes(int, byte[], int, int, ValueFactory)}.
+     * 
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @param vf
+     *            value factory
+     * @return value, or 0 if it is SQL NULL
+     */
+    protected int getIntFromBytes(int columnIndex, byte[] bytes, int offset, int length, ToIntValueFactory<?> vf) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+
+        Field f = this.metadata.getFields()[columnIndex];
+        switch (getPrimitiveKind(f)) {
+            case PRIMITIVE_LONG:
+                return vf.createIntFromLong(decodeLong(f, bytes, offset, length));
+            case PRIMITIVE_DOUBLE:
+                return vf.createIntFromDouble(decodeDouble(f, bytes, offset, length));
+            default:
+                Number value = decodeAndCreateReturnValue(columnIndex, bytes, offset, length, vf);
+                this.wasNull = (value == null);
+                return value == null ? 0 : value.intValue();
+        }
+    }
+
+    /**
+     * Get a primitive long value from a byte array. See {@link #getIntFromBytes(int, byte[], int, int, ToIntValueFactory)}.
+     * 
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @param vf
+     *            value factory
+     * @return value, or 0 if it is SQL NULL
+     */
+    protected long getLongFromBytes(int columnIndex, byte[] bytes, int offset, int length, ToLongValueFactory<?> vf) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+
+        Field f = this.metadata.getFields()[columnIndex];
+        switch (getPrimitiveKind(f)) {
+            case PRIMITIVE_LONG:
+                return vf.createLongFromLong(decodeLong(f, bytes, offset, length));
+            case PRIMITIVE_DOUBLE:
+                return vf.createLongFromDouble(decodeDouble(f, bytes, offset, length));
+            default:
+                Number value = decodeAndCreateReturnValue(columnIndex, bytes, offset, length, vf);
+                this.wasNull = (value == null);
+                return value == null ? 0 : value.longValue();
+        }
+    }
+
+    /**
+     * Get a primitive double value from a byte array. See {@link #getIntFromBytes(int, byte[], int, int, ToIntValueFactory)}.
+     * 
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @param vf
+     *            value factory
+     * @return value, or 0 if it is SQL NULL
+     */
+    protected double getDoubleFromBytes(int columnIndex, byte[] bytes, int offset, int length, ToDoubleValueFactory<?> vf) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+
+        Field f = this.metadata.getFields()[columnIndex];
+        switch (getPrimitiveKind(f)) {
+            case PRIMITIVE_LONG:
+                return vf.createDoubleFromLong(decodeLong(f, bytes, offset, length));
+            case PRIMITIVE_DOUBLE:
+                return vf.createDoubleFromDouble(decodeDouble(f, bytes, offset, length));
+            default:
+                Number value = decodeAndCreateReturnValue(columnIndex, bytes, offset, length, vf);
+                this.wasNull = (value == null);
+                return value == null ? 0 : value.doubleValue();
+        }
+    }
+
+    /**
+     * Get the unscaled value of a DECIMAL value from a byte array, parsed without creating a {@link BigDecimal}. Other types go through
+     * {@link Row#getUnscaledLong(int, int, ValueFactory)}.
+     * 
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @param scale
+     *            scale of the returned unscaled value
+     * @param vf
+     *            value factory
+     * @return unscaled value, or 0 if it is SQL NULL
+     */
+    protected long getUnscaledLongFromBytes(int columnIndex, byte[] bytes, int offset, int length, int scale, ValueFactory<BigDecimal> vf) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+
+        switch (this.metadata.getFields()[columnIndex].getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_DECIMAL:
+            case MysqlType.FIELD_TYPE_NEWDECIMAL:
+                return this.valueDecoder.decodeUnscaledDecimal(bytes, offset, length, scale);
+            default:
+                return ResultsetRow.super.getUnscaledLong(columnIndex, scale, vf);
+        }
+    }
+
+    private static final int PRIMITIVE_NONE = 0;
+    private static final int PRIMITIVE_LONG = 1;
+    private static final int PRIMITIVE_DOUBLE = 2;
+
+    /**
+     * Which primitive intermediate form, if any, the value decoder can produce for the protocol type of the given field.
+     * 
+     * @param f
+     *            field
+     * @return one of PRIMITIVE_NONE, PRIMITIVE_LONG or PRIMITIVE_DOUBLE
+     */
+    private static int getPrimitiveKind(Field f) {
+        switch (f.getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_TINY:
+            case MysqlType.FIELD_TYPE_SHORT:
+            case MysqlType.FIELD_TYPE_LONG:
+            case MysqlType.FIELD_TYPE_INT24:
+                return PRIMITIVE_LONG;
+            case MysqlType.FIELD_TYPE_LONGLONG:
+                // unsigned values may not fit in a long
+                return f.isUnsigned() ? PRIMITIVE_NONE : PRIMITIVE_LONG;
+            case MysqlType.FIELD_TYPE_FLOAT:
+            case MysqlType.FIELD_TYPE_DOUBLE:
+                return PRIMITIVE_DOUBLE;
+            default:
+                return PRIMITIVE_NONE;
+        }
+    }
+
+    private long decodeLong(Field f, byte[] bytes, int offset, int length) {
+        switch (f.getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_TINY:
+                return f.isUnsigned() ? this.valueDecoder.decodeUInt1(bytes, offset, length) : this.valueDecoder.decodeInt1(bytes, offset, length);
+            case MysqlType.FIELD_TYPE_SHORT:
+                return f.isUnsigned() ? this.valueDecoder.decodeUInt2(bytes, offset, length) : this.valueDecoder.decodeInt2(bytes, offset, length);
+            case MysqlType.FIELD_TYPE_LONG:
+                return f.isUnsigned() ? this.valueDecoder.decodeUInt4(bytes, offset, length) : this.valueDecoder.decodeInt4(bytes, offset, length);
+            case MysqlType.FIELD_TYPE_INT24:
+                return this.valueDecoder.decodeInt4(bytes, offset, length);
+            default:
+                return this.valueDecoder.decodeInt8(bytes, offset, length);
+        }
+    }
+
+    private double decodeDouble(Field f, byte[] bytes, int offset, int length) {
+        return f.getMysqlTypeId() == MysqlType.FIELD_TYPE_FLOAT ? this.valueDecoder.decodeFloat(bytes, offset, length)
+                : this.valueDecoder.decodeDouble(bytes, offset, length);
+    }
+
     @Override
     public Row setMetadata(ColumnDefinition f) {
         this.metadata = f;
@@ -29,10 +29,6 @@
 
 package com.mysql.cj.result;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
-
 import com.mysql.cj.protocol.ColumnDefinition;
 
 /**
@@ -43,23 +39,11 @@ public class DefaultColumnDefinition implements ColumnDefinition {
 
     protected Field[] fields;
 
-    /** Map column names (and all of their permutations) to column indices */
-    private Map<String, Integer> columnLabelToIndex = null;
-
-    /**
-     * The above map is a case-insensitive tree-map, it can be slow, this caches lookups into that map, because the other alternative is to create new
-     * object instances for every call to findColumn()....
-     */
-    private Map<String, Integer> columnToIndexCache = new HashMap<>();
-
-    /** Map of fully-specified column names to column indices */
-    private Map<String, Integer> fullColumnNameToIndex = null;
-
-    /** Map column names (and all of their permutations) to column indices */
-    private Map<String, Integer> columnNameToIndex = null;
-
     private boolean builtIndexMapping = false;
 
+    /** Case-insensitive index used by findColumn(), shared with every column definition initialized from or exported to this one */
+    private ColumnLabelIndex columnLabelIndex = null;
+
     public DefaultColumnDefinition() {
     }
 
@@ -76,40 +60,9 @@ public class DefaultColumnDefinition implements ColumnDefinition {
     }
 
     @Override
-
-    /**
-     * Builds a hash between column names and their indices for fast retrieval.
-     */
     public void buildIndexMapping() {
-        int numFields = this.fields.length;
-        this.columnLabelToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        this.fullColumnNameToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        this.columnNameToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-
-        // We do this in reverse order, so that the 'first' column with a given name ends up as the final mapping in the hashtable...
-        //
-        // Quoting the JDBC Spec:
-        //
-        // "Column names used as input to getter methods are case insensitive. When a getter method is called with a column name and several columns have the
-        // same name, the value of the first matching column will be returned. "
-        //
-        for (int i = numFields - 1; i >= 0; i--) {
-            Integer index = Integer.valueOf(i);
-            String columnName = this.fields[i].getOriginalName();
-            String columnLabel = this.fields[i].getName();
-            String fullColumnName = this.fields[i].getFullName();
-
-            if (columnLabel != null) {
-                this.columnLabelToIndex.put(columnLabel, index);
-            }
-
-            if (fullColumnName != null) {
-                this.fullColumnNameToIndex.put(fullColumnName, index);
-            }
-
-            if (columnName != null) {
-                this.columnNameToIndex.put(columnName, index);
-            }
+        if (this.columnLabelIndex == null) {
+            this.columnLabelIndex = new ColumnLabelIndex(this.fields);
         }
 
         // set the flag to prevent rebuilding...
@@ -120,92 +73,36 @@ public class DefaultColumnDefinition implements ColumnDefinition {
         return this.builtIndexMapping;
     }
 
-    public Map<String, Integer> getColumnLabelToIndex() {
-        return this.columnLabelToIndex;
-    }
-
-    public void setColumnLabelToIndex(Map<String, Integer> columnLabelToIndex) {
-        this.columnLabelToIndex = columnLabelToIndex;
-    }
-
-    public Map<String, Integer> getFullColumnNameToIndex() {
-        return this.fullColumnNameToIndex;
-    }
-
-    public void setFullColumnNameToIndex(Map<String, Integer> fullColNameToIndex) {
-        this.fullColumnNameToIndex = fullColNameToIndex;
+    public ColumnLabelIndex getColumnLabelIndex() {
+        return this.columnLabelIndex;
     }
 
-    public Map<String, Integer> getColumnNameToIndex() {
-        return this.columnNameToIndex;
-    }
-
-    public void setColumnNameToIndex(Map<String, Integer> colNameToIndex) {
-        this.columnNameToIndex = colNameToIndex;
-    }
-
-    public Map<String, Integer> getColumnToIndexCache() {
-        return this.columnToIndexCache;
-    }
-
-    public void setColumnToIndexCache(Map<String, Integer> columnToIndexCache) {
-        this.columnToIndexCache = columnToIndexCache;
+    public void setColumnLabelIndex(ColumnLabelIndex columnLabelIndex) {
+        this.columnLabelIndex = columnLabelIndex;
     }
 
     public void initializeFrom(ColumnDefinition columnDefinition) {
         this.fields = columnDefinition.getFields();
-        this.columnLabelToIndex = columnDefinition.getColumnNameToIndex();
-        this.fullColumnNameToIndex = columnDefinition.getFullColumnNameToIndex();
+        this.columnLabelIndex = columnDefinition.getColumnLabelIndex();
         this.builtIndexMapping = true;
     }
 
     public void exportTo(ColumnDefinition columnDefinition) {
         columnDefinition.setFields(this.fields);
-        columnDefinition.setColumnNameToIndex(this.columnLabelToIndex);
-        columnDefinition.setFullColumnNameToIndex(this.fullColumnNameToIndex);
+        columnDefinition.setColumnLabelIndex(this.columnLabelIndex);
     }
 
     public int findColumn(String columnName, boolean useColumnNamesInFindColumn, int indexBase) {
-
-        Integer index;
-
-        if (!hasBuiltIndexMapping()) {
-            buildIndexMapping();
-        }
-
-        index = this.columnToIndexCache.get(columnName);
-
-        if (index != null) {
-            return index.intValue() + indexBase;
-        }
-
-        index = this.columnLabelToIndex.get(columnName);
-
-        if (index == null && useColumnNamesInFindColumn) {
-            index = this.columnNameToIndex.get(columnName);
-        }
+        ColumnLabelIndex index = this.columnLabelIndex;
 
         if (index == null) {
-            index = this.fullColumnNameToIndex.get(columnName);
-        }
-
-        if (index != null) {
-            this.columnToIndexCache.put(columnName, index);
-
-            return index.intValue() + indexBase;
+            // built lazily, as the column definition may be shared by several result sets a concurrent build just produces an identical index
+            this.columnLabelIndex = index = new ColumnLabelIndex(this.fields);
         }
 
-        // Try this inefficient way, now
-
-        for (int i = 0; i < this.fields.length; i++) {
-            if (this.fields[i].getName().equalsIgnoreCase(columnName)) {
-                return i + indexBase;
-            } else if (this.fields[i].getFullName().equalsIgnoreCase(columnName)) {
-                return i + indexBase;
-            }
-        }
+        int i = index.findColumn(columnName, useColumnNamesInFindColumn);
 
-        return -1;
+        return i == -1 ? -1 : i + indexBase;
     }
 
     /**
@@ -41,7 +41,7 @@ import com.mysql.cj.exceptions.NumberOutOfRange;
 /**
  * A value factory for creating double values.
  */
-public class DoubleValueFactory extends AbstractNumericValueFactory<Double> {
+public class DoubleValueFactory extends AbstractNumericValueFactory<Double> implements ToDoubleValueFactory<Double> {
 
     public DoubleValueFactory(PropertySet pset) {
         super(pset);
@@ -58,6 +58,11 @@ public class DoubleValueFactory extends AbstractNumericValueFactory<Double> {
 
     @Override
     public Double createFromLong(long l) {
+        return createDoubleFromLong(l);
+    }
+
+    @Override
+    public double createDoubleFromLong(long l) {
         if (this.jdbcCompliantTruncationForReads && (l < -Double.MAX_VALUE || l > Double.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { l, getTargetTypeName() }));
         }
@@ -75,6 +80,11 @@ public class DoubleValueFactory extends AbstractNumericValueFactory<Double> {
 
     @Override
     public Double createFromDouble(double d) {
+        return createDoubleFromDouble(d);
+    }
+
+    @Override
+    public double createDoubleFromDouble(double d) {
         if (this.jdbcCompliantTruncationForReads && (d < -Double.MAX_VALUE || d > Double.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { d, getTargetTypeName() }));
         }
@@ -41,7 +41,7 @@ import com.mysql.cj.exceptions.NumberOutOfRange;
 /**
  * A value factory for creating float values.
  */
-public class FloatValueFactory extends AbstractNumericValueFactory<Float> {
+public class FloatValueFactory extends AbstractNumericValueFactory<Float> implements ToDoubleValueFactory<Float> {
 
     public FloatValueFactory(PropertySet pset) {
         super(pset);
@@ -58,6 +58,11 @@ public class FloatValueFactory extends AbstractNumericValueFactory<Float> {
 
     @Override
     public Float createFromLong(long l) {
+        return (float) createDoubleFromLong(l);
+    }
+
+    @Override
+    public double createDoubleFromLong(long l) {
         if (this.jdbcCompliantTruncationForReads && (l < -Float.MAX_VALUE || l > Float.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { l, getTargetTypeName() }));
         }
@@ -75,6 +80,11 @@ public class FloatValueFactory extends AbstractNumericValueFactory<Float> {
 
     @Override
     public Float createFromDouble(double d) {
+        return (float) createDoubleFromDouble(d);
+    }
+
+    @Override
+    public double createDoubleFromDouble(double d) {
         if (this.jdbcCompliantTruncationForReads && (d < -Float.MAX_VALUE || d > Float.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { d, getTargetTypeName() }));
         }
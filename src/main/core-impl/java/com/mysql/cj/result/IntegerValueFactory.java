@@ -41,7 +41,7 @@ import com.mysql.cj.util.DataTypeUtil;
 /**
  * A value factory for creating int values.
  */
-public class IntegerValueFactory extends AbstractNumericValueFactory<Integer> {
+public class IntegerValueFactory extends AbstractNumericValueFactory<Integer> implements ToIntValueFactory<Integer> {
 
     public IntegerValueFactory(PropertySet pset) {
         super(pset);
@@ -58,6 +58,11 @@ public class IntegerValueFactory extends AbstractNumericValueFactory<Integer> {
 
     @Override
     public Integer createFromLong(long l) {
+        return createIntFromLong(l);
+    }
+
+    @Override
+    public int createIntFromLong(long l) {
         if (this.jdbcCompliantTruncationForReads && (l < Integer.MIN_VALUE || l > Integer.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { Long.valueOf(l).toString(), getTargetTypeName() }));
         }
@@ -75,6 +80,11 @@ public class IntegerValueFactory extends AbstractNumericValueFactory<Integer> {
 
     @Override
     public Integer createFromDouble(double d) {
+        return createIntFromDouble(d);
+    }
+
+    @Override
+    public int createIntFromDouble(double d) {
         if (this.jdbcCompliantTruncationForReads && (d < Integer.MIN_VALUE || d > Integer.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { d, getTargetTypeName() }));
         }
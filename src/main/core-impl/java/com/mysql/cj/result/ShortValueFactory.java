@@ -41,7 +41,7 @@ import com.mysql.cj.util.DataTypeUtil;
 /**
  * A value factory for creating short values.
  */
-public class ShortValueFactory extends AbstractNumericValueFactory<Short> {
+public class ShortValueFactory extends AbstractNumericValueFactory<Short> implements ToIntValueFactory<Short> {
 
     public ShortValueFactory(PropertySet pset) {
         super(pset);
@@ -58,6 +58,11 @@ public class ShortValueFactory extends AbstractNumericValueFactory<Short> {
 
     @Override
     public Short createFromLong(long l) {
+        return (short) createIntFromLong(l);
+    }
+
+    @Override
+    public int createIntFromLong(long l) {
         if (this.jdbcCompliantTruncationForReads && (l < Short.MIN_VALUE || l > Short.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { Long.valueOf(l).toString(), getTargetTypeName() }));
         }
@@ -75,6 +80,11 @@ public class ShortValueFactory extends AbstractNumericValueFactory<Short> {
 
     @Override
     public Short createFromDouble(double d) {
+        return (short) createIntFromDouble(d);
+    }
+
+    @Override
+    public int createIntFromDouble(double d) {
         if (this.jdbcCompliantTruncationForReads && (d < Short.MIN_VALUE || d > Short.MAX_VALUE)) {
             throw new NumberOutOfRange(Messages.getString("ResultSet.NumberOutOfRange", new Object[] { d, getTargetTypeName() }));
         }
@@ -126,9 +126,10 @@ public class StringValueFactory implements ValueFactory<String> {
      * @return string
      */
     public String createFromBytes(byte[] bytes, int offset, int length, Field f) {
-        return StringUtils.toString(bytes, offset, length,
-                f.getCollationIndex() == CharsetMapping.MYSQL_COLLATION_INDEX_binary ? this.pset.getStringProperty(PropertyKey.characterEncoding).getValue()
-                        : f.getEncoding());
+        if (f.getCollationIndex() == CharsetMapping.MYSQL_COLLATION_INDEX_binary) {
+            return StringUtils.toString(bytes, offset, length, this.pset.getStringProperty(PropertyKey.characterEncoding).getValue());
+        }
+        return f.getStringDecoder().decode(bytes, offset, length);
     }
 
     @Override
@@ -31,21 +31,26 @@ package com.mysql.cj.protocol.a;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
 import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.Resultset.Concurrency;
 import com.mysql.cj.protocol.Resultset.Type;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.result.OkPacket;
+import com.mysql.cj.protocol.a.result.PackedRowList;
 import com.mysql.cj.protocol.a.result.ResultsetRowsCursor;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStreaming;
+import com.mysql.cj.protocol.a.result.SpillingRowList;
+import com.mysql.cj.result.Row;
 
 public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, NativePacketPayload> {
 
@@ -66,15 +71,18 @@ public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, Na
         if (columnCount > 0) {
             // Build a result set with rows.
 
+            boolean metadataFollows = this.protocol.readMetadataFollows(resultPacket);
+
             // Read in the column information
-            ColumnDefinition cdef = this.protocol.read(ColumnDefinition.class, new MergingColumnDefinitionFactory(columnCount, metadata));
+            ColumnDefinition cdef = metadataFollows ? this.protocol.read(ColumnDefinition.class, new MergingColumnDefinitionFactory(columnCount, metadata))
+                    : this.protocol.getOmittedColumnDefinition(columnCount, metadata);
 
             boolean isCursorPosible = this.protocol.getPropertySet().getBooleanProperty(PropertyKey.useCursorFetch).getValue()
                     && resultSetFactory.getResultSetType() == Type.FORWARD_ONLY && resultSetFactory.getFetchSize() > 0;
 
             // There is no EOF packet after fields when CLIENT_DEPRECATE_EOF is set;
             // if we asked to use cursor then there should be an OK packet here
-            if (isCursorPosible || !this.protocol.getServerSession().isEOFDeprecated()) {
+            if (isCursorPosible || metadataFollows && !this.protocol.getServerSession().isEOFDeprecated()) {
                 this.protocol.readServerStatusForResultSets(this.protocol.readMessage(this.protocol.getReusablePacket()), true);
             }
 
@@ -84,9 +92,10 @@ public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, Na
                 rows = new ResultsetRowsCursor(this.protocol, cdef);
 
             } else if (!streamResults) {
-                BinaryRowFactory brf = new BinaryRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), false);
 
-                ArrayList<ResultsetRow> rowList = new ArrayList<>();
+                List<Row> rowList = createRowList(cdef, resultSetFactory);
+                // packed rows copy the values right away, so the row packet can be reused
+                BinaryRowFactory brf = new BinaryRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), rowList instanceof PackedRowList);
                 ResultsetRow row = this.protocol.read(ResultsetRow.class, brf);
                 while (row != null) {
                     if ((maxRows == -1) || (rowList.size() < maxRows)) {
@@ -127,4 +136,26 @@ public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, Na
         return rs;
 
     }
+
+    /**
+     * Creates the list collecting the rows of a fully read result set. If a memory budget applies, the rows are moved to a temporary file once they exceed it,
+     * otherwise they're packed into byte slabs if enabled. Updatable result sets always keep their row objects as they're modified in place.
+     * 
+     * @param cdef
+     *            {@link ColumnDefinition}
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory} the result set is created with
+     * @return list of rows
+     */
+    private List<Row> createRowList(ColumnDefinition cdef, ProtocolEntityFactory<Resultset, NativePacketPayload> resultSetFactory) {
+        long memoryBudget = resultSetFactory.getResultSetConcurrency() == Concurrency.READ_ONLY ? resultSetFactory.getResultSetMemoryBudget() : 0;
+        if (memoryBudget > 0) {
+            return new SpillingRowList(cdef, memoryBudget, new MysqlBinaryValueDecoder(), this.protocol.getExceptionInterceptor());
+        }
+        if (resultSetFactory.getResultSetConcurrency() == Concurrency.READ_ONLY
+                && this.protocol.getPropertySet().getBooleanProperty(PropertyKey.useCompactRowStorage).getValue()) {
+            return new PackedRowList(cdef, new MysqlBinaryValueDecoder(), this.protocol.getExceptionInterceptor());
+        }
+        return new ArrayList<>();
+    }
 }
@@ -32,8 +32,7 @@ package com.mysql.cj.protocol.a;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
+import java.util.Arrays;
 
 import com.mysql.cj.conf.RuntimeProperty;
 import com.mysql.cj.log.Log;
@@ -43,14 +42,26 @@ import com.mysql.cj.util.StringUtils;
  * Used to de-compress packets from the MySQL server when protocol-level compression is turned on.
  */
 public class CompressedInputStream extends InputStream {
+    /** Initial size of the packet buffers */
+    private static final int DEFAULT_BUFFER_SIZE = 16 * 1024;
+
+    /** Buffers grown beyond this size are released as soon as a smaller one is enough */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
     /** The packet data after it has been un-compressed */
     private byte[] buffer;
 
+    /** Length of the valid data in buffer */
+    private int bufferLength = 0;
+
+    /** The buffer to read compressed packets into, reused between packets */
+    private byte[] compressedBuffer;
+
     /** The stream we are reading from the server */
     private InputStream in;
 
-    /** The ZIP inflater used to un-compress packets */
-    private Inflater inflater;
+    /** The codec used to un-compress packets */
+    private PacketCompressionCodec codec;
 
     /** Connection property reference */
     private RuntimeProperty<Boolean> traceProtocol;
@@ -78,10 +89,27 @@ public class CompressedInputStream extends InputStream {
      *            logger
      */
     public CompressedInputStream(InputStream streamFromServer, RuntimeProperty<Boolean> traceProtocol, Log log) {
+        this(streamFromServer, traceProtocol, log, new ZlibCompressionCodec());
+    }
+
+    /**
+     * Creates a new CompressedInputStream that reads the given stream from the
+     * server and un-compresses packets with the given codec.
+     * 
+     * @param streamFromServer
+     *            original server InputStream
+     * @param traceProtocol
+     *            "traceProtocol" property
+     * @param log
+     *            logger
+     * @param codec
+     *            {@link PacketCompressionCodec} matching the compression algorithm negotiated with the server
+     */
+    public CompressedInputStream(InputStream streamFromServer, RuntimeProperty<Boolean> traceProtocol, Log log, PacketCompressionCodec codec) {
         this.traceProtocol = traceProtocol;
         this.log = log;
         this.in = streamFromServer;
-        this.inflater = new Inflater();
+        this.codec = codec;
     }
 
     @Override
@@ -90,15 +118,17 @@ public class CompressedInputStream extends InputStream {
             return this.in.available();
         }
 
-        return this.buffer.length - this.pos + this.in.available();
+        return this.bufferLength - this.pos + this.in.available();
     }
 
     @Override
     public void close() throws IOException {
         this.in.close();
         this.buffer = null;
-        this.inflater.end();
-        this.inflater = null;
+        this.bufferLength = 0;
+        this.compressedBuffer = null;
+        this.codec.end();
+        this.codec = null;
         this.traceProtocol = null;
         this.log = null;
     }
@@ -111,8 +141,6 @@ public class CompressedInputStream extends InputStream {
      *             if an I/O error occurs
      */
     private void getNextPacketFromServer() throws IOException {
-        byte[] uncompressedData = null;
-
         int lengthRead = readFully(this.packetHeaderBuffer, 0, 7);
 
         if (lengthRead < 7) {
@@ -131,22 +159,22 @@ public class CompressedInputStream extends InputStream {
             this.log.logTrace("Reading compressed packet of length " + compressedPacketLength + " uncompressed to " + uncompressedLength);
         }
 
-        if (uncompressedLength > 0) {
-            uncompressedData = new byte[uncompressedLength];
-
-            byte[] compressedBuffer = new byte[compressedPacketLength];
+        int remaining = this.buffer == null ? 0 : this.bufferLength - this.pos;
+        if (remaining > 0 && doTrace) {
+            this.log.logTrace("Combining remaining packet with new: ");
+        }
 
-            readFully(compressedBuffer, 0, compressedPacketLength);
+        if (uncompressedLength > 0) {
+            ensureBufferCapacity(remaining, uncompressedLength);
 
-            this.inflater.reset();
+            if (this.compressedBuffer == null || this.compressedBuffer.length < compressedPacketLength
+                    || this.compressedBuffer.length > MAX_RETAINED_BUFFER_SIZE && compressedPacketLength <= MAX_RETAINED_BUFFER_SIZE) {
+                this.compressedBuffer = new byte[compressedPacketLength];
+            }
 
-            this.inflater.setInput(compressedBuffer);
+            readFully(this.compressedBuffer, 0, compressedPacketLength);
 
-            try {
-                this.inflater.inflate(uncompressedData);
-            } catch (DataFormatException dfe) {
-                throw new IOException("Error while uncompressing packet from server.");
-            }
+            this.codec.decompress(this.compressedBuffer, 0, compressedPacketLength, this.buffer, remaining, uncompressedLength);
 
         } else {
             if (doTrace) {
@@ -157,42 +185,51 @@ public class CompressedInputStream extends InputStream {
             // Read data, note this this code is reached when using compressed packets that have not been compressed, as well
             //
             uncompressedLength = compressedPacketLength;
-            uncompressedData = new byte[uncompressedLength];
-            readFully(uncompressedData, 0, uncompressedLength);
+            ensureBufferCapacity(remaining, uncompressedLength);
+            readFully(this.buffer, remaining, uncompressedLength);
         }
 
         if (doTrace) {
             if (uncompressedLength > 1024) {
-                this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(uncompressedData, 256));
-                byte[] tempData = new byte[256];
-                System.arraycopy(uncompressedData, uncompressedLength - 256, tempData, 0, 256);
-                this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(tempData, 256));
+                this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(Arrays.copyOfRange(this.buffer, remaining, remaining + 256), 256));
+                this.log.logTrace("Uncompressed packet: \n"
+                        + StringUtils.dumpAsHex(Arrays.copyOfRange(this.buffer, remaining + uncompressedLength - 256, remaining + uncompressedLength), 256));
                 this.log.logTrace("Large packet dump truncated. Showing first and last 256 bytes.");
             } else {
-                this.log.logTrace("Uncompressed packet: \n" + StringUtils.dumpAsHex(uncompressedData, uncompressedLength));
+                this.log.logTrace("Uncompressed packet: \n"
+                        + StringUtils.dumpAsHex(Arrays.copyOfRange(this.buffer, remaining, remaining + uncompressedLength), uncompressedLength));
             }
         }
 
-        if ((this.buffer != null) && (this.pos < this.buffer.length)) {
-            if (doTrace) {
-                this.log.logTrace("Combining remaining packet with new: ");
-            }
-
-            int remaining = this.buffer.length - this.pos;
-            byte[] newBuffer = new byte[remaining + uncompressedData.length];
-
-            System.arraycopy(this.buffer, this.pos, newBuffer, 0, remaining);
-            System.arraycopy(uncompressedData, 0, newBuffer, remaining, uncompressedData.length);
-
-            uncompressedData = newBuffer;
-        }
-
         this.pos = 0;
-        this.buffer = uncompressedData;
+        this.bufferLength = remaining + uncompressedLength;
 
         return;
     }
 
+    /**
+     * Makes sure the packet buffer can hold the unread bytes of the previous packet plus the next un-compressed packet, and moves the unread bytes to the
+     * beginning of the buffer. The buffer is reused between packets and only re-allocated when it is too small, or when a buffer grown beyond
+     * {@link #MAX_RETAINED_BUFFER_SIZE} is no longer needed.
+     * 
+     * @param remaining
+     *            number of unread bytes in the current buffer
+     * @param packetLength
+     *            un-compressed length of the next packet
+     */
+    private void ensureBufferCapacity(int remaining, int packetLength) {
+        int required = remaining + packetLength;
+        if (this.buffer == null || this.buffer.length < required || this.buffer.length > MAX_RETAINED_BUFFER_SIZE && required <= MAX_RETAINED_BUFFER_SIZE) {
+            byte[] newBuffer = new byte[Math.max(required, DEFAULT_BUFFER_SIZE)];
+            if (remaining > 0) {
+                System.arraycopy(this.buffer, this.pos, newBuffer, 0, remaining);
+            }
+            this.buffer = newBuffer;
+        } else if (remaining > 0 && this.pos > 0) {
+            System.arraycopy(this.buffer, this.pos, this.buffer, 0, remaining);
+        }
+    }
+
     /**
      * Determines if another packet needs to be read from the server to be able
      * to read numBytes from the stream.
@@ -204,7 +241,7 @@ public class CompressedInputStream extends InputStream {
      *             if an I/O error occors.
      */
     private void getNextPacketIfRequired(int numBytes) throws IOException {
-        if ((this.buffer == null) || ((this.pos + numBytes) > this.buffer.length)) {
+        if ((this.buffer == null) || ((this.pos + numBytes) > this.bufferLength)) {
             getNextPacketFromServer();
         }
     }
@@ -243,7 +280,7 @@ public class CompressedInputStream extends InputStream {
             return -1;
         }
 
-        int remainingBufferLength = this.buffer.length - this.pos;
+        int remainingBufferLength = this.bufferLength - this.pos;
         int consummedBytesLength = Math.min(remainingBufferLength, len);
 
         System.arraycopy(this.buffer, this.pos, b, off, consummedBytesLength);
@@ -276,14 +313,18 @@ public class CompressedInputStream extends InputStream {
     public long skip(long n) throws IOException {
         long count = 0;
 
-        for (long i = 0; i < n; i++) {
-            int bytesRead = read();
-
-            if (bytesRead == -1) {
-                break;
+        while (count < n) {
+            if (this.buffer == null || this.pos >= this.bufferLength) {
+                try {
+                    getNextPacketIfRequired(1);
+                } catch (IOException ioEx) {
+                    break;
+                }
             }
 
-            count++;
+            int skipped = (int) Math.min(n - count, this.bufferLength - this.pos);
+            this.pos += skipped;
+            count += skipped;
         }
 
         return count;
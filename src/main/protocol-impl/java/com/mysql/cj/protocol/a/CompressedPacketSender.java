@@ -31,20 +31,23 @@ package com.mysql.cj.protocol.a;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.util.zip.Deflater;
 
 import com.mysql.cj.protocol.MessageSender;
 
 /**
  * A {@link MessageSender} for the compressed protocol.
  * 
- * TODO: add support for pre-allocated buffer for large packets (if there's a demonstrable perf improvement)
+ * The buffer packets are compressed into is reused between send() invocations, unless it had to grow beyond {@link #MAX_RETAINED_BUFFER_SIZE} to send a
+ * large packet, in which case it's released right after.
  */
 public class CompressedPacketSender implements MessageSender<NativePacketPayload> {
     private BufferedOutputStream outputStream;
-    private Deflater deflater = new Deflater();
-    /** Buffer to compress data to. Used only across one send() invocation. */
+    /** Codec used to compress the packets payload. */
+    private PacketCompressionCodec codec;
+    /** Buffer to compress data to. */
     private byte compressedPacket[];
+    /** Buffer to encode packet headers to. */
+    private byte headerBuffer[] = new byte[COMP_HEADER_LENGTH];
     /** Sequence id of compressed packet. Used only across one send() invocation. */
     private byte compressedSequenceId = 0;
     /** Length of current compressed packet. */
@@ -52,22 +55,37 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
 
     public static final int COMP_HEADER_LENGTH = 7;
     public static final int MIN_COMPRESS_LEN = 50;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
 
     public CompressedPacketSender(BufferedOutputStream outputStream) {
+        this(outputStream, new ZlibCompressionCodec());
+    }
+
+    /**
+     * Creates a new compressed packet sender that compresses packets with the given codec.
+     * 
+     * @param outputStream
+     *            the stream to write compressed packets to
+     * @param codec
+     *            {@link PacketCompressionCodec} matching the compression algorithm negotiated with the server
+     */
+    public CompressedPacketSender(BufferedOutputStream outputStream, PacketCompressionCodec codec) {
         this.outputStream = outputStream;
+        this.codec = codec;
     }
 
     /**
      * Shut down this packet sender and deallocate any resources.
      */
     public void stop() {
-        this.deflater.end();
-        this.deflater = null;
+        this.codec.end();
+        this.codec = null;
+        this.compressedPacket = null;
     }
 
     private void resetPacket() {
         this.compressedPayloadLen = 0;
-        this.deflater.reset();
+        this.codec.reset();
     }
 
     /**
@@ -79,11 +97,9 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *            uncompressed packet length
      */
     private void addUncompressedHeader(byte packetSequence, int uncompressedPacketLen) {
-        byte uncompressedHeader[] = new byte[NativeConstants.HEADER_LENGTH];
-        NativeUtils.encodeMysqlThreeByteInteger(uncompressedPacketLen, uncompressedHeader, 0);
-        uncompressedHeader[3] = packetSequence;
-        this.deflater.setInput(uncompressedHeader);
-        this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
+        NativeUtils.encodeMysqlThreeByteInteger(uncompressedPacketLen, this.headerBuffer, 0);
+        this.headerBuffer[3] = packetSequence;
+        this.compressedPayloadLen += this.codec.compress(this.headerBuffer, 0, NativeConstants.HEADER_LENGTH, this.compressedPacket, this.compressedPayloadLen,
                 this.compressedPacket.length - this.compressedPayloadLen);
     }
 
@@ -98,8 +114,7 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *            length
      */
     private void addPayload(byte[] payload, int payloadOffset, int payloadLen) {
-        this.deflater.setInput(payload, payloadOffset, payloadLen);
-        this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
+        this.compressedPayloadLen += this.codec.compress(payload, payloadOffset, payloadLen, this.compressedPacket, this.compressedPayloadLen,
                 this.compressedPacket.length - this.compressedPayloadLen);
     }
 
@@ -107,9 +122,7 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      * Complete compression of the current payload contents to the compressed packet.
      */
     private void completeCompression() {
-        this.deflater.finish();
-        this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
-                this.compressedPacket.length - this.compressedPayloadLen);
+        this.compressedPayloadLen += this.codec.finish(this.compressedPacket, this.compressedPayloadLen, this.compressedPacket.length - this.compressedPayloadLen);
     }
 
     /**
@@ -125,9 +138,10 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *             if write exception occurs
      */
     private void writeCompressedHeader(int compLen, byte seq, int uncompLen) throws IOException {
-        this.outputStream.write(NativeUtils.encodeMysqlThreeByteInteger(compLen));
-        this.outputStream.write(seq);
-        this.outputStream.write(NativeUtils.encodeMysqlThreeByteInteger(uncompLen));
+        NativeUtils.encodeMysqlThreeByteInteger(compLen, this.headerBuffer, 0);
+        this.headerBuffer[3] = seq;
+        NativeUtils.encodeMysqlThreeByteInteger(uncompLen, this.headerBuffer, 4);
+        this.outputStream.write(this.headerBuffer, 0, COMP_HEADER_LENGTH);
     }
 
     /**
@@ -141,8 +155,9 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *             if write exception occurs
      */
     private void writeUncompressedHeader(int packetLen, byte packetSequence) throws IOException {
-        this.outputStream.write(NativeUtils.encodeMysqlThreeByteInteger(packetLen));
-        this.outputStream.write(packetSequence);
+        NativeUtils.encodeMysqlThreeByteInteger(packetLen, this.headerBuffer, 0);
+        this.headerBuffer[3] = packetSequence;
+        this.outputStream.write(this.headerBuffer, 0, NativeConstants.HEADER_LENGTH);
     }
 
     /**
@@ -189,10 +204,9 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
             return;
         }
 
-        if (packetLen + NativeConstants.HEADER_LENGTH > NativeConstants.MAX_PACKET_SIZE) {
-            this.compressedPacket = new byte[NativeConstants.MAX_PACKET_SIZE];
-        } else {
-            this.compressedPacket = new byte[NativeConstants.HEADER_LENGTH + packetLen];
+        int compressedPacketSize = Math.min(NativeConstants.HEADER_LENGTH + packetLen, NativeConstants.MAX_PACKET_SIZE);
+        if (this.compressedPacket == null || this.compressedPacket.length < compressedPacketSize) {
+            this.compressedPacket = new byte[compressedPacketSize];
         }
 
         PacketSplitter packetSplitter = new PacketSplitter(packetLen);
@@ -255,7 +269,9 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
         this.outputStream.flush();
 
         // release reference to (possibly large) compressed packet buffer
-        this.compressedPacket = null;
+        if (this.compressedPacket.length > MAX_RETAINED_BUFFER_SIZE) {
+            this.compressedPacket = null;
+        }
     }
 
     @Override
@@ -45,14 +45,17 @@ public class MergingColumnDefinitionFactory extends ColumnDefinitionFactory impl
         super(columnCount, columnDefinitionFromCache);
     }
 
+    /**
+     * Column definitions already merged for a previous execution of the statement are reused as they are, unless the number of columns changed.
+     */
     @Override
     public boolean mergeColumnDefinitions() {
-        return true;
+        return !(this.columnDefinitionFromCache instanceof MergedColumnDefinition && this.columnDefinitionFromCache.getFields().length == this.columnCount);
     }
 
     @Override
     public ColumnDefinition createFromFields(Field[] fields) {
-        if (this.columnDefinitionFromCache != null) {
+        if (this.columnDefinitionFromCache != null && !(this.columnDefinitionFromCache instanceof MergedColumnDefinition)) {
             if (fields.length != this.columnCount) {
                 throw ExceptionFactory.createException(WrongArgumentException.class, "Wrong number of ColumnDefinition fields.");
             }
@@ -61,6 +64,17 @@ public class MergingColumnDefinitionFactory extends ColumnDefinitionFactory impl
                 fields[i].setFlags(f[i].getFlags());
             }
         }
-        return new DefaultColumnDefinition(fields);
+        return new MergedColumnDefinition(fields);
+    }
+
+    /**
+     * Column definition built from the metadata returned by COM_STMT_EXECUTE. When it's passed back as the cached column definition for a later execution, the
+     * column definition packets are skipped instead of being parsed and merged again.
+     */
+    public static class MergedColumnDefinition extends DefaultColumnDefinition {
+
+        public MergedColumnDefinition(Field[] fields) {
+            super(fields);
+        }
     }
 }
@@ -29,7 +29,6 @@
 
 package com.mysql.cj.protocol.a;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import com.mysql.cj.Messages;
@@ -40,7 +39,6 @@ import com.mysql.cj.protocol.InternalTimestamp;
 import com.mysql.cj.protocol.ValueDecoder;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.ValueFactory;
-import com.mysql.cj.util.StringUtils;
 
 /**
  * A {@link com.mysql.cj.protocol.ValueDecoder} for the MySQL binary (prepared statement) protocol.
@@ -130,60 +128,95 @@ public class MysqlBinaryValueDecoder implements ValueDecoder {
     }
 
     public <T> T decodeUInt1(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromLong(decodeUInt1(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeUInt1(byte[] bytes, int offset, int length) {
         if (length != NativeConstants.BIN_LEN_INT1) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "BYTE" }));
         }
-        return vf.createFromLong(bytes[offset] & 0xff);
+        return bytes[offset] & 0xff;
     }
 
     public <T> T decodeInt1(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromLong(decodeInt1(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeInt1(byte[] bytes, int offset, int length) {
         if (length != NativeConstants.BIN_LEN_INT1) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "BYTE" }));
         }
-        return vf.createFromLong(bytes[offset]);
+        return bytes[offset];
     }
 
     public <T> T decodeUInt2(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromLong(decodeUInt2(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeUInt2(byte[] bytes, int offset, int length) {
         if (length != NativeConstants.BIN_LEN_INT2) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "SHORT" }));
         }
         int asInt = ((bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8));
-        return vf.createFromLong(asInt);
+        return asInt;
     }
 
     public <T> T decodeInt2(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromLong(decodeInt2(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeInt2(byte[] bytes, int offset, int length) {
         if (length != NativeConstants.BIN_LEN_INT2) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "SHORT" }));
         }
         short asShort = (short) ((bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8));
-        return vf.createFromLong(asShort);
+        return asShort;
     }
 
     public <T> T decodeUInt4(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromLong(decodeUInt4(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeUInt4(byte[] bytes, int offset, int length) {
         if (length != NativeConstants.BIN_LEN_INT4) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "INT" }));
         }
         long asLong = (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8) | ((bytes[offset + 2] & 0xff) << 16)
                 | ((long) (bytes[offset + 3] & 0xff) << 24);
-        return vf.createFromLong(asLong);
+        return asLong;
     }
 
     public <T> T decodeInt4(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromLong(decodeInt4(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeInt4(byte[] bytes, int offset, int length) {
         if (length != NativeConstants.BIN_LEN_INT4) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "SHORT" }));
         }
         int asInt = (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8) | ((bytes[offset + 2] & 0xff) << 16) | ((bytes[offset + 3] & 0xff) << 24);
-        return vf.createFromLong(asInt);
+        return asInt;
     }
 
     public <T> T decodeInt8(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromLong(decodeInt8(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeInt8(byte[] bytes, int offset, int length) {
         if (length != NativeConstants.BIN_LEN_INT8) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "LONG" }));
         }
         long asLong = (bytes[offset] & 0xff) | ((long) (bytes[offset + 1] & 0xff) << 8) | ((long) (bytes[offset + 2] & 0xff) << 16)
                 | ((long) (bytes[offset + 3] & 0xff) << 24) | ((long) (bytes[offset + 4] & 0xff) << 32) | ((long) (bytes[offset + 5] & 0xff) << 40)
                 | ((long) (bytes[offset + 6] & 0xff) << 48) | ((long) (bytes[offset + 7] & 0xff) << 56);
-        return vf.createFromLong(asLong);
+        return asLong;
     }
 
     public <T> T decodeUInt8(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
@@ -204,26 +237,41 @@ public class MysqlBinaryValueDecoder implements ValueDecoder {
     }
 
     public <T> T decodeFloat(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromDouble(decodeFloat(bytes, offset, length));
+    }
+
+    @Override
+    public double decodeFloat(byte[] bytes, int offset, int length) {
         if (length != NativeConstants.BIN_LEN_FLOAT) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "FLOAT" }));
         }
         int asInt = (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8) | ((bytes[offset + 2] & 0xff) << 16) | ((bytes[offset + 3] & 0xff) << 24);
-        return vf.createFromDouble(Float.intBitsToFloat(asInt));
+        return Float.intBitsToFloat(asInt);
     }
 
     public <T> T decodeDouble(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromDouble(decodeDouble(bytes, offset, length));
+    }
+
+    @Override
+    public double decodeDouble(byte[] bytes, int offset, int length) {
         if (length != NativeConstants.BIN_LEN_DOUBLE) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "DOUBLE" }));
         }
         long valueAsLong = (bytes[offset + 0] & 0xff) | ((long) (bytes[offset + 1] & 0xff) << 8) | ((long) (bytes[offset + 2] & 0xff) << 16)
                 | ((long) (bytes[offset + 3] & 0xff) << 24) | ((long) (bytes[offset + 4] & 0xff) << 32) | ((long) (bytes[offset + 5] & 0xff) << 40)
                 | ((long) (bytes[offset + 6] & 0xff) << 48) | ((long) (bytes[offset + 7] & 0xff) << 56);
-        return vf.createFromDouble(Double.longBitsToDouble(valueAsLong));
+        return Double.longBitsToDouble(valueAsLong);
     }
 
     public <T> T decodeDecimal(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        BigDecimal d = new BigDecimal(StringUtils.toAsciiString(bytes, offset, length));
-        return vf.createFromBigDecimal(d);
+        // DECIMAL values are sent as strings in the binary protocol too
+        return vf.createFromBigDecimal(MysqlTextValueDecoder.getBigDecimal(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeUnscaledDecimal(byte[] bytes, int offset, int length, int scale) {
+        return MysqlTextValueDecoder.getUnscaledLong(bytes, offset, length, scale);
     }
 
     public <T> T decodeByteArray(byte[] bytes, int offset, int length, Field f, ValueFactory<T> vf) {
@@ -69,6 +69,18 @@ public class MysqlTextValueDecoder implements ValueDecoder {
     /** Max string length of a signed long = 9223372036854775807 (19+1 for minus sign) */
     public static final int MAX_SIGNED_LONG_LEN = 20;
 
+    /** Max number of digits of a decimal value whose unscaled value always fits in a long */
+    public static final int MAX_UNSCALED_LONG_DIGITS = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_UNSCALED_LONG_DIGITS + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
     public <T> T decodeDate(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
         return vf.createFromDate(getDate(bytes, offset, length));
     }
@@ -82,27 +94,57 @@ public class MysqlTextValueDecoder implements ValueDecoder {
     }
 
     public <T> T decodeUInt1(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        return vf.createFromLong(getInt(bytes, offset, offset + length));
+        return vf.createFromLong(decodeUInt1(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeUInt1(byte[] bytes, int offset, int length) {
+        return getInt(bytes, offset, offset + length);
     }
 
     public <T> T decodeInt1(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        return vf.createFromLong(getInt(bytes, offset, offset + length));
+        return vf.createFromLong(decodeInt1(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeInt1(byte[] bytes, int offset, int length) {
+        return getInt(bytes, offset, offset + length);
     }
 
     public <T> T decodeUInt2(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        return vf.createFromLong(getInt(bytes, offset, offset + length));
+        return vf.createFromLong(decodeUInt2(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeUInt2(byte[] bytes, int offset, int length) {
+        return getInt(bytes, offset, offset + length);
     }
 
     public <T> T decodeInt2(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        return vf.createFromLong(getInt(bytes, offset, offset + length));
+        return vf.createFromLong(decodeInt2(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeInt2(byte[] bytes, int offset, int length) {
+        return getInt(bytes, offset, offset + length);
     }
 
     public <T> T decodeUInt4(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        return vf.createFromLong(getLong(bytes, offset, offset + length));
+        return vf.createFromLong(decodeUInt4(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeUInt4(byte[] bytes, int offset, int length) {
+        return getLong(bytes, offset, offset + length);
     }
 
     public <T> T decodeInt4(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        return vf.createFromLong(getInt(bytes, offset, offset + length));
+        return vf.createFromLong(decodeInt4(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeInt4(byte[] bytes, int offset, int length) {
+        return getInt(bytes, offset, offset + length);
     }
 
     public <T> T decodeUInt8(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
@@ -114,20 +156,39 @@ public class MysqlTextValueDecoder implements ValueDecoder {
     }
 
     public <T> T decodeInt8(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        return vf.createFromLong(getLong(bytes, offset, offset + length));
+        return vf.createFromLong(decodeInt8(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeInt8(byte[] bytes, int offset, int length) {
+        return getLong(bytes, offset, offset + length);
     }
 
     public <T> T decodeFloat(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
         return decodeDouble(bytes, offset, length, vf);
     }
 
+    @Override
+    public double decodeFloat(byte[] bytes, int offset, int length) {
+        return decodeDouble(bytes, offset, length);
+    }
+
     public <T> T decodeDouble(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        return vf.createFromDouble(getDouble(bytes, offset, length));
+        return vf.createFromDouble(decodeDouble(bytes, offset, length));
+    }
+
+    @Override
+    public double decodeDouble(byte[] bytes, int offset, int length) {
+        return getDouble(bytes, offset, length);
     }
 
     public <T> T decodeDecimal(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        BigDecimal d = new BigDecimal(StringUtils.toAsciiString(bytes, offset, length));
-        return vf.createFromBigDecimal(d);
+        return vf.createFromBigDecimal(getBigDecimal(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeUnscaledDecimal(byte[] bytes, int offset, int length, int scale) {
+        return getUnscaledLong(bytes, offset, length, scale);
     }
 
     public <T> T decodeByteArray(byte[] bytes, int offset, int length, Field f, ValueFactory<T> vf) {
@@ -236,6 +297,124 @@ public class MysqlTextValueDecoder implements ValueDecoder {
         return i;
     }
 
+    /**
+     * Parses a DECIMAL value. Values written as [+-]digits[.digits] with at most {@value #MAX_UNSCALED_LONG_DIGITS} digits are parsed straight into an
+     * unscaled long, without an intermediate string.
+     * 
+     * @param buf
+     *            byte array
+     * @param offset
+     *            offset of the value
+     * @param length
+     *            length of the value
+     * @return {@link BigDecimal}
+     * @throws NumberFormatException
+     *             if the value isn't a valid decimal number
+     */
+    public static BigDecimal getBigDecimal(byte[] buf, int offset, int length) throws NumberFormatException {
+        int scale = getPlainDecimalScale(buf, offset, length);
+        if (scale >= 0) {
+            return BigDecimal.valueOf(getPlainUnscaledLong(buf, offset, length), scale);
+        }
+        return new BigDecimal(StringUtils.toAsciiString(buf, offset, length));
+    }
+
+    /**
+     * Parses a DECIMAL value into its unscaled value at the given scale, i.e. the value multiplied by 10^scale.
+     * 
+     * @param buf
+     *            byte array
+     * @param offset
+     *            offset of the value
+     * @param length
+     *            length of the value
+     * @param scale
+     *            scale of the returned unscaled value
+     * @return unscaled value
+     * @throws NumberFormatException
+     *             if the value isn't a valid decimal number
+     * @throws NumberOutOfRange
+     *             if the value has more fractional digits than the scale or its unscaled value doesn't fit in a long
+     */
+    public static long getUnscaledLong(byte[] buf, int offset, int length, int scale) throws NumberFormatException {
+        int valueScale = getPlainDecimalScale(buf, offset, length);
+        if (valueScale >= 0 && valueScale <= scale && scale - valueScale < POWERS_OF_TEN.length) {
+            long unscaled = getPlainUnscaledLong(buf, offset, length);
+            long factor = POWERS_OF_TEN[scale - valueScale];
+            long result = unscaled * factor;
+            if (factor == 1 || result / factor == unscaled) {
+                return result;
+            }
+        } else {
+            try {
+                return new BigDecimal(StringUtils.toAsciiString(buf, offset, length)).setScale(scale).unscaledValue().longValueExact();
+            } catch (ArithmeticException e) {
+                // rounding needed or out of range
+            }
+        }
+        throw new NumberOutOfRange(
+                Messages.getString("ResultSet.UnscaledLongOutOfRange", new Object[] { StringUtils.toAsciiString(buf, offset, length), scale }));
+    }
+
+    /**
+     * Returns the number of fractional digits of a decimal value written as [+-]digits[.digits], or -1 if the value is written in another form or has more
+     * than {@value #MAX_UNSCALED_LONG_DIGITS} digits.
+     */
+    private static int getPlainDecimalScale(byte[] buf, int offset, int length) {
+        int end = offset + length;
+        int s = offset;
+
+        if (s < end && (buf[s] == '-' || buf[s] == '+')) {
+            s++;
+        }
+
+        int digits = 0;
+        int scale = -1;
+        for (; s < end; s++) {
+            byte b = buf[s];
+            if (b >= '0' && b <= '9') {
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return -1;
+            }
+        }
+
+        if (digits == 0 || digits > MAX_UNSCALED_LONG_DIGITS) {
+            return -1;
+        }
+        return scale < 0 ? 0 : scale;
+    }
+
+    /**
+     * Parses the digits of a value accepted by {@link #getPlainDecimalScale(byte[], int, int)}, ignoring the decimal point.
+     */
+    private static long getPlainUnscaledLong(byte[] buf, int offset, int length) {
+        int end = offset + length;
+        int s = offset;
+        boolean negative = false;
+
+        if (buf[s] == '-') {
+            negative = true;
+            s++;
+        } else if (buf[s] == '+') {
+            s++;
+        }
+
+        long unscaled = 0;
+        for (; s < end; s++) {
+            byte b = buf[s];
+            if (b != '.') {
+                unscaled = unscaled * 10 + (b - '0');
+            }
+        }
+        return negative ? -unscaled : unscaled;
+    }
+
     public static Double getDouble(byte[] bytes, int offset, int length) {
         return Double.parseDouble(StringUtils.toAsciiString(bytes, offset, length));
     }
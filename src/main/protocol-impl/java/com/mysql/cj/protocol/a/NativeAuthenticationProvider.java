@@ -38,6 +38,7 @@ import java.util.Map;
 
 import com.mysql.cj.Constants;
 import com.mysql.cj.Messages;
+import com.mysql.cj.conf.PropertyDefinitions.CompressionAlgorithm;
 import com.mysql.cj.conf.PropertyDefinitions.SslMode;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.PropertySet;
@@ -136,7 +137,10 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
                 | (capabilityFlags & NativeServerSession.CLIENT_LONG_FLAG)      //
                 | (capabilityFlags & NativeServerSession.CLIENT_DEPRECATE_EOF)  //
                 | (capabilityFlags & NativeServerSession.CLIENT_PLUGIN_AUTH_LENENC_CLIENT_DATA)
-                | (this.propertySet.getBooleanProperty(PropertyKey.useCompression).getValue() ? (capabilityFlags & NativeServerSession.CLIENT_COMPRESS) : 0)
+                | (this.propertySet.getBooleanProperty(PropertyKey.cacheResultSetMetadata).getValue()
+                        ? (capabilityFlags & NativeServerSession.CLIENT_OPTIONAL_RESULTSET_METADATA)
+                        : 0)
+                | (this.propertySet.getBooleanProperty(PropertyKey.useCompression).getValue() ? getCompressionFlag(capabilityFlags) : 0)
                 | (this.useConnectWithDb ? (capabilityFlags & NativeServerSession.CLIENT_CONNECT_WITH_DB) : 0)
                 | (this.propertySet.getBooleanProperty(PropertyKey.useAffectedRows).getValue() ? 0 : (capabilityFlags & NativeServerSession.CLIENT_FOUND_ROWS))
                 | (this.propertySet.getBooleanProperty(PropertyKey.allowLoadLocalInfile).getValue() ? (capabilityFlags & NativeServerSession.CLIENT_LOCAL_FILES)
@@ -545,6 +549,26 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
         return attMap;
     }
 
+    /**
+     * Selects the capability flag for the compression algorithm to use. zstd is requested only if configured and supported by the server, otherwise the
+     * connection falls back to zlib.
+     * 
+     * @param capabilityFlags
+     *            server capability flags
+     * @return CLIENT_ZSTD_COMPRESSION_ALGORITHM, CLIENT_COMPRESS or 0 if the server doesn't support compression
+     */
+    private long getCompressionFlag(int capabilityFlags) {
+        if (this.propertySet.<CompressionAlgorithm>getEnumProperty(PropertyKey.compressionAlgorithm).getValue() == CompressionAlgorithm.ZSTD
+                && (capabilityFlags & NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM) != 0) {
+            String zstdCodec = this.propertySet.getStringProperty(PropertyKey.zstdCompressionCodec).getValue();
+            if (zstdCodec == null || zstdCodec.trim().length() == 0) {
+                throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("Protocol.Compression.10"), getExceptionInterceptor());
+            }
+            return NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM;
+        }
+        return capabilityFlags & NativeServerSession.CLIENT_COMPRESS;
+    }
+
     private void appendConnectionAttributes(NativePacketPayload buf, String attributes, String enc) {
 
         NativePacketPayload lb = new NativePacketPayload(100);
@@ -631,6 +655,11 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
         if (((clientParam & NativeServerSession.CLIENT_CONNECT_ATTRS) != 0)) {
             appendConnectionAttributes(last_sent, this.propertySet.getStringProperty(PropertyKey.connectionAttributes).getValue(), enc);
         }
+
+        // zstd compression level
+        if ((clientParam & NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM) != 0) {
+            last_sent.writeInteger(IntegerDataType.INT1, this.propertySet.getIntegerProperty(PropertyKey.zstdCompressionLevel).getValue());
+        }
         return last_sent;
     }
 
@@ -114,6 +114,7 @@ import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.result.OkPacket;
+import com.mysql.cj.protocol.a.result.ResultsetRowsStreaming;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.IntegerValueFactory;
 import com.mysql.cj.result.Row;
@@ -173,6 +174,15 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     private int commandCount = 0;
 
+    /** Number of commands sent with sendPipelinedCommand() whose responses weren't read yet. */
+    private int pipelinedCommandsPending = 0;
+
+    /** Reads the responses to pipelined commands when another command has to be sent, if set. */
+    private Runnable pipelinedResponsesConsumer = null;
+
+    /** Reads the response to a command sent without reading it, before any other command is sent; see {@link #setDeferredResponseReader(Runnable)}. */
+    private Runnable deferredResponseReader = null;
+
     protected boolean hadWarnings = false;
     private int warningCount = 0;
 
@@ -378,6 +388,22 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     }
 
+    /**
+     * Creates a new {@link PacketCompressionCodec} for the compression algorithm negotiated with the server.
+     * 
+     * @return {@link PacketCompressionCodec}
+     */
+    private PacketCompressionCodec createCompressionCodec() {
+        if ((this.serverSession.getClientParam() & NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM) != 0) {
+            String codecClassName = this.propertySet.getStringProperty(PropertyKey.zstdCompressionCodec).getValue();
+            PacketCompressionCodec codec = (PacketCompressionCodec) Util.getInstance(codecClassName, new Class<?>[0], new Object[0], getExceptionInterceptor(),
+                    Messages.getString("Protocol.Compression.5", new Object[] { codecClassName }));
+            codec.setLevel(this.propertySet.getIntegerProperty(PropertyKey.zstdCompressionLevel).getValue());
+            return codec;
+        }
+        return new ZlibCompressionCodec();
+    }
+
     @Override
     public void afterHandshake() {
 
@@ -387,13 +413,13 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             //
             // Can't enable compression until after handshake
             //
-            if (((this.serverSession.getCapabilities().getCapabilityFlags() & NativeServerSession.CLIENT_COMPRESS) != 0)
+            if ((this.serverSession.getClientParam() & (NativeServerSession.CLIENT_COMPRESS | NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM)) != 0
                     && this.propertySet.getBooleanProperty(PropertyKey.useCompression).getValue()
                     && !(this.socketConnection.getMysqlInput().getUnderlyingStream() instanceof CompressedInputStream)) {
                 this.useCompression = true;
                 this.socketConnection.setMysqlInput(new FullReadInputStream(new CompressedInputStream(this.socketConnection.getMysqlInput(),
-                        this.propertySet.getBooleanProperty(PropertyKey.traceProtocol), this.log)));
-                this.compressedPacketSender = new CompressedPacketSender(this.socketConnection.getMysqlOutput());
+                        this.propertySet.getBooleanProperty(PropertyKey.traceProtocol), this.log, createCompressionCodec())));
+                this.compressedPacketSender = new CompressedPacketSender(this.socketConnection.getMysqlOutput(), createCompressionCodec());
                 this.packetSender = this.compressedPacketSender;
             }
 
@@ -530,9 +556,9 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     public final NativePacketPayload readMessage(NativePacketPayload reuse) {
         try {
             NativePacketHeader header = this.packetReader.readHeader();
-            NativePacketPayload buf = this.packetReader.readMessage(Optional.ofNullable(reuse), header);
+            // read the sequence before the payload, the header instance may be reused to read the rest of a multi-packet
             this.packetSequence = header.getMessageSequence();
-            return buf;
+            return this.packetReader.readMessage(Optional.ofNullable(reuse), header);
 
         } catch (IOException ioEx) {
             throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, this.getPacketSentTimeHolder(),
@@ -573,6 +599,15 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     @Override
     public final NativePacketPayload sendCommand(Message queryPacket, boolean skipCheck, int timeoutMillis) {
+        readDeferredResponse();
+        if (this.pipelinedCommandsPending > 0 && this.pipelinedResponsesConsumer != null) {
+            this.pipelinedResponsesConsumer.run();
+        }
+        if (this.pipelinedCommandsPending > 0) {
+            throw ExceptionFactory.createException(Messages.getString("Protocol.PipelinedResponsesPending", new Object[] { this.pipelinedCommandsPending }),
+                    getExceptionInterceptor());
+        }
+
         int command = queryPacket.getByteBuffer()[0];
         this.commandCount++;
 
@@ -666,6 +701,145 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
     }
 
+    /**
+     * Sends a command to the server without waiting for its response. Several commands may be sent this way, one after another, and their responses must
+     * then be consumed in the same order by calling {@link #readPipelinedResult(int, boolean, ColumnDefinition, ProtocolEntityFactory)} once per command
+     * before any other command is sent with {@link #sendCommand(Message, boolean, int)}.
+     * 
+     * Query interceptors are not invoked for pipelined commands, so callers should not use pipelining when interceptors are configured.
+     * 
+     * @param queryPacket
+     *            {@link Message} containing the command
+     */
+    public final void sendPipelinedCommand(Message queryPacket) {
+        readDeferredResponse();
+        this.commandCount++;
+
+        try {
+            if (this.pipelinedCommandsPending == 0) {
+                checkForOutstandingStreamingData();
+
+                if (this.useCompression) {
+                    int bytesLeft = this.socketConnection.getMysqlInput().available();
+
+                    if (bytesLeft > 0) {
+                        this.socketConnection.getMysqlInput().skip(bytesLeft);
+                    }
+                }
+
+                clearInputStream();
+            }
+
+            this.packetSequence = -1;
+            send(queryPacket, queryPacket.getPosition());
+            this.pipelinedCommandsPending++;
+
+        } catch (CJException ex) {
+            // don't wrap CJExceptions
+            throw ex;
+        } catch (Exception ex) {
+            throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, this.getPacketSentTimeHolder(),
+                    this.getPacketReceivedTimeHolder(), ex, getExceptionInterceptor());
+        }
+    }
+
+    /**
+     * Reads the complete response to the oldest command sent with {@link #sendPipelinedCommand(Message)}. Server errors are thrown as usual, the responses
+     * to the remaining pipelined commands stay readable afterwards.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param maxRows
+     *            rows limit
+     * @param isBinaryEncoded
+     *            true for binary protocol
+     * @param cachedMetadata
+     *            use this metadata instead of the one provided on wire
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @return T instance
+     * @throws IOException
+     *             if an i/o error occurs
+     */
+    public final <T extends Resultset> T readPipelinedResult(int maxRows, boolean isBinaryEncoded, ColumnDefinition cachedMetadata,
+            ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) throws IOException {
+        if (this.pipelinedCommandsPending == 0) {
+            throw ExceptionFactory.createException(Messages.getString("Protocol.NoPipelinedCommands"), getExceptionInterceptor());
+        }
+
+        this.pipelinedCommandsPending--;
+
+        // every pipelined command gets its own status, same as in sendCommand()
+        this.serverSession.setStatusFlags(0, true);
+        this.hadWarnings = false;
+        this.setWarningCount(0);
+        this.packetReader.resetMessageSequence();
+
+        try {
+            NativePacketPayload resultPacket = checkErrorMessage();
+            return readAllResults(maxRows, false, resultPacket, isBinaryEncoded, cachedMetadata, resultSetFactory);
+
+        } catch (CJCommunicationsException e) {
+            // nothing else can be read from this connection
+            this.pipelinedCommandsPending = 0;
+            this.serverSession.preserveOldTransactionState();
+            throw e;
+        } catch (CJException e) {
+            this.serverSession.preserveOldTransactionState();
+            throw e;
+        }
+    }
+
+    /**
+     * Sets the callback used to read the responses to pending pipelined commands before {@link #sendCommand(Message, boolean, int)} can send a new command.
+     * Without it, sending a command while pipelined responses are pending is an error.
+     * 
+     * @param pipelinedResponsesConsumer
+     *            callback reading all pending pipelined responses
+     */
+    public void setPipelinedResponsesConsumer(Runnable pipelinedResponsesConsumer) {
+        this.pipelinedResponsesConsumer = pipelinedResponsesConsumer;
+    }
+
+    /**
+     * Sets the callback that reads the response to the last command, which was sent with {@link #sendCommand(Message, boolean, int)} without reading it
+     * (skipCheck=true). The response is read when its owner calls {@link #readDeferredResponse()}, or before the next command is sent, whichever comes first.
+     * The callback should keep errors returned by the server for its owner, and throw only {@link CJCommunicationsException}s.
+     * 
+     * @param deferredResponseReader
+     *            callback reading the response
+     */
+    public void setDeferredResponseReader(Runnable deferredResponseReader) {
+        this.deferredResponseReader = deferredResponseReader;
+    }
+
+    /**
+     * Runs and clears the callback set by {@link #setDeferredResponseReader(Runnable)}, if any. If the response can't be read because of a communication
+     * failure, the connection is closed, as it is out of sync with the server, and the failure is thrown to the caller, failing the command it was about to
+     * send.
+     */
+    public void readDeferredResponse() {
+        Runnable reader = this.deferredResponseReader;
+        if (reader != null) {
+            this.deferredResponseReader = null;
+            try {
+                reader.run();
+            } catch (CJCommunicationsException e) {
+                this.socketConnection.forceClose();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of commands sent with {@link #sendPipelinedCommand(Message)} whose responses weren't read yet.
+     * 
+     * @return number of pending responses
+     */
+    public int getPipelinedCommandsPending() {
+        return this.pipelinedCommandsPending;
+    }
+
     public void checkTransactionState() {
         int transState = this.serverSession.getTransactionState();
         if (transState == ServerSession.TRANSACTION_COMPLETED) {
@@ -795,6 +969,11 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     }
 
     public void clearInputStream() {
+        if (this.pipelinedCommandsPending > 0) {
+            // what is left in the input stream are responses to pipelined commands
+            return;
+        }
+
         try {
             int len;
 
@@ -843,6 +1022,19 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
      */
     public final <T extends Resultset> T sendQueryString(Query callingQuery, String query, String characterEncoding, int maxRows, boolean streamResults,
             ColumnDefinition cachedMetadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) throws IOException {
+        return sendQueryPacket(callingQuery, buildComQueryPacket(query, characterEncoding), maxRows, streamResults, cachedMetadata, resultSetFactory);
+    }
+
+    /**
+     * Build a COM_QUERY packet from the given string, prepending the statement comment if one is configured.
+     * 
+     * @param query
+     *            query string
+     * @param characterEncoding
+     *            Java encoding name
+     * @return {@link NativePacketPayload} ready to be sent
+     */
+    public NativePacketPayload buildComQueryPacket(String query, String characterEncoding) {
         String statementComment = this.queryComment;
 
         if (this.propertySet.getBooleanProperty(PropertyKey.includeThreadNamesAsStatementComment).getValue()) {
@@ -883,7 +1075,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             sendPacket.writeBytes(StringLengthDataType.STRING_FIXED, StringUtils.getBytes(query, characterEncoding));
         }
 
-        return sendQueryPacket(callingQuery, sendPacket, maxRows, streamResults, cachedMetadata, resultSetFactory);
+        return sendPacket;
     }
 
     /**
@@ -1226,6 +1418,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         } finally {
             this.socketConnection.forceClose();
             this.localInfileInputStream = null;
+            cancelStreamingPrefetch();
         }
     }
 
@@ -1332,6 +1525,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         if (this.compressedPacketSender != null) {
             this.compressedPacketSender.stop();
         }
+        cancelStreamingPrefetch();
     }
 
     public void connect(String user, String password, String database) {
@@ -1590,6 +1784,34 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         return sr.read(maxRows, streamResults, resultPacket, metadata, protocolEntityFactory);
     }
 
+    /**
+     * Reads the metadata_follows flag following the column count of a result set header if CLIENT_OPTIONAL_RESULTSET_METADATA was negotiated.
+     * 
+     * @param resultPacket
+     *            result set header, positioned after the column count
+     * @return false if the server omitted the column definitions and the EOF packet following them
+     */
+    public boolean readMetadataFollows(NativePacketPayload resultPacket) {
+        return !this.serverSession.isResultSetMetadataOptional()
+                || resultPacket.readInteger(IntegerDataType.INT1) != NativeConstants.RESULTSET_METADATA_NONE;
+    }
+
+    /**
+     * Returns the cached column definition to use for a result set whose metadata was omitted by the server.
+     * 
+     * @param columnCount
+     *            number of columns of the result set
+     * @param metadata
+     *            cached {@link ColumnDefinition}, may be null
+     * @return the cached {@link ColumnDefinition}
+     */
+    public ColumnDefinition getOmittedColumnDefinition(long columnCount, ColumnDefinition metadata) {
+        if (metadata == null || metadata.getFields() == null || metadata.getFields().length != columnCount) {
+            throw ExceptionFactory.createException(Messages.getString("Protocol.MetadataNotSent"), getExceptionInterceptor());
+        }
+        return metadata;
+    }
+
     /**
      * Read next result set from multi-result chain.
      * 
@@ -1850,6 +2072,16 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
     }
 
+    /**
+     * Stops the background prefetching of the streaming result set, if any, as its remaining rows won't be read once the connection is closed.
+     */
+    private void cancelStreamingPrefetch() {
+        ResultsetRows streamer = this.streamingData;
+        if (streamer instanceof ResultsetRowsStreaming) {
+            ((ResultsetRowsStreaming<?>) streamer).cancelPrefetch();
+        }
+    }
+
     public void unsetStreamingData(ResultsetRows streamer) {
         if (this.streamingData == null) {
             throw ExceptionFactory.createException(Messages.getString("MysqlIO.17") + streamer + Messages.getString("MysqlIO.18"), this.exceptionInterceptor);
@@ -1862,7 +2094,8 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     }
 
     public void scanForAndThrowDataTruncation() {
-        if (this.streamingData == null && this.propertySet.getBooleanProperty(PropertyKey.jdbcCompliantTruncation).getValue() && getWarningCount() > 0) {
+        if (this.streamingData == null && this.pipelinedCommandsPending == 0
+                && this.propertySet.getBooleanProperty(PropertyKey.jdbcCompliantTruncation).getValue() && getWarningCount() > 0) {
             int warningCountOld = getWarningCount();
             convertShowWarningsToSQLWarnings(getWarningCount(), true);
             setWarningCount(warningCountOld);
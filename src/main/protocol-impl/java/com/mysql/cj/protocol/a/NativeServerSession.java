@@ -77,6 +77,8 @@ public class NativeServerSession implements ServerSession {
     public static final int CLIENT_CAN_HANDLE_EXPIRED_PASSWORD = 0x00400000;
     public static final int CLIENT_SESSION_TRACK = 0x00800000;
     public static final int CLIENT_DEPRECATE_EOF = 0x01000000;
+    public static final int CLIENT_OPTIONAL_RESULTSET_METADATA = 0x02000000; // Result set metadata may be omitted, 8.0.3+
+    public static final int CLIENT_ZSTD_COMPRESSION_ALGORITHM = 0x04000000; // Can use zstd compression protocol, 8.0.18+
 
     private PropertySet propertySet;
     private NativeCapabilities capabilities;
@@ -239,6 +241,11 @@ public class NativeServerSession implements ServerSession {
         return (this.clientParam & CLIENT_DEPRECATE_EOF) != 0;
     }
 
+    @Override
+    public boolean isResultSetMetadataOptional() {
+        return (this.clientParam & CLIENT_OPTIONAL_RESULTSET_METADATA) != 0;
+    }
+
     @Override
     public int getServerDefaultCollationIndex() {
         return this.serverDefaultCollationIndex;
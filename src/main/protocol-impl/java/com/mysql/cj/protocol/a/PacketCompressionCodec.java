@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.io.IOException;
+
+/**
+ * Compression codec used by {@link CompressedPacketSender} and {@link CompressedInputStream} to process the payload of classic protocol compressed packets.
+ * 
+ * The built-in {@link ZlibCompressionCodec} handles zlib, the algorithm selected by the capability flag CLIENT_COMPRESS. Other algorithms, such as zstd, can be
+ * plugged in by implementing this interface in a class with a public no-args constructor and naming it in the corresponding connection property.
+ * 
+ * Implementations are used by a single connection and don't need to be thread safe.
+ */
+public interface PacketCompressionCodec {
+
+    /**
+     * Configures the compression level to use from now on. Codecs that don't support levels may ignore this call.
+     * 
+     * @param level
+     *            the compression level, whose range depends on the algorithm
+     */
+    default void setLevel(int level) {
+        // no-op by default
+    }
+
+    /**
+     * Discards any data added to the current compression unit so that a new one can be started.
+     */
+    void reset();
+
+    /**
+     * Adds data to the current compression unit. Compressed data, if already available, is written to the given output buffer. The caller may reuse the
+     * input buffer as soon as this method returns.
+     * 
+     * @param input
+     *            the data to compress
+     * @param inputOffset
+     *            offset of the data in the input buffer
+     * @param inputLength
+     *            length of the data
+     * @param output
+     *            the buffer to write compressed data to
+     * @param outputOffset
+     *            offset in the output buffer
+     * @param outputLength
+     *            space available in the output buffer
+     * @return the number of compressed bytes written to the output buffer
+     */
+    int compress(byte[] input, int inputOffset, int inputLength, byte[] output, int outputOffset, int outputLength);
+
+    /**
+     * Completes the current compression unit and writes the remaining compressed data to the given output buffer. If the whole compressed unit doesn't fit in
+     * the output buffer, this method must fill it up, so that the caller can detect that the data is incompressible and send it uncompressed instead.
+     * 
+     * @param output
+     *            the buffer to write compressed data to
+     * @param outputOffset
+     *            offset in the output buffer
+     * @param outputLength
+     *            space available in the output buffer
+     * @return the number of compressed bytes written to the output buffer
+     */
+    int finish(byte[] output, int outputOffset, int outputLength);
+
+    /**
+     * Decompresses one compressed unit, as sent by the server in a single compressed packet.
+     * 
+     * @param input
+     *            the compressed data
+     * @param inputOffset
+     *            offset of the data in the input buffer
+     * @param inputLength
+     *            length of the compressed data
+     * @param output
+     *            the buffer to write uncompressed data to
+     * @param outputOffset
+     *            offset in the output buffer
+     * @param outputLength
+     *            expected length of the uncompressed data
+     * @throws IOException
+     *             if the compressed data is corrupted
+     */
+    void decompress(byte[] input, int inputOffset, int inputLength, byte[] output, int outputOffset, int outputLength) throws IOException;
+
+    /**
+     * Releases any resources held by this codec. The codec can't be used afterwards.
+     */
+    void end();
+}
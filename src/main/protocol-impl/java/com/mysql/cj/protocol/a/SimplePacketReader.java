@@ -41,6 +41,8 @@ import com.mysql.cj.protocol.SocketConnection;
 /**
  * Simple implementation of {@link MessageReader} which handles the receiving of logical MySQL packets from the provided socket input stream.
  * Multi-packets are handled outside of this reader.
+ * 
+ * The same {@link NativePacketHeader} instance is returned by every {@link #readHeader()} call, so a header is only valid until the next one is read.
  */
 public class SimplePacketReader implements MessageReader<NativePacketHeader, NativePacketPayload> {
 
@@ -49,6 +51,9 @@ public class SimplePacketReader implements MessageReader<NativePacketHeader, Nat
 
     private byte readPacketSequence = -1;
 
+    /** Header instance reused for every packet */
+    private NativePacketHeader packetHeader = new NativePacketHeader();
+
     public SimplePacketReader(SocketConnection socketConnection, RuntimeProperty<Integer> maxAllowedPacket) {
         this.socketConnection = socketConnection;
         this.maxAllowedPacket = maxAllowedPacket;
@@ -57,7 +62,7 @@ public class SimplePacketReader implements MessageReader<NativePacketHeader, Nat
     @Override
     public NativePacketHeader readHeader() throws IOException {
 
-        NativePacketHeader hdr = new NativePacketHeader();
+        NativePacketHeader hdr = this.packetHeader;
 
         try {
             this.socketConnection.getMysqlInput().readFully(hdr.getBuffer().array(), 0, NativeConstants.HEADER_LENGTH);
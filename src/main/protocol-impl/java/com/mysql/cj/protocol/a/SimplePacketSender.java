@@ -40,6 +40,8 @@ import com.mysql.cj.protocol.MessageSender;
  */
 public class SimplePacketSender implements MessageSender<NativePacketPayload> {
     private BufferedOutputStream outputStream;
+    /** Buffer to encode packet headers to. */
+    private byte headerBuffer[] = new byte[NativeConstants.HEADER_LENGTH];
 
     public SimplePacketSender(BufferedOutputStream outputStream) {
         this.outputStream = outputStream;
@@ -48,8 +50,9 @@ public class SimplePacketSender implements MessageSender<NativePacketPayload> {
     public void send(byte[] packet, int packetLen, byte packetSequence) throws IOException {
         PacketSplitter packetSplitter = new PacketSplitter(packetLen);
         while (packetSplitter.nextPacket()) {
-            this.outputStream.write(NativeUtils.encodeMysqlThreeByteInteger(packetSplitter.getPacketLen()));
-            this.outputStream.write(packetSequence++);
+            NativeUtils.encodeMysqlThreeByteInteger(packetSplitter.getPacketLen(), this.headerBuffer, 0);
+            this.headerBuffer[3] = packetSequence++;
+            this.outputStream.write(this.headerBuffer, 0, NativeConstants.HEADER_LENGTH);
             this.outputStream.write(packet, packetSplitter.getOffset(), packetSplitter.getPacketLen());
         }
         this.outputStream.flush();
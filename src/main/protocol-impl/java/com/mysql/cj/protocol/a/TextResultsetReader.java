@@ -31,19 +31,24 @@ package com.mysql.cj.protocol.a;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
 import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.Resultset.Concurrency;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.result.OkPacket;
+import com.mysql.cj.protocol.a.result.PackedRowList;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStreaming;
+import com.mysql.cj.protocol.a.result.SpillingRowList;
+import com.mysql.cj.result.Row;
 
 public class TextResultsetReader implements ProtocolEntityReader<Resultset, NativePacketPayload> {
 
@@ -64,11 +69,14 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
         if (columnCount > 0) {
             // Build a result set with rows.
 
+            boolean metadataFollows = this.protocol.readMetadataFollows(resultPacket);
+
             // Read in the column information
-            ColumnDefinition cdef = this.protocol.read(ColumnDefinition.class, new ColumnDefinitionFactory(columnCount, metadata));
+            ColumnDefinition cdef = metadataFollows ? this.protocol.read(ColumnDefinition.class, new ColumnDefinitionFactory(columnCount, metadata))
+                    : this.protocol.getOmittedColumnDefinition(columnCount, metadata);
 
             // There is no EOF packet after fields when CLIENT_DEPRECATE_EOF is set
-            if (!this.protocol.getServerSession().isEOFDeprecated()) {
+            if (metadataFollows && !this.protocol.getServerSession().isEOFDeprecated()) {
                 this.protocol.skipPacket();
                 //this.protocol.readServerStatusForResultSets(this.protocol.readPacket(this.protocol.getReusablePacket()), true);
             }
@@ -76,8 +84,9 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
             ResultsetRows rows = null;
 
             if (!streamResults) {
-                TextRowFactory trf = new TextRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), false);
-                ArrayList<ResultsetRow> rowList = new ArrayList<>();
+                List<Row> rowList = createRowList(cdef, resultSetFactory);
+                // packed rows copy the values right away, so the row packet can be reused
+                TextRowFactory trf = new TextRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), rowList instanceof PackedRowList);
 
                 ResultsetRow row = this.protocol.read(ResultsetRow.class, trf);
                 while (row != null) {
@@ -123,4 +132,26 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
         //            this.protocol.getPacketReceivedTimeHolder().getLastPacketReceivedTime(), ioEx, this.protocol.getExceptionInterceptor());
         //}
     }
+
+    /**
+     * Creates the list collecting the rows of a fully read result set. If a memory budget applies, the rows are moved to a temporary file once they exceed it,
+     * otherwise they're packed into byte slabs if enabled. Updatable result sets always keep their row objects as they're modified in place.
+     * 
+     * @param cdef
+     *            {@link ColumnDefinition}
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory} the result set is created with
+     * @return list of rows
+     */
+    private List<Row> createRowList(ColumnDefinition cdef, ProtocolEntityFactory<Resultset, NativePacketPayload> resultSetFactory) {
+        long memoryBudget = resultSetFactory.getResultSetConcurrency() == Concurrency.READ_ONLY ? resultSetFactory.getResultSetMemoryBudget() : 0;
+        if (memoryBudget > 0) {
+            return new SpillingRowList(cdef, memoryBudget, new MysqlTextValueDecoder(), this.protocol.getExceptionInterceptor());
+        }
+        if (resultSetFactory.getResultSetConcurrency() == Concurrency.READ_ONLY
+                && this.protocol.getPropertySet().getBooleanProperty(PropertyKey.useCompactRowStorage).getValue()) {
+            return new PackedRowList(cdef, new MysqlTextValueDecoder(), this.protocol.getExceptionInterceptor());
+        }
+        return new ArrayList<>();
+    }
 }
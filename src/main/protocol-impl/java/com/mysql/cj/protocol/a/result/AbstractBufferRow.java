@@ -65,4 +65,14 @@ public abstract class AbstractBufferRow extends AbstractResultsetRow {
 
     abstract int findAndSeekToOffset(int index);
 
+    /**
+     * Positions the row packet at the first byte of the value of the given column, so that the value can be copied straight from
+     * {@link NativePacketPayload#getByteBuffer()}.
+     * 
+     * @param index
+     *            0-based column index
+     * @return length of the value, or -1 for SQL NULL
+     */
+    abstract int seekToValue(int index);
+
 }
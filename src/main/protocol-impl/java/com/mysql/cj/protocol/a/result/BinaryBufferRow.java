@@ -29,6 +29,8 @@
 
 package com.mysql.cj.protocol.a.result;
 
+import java.math.BigDecimal;
+
 import com.mysql.cj.Messages;
 import com.mysql.cj.MysqlType;
 import com.mysql.cj.exceptions.ExceptionFactory;
@@ -42,6 +44,9 @@ import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.NativePacketPayload;
 import com.mysql.cj.protocol.a.NativeUtils;
 import com.mysql.cj.result.Row;
+import com.mysql.cj.result.ToDoubleValueFactory;
+import com.mysql.cj.result.ToIntValueFactory;
+import com.mysql.cj.result.ToLongValueFactory;
 import com.mysql.cj.result.ValueFactory;
 
 /**
@@ -228,6 +233,43 @@ public class BinaryBufferRow extends AbstractBufferRow {
      */
     @Override
     public <T> T getValue(int columnIndex, ValueFactory<T> vf) {
+        int length = findAndSeekToValue(columnIndex);
+        return getValueFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+    }
+
+    @Override
+    public int getInt(int columnIndex, ToIntValueFactory<?> vf) {
+        int length = findAndSeekToValue(columnIndex);
+        return getIntFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+    }
+
+    @Override
+    public long getLong(int columnIndex, ToLongValueFactory<?> vf) {
+        int length = findAndSeekToValue(columnIndex);
+        return getLongFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+    }
+
+    @Override
+    public double getDouble(int columnIndex, ToDoubleValueFactory<?> vf) {
+        int length = findAndSeekToValue(columnIndex);
+        return getDoubleFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+    }
+
+    @Override
+    public long getUnscaledLong(int columnIndex, int scale, ValueFactory<BigDecimal> vf) {
+        int length = findAndSeekToValue(columnIndex);
+        return getUnscaledLongFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, scale, vf);
+    }
+
+    @Override
+    int seekToValue(int index) {
+        if (getNull(index) || this.metadata.getFields()[index].getMysqlTypeId() == MysqlType.FIELD_TYPE_NULL) {
+            return -1;
+        }
+        return findAndSeekToValue(index);
+    }
+
+    private int findAndSeekToValue(int columnIndex) {
         findAndSeekToOffset(columnIndex);
 
         // field length is type-specific in binary-encoded results
@@ -241,7 +283,7 @@ public class BinaryBufferRow extends AbstractBufferRow {
                         Messages.getString("MysqlIO.97", new Object[] { type, columnIndex + 1, this.metadata.getFields().length }), this.exceptionInterceptor);
             }
         }
-        return getValueFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+        return length;
     }
 
     @Override
@@ -29,11 +29,16 @@
 
 package com.mysql.cj.protocol.a.result;
 
+import java.math.BigDecimal;
+
 import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.protocol.ValueDecoder;
 import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
 import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
 import com.mysql.cj.protocol.result.AbstractResultsetRow;
+import com.mysql.cj.result.ToDoubleValueFactory;
+import com.mysql.cj.result.ToIntValueFactory;
+import com.mysql.cj.result.ToLongValueFactory;
 import com.mysql.cj.result.ValueFactory;
 
 /**
@@ -90,4 +95,32 @@ public class ByteArrayRow extends AbstractResultsetRow {
         int length = columnData == null ? 0 : columnData.length;
         return getValueFromBytes(columnIndex, columnData, 0, length, vf);
     }
+
+    @Override
+    public int getInt(int columnIndex, ToIntValueFactory<?> vf) {
+        byte[] columnData = this.internalRowData[columnIndex];
+        int length = columnData == null ? 0 : columnData.length;
+        return getIntFromBytes(columnIndex, columnData, 0, length, vf);
+    }
+
+    @Override
+    public long getLong(int columnIndex, ToLongValueFactory<?> vf) {
+        byte[] columnData = this.internalRowData[columnIndex];
+        int length = columnData == null ? 0 : columnData.length;
+        return getLongFromBytes(columnIndex, columnData, 0, length, vf);
+    }
+
+    @Override
+    public double getDouble(int columnIndex, ToDoubleValueFactory<?> vf) {
+        byte[] columnData = this.internalRowData[columnIndex];
+        int length = columnData == null ? 0 : columnData.length;
+        return getDoubleFromBytes(columnIndex, columnData, 0, length, vf);
+    }
+
+    @Override
+    public long getUnscaledLong(int columnIndex, int scale, ValueFactory<BigDecimal> vf) {
+        byte[] columnData = this.internalRowData[columnIndex];
+        int length = columnData == null ? 0 : columnData.length;
+        return getUnscaledLongFromBytes(columnIndex, columnData, 0, length, scale, vf);
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import java.math.BigDecimal;
+
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
+import com.mysql.cj.protocol.result.AbstractResultsetRow;
+import com.mysql.cj.result.ToDoubleValueFactory;
+import com.mysql.cj.result.ToIntValueFactory;
+import com.mysql.cj.result.ToLongValueFactory;
+import com.mysql.cj.result.ValueFactory;
+
+/**
+ * A read-only view of a single row of {@link ColumnarRowData}.
+ */
+public class ColumnarRow extends AbstractResultsetRow {
+
+    private ColumnarRowData rowData;
+    private int rowIndex;
+
+    public ColumnarRow(ColumnarRowData rowData, int rowIndex, ExceptionInterceptor exceptionInterceptor, ValueDecoder valueDecoder) {
+        super(exceptionInterceptor);
+
+        this.rowData = rowData;
+        this.rowIndex = rowIndex;
+        this.metadata = rowData.getMetadata();
+        this.valueDecoder = valueDecoder;
+    }
+
+    @Override
+    public boolean isBinaryEncoded() {
+        return this.valueDecoder instanceof MysqlBinaryValueDecoder;
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) {
+        if (getNull(columnIndex)) {
+            return null;
+        }
+        return this.rowData.getBytes(columnIndex, this.rowIndex);
+    }
+
+    @Override
+    public boolean getNull(int columnIndex) {
+        this.wasNull = this.rowData.isNull(columnIndex, this.rowIndex);
+        return this.wasNull;
+    }
+
+    /**
+     * Primitive-stored values are handed to the value factory the same way the value decoder does after decoding them, other values are decoded from their
+     * wire-level bytes.
+     */
+    @Override
+    public <T> T getValue(int columnIndex, ValueFactory<T> vf) {
+        T value;
+        switch (this.rowData.getStorage(columnIndex)) {
+            case ColumnarRowData.STORAGE_INT:
+                value = getNull(columnIndex) ? vf.createFromNull() : vf.createFromLong(this.rowData.getInt(columnIndex, this.rowIndex));
+                break;
+            case ColumnarRowData.STORAGE_LONG:
+                value = getNull(columnIndex) ? vf.createFromNull() : vf.createFromLong(this.rowData.getLong(columnIndex, this.rowIndex));
+                break;
+            case ColumnarRowData.STORAGE_DOUBLE:
+                value = getNull(columnIndex) ? vf.createFromNull() : vf.createFromDouble(this.rowData.getDouble(columnIndex, this.rowIndex));
+                break;
+            default:
+                int[] offsets = this.rowData.getBytesColumnOffsets(columnIndex);
+                int offset = offsets[this.rowIndex];
+                return getValueFromBytes(columnIndex, this.rowData.getBytesColumnData(columnIndex), offset, offsets[this.rowIndex + 1] - offset, vf);
+        }
+        this.wasNull = (value == null);
+        return value;
+    }
+
+    @Override
+    public int getInt(int columnIndex, ToIntValueFactory<?> vf) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        switch (this.rowData.getStorage(columnIndex)) {
+            case ColumnarRowData.STORAGE_INT:
+                return vf.createIntFromLong(this.rowData.getInt(columnIndex, this.rowIndex));
+            case ColumnarRowData.STORAGE_LONG:
+                return vf.createIntFromLong(this.rowData.getLong(columnIndex, this.rowIndex));
+            case ColumnarRowData.STORAGE_DOUBLE:
+                return vf.createIntFromDouble(this.rowData.getDouble(columnIndex, this.rowIndex));
+            default:
+                int[] offsets = this.rowData.getBytesColumnOffsets(columnIndex);
+                int offset = offsets[this.rowIndex];
+                return getIntFromBytes(columnIndex, this.rowData.getBytesColumnData(columnIndex), offset, offsets[this.rowIndex + 1] - offset, vf);
+        }
+    }
+
+    @Override
+    public long getLong(int columnIndex, ToLongValueFactory<?> vf) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        switch (this.rowData.getStorage(columnIndex)) {
+            case ColumnarRowData.STORAGE_INT:
+                return vf.createLongFromLong(this.rowData.getInt(columnIndex, this.rowIndex));
+            case ColumnarRowData.STORAGE_LONG:
+                return vf.createLongFromLong(this.rowData.getLong(columnIndex, this.rowIndex));
+            case ColumnarRowData.STORAGE_DOUBLE:
+                return vf.createLongFromDouble(this.rowData.getDouble(columnIndex, this.rowIndex));
+            default:
+                int[] offsets = this.rowData.getBytesColumnOffsets(columnIndex);
+                int offset = offsets[this.rowIndex];
+                return getLongFromBytes(columnIndex, this.rowData.getBytesColumnData(columnIndex), offset, offsets[this.rowIndex + 1] - offset, vf);
+        }
+    }
+
+    @Override
+    public double getDouble(int columnIndex, ToDoubleValueFactory<?> vf) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        switch (this.rowData.getStorage(columnIndex)) {
+            case ColumnarRowData.STORAGE_INT:
+                return vf.createDoubleFromLong(this.rowData.getInt(columnIndex, this.rowIndex));
+            case ColumnarRowData.STORAGE_LONG:
+                return vf.createDoubleFromLong(this.rowData.getLong(columnIndex, this.rowIndex));
+            case ColumnarRowData.STORAGE_DOUBLE:
+                return vf.createDoubleFromDouble(this.rowData.getDouble(columnIndex, this.rowIndex));
+            default:
+                int[] offsets = this.rowData.getBytesColumnOffsets(columnIndex);
+                int offset = offsets[this.rowIndex];
+                return getDoubleFromBytes(columnIndex, this.rowData.getBytesColumnData(columnIndex), offset, offsets[this.rowIndex + 1] - offset, vf);
+        }
+    }
+
+    @Override
+    public long getUnscaledLong(int columnIndex, int scale, ValueFactory<BigDecimal> vf) {
+        switch (this.rowData.getStorage(columnIndex)) {
+            case ColumnarRowData.STORAGE_INT:
+            case ColumnarRowData.STORAGE_LONG:
+            case ColumnarRowData.STORAGE_DOUBLE:
+                return super.getUnscaledLong(columnIndex, scale, vf);
+            default:
+                if (getNull(columnIndex)) {
+                    return 0;
+                }
+                int[] offsets = this.rowData.getBytesColumnOffsets(columnIndex);
+                int offset = offsets[this.rowIndex];
+                return getUnscaledLongFromBytes(columnIndex, this.rowData.getBytesColumnData(columnIndex), offset, offsets[this.rowIndex + 1] - offset, scale,
+                        vf);
+        }
+    }
+}
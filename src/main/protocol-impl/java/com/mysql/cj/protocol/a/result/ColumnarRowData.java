@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.ResultsetRow;
+import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
+import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.Row;
+
+/**
+ * Column-oriented copy of a fully-read result set.
+ * 
+ * Integer and floating point columns are kept in primitive arrays, every other column keeps its wire-level bytes packed into one array per column with
+ * per-row offsets. NULL values are tracked in a bitmap per column. A column is only stored in primitive form when the original wire-level bytes can be
+ * restored from it, so {@link ColumnarRow} returns exactly the same values as the rows it was built from.
+ */
+public class ColumnarRowData {
+
+    /** Column values are kept as wire-level bytes. */
+    public static final int STORAGE_BYTES = 0;
+    /** Column values are kept in an int[]. */
+    public static final int STORAGE_INT = 1;
+    /** Column values are kept in a long[]. */
+    public static final int STORAGE_LONG = 2;
+    /** Column values are kept in a double[]. */
+    public static final int STORAGE_DOUBLE = 3;
+
+    private ColumnDefinition metadata;
+    private ValueDecoder valueDecoder;
+    private ExceptionInterceptor exceptionInterceptor;
+    private int rowCount;
+
+    private int[] storage;
+    private long[][] nulls;
+    private int[][] intColumns;
+    private long[][] longColumns;
+    private double[][] doubleColumns;
+    private int[][] offsets;
+    private byte[][] data;
+
+    /**
+     * Copies the given rows into column-oriented storage.
+     * 
+     * @param rows
+     *            rows of a fully-read result set, all decoded by the same protocol
+     * @param metadata
+     *            {@link ColumnDefinition} of the rows
+     * @param exceptionInterceptor
+     *            {@link ExceptionInterceptor}
+     */
+    public ColumnarRowData(List<Row> rows, ColumnDefinition metadata, ExceptionInterceptor exceptionInterceptor) {
+        this.metadata = metadata;
+        this.exceptionInterceptor = exceptionInterceptor;
+        this.rowCount = rows.size();
+        boolean binary = this.rowCount > 0 && ((ResultsetRow) rows.get(0)).isBinaryEncoded();
+        this.valueDecoder = binary ? new MysqlBinaryValueDecoder() : new MysqlTextValueDecoder();
+
+        Field[] fields = metadata.getFields();
+        int columnCount = fields.length;
+        this.storage = new int[columnCount];
+        this.nulls = new long[columnCount][];
+        this.intColumns = new int[columnCount][];
+        this.longColumns = new long[columnCount][];
+        this.doubleColumns = new double[columnCount][];
+        this.offsets = new int[columnCount][];
+        this.data = new byte[columnCount][];
+
+        for (int c = 0; c < columnCount; c++) {
+            this.storage[c] = getStorage(fields[c], binary);
+            this.nulls[c] = new long[(this.rowCount + 63) >>> 6];
+            switch (this.storage[c]) {
+                case STORAGE_INT:
+                    this.intColumns[c] = new int[this.rowCount];
+                    break;
+                case STORAGE_LONG:
+                    this.longColumns[c] = new long[this.rowCount];
+                    break;
+                case STORAGE_DOUBLE:
+                    this.doubleColumns[c] = new double[this.rowCount];
+                    break;
+                default:
+                    this.offsets[c] = new int[this.rowCount + 1];
+                    this.data[c] = new byte[64];
+            }
+        }
+
+        for (int r = 0; r < this.rowCount; r++) {
+            Row row = rows.get(r).setMetadata(metadata);
+            for (int c = 0; c < columnCount; c++) {
+                byte[] value = row.getBytes(c);
+                if (value == null) {
+                    this.nulls[c][r >>> 6] |= 1L << r;
+                }
+                switch (this.storage[c]) {
+                    case STORAGE_INT:
+                        this.intColumns[c][r] = value == null ? 0 : (int) decodeLong(fields[c], value);
+                        break;
+                    case STORAGE_LONG:
+                        this.longColumns[c][r] = value == null ? 0 : decodeLong(fields[c], value);
+                        break;
+                    case STORAGE_DOUBLE:
+                        this.doubleColumns[c][r] = value == null ? 0 : decodeDouble(fields[c], value, 0, value.length);
+                        break;
+                    default:
+                        appendBytes(c, r, value);
+                }
+            }
+        }
+
+        for (int c = 0; c < columnCount; c++) {
+            if (this.data[c] != null && this.data[c].length > this.offsets[c][this.rowCount]) {
+                this.data[c] = Arrays.copyOf(this.data[c], this.offsets[c][this.rowCount]);
+            }
+        }
+    }
+
+    /**
+     * Chooses the storage of a column. Text protocol floating point values are kept as bytes since their textual form can't be restored from a double.
+     * 
+     * @param f
+     *            field
+     * @param binary
+     *            whether values are binary protocol encoded
+     * @return one of the STORAGE_* constants
+     */
+    private static int getStorage(Field f, boolean binary) {
+        switch (f.getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_TINY:
+            case MysqlType.FIELD_TYPE_SHORT:
+            case MysqlType.FIELD_TYPE_INT24:
+                return STORAGE_INT;
+            case MysqlType.FIELD_TYPE_LONG:
+                return f.isUnsigned() ? STORAGE_LONG : STORAGE_INT;
+            case MysqlType.FIELD_TYPE_LONGLONG:
+                // unsigned values may not fit in a long
+                return f.isUnsigned() ? STORAGE_BYTES : STORAGE_LONG;
+            case MysqlType.FIELD_TYPE_FLOAT:
+            case MysqlType.FIELD_TYPE_DOUBLE:
+                return binary ? STORAGE_DOUBLE : STORAGE_BYTES;
+            default:
+                return STORAGE_BYTES;
+        }
+    }
+
+    private long decodeLong(Field f, byte[] bytes) {
+        int length = bytes.length;
+        switch (f.getMysqlTypeId()) {
+            case MysqlType.FIELD_TYPE_TINY:
+                return f.isUnsigned() ? this.valueDecoder.decodeUInt1(bytes, 0, length) : this.valueDecoder.decodeInt1(bytes, 0, length);
+            case MysqlType.FIELD_TYPE_SHORT:
+                return f.isUnsigned() ? this.valueDecoder.decodeUInt2(bytes, 0, length) : this.valueDecoder.decodeInt2(bytes, 0, length);
+            case MysqlType.FIELD_TYPE_LONG:
+                return f.isUnsigned() ? this.valueDecoder.decodeUInt4(bytes, 0, length) : this.valueDecoder.decodeInt4(bytes, 0, length);
+            case MysqlType.FIELD_TYPE_INT24:
+                return this.valueDecoder.decodeInt4(bytes, 0, length);
+            default:
+                return this.valueDecoder.decodeInt8(bytes, 0, length);
+        }
+    }
+
+    private double decodeDouble(Field f, byte[] bytes, int offset, int length) {
+        return f.getMysqlTypeId() == MysqlType.FIELD_TYPE_FLOAT ? this.valueDecoder.decodeFloat(bytes, offset, length)
+                : this.valueDecoder.decodeDouble(bytes, offset, length);
+    }
+
+    private void appendBytes(int columnIndex, int rowIndex, byte[] value) {
+        int start = this.offsets[columnIndex][rowIndex];
+        int length = value == null ? 0 : value.length;
+        if (start + length > this.data[columnIndex].length) {
+            this.data[columnIndex] = Arrays.copyOf(this.data[columnIndex], Math.max(start + length, this.data[columnIndex].length << 1));
+        }
+        if (length > 0) {
+            System.arraycopy(value, 0, this.data[columnIndex], start, length);
+        }
+        this.offsets[columnIndex][rowIndex + 1] = start + length;
+    }
+
+    /**
+     * Returns a list of lightweight {@link Row} views over this data, used in place of the original rows.
+     * 
+     * @return list of rows
+     */
+    public List<Row> asRowList() {
+        return new AbstractList<Row>() {
+            @Override
+            public Row get(int index) {
+                return new ColumnarRow(ColumnarRowData.this, index, ColumnarRowData.this.exceptionInterceptor, ColumnarRowData.this.valueDecoder);
+            }
+
+            @Override
+            public int size() {
+                return ColumnarRowData.this.rowCount;
+            }
+        };
+    }
+
+    public ColumnDefinition getMetadata() {
+        return this.metadata;
+    }
+
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * @param columnIndex
+     *            0-based column index
+     * @return one of the STORAGE_* constants
+     */
+    public int getStorage(int columnIndex) {
+        return this.storage[columnIndex];
+    }
+
+    /**
+     * Returns the NULL bitmap of a column; bit (row &amp; 63) of element (row &gt;&gt;&gt; 6) is set if the value in that row is NULL. The returned array
+     * is not copied and must not be modified.
+     * 
+     * @param columnIndex
+     *            0-based column index
+     * @return NULL bitmap
+     */
+    public long[] getNullMask(int columnIndex) {
+        return this.nulls[columnIndex];
+    }
+
+    public boolean isNull(int columnIndex, int rowIndex) {
+        return (this.nulls[columnIndex][rowIndex >>> 6] & (1L << rowIndex)) != 0;
+    }
+
+    /**
+     * Returns the values of an int-stored column. The returned array is not copied and must not be modified.
+     * 
+     * @param columnIndex
+     *            0-based column index
+     * @return values, with 0 for NULLs, or null if the column isn't stored as {@link #STORAGE_INT}
+     */
+    public int[] getIntColumn(int columnIndex) {
+        return this.intColumns[columnIndex];
+    }
+
+    /**
+     * Returns the values of an integer column. Long-stored columns return their backing array which must not be modified, int-stored columns are widened into
+     * a new array.
+     * 
+     * @param columnIndex
+     *            0-based column index
+     * @return values, with 0 for NULLs, or null if the column isn't an integer column
+     */
+    public long[] getLongColumn(int columnIndex) {
+        switch (this.storage[columnIndex]) {
+            case STORAGE_LONG:
+                return this.longColumns[columnIndex];
+            case STORAGE_INT:
+                int[] ints = this.intColumns[columnIndex];
+                long[] longs = new long[this.rowCount];
+                for (int i = 0; i < this.rowCount; i++) {
+                    longs[i] = ints[i];
+                }
+                return longs;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the values of a numeric column. Double-stored columns return their backing array which must not be modified, other integer and floating point
+     * columns are converted into a new array.
+     * 
+     * @param columnIndex
+     *            0-based column index
+     * @return values, with 0 for NULLs, or null if the column isn't an integer or floating point column
+     */
+    public double[] getDoubleColumn(int columnIndex) {
+        double[] doubles;
+        switch (this.storage[columnIndex]) {
+            case STORAGE_DOUBLE:
+                return this.doubleColumns[columnIndex];
+            case STORAGE_INT:
+                int[] ints = this.intColumns[columnIndex];
+                doubles = new double[this.rowCount];
+                for (int i = 0; i < this.rowCount; i++) {
+                    doubles[i] = ints[i];
+                }
+                return doubles;
+            case STORAGE_LONG:
+                long[] longs = this.longColumns[columnIndex];
+                doubles = new double[this.rowCount];
+                for (int i = 0; i < this.rowCount; i++) {
+                    doubles[i] = longs[i];
+                }
+                return doubles;
+            default:
+                Field f = this.metadata.getFields()[columnIndex];
+                if (f.getMysqlTypeId() != MysqlType.FIELD_TYPE_FLOAT && f.getMysqlTypeId() != MysqlType.FIELD_TYPE_DOUBLE) {
+                    return null;
+                }
+                int[] offs = this.offsets[columnIndex];
+                doubles = new double[this.rowCount];
+                for (int i = 0; i < this.rowCount; i++) {
+                    if (!isNull(columnIndex, i)) {
+                        doubles[i] = decodeDouble(f, this.data[columnIndex], offs[i], offs[i + 1] - offs[i]);
+                    }
+                }
+                return doubles;
+        }
+    }
+
+    /**
+     * Returns the value offsets of a bytes-stored column; the value of row i occupies [offsets[i], offsets[i + 1]) of {@link #getBytesColumnData(int)}. The
+     * returned array is not copied and must not be modified.
+     * 
+     * @param columnIndex
+     *            0-based column index
+     * @return offsets array of length {@link #getRowCount()} + 1, or null if the column isn't stored as {@link #STORAGE_BYTES}
+     */
+    public int[] getBytesColumnOffsets(int columnIndex) {
+        return this.offsets[columnIndex];
+    }
+
+    /**
+     * Returns the wire-level bytes of all values of a bytes-stored column. The returned array is not copied and must not be modified.
+     * 
+     * @param columnIndex
+     *            0-based column index
+     * @return data, or null if the column isn't stored as {@link #STORAGE_BYTES}
+     */
+    public byte[] getBytesColumnData(int columnIndex) {
+        return this.data[columnIndex];
+    }
+
+    int getInt(int columnIndex, int rowIndex) {
+        return this.intColumns[columnIndex][rowIndex];
+    }
+
+    long getLong(int columnIndex, int rowIndex) {
+        return this.longColumns[columnIndex][rowIndex];
+    }
+
+    double getDouble(int columnIndex, int rowIndex) {
+        return this.doubleColumns[columnIndex][rowIndex];
+    }
+
+    /**
+     * Restores the wire-level bytes of a non-NULL value.
+     * 
+     * @param columnIndex
+     *            0-based column index
+     * @param rowIndex
+     *            0-based row index
+     * @return bytes
+     */
+    byte[] getBytes(int columnIndex, int rowIndex) {
+        Field f = this.metadata.getFields()[columnIndex];
+        switch (this.storage[columnIndex]) {
+            case STORAGE_INT:
+                return encodeLong(f, getInt(columnIndex, rowIndex));
+            case STORAGE_LONG:
+                return encodeLong(f, getLong(columnIndex, rowIndex));
+            case STORAGE_DOUBLE:
+                // only binary protocol values are stored as doubles
+                if (f.getMysqlTypeId() == MysqlType.FIELD_TYPE_FLOAT) {
+                    return encodeLittleEndian(Float.floatToIntBits((float) getDouble(columnIndex, rowIndex)), 4);
+                }
+                return encodeLittleEndian(Double.doubleToLongBits(getDouble(columnIndex, rowIndex)), 8);
+            default:
+                int[] offs = this.offsets[columnIndex];
+                return Arrays.copyOfRange(this.data[columnIndex], offs[rowIndex], offs[rowIndex + 1]);
+        }
+    }
+
+    private byte[] encodeLong(Field f, long value) {
+        if (this.valueDecoder instanceof MysqlBinaryValueDecoder) {
+            int type = f.getMysqlTypeId();
+            return encodeLittleEndian(value, type == MysqlType.FIELD_TYPE_TINY ? 1
+                    : type == MysqlType.FIELD_TYPE_SHORT ? 2 : type == MysqlType.FIELD_TYPE_LONGLONG ? 8 : 4);
+        }
+
+        String s = Long.toString(value);
+        if (f.isZeroFill() && s.length() < f.getLength()) {
+            char[] padded = new char[(int) f.getLength()];
+            Arrays.fill(padded, 0, padded.length - s.length(), '0');
+            s.getChars(0, s.length(), padded, padded.length - s.length());
+            s = new String(padded);
+        }
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] encodeLittleEndian(long value, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (value >>> (i << 3));
+        }
+        return bytes;
+    }
+}
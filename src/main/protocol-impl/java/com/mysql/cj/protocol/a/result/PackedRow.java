@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+package com.mysql.cj.protocol.a.result;
+
+import java.math.BigDecimal;
+
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
+import com.mysql.cj.protocol.result.AbstractResultsetRow;
+import com.mysql.cj.result.ToDoubleValueFactory;
+import com.mysql.cj.result.ToIntValueFactory;
+import com.mysql.cj.result.ToLongValueFactory;
+import com.mysql.cj.result.ValueFactory;
+
+/**
+ * A read-only view of a single row of a {@link PackedRowList}.
+ */
+public class PackedRow extends AbstractResultsetRow {
+
+    private PackedRowList rows;
+    private int rowIndex;
+
+    public PackedRow(PackedRowList rows, int rowIndex, ExceptionInterceptor exceptionInterceptor, ValueDecoder valueDecoder) {
+        super(exceptionInterceptor);
+
+        this.rows = rows;
+        this.rowIndex = rowIndex;
+        this.metadata = rows.getMetadata();
+        this.valueDecoder = valueDecoder;
+    }
+
+    @Override
+    public boolean isBinaryEncoded() {
+        return this.valueDecoder instanceof MysqlBinaryValueDecoder;
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) {
+        if (getNull(columnIndex)) {
+            return null;
+        }
+        return this.rows.getBytes(this.rowIndex, columnIndex);
+    }
+
+    @Override
+    public boolean getNull(int columnIndex) {
+        this.wasNull = this.rows.isNull(this.rowIndex, columnIndex);
+        return this.wasNull;
+    }
+
+    @Override
+    public <T> T getValue(int columnIndex, ValueFactory<T> vf) {
+        return getValueFromBytes(columnIndex, this.rows.getSlab(this.rowIndex), this.rows.getValueOffset(this.rowIndex, columnIndex),
+                this.rows.getValueLength(this.rowIndex, columnIndex), vf);
+    }
+
+    @Override
+    public int getInt(int columnIndex, ToIntValueFactory<?> vf) {
+        return getIntFromBytes(columnIndex, this.rows.getSlab(this.rowIndex), this.rows.getValueOffset(this.rowIndex, columnIndex),
+                this.rows.getValueLength(this.rowIndex, columnIndex), vf);
+    }
+
+    @Override
+    public long getLong(int columnIndex, ToLongValueFactory<?> vf) {
+        return getLongFromBytes(columnIndex, this.rows.getSlab(this.rowIndex), this.rows.getValueOffset(this.rowIndex, columnIndex),
+                this.rows.getValueLength(this.rowIndex, columnIndex), vf);
+    }
+
+    @Override
+    public double getDouble(int columnIndex, ToDoubleValueFactory<?> vf) {
+        return getDoubleFromBytes(columnIndex, this.rows.getSlab(this.rowIndex), this.rows.getValueOffset(this.rowIndex, columnIndex),
+                this.rows.getValueLength(this.rowIndex, columnIndex), vf);
+    }
+
+    @Override
+    public long getUnscaledLong(int columnIndex, int scale, ValueFactory<BigDecimal> vf) {
+        return getUnscaledLongFromBytes(columnIndex, this.rows.getSlab(this.rowIndex), this.rows.getValueOffset(this.rowIndex, columnIndex),
+                this.rows.getValueLength(this.rowIndex, columnIndex), scale, vf);
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+package com.mysql.cj.protocol.a.result;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.result.Row;
+
+/**
+ * A list of rows for an in-memory result set that copies the values of the added rows into a few large byte slabs instead of keeping the row objects. Each row
+ * takes up a slab location and one end offset per column in addition to its value bytes. {@link #get(int)} returns a lightweight {@link PackedRow} view that
+ * decodes values directly from the slab.
+ * 
+ * The views are read-only, so this list is only suitable for read-only result sets.
+ */
+public class PackedRowList extends AbstractList<Row> implements RandomAccess {
+
+    /** Size of the first slab; it's grown by copying up to {@link #MAX_SLAB_SIZE}, then further slabs of that size are added. */
+    private static final int INITIAL_SLAB_SIZE = 1024;
+    private static final int MAX_SLAB_SIZE = 1024 * 1024;
+
+    private ColumnDefinition metadata;
+    private int columnCount;
+    private ValueDecoder valueDecoder;
+    private ExceptionInterceptor exceptionInterceptor;
+
+    private List<byte[]> slabs = new ArrayList<>();
+    private byte[] currentSlab;
+    private int currentSlabPosition = 0;
+
+    /** Location of each row, as slab number in the high and position in the low 32 bits */
+    private long[] rowStarts = new long[16];
+    /** End offset of each value relative to the start of its row, bitwise complemented for NULL values */
+    private int[] valueEnds;
+    private int rowCount = 0;
+
+    /**
+     * Constructs a new list.
+     * 
+     * @param metadata
+     *            {@link ColumnDefinition} of the rows
+     * @param valueDecoder
+     *            {@link ValueDecoder} matching the encoding of the added rows
+     * @param exceptionInterceptor
+     *            {@link ExceptionInterceptor}
+     */
+    public PackedRowList(ColumnDefinition metadata, ValueDecoder valueDecoder, ExceptionInterceptor exceptionInterceptor) {
+        this.metadata = metadata;
+        this.columnCount = metadata.getFields().length;
+        this.valueDecoder = valueDecoder;
+        this.exceptionInterceptor = exceptionInterceptor;
+        this.valueEnds = new int[this.rowStarts.length * this.columnCount];
+    }
+
+    /**
+     * Copies the values of the given row. The row isn't referenced afterwards, so it may be backed by a reused packet.
+     * 
+     * @param row
+     *            {@link Row}
+     * @return true
+     */
+    @Override
+    public boolean add(Row row) {
+        row.setMetadata(this.metadata);
+
+        if (this.rowCount == this.rowStarts.length) {
+            this.rowStarts = Arrays.copyOf(this.rowStarts, this.rowCount * 2);
+            this.valueEnds = Arrays.copyOf(this.valueEnds, this.rowStarts.length * this.columnCount);
+        }
+
+        int ends = this.rowCount * this.columnCount;
+        int length = 0;
+        if (row instanceof AbstractBufferRow) {
+            // copy straight from the row packet instead of breaking the values out as byte[]s first
+            AbstractBufferRow bufferRow = (AbstractBufferRow) row;
+            for (int i = 0; i < this.columnCount; i++) {
+                int valueLength = bufferRow.seekToValue(i);
+                if (valueLength < 0) {
+                    this.valueEnds[ends + i] = ~length;
+                } else {
+                    if (valueLength > 0) {
+                        ensureCapacity(length + valueLength);
+                        System.arraycopy(bufferRow.rowFromServer.getByteBuffer(), bufferRow.rowFromServer.getPosition(), this.currentSlab,
+                                this.currentSlabPosition + length, valueLength);
+                    }
+                    length += valueLength;
+                    this.valueEnds[ends + i] = length;
+                }
+            }
+        } else {
+            for (int i = 0; i < this.columnCount; i++) {
+                byte[] value = row.getBytes(i);
+                if (value == null) {
+                    this.valueEnds[ends + i] = ~length;
+                } else {
+                    if (value.length > 0) {
+                        ensureCapacity(length + value.length);
+                        System.arraycopy(value, 0, this.currentSlab, this.currentSlabPosition + length, value.length);
+                    }
+                    length += value.length;
+                    this.valueEnds[ends + i] = length;
+                }
+            }
+        }
+
+        if (this.currentSlab == null) {
+            ensureCapacity(0);
+        }
+        this.rowStarts[this.rowCount++] = ((long) (this.slabs.size() - 1) << 32) | this.currentSlabPosition;
+        this.currentSlabPosition += length;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Makes sure the current slab has room for the given number of bytes from the current position, moving the part of the row copied so far to a new slab
+     * if needed.
+     * 
+     * @param rowLength
+     *            number of bytes of the row being added
+     */
+    private void ensureCapacity(int rowLength) {
+        if (this.currentSlab != null && this.currentSlab.length - this.currentSlabPosition >= rowLength) {
+            return;
+        }
+
+        if (this.currentSlab != null && this.currentSlab.length < MAX_SLAB_SIZE) {
+            int size = this.currentSlab.length;
+            while (size - this.currentSlabPosition < rowLength) {
+                size *= 2;
+            }
+            if (size <= MAX_SLAB_SIZE) {
+                this.currentSlab = Arrays.copyOf(this.currentSlab, size);
+                this.slabs.set(this.slabs.size() - 1, this.currentSlab);
+                return;
+            }
+        }
+
+        byte[] slab = new byte[Math.max(this.currentSlab == null ? INITIAL_SLAB_SIZE : MAX_SLAB_SIZE, rowLength)];
+        if (this.currentSlab != null) {
+            // the beginning of the row has already been copied to the end of the previous slab
+            System.arraycopy(this.currentSlab, this.currentSlabPosition, slab, 0, this.currentSlab.length - this.currentSlabPosition);
+        }
+        this.slabs.add(slab);
+        this.currentSlab = slab;
+        this.currentSlabPosition = 0;
+    }
+
+    @Override
+    public Row get(int index) {
+        if (index < 0 || index >= this.rowCount) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        return new PackedRow(this, index, this.exceptionInterceptor, this.valueDecoder);
+    }
+
+    @Override
+    public Row remove(int index) {
+        if (index < 0 || index >= this.rowCount) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+        byte[][] values = new byte[this.columnCount][];
+        for (int i = 0; i < this.columnCount; i++) {
+            values[i] = getBytes(index, i);
+        }
+        System.arraycopy(this.rowStarts, index + 1, this.rowStarts, index, this.rowCount - index - 1);
+        System.arraycopy(this.valueEnds, (index + 1) * this.columnCount, this.valueEnds, index * this.columnCount,
+                (this.rowCount - index - 1) * this.columnCount);
+        this.rowCount--;
+        this.modCount++;
+        return new ByteArrayRow(values, this.exceptionInterceptor, this.valueDecoder);
+    }
+
+    @Override
+    public int size() {
+        return this.rowCount;
+    }
+
+    public ColumnDefinition getMetadata() {
+        return this.metadata;
+    }
+
+    /**
+     * @param rowIndex
+     *            0-based row index
+     * @param columnIndex
+     *            0-based column index
+     * @return true if the value is SQL NULL
+     */
+    public boolean isNull(int rowIndex, int columnIndex) {
+        return this.valueEnds[rowIndex * this.columnCount + columnIndex] < 0;
+    }
+
+    /**
+     * @param rowIndex
+     *            0-based row index
+     * @return the slab holding the row values
+     */
+    byte[] getSlab(int rowIndex) {
+        return this.slabs.get((int) (this.rowStarts[rowIndex] >>> 32));
+    }
+
+    /**
+     * @param rowIndex
+     *            0-based row index
+     * @param columnIndex
+     *            0-based column index
+     * @return position of the value in the slab of the row
+     */
+    int getValueOffset(int rowIndex, int columnIndex) {
+        int rowStart = (int) this.rowStarts[rowIndex];
+        if (columnIndex == 0) {
+            return rowStart;
+        }
+        int end = this.valueEnds[rowIndex * this.columnCount + columnIndex - 1];
+        return rowStart + (end < 0 ? ~end : end);
+    }
+
+    /**
+     * @param rowIndex
+     *            0-based row index
+     * @param columnIndex
+     *            0-based column index
+     * @return length of the value, 0 for SQL NULL
+     */
+    int getValueLength(int rowIndex, int columnIndex) {
+        int ends = rowIndex * this.columnCount + columnIndex;
+        int end = this.valueEnds[ends];
+        if (end < 0) {
+            return 0;
+        }
+        if (columnIndex == 0) {
+            return end;
+        }
+        int start = this.valueEnds[ends - 1];
+        return end - (start < 0 ? ~start : start);
+    }
+
+    /**
+     * @param rowIndex
+     *            0-based row index
+     * @param columnIndex
+     *            0-based column index
+     * @return copy of the value bytes, or null for SQL NULL
+     */
+    byte[] getBytes(int rowIndex, int columnIndex) {
+        if (isNull(rowIndex, columnIndex)) {
+            return null;
+        }
+        int offset = getValueOffset(rowIndex, columnIndex);
+        return Arrays.copyOfRange(getSlab(rowIndex), offset, offset + getValueLength(rowIndex, columnIndex));
+    }
+}
@@ -29,10 +29,14 @@
 
 package com.mysql.cj.protocol.a.result;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Messages;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.CJCommunicationsException;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Resultset.Concurrency;
@@ -40,6 +44,7 @@ import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.BinaryRowFactory;
 import com.mysql.cj.protocol.a.NativeMessageBuilder;
+import com.mysql.cj.protocol.a.NativePacketPayload;
 import com.mysql.cj.protocol.a.NativeProtocol;
 import com.mysql.cj.result.Row;
 
@@ -47,6 +52,9 @@ import com.mysql.cj.result.Row;
  * Model for result set data backed by a cursor (see http://dev.mysql.com/doc/refman/5.7/en/cursors.html and
  * SERVER_STATUS_CURSOR_EXISTS flag description on http://dev.mysql.com/doc/internals/en/status-flags.html).
  * Only works for forward-only result sets (but still works with updatable concurrency).
+ * 
+ * With 'cursorFetchAhead', the next batch is requested as soon as the current one has been read and its response is read when the current batch is
+ * exhausted, or earlier if another command has to be sent. With 'cursorFetchMemoryBudget', the batch size is derived from the average row size seen so far.
  */
 public class ResultsetRowsCursor extends AbstractResultsetRows implements ResultsetRows {
 
@@ -78,6 +86,34 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
 
     protected NativeMessageBuilder commandBuilder = new NativeMessageBuilder(); // TODO use shared builder
 
+    /**
+     * Request the next batch ahead of time?
+     */
+    private boolean fetchAhead;
+
+    /**
+     * Approximate number of bytes the fetched rows should take, 0 to use the fetch size.
+     */
+    private long memoryBudget;
+
+    /**
+     * Total size of the row packets and number of rows read so far, for the average row size.
+     */
+    private long fetchedBytes = 0;
+    private long fetchedRowCount = 0;
+
+    /**
+     * Is the response to a COM_STMT_FETCH sent ahead of time still unread?
+     */
+    private boolean fetchAheadPending = false;
+
+    /**
+     * The last batch read from the server, and the state of the server after sending it.
+     */
+    private List<Row> batchRows;
+    private boolean batchLastRowSent;
+    private Exception batchException;
+
     /**
      * Creates a new cursor-backed row provider.
      * 
@@ -90,7 +126,16 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
         this.currentPositionInEntireResult = BEFORE_START_OF_ROWS;
         this.metadata = columnDefinition;
         this.protocol = ioChannel;
-        this.rowFactory = new BinaryRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, false);
+        this.fetchAhead = this.protocol.getPropertySet().getBooleanProperty(PropertyKey.cursorFetchAhead).getValue();
+        this.memoryBudget = this.protocol.getPropertySet().getMemorySizeProperty(PropertyKey.cursorFetchMemoryBudget).getValue();
+        this.rowFactory = new BinaryRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, false) {
+            @Override
+            public ResultsetRow createFromMessage(NativePacketPayload rowPacket) {
+                ResultsetRowsCursor.this.fetchedBytes += rowPacket.getPayloadLength();
+                ResultsetRowsCursor.this.fetchedRowCount++;
+                return super.createFromMessage(rowPacket);
+            }
+        };
     }
 
     @Override
@@ -203,7 +248,9 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
             return;
         }
 
-        synchronized (this.owner.getSyncMutex()) {
+        Lock lock = this.owner.getSyncLock();
+        lock.lock();
+        try {
             try {
                 boolean oldFirstFetchCompleted = this.firstFetchCompleted;
 
@@ -211,47 +258,109 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
                     this.firstFetchCompleted = true;
                 }
 
-                int numRowsToFetch = this.owner.getOwnerFetchSize();
-
-                if (numRowsToFetch == 0) {
-                    numRowsToFetch = this.owner.getOwningStatementFetchSize();
-                }
-
-                if (numRowsToFetch == Integer.MIN_VALUE) {
-                    // Handle the case where the user used 'old' streaming result sets
-
-                    numRowsToFetch = 1;
-                }
-
-                if (this.fetchedRows == null) {
-                    this.fetchedRows = new ArrayList<>(numRowsToFetch);
+                if (this.fetchAheadPending) {
+                    // no-op if another command has already read the response
+                    this.protocol.readDeferredResponse();
                 } else {
-                    this.fetchedRows.clear();
+                    // the previous batch isn't needed anymore, reuse its list
+                    requestRows(this.fetchAhead ? null : this.fetchedRows);
+                    readRows();
                 }
 
-                // TODO this is not the right place for this code, should be in protocol
-                this.protocol.sendCommand(
-                        this.commandBuilder.buildComStmtFetch(this.protocol.getSharedSendPacket(), this.owner.getOwningStatementServerId(), numRowsToFetch),
-                        true, 0);
-
-                Row row = null;
-
-                while ((row = this.protocol.read(ResultsetRow.class, this.rowFactory)) != null) {
-                    this.fetchedRows.add(row);
+                if (this.batchException != null) {
+                    Exception ex = this.batchException;
+                    this.batchException = null;
+                    throw ex;
                 }
 
+                this.fetchedRows = this.batchRows;
+                this.batchRows = null;
                 this.currentPositionInFetchedRows = BEFORE_START_OF_ROWS;
 
-                if (this.protocol.getServerSession().isLastRowSent()) {
+                if (this.batchLastRowSent) {
                     this.lastRowFetched = true;
 
                     if (!oldFirstFetchCompleted && this.fetchedRows.size() == 0) {
                         this.wasEmpty = true;
                     }
+                } else if (this.fetchAhead) {
+                    requestRows(null);
+                    this.fetchAheadPending = true;
+                    this.protocol.setDeferredResponseReader(this::readRows);
                 }
             } catch (Exception ex) {
                 throw ExceptionFactory.createException(ex.getMessage(), ex);
             }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sends COM_STMT_FETCH for the next batch, without reading the response.
+     * 
+     * @param reusableList
+     *            list to read the rows into, or null to create a new one
+     */
+    private void requestRows(List<Row> reusableList) {
+        int numRowsToFetch = this.owner.getOwnerFetchSize();
+
+        if (numRowsToFetch == 0) {
+            numRowsToFetch = this.owner.getOwningStatementFetchSize();
+        }
+
+        if (numRowsToFetch == Integer.MIN_VALUE) {
+            // Handle the case where the user used 'old' streaming result sets
+
+            numRowsToFetch = 1;
+        }
+
+        if (this.memoryBudget > 0 && this.fetchedRowCount > 0) {
+            // two batches are held in memory when fetching ahead
+            long budget = this.fetchAhead ? this.memoryBudget / 2 : this.memoryBudget;
+            long averageRowSize = Math.max(1, this.fetchedBytes / this.fetchedRowCount);
+            numRowsToFetch = (int) Math.max(1, Math.min(Integer.MAX_VALUE, budget / averageRowSize));
+        }
+
+        if (reusableList == null) {
+            this.batchRows = new ArrayList<>(Math.min(numRowsToFetch, 1024));
+        } else {
+            reusableList.clear();
+            this.batchRows = reusableList;
+        }
+
+        // TODO this is not the right place for this code, should be in protocol
+        this.protocol.sendCommand(
+                this.commandBuilder.buildComStmtFetch(this.protocol.getSharedSendPacket(), this.owner.getOwningStatementServerId(), numRowsToFetch), true,
+                0);
+    }
+
+    /**
+     * Reads the response to COM_STMT_FETCH into batchRows. May be called while another command is being sent, so errors returned by the server are kept in
+     * batchException rather than thrown. Communication failures are thrown, as the connection can't be used for the other command either, and are kept for
+     * this cursor too.
+     */
+    private void readRows() {
+        this.fetchAheadPending = false;
+
+        try {
+            Row row = null;
+
+            while ((row = this.protocol.read(ResultsetRow.class, this.rowFactory)) != null) {
+                this.batchRows.add(row);
+            }
+
+            this.batchLastRowSent = this.protocol.getServerSession().isLastRowSent();
+        } catch (IOException ex) {
+            CJCommunicationsException cjEx = ExceptionFactory.createCommunicationsException(this.protocol.getPropertySet(), this.protocol.getServerSession(),
+                    this.protocol.getPacketSentTimeHolder(), this.protocol.getPacketReceivedTimeHolder(), ex, this.protocol.getExceptionInterceptor());
+            this.batchException = cjEx;
+            throw cjEx;
+        } catch (CJCommunicationsException ex) {
+            this.batchException = ex;
+            throw ex;
+        } catch (Exception ex) {
+            this.batchException = ex;
         }
     }
 
@@ -31,6 +31,7 @@ package com.mysql.cj.protocol.a.result;
 
 import java.util.List;
 
+import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.result.Row;
@@ -42,6 +43,8 @@ public class ResultsetRowsStatic extends AbstractResultsetRows implements Result
 
     private List<Row> rows;
 
+    private ColumnarRowData columnarRowData;
+
     /**
      * Creates a new RowDataStatic object.
      * 
@@ -181,6 +184,34 @@ public class ResultsetRowsStatic extends AbstractResultsetRows implements Result
         return this.rows.size();
     }
 
+    @Override
+    public void close() {
+        closeRows();
+    }
+
+    private void closeRows() {
+        if (this.rows instanceof SpillingRowList) {
+            ((SpillingRowList) this.rows).close();
+        }
+    }
+
+    /**
+     * Converts the rows to column-oriented storage if it wasn't done yet. The original rows are released and replaced by views over the columns, so rows can
+     * no longer be added or removed afterwards.
+     * 
+     * @param exceptionInterceptor
+     *            {@link ExceptionInterceptor}
+     * @return {@link ColumnarRowData}
+     */
+    public ColumnarRowData toColumnar(ExceptionInterceptor exceptionInterceptor) {
+        if (this.columnarRowData == null) {
+            this.columnarRowData = new ColumnarRowData(this.rows, this.metadata, exceptionInterceptor);
+            closeRows();
+            this.rows = this.columnarRowData.asRowList();
+        }
+        return this.columnarRowData;
+    }
+
     @Override
     public boolean wasEmpty() {
         return (this.rows != null && this.rows.size() == 0);
@@ -29,9 +29,15 @@
 
 package com.mysql.cj.protocol.a.result;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
 import com.mysql.cj.Messages;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.exceptions.ConnectionIsClosedException;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.exceptions.StreamingNotifiable;
@@ -48,6 +54,7 @@ import com.mysql.cj.protocol.a.NativePacketPayload;
 import com.mysql.cj.protocol.a.NativeProtocol;
 import com.mysql.cj.protocol.a.TextRowFactory;
 import com.mysql.cj.result.Row;
+import com.mysql.cj.util.DriverThreadPools;
 import com.mysql.cj.util.Util;
 
 /**
@@ -56,6 +63,9 @@ import com.mysql.cj.util.Util;
  * we only stream result sets when they are forward-only, read-only, and the
  * fetch size has been set to Integer.MIN_VALUE (rows are read one by one).
  * 
+ * If 'streamingPrefetchRows' is set, rows are read ahead by a background thread into a bounded queue instead, so reading from the network overlaps with
+ * processing of the previous rows. The connection remains reserved for this result set until all rows are consumed or it is closed.
+ * 
  * @param <T>
  *            ProtocolEntity type
  */
@@ -79,6 +89,19 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
 
     private NativeMessageBuilder commandBuilder = new NativeMessageBuilder(); // TODO use shared builder
 
+    private static final Object END_OF_ROWS = new Object();
+
+    /** How long the prefetching thread and the reading thread wait on the queue before checking if prefetching was cancelled. */
+    private static final long PREFETCH_WAIT_MILLIS = 100;
+
+    private int prefetchRows;
+
+    /** Rows read ahead by the prefetching thread, followed by END_OF_ROWS or the exception that stopped it. */
+    private BlockingQueue<Object> prefetchedRows;
+
+    /** Set when this result set or its connection is closed, so that the prefetching thread doesn't wait forever for rows to be taken. */
+    private volatile boolean prefetchCancelled = false;
+
     /**
      * Creates a new RowDataDynamic object.
      * 
@@ -98,19 +121,25 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
         this.metadata = columnDefinition;
         this.exceptionInterceptor = this.protocol.getExceptionInterceptor();
         this.resultSetFactory = resultSetFactory;
-        this.rowFactory = this.isBinaryEncoded ? new BinaryRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, true)
-                : new TextRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, true);
+        this.prefetchRows = this.protocol.getPropertySet().getIntegerProperty(PropertyKey.streamingPrefetchRows).getValue();
+        // prefetched rows can't share the reusable packet
+        boolean canReuseRowPacket = this.prefetchRows <= 0;
+        this.rowFactory = this.isBinaryEncoded ? new BinaryRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, canReuseRowPacket)
+                : new TextRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, canReuseRowPacket);
     }
 
     @Override
     public void close() {
 
-        Object mutex = this.owner != null && this.owner.getSyncMutex() != null ? this.owner.getSyncMutex() : this;
+        Lock lock = this.owner != null ? this.owner.getSyncLock() : null;
 
         boolean hadMore = false;
         int howMuchMore = 0;
 
-        synchronized (mutex) {
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
             // drain the rest of the records.
             while (next() != null) {
                 hadMore = true;
@@ -142,12 +171,25 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
                             Messages.getString("RowDataDynamic.1", new String[] { String.valueOf(howMuchMore), this.owner.getPointOfOrigin() }));
                 }
             }
+        } finally {
+            cancelPrefetch();
+            if (lock != null) {
+                lock.unlock();
+            }
         }
 
         this.metadata = null;
         this.owner = null;
     }
 
+    /**
+     * Stops the prefetching thread, if any, without reading the remaining rows. Rows not read yet are left on the connection, so this is only called once
+     * they were drained or when the connection is being closed.
+     */
+    public void cancelPrefetch() {
+        this.prefetchCancelled = true;
+    }
+
     @Override
     public boolean hasNext() {
         boolean hasNext = (this.nextRow != null);
@@ -190,7 +232,7 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
     public Row next() {
         try {
             if (!this.noMoreRows) {
-                this.nextRow = this.protocol.read(ResultsetRow.class, this.rowFactory);
+                this.nextRow = readRow();
 
                 if (this.nextRow == null) {
                     this.noMoreRows = true;
@@ -243,6 +285,80 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
         }
     }
 
+    /**
+     * Reads the next row from the server, or takes it from the prefetched rows if prefetching is enabled.
+     * 
+     * @return row or null if there are no more rows in the current result set
+     * @throws Exception
+     *             if the row can't be read
+     */
+    private Row readRow() throws Exception {
+        if (this.prefetchRows <= 0) {
+            return this.protocol.read(ResultsetRow.class, this.rowFactory);
+        }
+
+        if (this.prefetchedRows == null) {
+            BlockingQueue<Object> queue = new ArrayBlockingQueue<>(this.prefetchRows);
+            this.prefetchedRows = queue;
+            DriverThreadPools.getCachedThreadPool("mysql-cj-streaming-prefetch").execute(() -> prefetch(queue));
+        }
+
+        Object next;
+        try {
+            while ((next = this.prefetchedRows.poll(PREFETCH_WAIT_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                if (this.prefetchCancelled) {
+                    throw ExceptionFactory.createException(ConnectionIsClosedException.class, Messages.getString("Connection.2"), this.exceptionInterceptor);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // the prefetching thread may be in the middle of reading a row, the connection can't be used anymore
+            cancelPrefetch();
+            this.protocol.getSocketConnection().forceClose();
+            throw ExceptionFactory.createCommunicationsException(this.protocol.getPropertySet(), this.protocol.getServerSession(),
+                    this.protocol.getPacketSentTimeHolder(), this.protocol.getPacketReceivedTimeHolder(), e, this.exceptionInterceptor);
+        }
+        if (next == END_OF_ROWS) {
+            return null;
+        } else if (next instanceof Exception) {
+            throw (Exception) next;
+        } else if (next instanceof Error) {
+            throw (Error) next;
+        }
+        return (Row) next;
+    }
+
+    /**
+     * Reads all rows of the current result set into the given queue. Runs in a prefetching thread, which is the only one using the protocol until it has
+     * queued END_OF_ROWS or an exception, or until prefetching is cancelled.
+     * 
+     * @param queue
+     *            the queue to fill
+     */
+    private void prefetch(BlockingQueue<Object> queue) {
+        try {
+            Object next;
+            do {
+                try {
+                    Row row = this.protocol.read(ResultsetRow.class, this.rowFactory);
+                    next = row == null ? END_OF_ROWS : row;
+                } catch (Throwable t) {
+                    next = t;
+                }
+                while (!queue.offer(next, PREFETCH_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (this.prefetchCancelled) {
+                        return;
+                    }
+                }
+            } while (next instanceof Row && !this.prefetchCancelled);
+        } catch (InterruptedException e) {
+            // the driver threads are being shut down, the rows left on the connection won't be read
+            cancelPrefetch();
+            this.protocol.getSocketConnection().forceClose();
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public void afterLast() {
         throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
     }
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+package com.mysql.cj.protocol.a.result;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.result.Row;
+
+/**
+ * A list of rows for an in-memory result set that keeps the rows on the heap until their estimated size exceeds a memory budget. From then on, the row
+ * values are stored in a memory-mapped temporary file and located through an offset index, and {@link #get(int)} materializes a {@link ByteArrayRow} from the
+ * file on each call. Rows can still be appended and removed, but changes made to a returned row aren't written back to the file.
+ * 
+ * The temporary file is opened with {@link StandardOpenOption#DELETE_ON_CLOSE} and deleted by {@link #close()}, which also drops all references to the mapped
+ * segments. Mapped memory can't be unmapped explicitly on all supported Java versions, so it is returned to the system when the segments are garbage
+ * collected; on platforms that don't delete mapped files, such as Windows, the file is deleted then too.
+ */
+public class SpillingRowList extends AbstractList<Row> implements RandomAccess, Closeable {
+
+    /** Size of the file regions mapped at once; a row bigger than that gets a region of its own. */
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /** Estimated heap overhead of a row object and of each of its values, in addition to the value bytes. */
+    private static final int ROW_OVERHEAD = 32;
+    private static final int VALUE_OVERHEAD = 16;
+
+    private ColumnDefinition metadata;
+    private long memoryBudget;
+    private ValueDecoder valueDecoder;
+    private ExceptionInterceptor exceptionInterceptor;
+
+    private List<Row> heapRows = new ArrayList<>();
+    private long heapBytes = 0;
+
+    private FileChannel channel;
+    private List<MappedByteBuffer> segments;
+    private long mappedBytes = 0;
+
+    /** Location of each spilled row, as segment number in the high and position in the low 32 bits */
+    private long[] index;
+    private int spilledRows = 0;
+
+    /**
+     * Constructs a new list.
+     * 
+     * @param metadata
+     *            {@link ColumnDefinition} of the rows
+     * @param memoryBudget
+     *            number of bytes the rows may take up on the heap, or 0 if they should never be moved to a file
+     * @param valueDecoder
+     *            {@link ValueDecoder} for the rows read back from the file, matching the encoding of the added rows
+     * @param exceptionInterceptor
+     *            {@link ExceptionInterceptor}
+     */
+    public SpillingRowList(ColumnDefinition metadata, long memoryBudget, ValueDecoder valueDecoder, ExceptionInterceptor exceptionInterceptor) {
+        this.metadata = metadata;
+        this.memoryBudget = memoryBudget;
+        this.valueDecoder = valueDecoder;
+        this.exceptionInterceptor = exceptionInterceptor;
+    }
+
+    /**
+     * Have the rows been moved to the temporary file?
+     * 
+     * @return true if the rows are read from the temporary file
+     */
+    public boolean isSpilled() {
+        return this.channel != null;
+    }
+
+    @Override
+    public boolean add(Row row) {
+        if (this.channel == null) {
+            this.heapRows.add(row);
+            if (this.memoryBudget > 0) {
+                this.heapBytes += estimateSize(row);
+                if (this.heapBytes > this.memoryBudget) {
+                    spill();
+                }
+            }
+        } else {
+            append(row);
+        }
+        this.modCount++;
+        return true;
+    }
+
+    @Override
+    public Row get(int index) {
+        if (this.channel == null) {
+            return this.heapRows.get(index);
+        }
+        if (index < 0 || index >= this.spilledRows) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+
+        long location = this.index[index];
+        ByteBuffer buf = this.segments.get((int) (location >>> 32)).duplicate();
+        buf.position((int) location);
+
+        byte[][] values = new byte[this.metadata.getFields().length][];
+        for (int i = 0; i < values.length; i++) {
+            int length = buf.getInt();
+            if (length >= 0) {
+                values[i] = new byte[length];
+                buf.get(values[i]);
+            }
+        }
+        return new ByteArrayRow(values, this.exceptionInterceptor, this.valueDecoder);
+    }
+
+    @Override
+    public Row remove(int index) {
+        if (this.channel == null) {
+            return this.heapRows.remove(index);
+        }
+        Row removed = get(index);
+        System.arraycopy(this.index, index + 1, this.index, index, this.spilledRows - index - 1);
+        this.spilledRows--;
+        this.modCount++;
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return this.channel == null ? this.heapRows.size() : this.spilledRows;
+    }
+
+    @Override
+    public void close() {
+        this.heapRows.clear();
+        if (this.segments != null) {
+            // unreachable segments are unmapped by the garbage collector
+            this.segments.clear();
+            this.segments = null;
+        }
+        this.index = null;
+        this.spilledRows = 0;
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                // ignore, nothing else can be done to delete the file
+            }
+            this.channel = null;
+        }
+    }
+
+    private long estimateSize(Row row) {
+        long size = ROW_OVERHEAD;
+        row.setMetadata(this.metadata);
+        for (int i = 0; i < this.metadata.getFields().length; i++) {
+            byte[] value = row.getBytes(i);
+            size += VALUE_OVERHEAD + (value == null ? 0 : value.length);
+        }
+        return size;
+    }
+
+    /**
+     * Creates the temporary file and moves the rows held on the heap into it.
+     */
+    private void spill() {
+        Path file = null;
+        try {
+            file = Files.createTempFile("mysql-cj-rows", ".tmp");
+            this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ex) {
+                    // ignore, the original exception is more relevant
+                }
+            }
+            throw ExceptionFactory.createException(Messages.getString("ResultSet.SpillFileError"), e, this.exceptionInterceptor);
+        }
+        this.segments = new ArrayList<>();
+        this.index = new long[Math.max(16, this.heapRows.size() * 2)];
+
+        for (Row row : this.heapRows) {
+            append(row);
+        }
+        this.heapRows = new ArrayList<>(0);
+        this.heapBytes = 0;
+    }
+
+    /**
+     * Writes the values of the given row at the end of the temporary file and records their location.
+     * 
+     * @param row
+     *            {@link Row}
+     */
+    private void append(Row row) {
+        row.setMetadata(this.metadata);
+        byte[][] values = new byte[this.metadata.getFields().length][];
+        long length = 0;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = row.getBytes(i);
+            length += 4 + (values[i] == null ? 0 : values[i].length);
+        }
+
+        MappedByteBuffer segment = this.segments.isEmpty() ? null : this.segments.get(this.segments.size() - 1);
+        if (segment == null || segment.remaining() < length) {
+            long segmentSize = Math.max(SEGMENT_SIZE, length);
+            try {
+                segment = this.channel.map(MapMode.READ_WRITE, this.mappedBytes, segmentSize);
+            } catch (IOException | IllegalArgumentException e) {
+                throw ExceptionFactory.createException(Messages.getString("ResultSet.SpillFileError"), e, this.exceptionInterceptor);
+            }
+            this.mappedBytes += segmentSize;
+            this.segments.add(segment);
+        }
+
+        if (this.spilledRows == this.index.length) {
+            this.index = Arrays.copyOf(this.index, this.index.length * 2);
+        }
+        this.index[this.spilledRows++] = ((long) (this.segments.size() - 1) << 32) | segment.position();
+
+        for (byte[] value : values) {
+            if (value == null) {
+                segment.putInt(-1);
+            } else {
+                segment.putInt(value.length);
+                segment.put(value);
+            }
+        }
+    }
+}
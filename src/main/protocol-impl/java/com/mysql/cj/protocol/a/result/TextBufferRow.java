@@ -29,6 +29,8 @@
 
 package com.mysql.cj.protocol.a.result;
 
+import java.math.BigDecimal;
+
 import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ValueDecoder;
@@ -36,6 +38,9 @@ import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.NativePacketPayload;
 import com.mysql.cj.result.Row;
+import com.mysql.cj.result.ToDoubleValueFactory;
+import com.mysql.cj.result.ToIntValueFactory;
+import com.mysql.cj.result.ToLongValueFactory;
 import com.mysql.cj.result.ValueFactory;
 
 /**
@@ -127,8 +132,42 @@ public class TextBufferRow extends AbstractBufferRow {
      */
     @Override
     public <T> T getValue(int columnIndex, ValueFactory<T> vf) {
-        findAndSeekToOffset(columnIndex);
-        int length = (int) this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
+        int length = findAndSeekToValue(columnIndex);
         return getValueFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
     }
+
+    @Override
+    public int getInt(int columnIndex, ToIntValueFactory<?> vf) {
+        int length = findAndSeekToValue(columnIndex);
+        return getIntFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+    }
+
+    @Override
+    public long getLong(int columnIndex, ToLongValueFactory<?> vf) {
+        int length = findAndSeekToValue(columnIndex);
+        return getLongFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+    }
+
+    @Override
+    public double getDouble(int columnIndex, ToDoubleValueFactory<?> vf) {
+        int length = findAndSeekToValue(columnIndex);
+        return getDoubleFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
+    }
+
+    @Override
+    public long getUnscaledLong(int columnIndex, int scale, ValueFactory<BigDecimal> vf) {
+        int length = findAndSeekToValue(columnIndex);
+        return getUnscaledLongFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, scale, vf);
+    }
+
+    @Override
+    int seekToValue(int index) {
+        int length = findAndSeekToValue(index);
+        return length == NativePacketPayload.NULL_LENGTH ? -1 : length;
+    }
+
+    private int findAndSeekToValue(int columnIndex) {
+        findAndSeekToOffset(columnIndex);
+        return (int) this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
+    }
 }
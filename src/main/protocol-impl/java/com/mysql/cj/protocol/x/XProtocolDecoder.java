@@ -36,8 +36,10 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 
 import com.google.protobuf.CodedInputStream;
+import com.mysql.cj.Messages;
 import com.mysql.cj.exceptions.AssertionFailedException;
 import com.mysql.cj.exceptions.DataReadException;
+import com.mysql.cj.exceptions.NumberOutOfRange;
 import com.mysql.cj.protocol.InternalDate;
 import com.mysql.cj.protocol.InternalTime;
 import com.mysql.cj.protocol.InternalTimestamp;
@@ -157,10 +159,50 @@ public class XProtocolDecoder implements ValueDecoder {
         return null;
     }
 
+    @Override
+    public long decodeInt1(byte[] bytes, int offset, int length) {
+        return decodeInt8(bytes, offset, length);
+    }
+
+    @Override
+    public long decodeUInt1(byte[] bytes, int offset, int length) {
+        return decodeUInt4(bytes, offset, length);
+    }
+
+    @Override
+    public long decodeInt2(byte[] bytes, int offset, int length) {
+        return decodeInt8(bytes, offset, length);
+    }
+
+    @Override
+    public long decodeUInt2(byte[] bytes, int offset, int length) {
+        return decodeUInt4(bytes, offset, length);
+    }
+
+    @Override
+    public long decodeInt4(byte[] bytes, int offset, int length) {
+        return decodeInt8(bytes, offset, length);
+    }
+
+    @Override
+    public long decodeUInt4(byte[] bytes, int offset, int length) {
+        try {
+            // unsigned values up to 32 bits always fit in the non-negative range of a long
+            return CodedInputStream.newInstance(bytes, offset, length).readUInt64();
+        } catch (IOException e) {
+            throw new DataReadException(e);
+        }
+    }
+
     @Override
     public <T> T decodeInt8(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromLong(decodeInt8(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeInt8(byte[] bytes, int offset, int length) {
         try {
-            return vf.createFromLong(CodedInputStream.newInstance(bytes, offset, length).readSInt64());
+            return CodedInputStream.newInstance(bytes, offset, length).readSInt64();
         } catch (IOException e) {
             throw new DataReadException(e);
         }
@@ -181,8 +223,13 @@ public class XProtocolDecoder implements ValueDecoder {
 
     @Override
     public <T> T decodeFloat(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromDouble(decodeFloat(bytes, offset, length));
+    }
+
+    @Override
+    public double decodeFloat(byte[] bytes, int offset, int length) {
         try {
-            return vf.createFromDouble(CodedInputStream.newInstance(bytes, offset, length).readFloat());
+            return CodedInputStream.newInstance(bytes, offset, length).readFloat();
         } catch (IOException e) {
             throw new DataReadException(e);
         }
@@ -190,8 +237,13 @@ public class XProtocolDecoder implements ValueDecoder {
 
     @Override
     public <T> T decodeDouble(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromDouble(decodeDouble(bytes, offset, length));
+    }
+
+    @Override
+    public double decodeDouble(byte[] bytes, int offset, int length) {
         try {
-            return vf.createFromDouble(CodedInputStream.newInstance(bytes, offset, length).readDouble());
+            return CodedInputStream.newInstance(bytes, offset, length).readDouble();
         } catch (IOException e) {
             throw new DataReadException(e);
         }
@@ -199,6 +251,21 @@ public class XProtocolDecoder implements ValueDecoder {
 
     @Override
     public <T> T decodeDecimal(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
+        return vf.createFromBigDecimal(decodeBigDecimal(bytes, offset, length));
+    }
+
+    @Override
+    public long decodeUnscaledDecimal(byte[] bytes, int offset, int length, int scale) {
+        BigDecimal value = decodeBigDecimal(bytes, offset, length);
+        try {
+            return value.setScale(scale).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            // rounding needed or out of range
+            throw new NumberOutOfRange(Messages.getString("ResultSet.UnscaledLongOutOfRange", new Object[] { value.toPlainString(), scale }));
+        }
+    }
+
+    private static BigDecimal decodeBigDecimal(byte[] bytes, int offset, int length) {
         try {
             CodedInputStream inputStream = CodedInputStream.newInstance(bytes, offset, length);
             // packed BCD format (c.f. wikipedia)
@@ -242,7 +309,7 @@ public class XProtocolDecoder implements ValueDecoder {
             int characters = unscaledString.position();
             unscaledString.clear(); // reset position
             BigInteger unscaled = new BigInteger(unscaledString.subSequence(0, characters).toString());
-            return vf.createFromBigDecimal(new BigDecimal(unscaled, scale));
+            return new BigDecimal(unscaled, scale);
         } catch (IOException e) {
             throw new DataReadException(e);
         }
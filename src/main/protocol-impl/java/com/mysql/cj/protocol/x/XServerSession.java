@@ -160,6 +160,11 @@ public class XServerSession implements ServerSession {
         throw ExceptionFactory.createException(CJOperationNotSupportedException.class, "Not supported");
     }
 
+    @Override
+    public boolean isResultSetMetadataOptional() {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, "Not supported");
+    }
+
     @Override
     public boolean hasLongColumnInfo() {
         throw ExceptionFactory.createException(CJOperationNotSupportedException.class, "Not supported");
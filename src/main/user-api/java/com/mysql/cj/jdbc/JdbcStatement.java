@@ -30,7 +30,9 @@
 package com.mysql.cj.jdbc;
 
 import java.io.InputStream;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
 
 import com.mysql.cj.PingTarget;
 import com.mysql.cj.Query;
@@ -122,5 +124,42 @@ public interface JdbcStatement extends java.sql.Statement, Query {
 
     void setHoldResultsOpenOverClose(boolean holdResultsOpenOverClose);
 
+    /**
+     * Sets the number of bytes the rows of a fully read, read-only result set produced by this statement may take up on the heap. Once the rows exceed it, they
+     * are moved to a memory-mapped temporary file that is deleted when the result set is closed. Defaults to the value of the connection property
+     * "resultSetMemoryBudget".
+     * 
+     * @param bytes
+     *            the memory budget in bytes, or 0 to always keep the rows on the heap
+     * @throws SQLException
+     *             if the statement is closed or the value is negative
+     */
+    void setResultSetMemoryBudget(long bytes) throws SQLException;
+
+    /**
+     * Returns the memory budget set with {@link #setResultSetMemoryBudget(long)}.
+     * 
+     * @return the memory budget in bytes, or 0 if the rows are always kept on the heap
+     */
+    long getResultSetMemoryBudget();
+
     Query getQuery();
+
+    /**
+     * Sends the given SQL statement to the server and returns without waiting for its result. Several statements may be in flight on the same connection at
+     * once; the server executes them in order and their results are read by a shared driver thread, or by the next synchronous operation on the connection,
+     * and delivered through the returned futures.
+     * 
+     * The returned future completes with a fully read, scrollable result set, or with a result set holding only the update count if the statement doesn't
+     * produce rows, or exceptionally with a {@link SQLException} if the statement fails. Dependent stages don't run in the thread reading the results.
+     * Statements that can't be executed asynchronously, such as "LOAD DATA LOCAL INFILE", or any statement when a query timeout is set or query interceptors
+     * are configured, are executed synchronously before this method returns.
+     * 
+     * @param sql
+     *            the SQL statement to execute
+     * @return a future completed with the result of the statement
+     * @throws SQLException
+     *             if the statement can't be sent to the server
+     */
+    CompletableFuture<ResultSet> executeAsync(String sql) throws SQLException;
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.result;
+
+import java.sql.SQLException;
+
+/**
+ * Bulk, column-oriented access to a fully-read, read-only result set, obtained with <code>resultSet.unwrap(ColumnarResultSet.class)</code>.
+ * 
+ * The first call converts the result set to column-oriented storage: integer and floating point columns are kept in primitive arrays and all other columns
+ * as wire-level bytes packed into one array per column. The per-row objects are released, and the result set can still be navigated and read as before.
+ * Arrays returned by these methods may be the backing storage and must not be modified. NULL values are returned as 0 in primitive arrays and must be
+ * checked with {@link #getNullMask(int)}.
+ */
+public interface ColumnarResultSet {
+
+    /**
+     * Returns the number of rows in the result set.
+     * 
+     * @return row count
+     * @throws SQLException
+     *             if the result set is closed, streaming, cursor-based or updatable
+     */
+    int getRowCount() throws SQLException;
+
+    /**
+     * Returns the NULL bitmap of a column: the value in row <code>i</code> (0-based) is NULL when bit <code>i &amp; 63</code> of element
+     * <code>i &gt;&gt;&gt; 6</code> is set.
+     * 
+     * @param columnIndex
+     *            1-based column index
+     * @return NULL bitmap
+     * @throws SQLException
+     *             if the result set is closed, streaming, cursor-based or updatable
+     */
+    long[] getNullMask(int columnIndex) throws SQLException;
+
+    /**
+     * Returns all values of a TINYINT, SMALLINT, MEDIUMINT or signed INT column.
+     * 
+     * @param columnIndex
+     *            1-based column index
+     * @return values
+     * @throws SQLException
+     *             if the column isn't stored as int values or the result set can't be accessed by column
+     */
+    int[] getIntColumn(int columnIndex) throws SQLException;
+
+    /**
+     * Returns all values of an integer column other than unsigned BIGINT.
+     * 
+     * @param columnIndex
+     *            1-based column index
+     * @return values
+     * @throws SQLException
+     *             if the column isn't stored as integer values or the result set can't be accessed by column
+     */
+    long[] getLongColumn(int columnIndex) throws SQLException;
+
+    /**
+     * Returns all values of a FLOAT or DOUBLE column, or of an integer column other than unsigned BIGINT converted to double.
+     * 
+     * @param columnIndex
+     *            1-based column index
+     * @return values
+     * @throws SQLException
+     *             if the column isn't numeric or the result set can't be accessed by column
+     */
+    double[] getDoubleColumn(int columnIndex) throws SQLException;
+
+    /**
+     * Returns the value offsets of a column which isn't stored as primitive values; the value of row <code>i</code> (0-based) occupies
+     * <code>[offsets[i], offsets[i + 1])</code> of {@link #getBytesColumnData(int)}.
+     * 
+     * @param columnIndex
+     *            1-based column index
+     * @return offsets, one more than the row count
+     * @throws SQLException
+     *             if the column is stored as primitive values or the result set can't be accessed by column
+     */
+    int[] getBytesColumnOffsets(int columnIndex) throws SQLException;
+
+    /**
+     * Returns the wire-level bytes of all values of a column which isn't stored as primitive values, as returned by {@link java.sql.ResultSet#getBytes(int)}.
+     * 
+     * @param columnIndex
+     *            1-based column index
+     * @return packed values
+     * @throws SQLException
+     *             if the column is stored as primitive values or the result set can't be accessed by column
+     */
+    byte[] getBytesColumnData(int columnIndex) throws SQLException;
+}
@@ -158,4 +158,28 @@ public interface ResultSetInternalMethods extends java.sql.ResultSet, ResultsetR
     void populateCachedMetaData(CachedResultSetMetaData cachedMetaData) throws SQLException;
 
     BigInteger getBigInteger(int columnIndex) throws SQLException;
+
+    /**
+     * Retrieves the value of the designated column as its unscaled value at the scale reported by {@link java.sql.ResultSetMetaData#getScale(int)}, i.e. the
+     * value multiplied by 10^scale. DECIMAL values of up to 18 digits are parsed straight into the returned long, without creating a
+     * {@link java.math.BigDecimal}.
+     * 
+     * @param columnIndex
+     *            the first column is 1, the second is 2, ...
+     * @return the unscaled value; if the value is SQL <code>NULL</code>, the value returned is 0
+     * @throws SQLException
+     *             if the value has more fractional digits than the column scale or its unscaled value doesn't fit in a long
+     */
+    long getUnscaledLong(int columnIndex) throws SQLException;
+
+    /**
+     * Retrieves the value of the designated column as its unscaled value. See {@link #getUnscaledLong(int)}.
+     * 
+     * @param columnLabel
+     *            the label for the column specified with the SQL AS clause. If the SQL AS clause was not specified, then the label is the name of the column
+     * @return the unscaled value; if the value is SQL <code>NULL</code>, the value returned is 0
+     * @throws SQLException
+     *             if the value has more fractional digits than the column scale or its unscaled value doesn't fit in a long
+     */
+    long getUnscaledLong(String columnLabel) throws SQLException;
 }
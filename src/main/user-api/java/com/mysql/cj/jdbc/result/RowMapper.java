@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.result;
+
+import java.util.function.Function;
+
+/**
+ * Maps {@link StreamedRow}s to instances of a record or bean class, obtained with {@link StreamableResultSet#getRowMapper(Class)}.
+ * 
+ * Columns are bound to record components, or to bean setters, whose names match their labels ignoring case and underscores, e.g. column
+ * <code>first_name</code> is bound to component <code>firstName</code> or to <code>setFirstName()</code>. Columns without a matching property are ignored,
+ * record components without a matching column get <code>null</code> or zero.
+ * 
+ * Mappers keep no per-row state and can be shared by the threads of a parallel stream, e.g.
+ * <code>srs.parallelStream().map(srs.getRowMapper(Customer.class))</code>.
+ * 
+ * @param <T>
+ *            mapped type
+ */
+public interface RowMapper<T> extends Function<StreamedRow, T> {
+
+    /**
+     * Maps the given row to a new instance.
+     * 
+     * @param row
+     *            row of a stream over a result set with the column layout this mapper was obtained for
+     * @return new instance
+     * @throws com.mysql.cj.exceptions.CJException
+     *             if a value can't be converted or the instance can't be created
+     */
+    @Override
+    T apply(StreamedRow row);
+}
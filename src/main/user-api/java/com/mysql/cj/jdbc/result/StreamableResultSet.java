@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.result;
+
+import java.sql.SQLException;
+import java.util.stream.Stream;
+
+/**
+ * Stream access to the rows of a result set, obtained with <code>resultSet.unwrap(StreamableResultSet.class)</code>.
+ * 
+ * Rows of fully-read result sets can be split into ranges and decoded in parallel, for instance to map a large result set to domain objects on several
+ * cores. Streaming and cursor-based result sets can only be read sequentially, from the current cursor position, and their parallel streams are processed
+ * sequentially.
+ * 
+ * A {@link StreamedRow} is only valid within the stream operation it's passed to: its values should be read there, e.g. in a <code>map()</code> step, rather
+ * than the row itself being collected. The result set must not be navigated, updated or closed while a stream is being consumed.
+ */
+public interface StreamableResultSet {
+
+    /**
+     * Returns a sequential stream of the rows. Fully-read result sets stream all of their rows, regardless of the cursor position, which isn't moved.
+     * Streaming and cursor-based result sets stream the rows following the cursor position, and consume them.
+     * 
+     * @return stream of rows
+     * @throws SQLException
+     *             if the result set is closed
+     */
+    Stream<StreamedRow> stream() throws SQLException;
+
+    /**
+     * Returns a parallel stream of the rows, see {@link #stream()}. Rows of fully-read result sets are split into ranges decoded concurrently by the fork-join
+     * pool running the stream, other result sets are read sequentially.
+     * 
+     * @return possibly parallel stream of rows
+     * @throws SQLException
+     *             if the result set is closed
+     */
+    Stream<StreamedRow> parallelStream() throws SQLException;
+
+    /**
+     * Returns a mapper of the rows of this result set to instances of the given record or bean class, see {@link RowMapper}. Columns are bound to the
+     * constructor arguments or setters once per column layout and class, and the binding is cached, so that result sets with the same column labels reuse it.
+     * 
+     * @param <T>
+     *            mapped type
+     * @param type
+     *            record class, or public class with a public no-argument constructor and setters
+     * @return row mapper
+     * @throws SQLException
+     *             if the result set is closed, if the class can't be instantiated or if a bound property has an unsupported type
+     */
+    <T> RowMapper<T> getRowMapper(Class<T> type) throws SQLException;
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.result;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * A row of a {@link StreamableResultSet} stream. Values are converted the same way as by the equivalent {@link java.sql.ResultSet} getters, but conversion
+ * errors are thrown as unchecked {@link com.mysql.cj.exceptions.CJException}s so that rows can be read from stream lambdas.
+ * 
+ * Column indexes are 1-based. Columns should be looked up once with {@link #findColumn(String)} rather than for every row.
+ */
+public interface StreamedRow {
+
+    /**
+     * Returns the number of columns.
+     * 
+     * @return column count
+     */
+    int getColumnCount();
+
+    /**
+     * Maps the given column label to its column index.
+     * 
+     * @param columnLabel
+     *            column label
+     * @return 1-based column index
+     * @throws com.mysql.cj.exceptions.WrongArgumentException
+     *             if there is no such column
+     */
+    int findColumn(String columnLabel);
+
+    /**
+     * Reports whether the last column read had a value of SQL <code>NULL</code>.
+     * 
+     * @return true if the last column value read was SQL <code>NULL</code>
+     */
+    boolean wasNull();
+
+    String getString(int columnIndex);
+
+    boolean getBoolean(int columnIndex);
+
+    byte getByte(int columnIndex);
+
+    short getShort(int columnIndex);
+
+    int getInt(int columnIndex);
+
+    long getLong(int columnIndex);
+
+    float getFloat(int columnIndex);
+
+    double getDouble(int columnIndex);
+
+    BigDecimal getBigDecimal(int columnIndex);
+
+    /**
+     * Returns the value as its unscaled value at the column scale, see {@link ResultSetInternalMethods#getUnscaledLong(int)}.
+     * 
+     * @param columnIndex
+     *            1-based column index
+     * @return the unscaled value, or 0 if it is SQL <code>NULL</code>
+     */
+    long getUnscaledLong(int columnIndex);
+
+    byte[] getBytes(int columnIndex);
+
+    LocalDate getLocalDate(int columnIndex);
+
+    LocalTime getLocalTime(int columnIndex);
+
+    LocalDateTime getLocalDateTime(int columnIndex);
+}
@@ -39,12 +39,16 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import com.mysql.cj.CancelQueryService;
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.protocol.NetworkResources;
+import com.mysql.cj.util.DriverThreadPools;
 
 /**
  * This class implements a thread that is responsible for closing abandoned MySQL connections, i.e., connections that are not explicitly closed.
  * There is only one instance of this class and there is a single thread to do this task. This thread's executor is statically referenced in this same class.
+ * Shutting down this thread also shuts down the other driver threads, see {@link DriverThreadPools}, and closes the idle query cancellation sessions, see
+ * {@link CancelQueryService}.
  */
 public class AbandonedConnectionCleanupThread implements Runnable {
     private static final Set<ConnectionFinalizerPhantomReference> connectionFinalizerPhantomRefs = ConcurrentHashMap.newKeySet();
@@ -153,6 +157,8 @@ public class AbandonedConnectionCleanupThread implements Runnable {
             return;
         }
         cleanupThreadExcecutorService.shutdownNow();
+        CancelQueryService.shutdown();
+        DriverThreadPools.shutdown();
     }
 
     /**
@@ -51,6 +51,8 @@ import java.sql.Timestamp;
 import java.sql.Wrapper;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.BindValue;
 import com.mysql.cj.CancelQueryTask;
@@ -113,10 +115,16 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     private boolean doPingInstead;
 
-    private boolean compensateForOnDuplicateKeyUpdate = false;
+    protected boolean compensateForOnDuplicateKeyUpdate = false;
 
     protected int rewrittenBatchSize = 0;
 
+    /**
+     * Number of times the SQL of this statement ran on the connection, shared by the statements with the same SQL. Only counted when statements may be
+     * promoted to server-side prepared statements, see 'prepStmtPromotionThreshold'.
+     */
+    protected AtomicInteger executionCount = null;
+
     /**
      * Creates a prepared statement instance
      * 
@@ -251,19 +259,27 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     @Override
     public void addBatch() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             QueryBindings<?> queryBindings = ((PreparedQuery<?>) this.query).getQueryBindings();
             queryBindings.checkAllParametersSet();
             this.query.addBatch(queryBindings.clone());
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void addBatch(String sql) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.batchHasPlainStatements = true;
 
             super.addBatch(sql);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -272,26 +288,38 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
     }
 
     public String asSql(boolean quoteStreamsAndUnknowns) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return ((PreparedQuery<?>) this.query).asSql(quoteStreamsAndUnknowns);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void clearBatch() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.batchHasPlainStatements = false;
 
             super.clearBatch();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void clearParameters() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             for (BindValue bv : ((PreparedQuery<?>) this.query).getQueryBindings().getBindValues()) {
                 bv.reset();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -303,14 +331,20 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
      *             if a database access error occurs or this method is called on a closed PreparedStatement
      */
     protected boolean checkReadOnlySafeStatement() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return ((PreparedQuery<?>) this.query).getParseInfo().getFirstStmtChar() == 'S' || !this.connection.isReadOnly();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public boolean execute() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
 
             JdbcConnection locallyScopedConn = this.connection;
 
@@ -393,12 +427,16 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
             }
 
             return ((rs != null) && rs.hasRows());
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     protected long[] executeBatchInternal() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
 
             if (this.connection.isReadOnly()) {
                 throw new SQLException(Messages.getString("PreparedStatement.25") + Messages.getString("PreparedStatement.26"),
@@ -438,6 +476,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
                 clearBatch();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -454,7 +494,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
      *             if a database access error occurs or this method is called on a closed PreparedStatement
      */
     protected long[] executePreparedBatchAsMultiStatement(int batchTimeout) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             // This is kind of an abuse, but it gets the job done
             if (this.batchedValuesClause == null) {
                 this.batchedValuesClause = ((PreparedQuery<?>) this.query).getOriginalSql() + ";";
@@ -600,6 +642,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
                 clearBatch();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -624,7 +668,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
     }
 
     private String generateMultiStatementForBatch(int numBatches) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             String origSql = ((PreparedQuery<?>) this.query).getOriginalSql();
             StringBuilder newStatementSql = new StringBuilder((origSql.length() + 1) * numBatches);
 
@@ -636,6 +682,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
             }
 
             return newStatementSql.toString();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -652,7 +700,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
      *             if a database access error occurs or this method is called on a closed PreparedStatement
      */
     protected long[] executeBatchedInserts(int batchTimeout) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             String valuesClause = ((PreparedQuery<?>) this.query).getParseInfo().getValuesClause();
 
             JdbcConnection locallyScopedConn = this.connection;
@@ -773,6 +823,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                 stopQueryTimer(timeoutTask, false, false);
                 resetCancelledState();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -787,7 +839,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
      */
     protected long[] executeBatchSerially(int batchTimeout) throws SQLException {
 
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (this.connection == null) {
                 checkClosed();
             }
@@ -877,6 +931,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
             }
 
             return (updateCounts != null) ? updateCounts : new long[0];
+        } finally {
+            lock.unlock();
         }
 
     }
@@ -908,7 +964,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
      */
     protected <M extends Message> ResultSetInternalMethods executeInternal(int maxRowsToRetrieve, M sendPacket, boolean createStreamingResultSet,
             boolean queryIsSelectOnly, ColumnDefinition metadata, boolean isBatch) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             try {
 
                 JdbcConnection locallyScopedConnection = this.connection;
@@ -916,6 +974,10 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                 ((PreparedQuery<?>) this.query).getQueryBindings()
                         .setNumberOfExecutions(((PreparedQuery<?>) this.query).getQueryBindings().getNumberOfExecutions() + 1);
 
+                if (this.executionCount != null) {
+                    this.executionCount.incrementAndGet();
+                }
+
                 ResultSetInternalMethods rs;
 
                 CancelQueryTask timeoutTask = null;
@@ -950,12 +1012,16 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
                 throw npe;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public java.sql.ResultSet executeQuery() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
 
             JdbcConnection locallyScopedConn = this.connection;
 
@@ -1017,6 +1083,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
             this.lastInsertId = this.results.getUpdateID();
 
             return this.results;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1031,13 +1099,17 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
      * keys we need to gather for the batch.
      */
     protected long executeUpdateInternal(boolean clearBatchedGeneratedKeysAndWarnings, boolean isBatch) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (clearBatchedGeneratedKeysAndWarnings) {
                 clearWarnings();
                 this.batchedGeneratedKeys = null;
             }
 
             return executeUpdateInternal(((PreparedQuery<?>) this.query).getQueryBindings(), isBatch);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1056,7 +1128,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
      */
     protected long executeUpdateInternal(QueryBindings<?> bindings, boolean isReallyBatch) throws SQLException {
 
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
 
             JdbcConnection locallyScopedConn = this.connection;
 
@@ -1112,6 +1186,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
             this.lastInsertId = rs.getUpdateID();
 
             return this.updateCount;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1131,40 +1207,58 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
      *             if a database access error occurs or this method is called on a closed PreparedStatement
      */
     protected ClientPreparedStatement prepareBatchedInsertSQL(JdbcConnection localConn, int numBatches) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ClientPreparedStatement pstmt = new ClientPreparedStatement(localConn, "Rewritten batch of: " + ((PreparedQuery<?>) this.query).getOriginalSql(),
                     this.getCurrentDatabase(), ((PreparedQuery<?>) this.query).getParseInfo().getParseInfoForBatch(numBatches));
             pstmt.setRetrieveGeneratedKeys(this.retrieveGeneratedKeys);
             pstmt.rewrittenBatchSize = numBatches;
 
             return pstmt;
+        } finally {
+            lock.unlock();
         }
     }
 
     protected void setRetrieveGeneratedKeys(boolean flag) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.retrieveGeneratedKeys = flag;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public byte[] getBytesRepresentation(int parameterIndex) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return ((PreparedQuery<?>) this.query).getQueryBindings().getBytesRepresentation(getCoreParameterIndex(parameterIndex));
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public byte[] getOrigBytes(int parameterIndex) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return ((PreparedQuery<?>) this.query).getQueryBindings().getOrigBytes(getCoreParameterIndex(parameterIndex));
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public java.sql.ResultSetMetaData getMetaData() throws SQLException {
 
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             //
             // We could just tack on a LIMIT 0 here no matter what the  statement, and check if a result set was returned or not, but I'm not comfortable with
             // that, myself, so we take the "safer" road, and only allow metadata for _actual_ SELECTS (but not SHOWs).
@@ -1233,19 +1327,27 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
             }
 
             return this.pstmtResultMetaData;
+        } finally {
+            lock.unlock();
         }
     }
 
     protected boolean isSelectQuery() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return StringUtils.startsWithIgnoreCaseAndWs(
                     StringUtils.stripComments(((PreparedQuery<?>) this.query).getOriginalSql(), "'\"", "'\"", true, false, true, true), "SELECT");
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public ParameterMetaData getParameterMetaData() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (this.parameterMetaData == null) {
                 if (this.session.getPropertySet().getBooleanProperty(PropertyKey.generateSimpleParameterMetadata).getValue()) {
                     this.parameterMetaData = new MysqlParameterMetadata(((PreparedQuery<?>) this.query).getParameterCount());
@@ -1256,6 +1358,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
             }
 
             return this.parameterMetaData;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1266,7 +1370,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     @SuppressWarnings("unchecked")
     private void initializeFromParseInfo() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
 
             int parameterCount = ((PreparedQuery<ClientPreparedQueryBindings>) this.query).getParseInfo().getStaticSql().length - 1;
             ((PreparedQuery<?>) this.query).setParameterCount(parameterCount);
@@ -1274,13 +1380,19 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
             ((ClientPreparedQuery) this.query).getQueryBindings().setLoadDataQuery(((PreparedQuery<?>) this.query).getParseInfo().isFoundLoadData());
 
             clearParameters();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public boolean isNull(int paramIndex) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return ((PreparedQuery<?>) this.query).getQueryBindings().getBindValues()[getCoreParameterIndex(paramIndex)].isNull();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1292,7 +1404,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
             return; // already closed
         }
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock lock = locallyScopedConn.getConnectionLock();
+        lock.lock();
+        try {
 
             // additional check in case Statement was closed
             // while current thread was waiting for lock
@@ -1311,12 +1425,16 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
             ((PreparedQuery<?>) this.query).setOriginalSql(null);
             ((PreparedQuery<?>) this.query).setQueryBindings(null);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public String getPreparedSql() {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (this.rewrittenBatchSize == 0) {
                 return ((PreparedQuery<?>) this.query).getOriginalSql();
             }
@@ -1326,6 +1444,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
             } catch (UnsupportedEncodingException e) {
                 throw new RuntimeException(e);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1348,8 +1468,12 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
     }
 
     public ParameterBindings getParameterBindings() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return new ParameterBindingsImpl((PreparedQuery<?>) this.query, this.session, this.resultSetFactory);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1364,7 +1488,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
     }
 
     protected void checkBounds(int paramIndex, int parameterIndexOffset) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if ((paramIndex < 1)) {
                 throw SQLError.createSQLException(Messages.getString("PreparedStatement.49") + paramIndex + Messages.getString("PreparedStatement.50"),
                         MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, this.exceptionInterceptor);
@@ -1377,6 +1503,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                 throw SQLError.createSQLException(Messages.getString("PreparedStatement.63"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
                         this.exceptionInterceptor);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1393,99 +1521,155 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     @Override
     public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setAsciiStream(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setAsciiStream(getCoreParameterIndex(parameterIndex), x, length);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setAsciiStream(getCoreParameterIndex(parameterIndex), x, length);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setBigDecimal(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setBinaryStream(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setBinaryStream(getCoreParameterIndex(parameterIndex), x, length);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setBinaryStream(getCoreParameterIndex(parameterIndex), x, length);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setBlob(int i, java.sql.Blob x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setBlob(getCoreParameterIndex(i), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setBlob(getCoreParameterIndex(parameterIndex), inputStream);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setBlob(getCoreParameterIndex(parameterIndex), inputStream, length);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setBoolean(int parameterIndex, boolean x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setBoolean(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setByte(int parameterIndex, byte x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setByte(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setBytes(int parameterIndex, byte[] x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setBytes(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setBytes(int parameterIndex, byte[] x, boolean checkForIntroducer, boolean escapeForMBChars) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setBytes(getCoreParameterIndex(parameterIndex), x, checkForIntroducer, escapeForMBChars);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1501,64 +1685,100 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     @Override
     public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setCharacterStream(getCoreParameterIndex(parameterIndex), reader);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setCharacterStream(getCoreParameterIndex(parameterIndex), reader, length);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setCharacterStream(getCoreParameterIndex(parameterIndex), reader, length);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setClob(int parameterIndex, Reader reader) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setCharacterStream(getCoreParameterIndex(parameterIndex), reader);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setCharacterStream(getCoreParameterIndex(parameterIndex), reader, length);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setClob(int i, Clob x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setClob(getCoreParameterIndex(i), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setDate(int parameterIndex, Date x) throws java.sql.SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setDate(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setDate(getCoreParameterIndex(parameterIndex), x, cal);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setDouble(int parameterIndex, double x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setDouble(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1569,57 +1789,89 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     @Override
     public void setInt(int parameterIndex, int x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setInt(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setLong(int parameterIndex, long x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setLong(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setBigInteger(int parameterIndex, BigInteger x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setBigInteger(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setNCharacterStream(getCoreParameterIndex(parameterIndex), value);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setNCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setNCharacterStream(getCoreParameterIndex(parameterIndex), reader, length);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setNClob(int parameterIndex, Reader reader) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setNClob(getCoreParameterIndex(parameterIndex), reader);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setNClob(getCoreParameterIndex(parameterIndex), reader, length);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setNClob(int parameterIndex, NClob value) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setNClob(getCoreParameterIndex(parameterIndex), value);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1639,22 +1891,34 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
      */
     @Override
     public void setNString(int parameterIndex, String x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setNString(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setNull(int parameterIndex, int sqlType) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setNull(getCoreParameterIndex(parameterIndex)); // MySQL ignores sqlType
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setNull(getCoreParameterIndex(parameterIndex));
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1665,14 +1929,20 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     @Override
     public void setObject(int parameterIndex, Object parameterObj) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setObject(getCoreParameterIndex(parameterIndex), parameterObj);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setObject(int parameterIndex, Object parameterObj, int targetSqlType) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             try {
                 ((PreparedQuery<?>) this.query).getQueryBindings().setObject(getCoreParameterIndex(parameterIndex), parameterObj,
                         MysqlType.getByJdbcType(targetSqlType));
@@ -1680,23 +1950,31 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                 throw SQLError.createSQLFeatureNotSupportedException(Messages.getString("Statement.UnsupportedSQLType") + JDBCType.valueOf(targetSqlType),
                         MysqlErrorNumbers.SQL_STATE_DRIVER_NOT_CAPABLE, this.exceptionInterceptor);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setObject(int parameterIndex, Object parameterObj, SQLType targetSqlType) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (targetSqlType instanceof MysqlType) {
                 ((PreparedQuery<?>) this.query).getQueryBindings().setObject(getCoreParameterIndex(parameterIndex), parameterObj, (MysqlType) targetSqlType);
             } else {
                 setObject(parameterIndex, parameterObj, targetSqlType.getVendorTypeNumber());
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setObject(int parameterIndex, Object parameterObj, int targetSqlType, int scale) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             try {
                 ((PreparedQuery<?>) this.query).getQueryBindings().setObject(getCoreParameterIndex(parameterIndex), parameterObj,
                         MysqlType.getByJdbcType(targetSqlType), scale);
@@ -1704,18 +1982,24 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                 throw SQLError.createSQLFeatureNotSupportedException(Messages.getString("Statement.UnsupportedSQLType") + JDBCType.valueOf(targetSqlType),
                         MysqlErrorNumbers.SQL_STATE_DRIVER_NOT_CAPABLE, this.exceptionInterceptor);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (targetSqlType instanceof MysqlType) {
                 ((PreparedQuery<?>) this.query).getQueryBindings().setObject(getCoreParameterIndex(parameterIndex), x, (MysqlType) targetSqlType,
                         scaleOrLength);
             } else {
                 setObject(parameterIndex, x, targetSqlType.getVendorTypeNumber(), scaleOrLength);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1731,8 +2015,12 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     @Override
     public void setShort(int parameterIndex, short x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setShort(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1748,42 +2036,66 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     @Override
     public void setString(int parameterIndex, String x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setString(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setTime(int parameterIndex, Time x) throws java.sql.SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setTime(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setTime(int parameterIndex, java.sql.Time x, Calendar cal) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setTime(getCoreParameterIndex(parameterIndex), x, cal);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setTimestamp(int parameterIndex, Timestamp x) throws java.sql.SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setTimestamp(getCoreParameterIndex(parameterIndex), x);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setTimestamp(int parameterIndex, java.sql.Timestamp x, Calendar cal) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setTimestamp(getCoreParameterIndex(parameterIndex), x, cal);
+        } finally {
+            lock.unlock();
         }
     }
 
     public void setTimestamp(int parameterIndex, Timestamp x, Calendar targetCalendar, int fractionalLength) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings().setTimestamp(getCoreParameterIndex(parameterIndex), x, targetCalendar, fractionalLength);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -54,6 +54,9 @@ import java.util.Random;
 import java.util.Stack;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import com.mysql.cj.CacheAdapter;
@@ -63,6 +66,8 @@ import com.mysql.cj.Messages;
 import com.mysql.cj.NativeSession;
 import com.mysql.cj.NoSubInterceptorWrapper;
 import com.mysql.cj.ParseInfo;
+import com.mysql.cj.PerConnectionLRUFactory;
+import com.mysql.cj.PerVmParseInfoCacheFactory;
 import com.mysql.cj.PreparedQuery;
 import com.mysql.cj.ServerVersion;
 import com.mysql.cj.Session.SessionEventListener;
@@ -80,6 +85,7 @@ import com.mysql.cj.exceptions.UnableToConnectException;
 import com.mysql.cj.interceptors.QueryInterceptor;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
+import com.mysql.cj.jdbc.ha.MultiHostConnectionProxy;
 import com.mysql.cj.jdbc.ha.MultiHostMySQLConnection;
 import com.mysql.cj.jdbc.interceptors.ConnectionLifecycleInterceptor;
 import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
@@ -90,7 +96,7 @@ import com.mysql.cj.jdbc.result.UpdatableResultSet;
 import com.mysql.cj.log.ProfilerEvent;
 import com.mysql.cj.log.StandardLogger;
 import com.mysql.cj.protocol.SocksProxySocketFactory;
-import com.mysql.cj.util.LRUCache;
+import com.mysql.cj.util.ConcurrentLRUCache;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.Util;
 
@@ -119,6 +125,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     private JdbcConnection topProxy = null;
     private InvocationHandler realProxy = null;
 
+    private final ReentrantLock connectionLock = new ReentrantLock();
+
     @Override
     public boolean isProxySet() {
         return this.topProxy != null;
@@ -159,6 +167,11 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         return (this.realProxy != null) ? this.realProxy : getProxy();
     }
 
+    @Override
+    public Lock getConnectionLock() {
+        return (this.realProxy instanceof MultiHostConnectionProxy) ? ((MultiHostConnectionProxy) this.realProxy).getConnectionLock() : this.connectionLock;
+    }
+
     /**
      * Used as a key for caching callable statements which (may) depend on
      * current database...In 5.0.x, they don't (currently), but stored procedure
@@ -303,7 +316,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
      */
     private final CopyOnWriteArrayList<JdbcStatement> openStatements = new CopyOnWriteArrayList<>();
 
-    private LRUCache<CompoundCacheKey, CallableStatement.CallableStatementParamInfo> parsedCallableStatementCache;
+    private ConcurrentLRUCache<CompoundCacheKey, CallableStatement.CallableStatementParamInfo> parsedCallableStatementCache;
 
     /** The password we used */
     private String password = null;
@@ -315,7 +328,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     private boolean readOnly = false;
 
     /** Cache of ResultSet metadata */
-    protected LRUCache<String, CachedResultSetMetaData> resultSetMetadataCache;
+    protected ConcurrentLRUCache<String, CachedResultSetMetaData> resultSetMetadataCache;
 
     /**
      * The type map for UDTs (not implemented, but used by some third-party
@@ -326,8 +339,11 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     /** The user we're connected as */
     private String user = null;
 
-    private LRUCache<String, Boolean> serverSideStatementCheckCache;
-    private LRUCache<CompoundCacheKey, ServerPreparedStatement> serverSideStatementCache;
+    private CacheAdapter<String, Boolean> serverSideStatementCheckCache;
+    private ConcurrentLRUCache<CompoundCacheKey, ServerPreparedStatement> serverSideStatementCache;
+
+    /** Executions of client-side prepared statements by SQL, counted when they may be promoted to server-side prepared statements */
+    private ConcurrentLRUCache<String, AtomicInteger> clientPrepStmtExecutionCounts;
 
     private HostInfo origHostInfo;
 
@@ -355,6 +371,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     private RuntimeProperty<Boolean> ignoreNonTxTables;
     private RuntimeProperty<Boolean> pedantic;
     private RuntimeProperty<Integer> prepStmtCacheSqlLimit;
+    private RuntimeProperty<Integer> prepStmtPromotionThreshold;
     private RuntimeProperty<Boolean> useLocalSessionState;
     private RuntimeProperty<Boolean> useServerPrepStmts;
     private RuntimeProperty<Boolean> processEscapeCodesForPrepStmts;
@@ -412,6 +429,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             this.ignoreNonTxTables = this.propertySet.getBooleanProperty(PropertyKey.ignoreNonTxTables);
             this.pedantic = this.propertySet.getBooleanProperty(PropertyKey.pedantic);
             this.prepStmtCacheSqlLimit = this.propertySet.getIntegerProperty(PropertyKey.prepStmtCacheSqlLimit);
+            this.prepStmtPromotionThreshold = this.propertySet.getIntegerProperty(PropertyKey.prepStmtPromotionThreshold);
             this.useLocalSessionState = this.propertySet.getBooleanProperty(PropertyKey.useLocalSessionState);
             this.useServerPrepStmts = this.propertySet.getBooleanProperty(PropertyKey.useServerPrepStmts);
             this.processEscapeCodesForPrepStmts = this.propertySet.getBooleanProperty(PropertyKey.processEscapeCodesForPrepStmts);
@@ -429,7 +447,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             if (this.propertySet.getBooleanProperty(PropertyKey.cacheCallableStmts).getValue()) {
-                this.parsedCallableStatementCache = new LRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.callableStmtCacheSize).getValue());
+                this.parsedCallableStatementCache = new ConcurrentLRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.callableStmtCacheSize).getValue());
             }
 
             if (this.propertySet.getBooleanProperty(PropertyKey.allowMultiQueries).getValue()) {
@@ -437,7 +455,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             if (this.propertySet.getBooleanProperty(PropertyKey.cacheResultSetMetadata).getValue()) {
-                this.resultSetMetadataCache = new LRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.metadataCacheSize).getValue());
+                this.resultSetMetadataCache = new ConcurrentLRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.metadataCacheSize).getValue());
             }
 
             if (this.propertySet.getStringProperty(PropertyKey.socksProxyHost).getStringValue() != null) {
@@ -509,29 +527,23 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             return true;
         }
 
-        if (!this.useServerPrepStmts.getValue()) {
-            return false;
-        }
-
         boolean allowMultiQueries = this.propertySet.getBooleanProperty(PropertyKey.allowMultiQueries).getValue();
 
         if (this.cachePrepStmts.getValue()) {
-            synchronized (this.serverSideStatementCheckCache) {
-                Boolean flag = this.serverSideStatementCheckCache.get(sql);
+            Boolean flag = this.serverSideStatementCheckCache.get(sql);
 
-                if (flag != null) {
-                    return flag.booleanValue();
-                }
-
-                boolean canHandle = StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
-                        this.session.getServerSession().isNoBackslashEscapesSet(), this.session.getServerSession().useAnsiQuotedIdentifiers());
+            if (flag != null) {
+                return flag.booleanValue();
+            }
 
-                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                    this.serverSideStatementCheckCache.put(sql, canHandle ? Boolean.TRUE : Boolean.FALSE);
-                }
+            boolean canHandle = StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
+                    this.session.getServerSession().isNoBackslashEscapesSet(), this.session.getServerSession().useAnsiQuotedIdentifiers());
 
-                return canHandle;
+            if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                this.serverSideStatementCheckCache.put(sql, canHandle ? Boolean.TRUE : Boolean.FALSE);
             }
+
+            return canHandle;
         }
 
         return StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
@@ -540,7 +552,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void changeUser(String userName, String newPassword) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
 
             if ((userName == null) || userName.equals("")) {
@@ -568,6 +582,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             this.session.setSessionVariables();
 
             setupServerForTruncationChecks();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -711,7 +727,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void close() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (this.connectionLifecycleInterceptors != null) {
                 for (ConnectionLifecycleInterceptor cli : this.connectionLifecycleInterceptors) {
                     cli.close();
@@ -719,6 +737,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             realClose(true, true, false, null);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -767,7 +787,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void commit() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
 
             try {
@@ -810,13 +832,17 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             } finally {
                 this.session.setNeedsPing(this.reconnectAtTxEnd.getValue());
             }
+        } finally {
+            lock.unlock();
         }
         return;
     }
 
     @Override
     public void createNewIO(boolean isForReconnect) {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             // Synchronization Not needed for *new* connections, but defintely for connections going through fail-over, since we might get the new connection up
             // and running *enough* to start sending cached or still-open server-side prepared statements over to the backend before we get a chance to
             // re-prepare them...
@@ -832,6 +858,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             } catch (SQLException ex) {
                 throw ExceptionFactory.createException(UnableToConnectException.class, ex.getMessage(), ex);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -855,7 +883,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 boolean oldReadOnly;
                 String oldDb;
 
-                synchronized (getConnectionMutex()) {
+                Lock lock = getConnectionLock();
+                lock.lock();
+                try {
                     // save state from old connection
                     oldAutoCommit = getAutoCommit();
                     oldIsolationLevel = this.isolationLevel;
@@ -863,6 +893,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                     oldDb = getDatabase();
 
                     this.session.setQueryInterceptors(this.queryInterceptors);
+                } finally {
+                    lock.unlock();
                 }
 
                 // Server properties might be different from previous connection, so initialize again...
@@ -1015,9 +1047,12 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     }
 
     private void createPreparedStatementCaches() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             int cacheSize = this.propertySet.getIntegerProperty(PropertyKey.prepStmtCacheSize).getValue();
             String parseInfoCacheFactory = this.propertySet.getStringProperty(PropertyKey.parseInfoCacheFactory).getValue();
+            CacheAdapterFactory<String, ParseInfo> cacheFactory;
 
             try {
                 Class<?> factoryClass;
@@ -1025,7 +1060,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 factoryClass = Class.forName(parseInfoCacheFactory);
 
                 @SuppressWarnings("unchecked")
-                CacheAdapterFactory<String, ParseInfo> cacheFactory = ((CacheAdapterFactory<String, ParseInfo>) factoryClass.newInstance());
+                CacheAdapterFactory<String, ParseInfo> instance = ((CacheAdapterFactory<String, ParseInfo>) factoryClass.newInstance());
+                cacheFactory = instance;
 
                 this.cachedPreparedStatementParams = cacheFactory.getInstance(this, this.origHostInfo.getDatabaseUrl(), cacheSize,
                         this.prepStmtCacheSqlLimit.getValue());
@@ -1046,36 +1082,30 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 throw sqlEx;
             }
 
-            if (this.useServerPrepStmts.getValue()) {
-                this.serverSideStatementCheckCache = new LRUCache<>(cacheSize);
-
-                this.serverSideStatementCache = new LRUCache<CompoundCacheKey, ServerPreparedStatement>(cacheSize) {
-
-                    private static final long serialVersionUID = 7692318650375988114L;
-
-                    @Override
-                    protected boolean removeEldestEntry(java.util.Map.Entry<CompoundCacheKey, ServerPreparedStatement> eldest) {
-                        if (this.maxElements <= 1) {
-                            return false;
-                        }
-
-                        boolean removeIt = super.removeEldestEntry(eldest);
+            boolean promoteClientPrepStmts = !this.useServerPrepStmts.getValue() && this.prepStmtPromotionThreshold.getValue() > 0;
+            if (promoteClientPrepStmts) {
+                this.clientPrepStmtExecutionCounts = new ConcurrentLRUCache<>(cacheSize);
+            }
 
-                        if (removeIt) {
-                            ServerPreparedStatement ps = eldest.getValue();
-                            ps.isCached = false;
-                            ps.setClosed(false);
-                            try {
-                                ps.realClose(true, true);
-                            } catch (SQLException sqlEx) {
-                                // punt
-                            }
-                        }
+            if (this.useServerPrepStmts.getValue() || promoteClientPrepStmts) {
+                // connections sharing parsed statements share the server-side prepare checks as well
+                this.serverSideStatementCheckCache = cacheFactory instanceof PerVmParseInfoCacheFactory
+                        ? ((PerVmParseInfoCacheFactory) cacheFactory).getServerPrepareCheckInstance(this, cacheSize, this.prepStmtCacheSqlLimit.getValue())
+                        : new PerConnectionLRUFactory.PerConnectionLRU<>(cacheSize, this.prepStmtCacheSqlLimit.getValue());
 
-                        return removeIt;
+                // a cache size of 1 or less never evicts
+                this.serverSideStatementCache = new ConcurrentLRUCache<>(cacheSize <= 1 ? Integer.MAX_VALUE : cacheSize, (key, ps) -> {
+                    ps.isCached = false;
+                    ps.setClosed(false);
+                    try {
+                        ps.realClose(true, true);
+                    } catch (SQLException sqlEx) {
+                        // punt
                     }
-                };
+                });
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1113,22 +1143,34 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public boolean getAutoCommit() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             return this.session.getServerSession().isAutoCommit();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public String getCatalog() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             return this.propertySet.<DatabaseTerm>getEnumProperty(PropertyKey.databaseTerm).getValue() == DatabaseTerm.SCHEMA ? null : this.database;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public String getCharacterSetMetadata() {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             return this.session.getServerSession().getCharacterSetMetadata();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1152,8 +1194,12 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
      */
     @Override
     public long getIdleFor() {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             return this.session.getIdleFor();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1205,7 +1251,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     @Override
     public int getTransactionIsolation() throws SQLException {
 
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (!this.useLocalSessionState.getValue()) {
                 String s = this.session.queryServerVariable(
                         versionMeetsMinimum(8, 0, 3) || (versionMeetsMinimum(5, 7, 20) && !versionMeetsMinimum(8, 0, 0)) ? "@@session.transaction_isolation"
@@ -1224,17 +1272,23 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             return this.isolationLevel;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public java.util.Map<String, Class<?>> getTypeMap() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (this.typeMap == null) {
                 this.typeMap = new HashMap<>();
             }
 
             return this.typeMap;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1416,7 +1470,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public boolean isSameResource(JdbcConnection otherConnection) {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (otherConnection == null) {
                 return false;
             }
@@ -1457,6 +1513,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             return false;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1532,22 +1590,20 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
             cStmt = parseCallableStatement(sql);
         } else {
-            synchronized (this.parsedCallableStatementCache) {
-                CompoundCacheKey key = new CompoundCacheKey(getDatabase(), sql);
+            CompoundCacheKey key = new CompoundCacheKey(getDatabase(), sql);
 
-                CallableStatement.CallableStatementParamInfo cachedParamInfo = this.parsedCallableStatementCache.get(key);
+            CallableStatement.CallableStatementParamInfo cachedParamInfo = this.parsedCallableStatementCache.get(key);
 
-                if (cachedParamInfo != null) {
-                    cStmt = CallableStatement.getInstance(getMultiHostSafeProxy(), cachedParamInfo);
-                } else {
-                    cStmt = parseCallableStatement(sql);
-
-                    synchronized (cStmt) {
-                        cachedParamInfo = cStmt.paramInfo;
-                    }
+            if (cachedParamInfo != null) {
+                cStmt = CallableStatement.getInstance(getMultiHostSafeProxy(), cachedParamInfo);
+            } else {
+                cStmt = parseCallableStatement(sql);
 
-                    this.parsedCallableStatementCache.put(key, cachedParamInfo);
+                synchronized (cStmt) {
+                    cachedParamInfo = cStmt.paramInfo;
                 }
+
+                this.parsedCallableStatementCache.put(key, cachedParamInfo);
             }
         }
 
@@ -1586,7 +1642,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public java.sql.PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
 
             //
@@ -1595,6 +1653,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             ClientPreparedStatement pStmt = null;
 
             boolean canServerPrepare = true;
+            boolean promoted = false;
 
             String nativeSql = this.processEscapeCodesForPrepStmts.getValue() ? nativeSQL(sql) : sql;
 
@@ -1602,37 +1661,47 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 canServerPrepare = canHandleAsServerPreparedStatement(nativeSql);
             }
 
-            if (this.useServerPrepStmts.getValue() && canServerPrepare) {
+            AtomicInteger executionCount = null;
+            if (!this.useServerPrepStmts.getValue() && this.clientPrepStmtExecutionCounts != null && this.cachePrepStmts.getValue()
+                    && this.prepStmtPromotionThreshold.getValue() > 0 && sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                executionCount = this.clientPrepStmtExecutionCounts.get(nativeSql);
+                if (executionCount == null) {
+                    executionCount = new AtomicInteger();
+                    this.clientPrepStmtExecutionCounts.put(nativeSql, executionCount);
+                }
+
+                // statements run often enough are worth preparing on the server, and are then kept in the server-side statements cache
+                promoted = executionCount.get() >= this.prepStmtPromotionThreshold.getValue() && canHandleAsServerPreparedStatement(nativeSql);
+            }
+
+            if ((this.useServerPrepStmts.getValue() && canServerPrepare) || promoted) {
                 if (this.cachePrepStmts.getValue()) {
-                    synchronized (this.serverSideStatementCache) {
-                        pStmt = this.serverSideStatementCache.remove(new CompoundCacheKey(this.database, sql));
+                    pStmt = this.serverSideStatementCache.remove(new CompoundCacheKey(this.database, sql));
 
-                        if (pStmt != null) {
-                            ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).setClosed(false);
-                            pStmt.clearParameters();
-                        }
+                    if (pStmt != null) {
+                        ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).setClosed(false);
+                        pStmt.clearParameters();
+                    }
 
-                        if (pStmt == null) {
-                            try {
-                                pStmt = ServerPreparedStatement.getInstance(getMultiHostSafeProxy(), nativeSql, this.database, resultSetType,
-                                        resultSetConcurrency);
-                                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                                    ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).isCacheable = true;
-                                }
+                    if (pStmt == null) {
+                        try {
+                            pStmt = ServerPreparedStatement.getInstance(getMultiHostSafeProxy(), nativeSql, this.database, resultSetType, resultSetConcurrency);
+                            if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                                ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).isCacheable = true;
+                            }
+
+                            pStmt.setResultSetType(resultSetType);
+                            pStmt.setResultSetConcurrency(resultSetConcurrency);
+                        } catch (SQLException sqlEx) {
+                            // Punt, if necessary
+                            if (promoted || this.emulateUnsupportedPstmts.getValue()) {
+                                pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
 
-                                pStmt.setResultSetType(resultSetType);
-                                pStmt.setResultSetConcurrency(resultSetConcurrency);
-                            } catch (SQLException sqlEx) {
-                                // Punt, if necessary
-                                if (this.emulateUnsupportedPstmts.getValue()) {
-                                    pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
-
-                                    if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                                        this.serverSideStatementCheckCache.put(sql, Boolean.FALSE);
-                                    }
-                                } else {
-                                    throw sqlEx;
+                                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                                    this.serverSideStatementCheckCache.put(sql, Boolean.FALSE);
                                 }
+                            } else {
+                                throw sqlEx;
                             }
                         }
                     }
@@ -1653,9 +1722,12 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 }
             } else {
                 pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
+                pStmt.executionCount = executionCount;
             }
 
             return pStmt;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1760,31 +1832,34 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void recachePreparedStatement(JdbcPreparedStatement pstmt) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (this.cachePrepStmts.getValue() && pstmt.isPoolable()) {
-                synchronized (this.serverSideStatementCache) {
-                    Object oldServerPrepStmt = this.serverSideStatementCache.put(
-                            new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery<?>) pstmt.getQuery()).getOriginalSql()),
-                            (ServerPreparedStatement) pstmt);
-                    if (oldServerPrepStmt != null && oldServerPrepStmt != pstmt) {
-                        ((ServerPreparedStatement) oldServerPrepStmt).isCached = false;
-                        ((ServerPreparedStatement) oldServerPrepStmt).setClosed(false);
-                        ((ServerPreparedStatement) oldServerPrepStmt).realClose(true, true);
-                    }
+                ServerPreparedStatement oldServerPrepStmt = this.serverSideStatementCache.put(
+                        new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery<?>) pstmt.getQuery()).getOriginalSql()),
+                        (ServerPreparedStatement) pstmt);
+                if (oldServerPrepStmt != null && oldServerPrepStmt != pstmt) {
+                    oldServerPrepStmt.isCached = false;
+                    oldServerPrepStmt.setClosed(false);
+                    oldServerPrepStmt.realClose(true, true);
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void decachePreparedStatement(JdbcPreparedStatement pstmt) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (this.cachePrepStmts.getValue()) {
-                synchronized (this.serverSideStatementCache) {
-                    this.serverSideStatementCache
-                            .remove(new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery<?>) pstmt.getQuery()).getOriginalSql()));
-                }
+                this.serverSideStatementCache.remove(new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery<?>) pstmt.getQuery()).getOriginalSql()));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1807,7 +1882,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void rollback() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
 
             try {
@@ -1853,13 +1930,17 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             } finally {
                 this.session.setNeedsPing(this.reconnectAtTxEnd.getValue());
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void rollback(final Savepoint savepoint) throws SQLException {
 
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
 
             try {
@@ -1926,11 +2007,15 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             } finally {
                 this.session.setNeedsPing(this.reconnectAtTxEnd.getValue());
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     private void rollbackNoChecks() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (this.useLocalTransactionState.getValue()) {
                 if (!this.session.getServerSession().inTransactionOnServer()) {
                     return; // effectively a no-op
@@ -1939,6 +2024,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
             this.session.execSQL(null, "rollback", -1, null, false, this.nullStatementResultSetFactory, null, false);
 
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2002,7 +2089,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void setAutoCommit(final boolean autoCommitFlag) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
 
             if (this.connectionLifecycleInterceptors != null) {
@@ -2053,6 +2142,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             return;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2064,7 +2155,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     }
 
     public void setDatabase(final String db) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
 
             if (db == null) {
@@ -2114,13 +2207,19 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             this.session.execSQL(null, query.toString(), -1, null, false, this.nullStatementResultSetFactory, null, false);
 
             this.database = db;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public String getDatabase() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             return this.database;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2147,7 +2246,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void setReadOnlyInternal(boolean readOnlyFlag) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             // note this this is safe even inside a transaction
             if (this.readOnlyPropagatesToServer.getValue() && versionMeetsMinimum(5, 6, 5)) {
                 if (!this.useLocalSessionState.getValue() || (readOnlyFlag != this.readOnly)) {
@@ -2157,6 +2258,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             this.readOnly = readOnlyFlag;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2171,7 +2274,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     private void setSavepoint(MysqlSavepoint savepoint) throws SQLException {
 
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
 
             StringBuilder savePointQuery = new StringBuilder("SAVEPOINT ");
@@ -2188,23 +2293,31 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             } finally {
                 closeStatement(stmt);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public java.sql.Savepoint setSavepoint(String name) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             MysqlSavepoint savepoint = new MysqlSavepoint(name, getExceptionInterceptor());
 
             setSavepoint(savepoint);
 
             return savepoint;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setTransactionIsolation(int level) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
 
             String sql = null;
@@ -2257,18 +2370,26 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
                 this.isolationLevel = level;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setTypeMap(java.util.Map<String, Class<?>> map) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             this.typeMap = map;
+        } finally {
+            lock.unlock();
         }
     }
 
     private void setupServerForTruncationChecks() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             RuntimeProperty<Boolean> jdbcCompliantTruncation = this.propertySet.getProperty(PropertyKey.jdbcCompliantTruncation);
             if (jdbcCompliantTruncation.getValue()) {
                 String currentSqlMode = this.session.getServerSession().getServerVariable("sql_mode");
@@ -2293,6 +2414,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                     jdbcCompliantTruncation.setValue(false); // server's handling this for us now
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2322,9 +2445,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     @Override
     public CachedResultSetMetaData getCachedMetaData(String sql) {
         if (this.resultSetMetadataCache != null) {
-            synchronized (this.resultSetMetadataCache) {
-                return this.resultSetMetadataCache.get(sql);
-            }
+            return this.resultSetMetadataCache.get(sql);
         }
 
         return null; // no cache exists
@@ -2371,19 +2492,27 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void transactionBegun() {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (this.connectionLifecycleInterceptors != null) {
                 this.connectionLifecycleInterceptors.stream().forEach(ConnectionLifecycleInterceptor::transactionBegun);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void transactionCompleted() {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (this.connectionLifecycleInterceptors != null) {
                 this.connectionLifecycleInterceptors.stream().forEach(ConnectionLifecycleInterceptor::transactionCompleted);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2401,31 +2530,43 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public boolean isServerLocal() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             try {
                 return this.session.isServerLocal(this.getSession());
             } catch (CJException ex) {
                 SQLException sqlEx = SQLExceptionsMapping.translateException(ex, getExceptionInterceptor());
                 throw sqlEx;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public int getSessionMaxRows() {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             return this.session.getSessionMaxRows();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setSessionMaxRows(int max) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (this.session.getSessionMaxRows() != max) {
                 this.session.setSessionMaxRows(max);
                 this.session.execSQL(null, "SET SQL_SELECT_LIMIT=" + (this.session.getSessionMaxRows() == -1 ? "DEFAULT" : this.session.getSessionMaxRows()),
                         -1, null, false, this.nullStatementResultSetFactory, null, false);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2439,9 +2580,13 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public String getSchema() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
             return this.propertySet.<DatabaseTerm>getEnumProperty(PropertyKey.databaseTerm).getValue() == DatabaseTerm.SCHEMA ? this.database : null;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2472,7 +2617,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public void setNetworkTimeout(Executor executor, final int milliseconds) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             SecurityManager sec = System.getSecurityManager();
 
             if (sec != null) {
@@ -2486,6 +2633,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             checkClosed();
 
             executor.execute(new NetworkTimeoutSetter(this, milliseconds));
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2502,8 +2651,12 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         public void run() {
             JdbcConnection conn = this.connRef.get();
             if (conn != null) {
-                synchronized (conn.getConnectionMutex()) {
+                Lock lock = conn.getConnectionLock();
+                lock.lock();
+                try {
                     ((NativeSession) conn.getSession()).setSocketTimeout(this.milliseconds);
+                } finally {
+                    lock.unlock();
                 }
             }
         }
@@ -2511,9 +2664,13 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public int getNetworkTimeout() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
             return this.session.getSocketTimeout();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2539,7 +2696,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public boolean isValid(int timeout) throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (isClosed()) {
                 return false;
             }
@@ -2562,6 +2721,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             return true;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2569,7 +2730,9 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
     @Override
     public ClientInfoProvider getClientInfoProviderImpl() throws SQLException {
-        synchronized (getConnectionMutex()) {
+        Lock lock = getConnectionLock();
+        lock.lock();
+        try {
             if (this.infoProvider == null) {
                 String clientInfoProvider = this.propertySet.getStringProperty(PropertyKey.clientInfoProvider).getStringValue();
                 try {
@@ -2594,6 +2757,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             return this.infoProvider;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.MysqlConnection;
@@ -889,6 +890,11 @@ public class ConnectionWrapper extends WrapperBase implements JdbcConnection {
         return this.mc.getConnectionMutex();
     }
 
+    @Override
+    public Lock getConnectionLock() {
+        return this.mc.getConnectionLock();
+    }
+
     @Override
     public int getSessionMaxRows() {
         return this.mc.getSessionMaxRows();
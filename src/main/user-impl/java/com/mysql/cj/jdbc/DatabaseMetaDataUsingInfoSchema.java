@@ -33,9 +33,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.MysqlType;
@@ -45,7 +43,7 @@ import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 import com.mysql.cj.jdbc.result.ResultSetFactory;
-import com.mysql.cj.util.LRUCache;
+import com.mysql.cj.util.ConcurrentLRUCache;
 import com.mysql.cj.util.StringUtils;
 
 /**
@@ -53,7 +51,7 @@ import com.mysql.cj.util.StringUtils;
  */
 public class DatabaseMetaDataUsingInfoSchema extends DatabaseMetaData {
 
-    private static Map<ServerVersion, String> keywordsCache = Collections.synchronizedMap(new LRUCache<>(10));
+    private static ConcurrentLRUCache<ServerVersion, String> keywordsCache = new ConcurrentLRUCache<>(10);
 
     protected enum FunctionConstant {
         // COLUMN_TYPE values
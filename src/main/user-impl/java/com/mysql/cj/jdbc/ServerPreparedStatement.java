@@ -41,6 +41,9 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Wrapper;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.CancelQueryTask;
 import com.mysql.cj.Messages;
@@ -56,6 +59,7 @@ import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.exceptions.WrongArgumentException;
+import com.mysql.cj.jdbc.exceptions.CommunicationsException;
 import com.mysql.cj.jdbc.exceptions.MySQLStatementCancelledException;
 import com.mysql.cj.jdbc.exceptions.MySQLTimeoutException;
 import com.mysql.cj.jdbc.exceptions.SQLError;
@@ -64,6 +68,7 @@ import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.jdbc.result.ResultSetMetaData;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.a.NativePacketPayload;
 
 /**
  * JDBC Interface for MySQL-4.1 and newer server-side PreparedStatements.
@@ -167,15 +172,21 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
     @Override
     public void addBatch() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.query.addBatch(((PreparedQuery<?>) this.query).getQueryBindings().clone());
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public String asSql(boolean quoteStreamsAndUnknowns) throws SQLException {
 
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
 
             ClientPreparedStatement pStmtForSub = null;
 
@@ -235,6 +246,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                     }
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -249,8 +262,12 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
     @Override
     public void clearParameters() {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((ServerPreparedQuery) this.query).clearParameters(true);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -266,7 +283,9 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
             return; // already closed
         }
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock lock = locallyScopedConn.getConnectionLock();
+        lock.lock();
+        try {
             if (this.isClosed) {
                 return; // already closed
             }
@@ -283,12 +302,16 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
             this.isClosed = false;
             realClose(true, true);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     protected long[] executeBatchSerially(int batchTimeout) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             JdbcConnection locallyScopedConn = this.connection;
 
             if (locallyScopedConn.isReadOnly()) {
@@ -313,6 +336,11 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                         this.batchedGeneratedKeys = new ArrayList<>(nbrCommands);
                     }
 
+                    if (nbrCommands > 1 && this.session.getPropertySet().getBooleanProperty(PropertyKey.pipelineBatchedStatements).getValue()
+                            && canPipelineBatch()) {
+                        return executeBatchPipelined(nbrCommands, batchTimeout);
+                    }
+
                     for (int i = 0; i < nbrCommands; i++) {
                         updateCounts[i] = -3;
                     }
@@ -393,6 +421,198 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
                 clearBatch();
             }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the batched parameter sets can be executed without waiting for the result of each execution. This is not possible if results of pipelined
+     * executions would be hidden from query interceptors, if a failing execution must prevent the following ones from being executed, if the statement
+     * returns rows, if SQL strings were added to the batch or if parameters are sent as long data, which takes separate commands before each execution.
+     * 
+     * @return true if the batch can be pipelined
+     */
+    private boolean canPipelineBatch() {
+        if (!this.continueBatchOnError || this.session.shouldIntercept()) {
+            return false;
+        }
+
+        ColumnDefinition resultFields = ((ServerPreparedQuery) this.query).getResultFields();
+        if (resultFields != null && resultFields.getFields() != null && resultFields.getFields().length > 0) {
+            return false;
+        }
+
+        for (Object arg : this.query.getBatchedArgs()) {
+            if (!(arg instanceof ServerPreparedQueryBindings)) {
+                return false;
+            }
+            for (ServerPreparedQueryBindValue bindValue : ((ServerPreparedQueryBindings) arg).getBindValues()) {
+                if (bindValue.isStream()) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sends the batched parameter sets to the server in windows of up to "maxPipelinedCommands" COM_STMT_EXECUTE commands without waiting for the result of
+     * each one, then reads the results in the same order. Executions already sent to the server take place even if a previous one fails, so this is used only
+     * if continueBatchOnError is true.
+     * 
+     * @param nbrCommands
+     *            number of parameter sets in the batch
+     * @param batchTimeout
+     *            timeout for the batch
+     * @return update counts in the same manner as executeBatch()
+     * @throws SQLException
+     *             if a database access error occurs
+     */
+    private long[] executeBatchPipelined(int nbrCommands, int batchTimeout) throws SQLException {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
+            ServerPreparedQuery serverPreparedQuery = (ServerPreparedQuery) this.query;
+            List<Object> batchedArgs = this.query.getBatchedArgs();
+            int maxPipelinedCommands = this.session.getPropertySet().getIntegerProperty(PropertyKey.maxPipelinedCommands).getValue();
+            boolean onDuplicateKeyUpdate = containsOnDuplicateKeyUpdateInSQL();
+
+            long[] updateCounts = new long[nbrCommands];
+            for (int i = 0; i < nbrCommands; i++) {
+                updateCounts[i] = -3;
+            }
+
+            CancelQueryTask timeoutTask = null;
+            SQLException sqlEx = null;
+            // batch indexes of the executions sent, in the order their results are read
+            int[] sentIndexes = new int[nbrCommands];
+            int nextIndex = 0;
+            int sentCount = 0;
+            int readCount = 0;
+            // index of the execution that timed out or was cancelled, the update counts returned stop there as with serial execution
+            int stopIndex = -1;
+
+            resetCancelledState();
+            implicitlyCloseAllOpenResults();
+
+            try {
+                timeoutTask = startQueryTimer(this, batchTimeout);
+
+                while (readCount < sentCount || (stopIndex < 0 && nextIndex < nbrCommands)) {
+                    // keep up to maxPipelinedCommands executions in flight
+                    while (stopIndex < 0 && nextIndex < nbrCommands && sentCount - readCount < maxPipelinedCommands) {
+                        int commandIndex = nextIndex++;
+                        ServerPreparedQueryBindings bindings = (ServerPreparedQueryBindings) batchedArgs.get(commandIndex);
+                        serverPreparedQuery.setQueryBindings(bindings);
+                        bindings.setNumberOfExecutions(bindings.getNumberOfExecutions() + 1);
+                        // types go with every execution, the server doesn't keep those of an execution still in flight if it fails
+                        bindings.getSendTypesToServer().set(true);
+
+                        NativePacketPayload packet;
+                        try {
+                            packet = serverPreparedQuery.prepareExecutePacket();
+                        } catch (CJException e) {
+                            // this execution fails on its own, e.g. because of a parameter not set, the others go on
+                            updateCounts[commandIndex] = EXECUTE_FAILED;
+                            sqlEx = SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
+                            continue;
+                        }
+
+                        this.session.sendPipelinedSQL(serverPreparedQuery.getOriginalSql(), packet);
+                        sentIndexes[sentCount++] = commandIndex;
+                    }
+
+                    if (readCount == sentCount) {
+                        continue;
+                    }
+
+                    int commandIndex = sentIndexes[readCount];
+                    try {
+                        ResultSetInternalMethods rs;
+                        try {
+                            rs = this.session.readPipelinedResult(this.resultSetFactory, true);
+                        } finally {
+                            readCount++;
+                        }
+
+                        if (this.retrieveGeneratedKeys) {
+                            rs.setFirstCharOfQuery(serverPreparedQuery.getParseInfo().getFirstStmtChar());
+                        }
+                        this.results = rs;
+                        this.updateCount = rs.getUpdateCount();
+                        if (onDuplicateKeyUpdate && this.compensateForOnDuplicateKeyUpdate && (this.updateCount == 2 || this.updateCount == 0)) {
+                            this.updateCount = 1;
+                        }
+                        this.lastInsertId = rs.getUpdateID();
+                        updateCounts[commandIndex] = this.updateCount;
+
+                        if (timeoutTask != null) {
+                            // we need to check the cancel state on each iteration to generate timeout exception if needed
+                            checkCancelTimeout();
+                        }
+
+                        // limit one generated key per OnDuplicateKey statement
+                        getBatchedGeneratedKeys(onDuplicateKeyUpdate ? 1 : 0);
+
+                    } catch (CJException | SQLException e) {
+                        SQLException ex = e instanceof SQLException ? (SQLException) e
+                                : SQLExceptionsMapping.translateException((CJException) e, this.exceptionInterceptor);
+
+                        updateCounts[commandIndex] = EXECUTE_FAILED;
+
+                        if (ex instanceof CommunicationsException) {
+                            // the executions not done yet would fail the same way, their update counts stay EXECUTE_FAILED
+                            throw stopIndex < 0 ? SQLError.createBatchUpdateException(ex, updateCounts, this.exceptionInterceptor)
+                                    : SQLError.createBatchUpdateException(sqlEx, Arrays.copyOf(updateCounts, stopIndex), this.exceptionInterceptor);
+                        }
+
+                        if (stopIndex < 0) {
+                            sqlEx = ex;
+                            if (ex instanceof MySQLTimeoutException || ex instanceof MySQLStatementCancelledException || hasDeadlockOrTimeoutRolledBackTx(ex)) {
+                                // executions already sent take place anyway, just don't send more
+                                stopIndex = commandIndex;
+                            }
+                        }
+                    }
+                }
+
+                if (timeoutTask != null) {
+                    stopQueryTimer(timeoutTask, true, true);
+                    timeoutTask = null;
+                }
+
+                if (stopIndex >= 0) {
+                    throw SQLError.createBatchUpdateException(sqlEx, Arrays.copyOf(updateCounts, stopIndex), this.exceptionInterceptor);
+                }
+
+                if (sqlEx != null) {
+                    throw SQLError.createBatchUpdateException(sqlEx, updateCounts, this.exceptionInterceptor);
+                }
+
+                return updateCounts;
+
+            } catch (CJException e) {
+                // sending failed, the executions not done yet have their update counts set to EXECUTE_FAILED already
+                throw SQLError.createBatchUpdateException(SQLExceptionsMapping.translateException(e, this.exceptionInterceptor), updateCounts,
+                        this.exceptionInterceptor);
+
+            } finally {
+                // don't leave unread responses behind, they would be taken as responses to the next commands
+                while (this.session.getProtocol().getPipelinedCommandsPending() > 0) {
+                    try {
+                        this.session.readPipelinedResult(this.resultSetFactory, true);
+                    } catch (CJException e) {
+                        // ignore, the original exception is already being thrown
+                    }
+                }
+
+                stopQueryTimer(timeoutTask, false, false);
+                resetCancelledState();
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -409,7 +629,9 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
     @Override
     protected <M extends Message> com.mysql.cj.jdbc.result.ResultSetInternalMethods executeInternal(int maxRowsToRetrieve, M sendPacket,
             boolean createStreamingResultSet, boolean queryIsSelectOnly, ColumnDefinition metadata, boolean isBatch) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             ((PreparedQuery<?>) this.query).getQueryBindings()
                     .setNumberOfExecutions(((PreparedQuery<?>) this.query).getQueryBindings().getNumberOfExecutions() + 1);
 
@@ -452,6 +674,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
                 throw sqlEx;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -468,15 +692,21 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
      *             if a database access error occurs or this method is called on a closed PreparedStatement
      */
     protected ServerPreparedQueryBindValue getBinding(int parameterIndex, boolean forLongData) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             int i = getCoreParameterIndex(parameterIndex);
             return ((ServerPreparedQuery) this.query).getQueryBindings().getBinding(i, forLongData);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public java.sql.ResultSetMetaData getMetaData() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
 
             ColumnDefinition resultFields = ((ServerPreparedQuery) this.query).getResultFields();
 
@@ -484,12 +714,16 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                     : new ResultSetMetaData(this.session, resultFields.getFields(),
                             this.session.getPropertySet().getBooleanProperty(PropertyKey.useOldAliasMetadataBehavior).getValue(),
                             this.session.getPropertySet().getBooleanProperty(PropertyKey.yearIsDateType).getValue(), this.exceptionInterceptor);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public ParameterMetaData getParameterMetaData() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
 
             if (this.parameterMetaData == null) {
                 this.parameterMetaData = new MysqlParameterMetadata(this.session, ((ServerPreparedQuery) this.query).getParameterFields(),
@@ -497,6 +731,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
             }
 
             return this.parameterMetaData;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -513,7 +749,9 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
             return; // already closed
         }
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock lock = locallyScopedConn.getConnectionLock();
+        lock.lock();
+        try {
 
             if (this.connection != null) {
 
@@ -527,13 +765,11 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                 CJException exceptionDuringClose = null;
 
                 if (calledExplicitly && !this.connection.isClosed()) {
-                    synchronized (this.connection.getConnectionMutex()) {
-                        try {
-                            this.session.sendCommand(this.commandBuilder.buildComStmtClose(null, ((ServerPreparedQuery) this.query).getServerStatementId()),
-                                    true, 0);
-                        } catch (CJException sqlEx) {
-                            exceptionDuringClose = sqlEx;
-                        }
+                    try {
+                        this.session.sendCommand(this.commandBuilder.buildComStmtClose(null, ((ServerPreparedQuery) this.query).getServerStatementId()),
+                                true, 0);
+                    } catch (CJException sqlEx) {
+                        exceptionDuringClose = sqlEx;
                     }
                 }
 
@@ -549,6 +785,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                     throw exceptionDuringClose;
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -560,7 +798,9 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
      *             if an error occurs.
      */
     protected void rePrepare() {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.invalidationException = null;
 
             try {
@@ -597,6 +837,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                     this.connection.unregisterStatement(this);
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -631,14 +873,20 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
      *             if a database access error occurs or this method is called on a closed PreparedStatement
      */
     protected ResultSetInternalMethods serverExecute(int maxRowsToRetrieve, boolean createStreamingResultSet, ColumnDefinition metadata) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.results = ((ServerPreparedQuery) this.query).serverExecute(maxRowsToRetrieve, createStreamingResultSet, metadata, this.resultSetFactory);
             return this.results;
+        } finally {
+            lock.unlock();
         }
     }
 
     protected void serverPrepare(String sql) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             SQLException t = null;
 
             try {
@@ -674,6 +922,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                     throw t;
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -800,7 +1050,9 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
     @Override
     protected ClientPreparedStatement prepareBatchedInsertSQL(JdbcConnection localConn, int numBatches) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             try {
                 ClientPreparedStatement pstmt = ((Wrapper) localConn.prepareStatement(((PreparedQuery<?>) this.query).getParseInfo().getSqlForBatch(numBatches),
                         this.resultSetConcurrency, this.query.getResultType().getIntValue())).unwrap(ClientPreparedStatement.class);
@@ -814,6 +1066,8 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
 
                 throw sqlEx;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
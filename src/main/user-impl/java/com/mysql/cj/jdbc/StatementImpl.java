@@ -37,11 +37,16 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
 
+import com.mysql.cj.CancelQueryService;
 import com.mysql.cj.CancelQueryTask;
 import com.mysql.cj.CharsetMapping;
 import com.mysql.cj.Messages;
@@ -52,8 +57,6 @@ import com.mysql.cj.PingTarget;
 import com.mysql.cj.Query;
 import com.mysql.cj.Session;
 import com.mysql.cj.SimpleQuery;
-import com.mysql.cj.TransactionEventHandler;
-import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.conf.PropertyDefinitions;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.RuntimeProperty;
@@ -66,6 +69,7 @@ import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.exceptions.OperationCancelledException;
 import com.mysql.cj.exceptions.StatementIsClosedException;
+import com.mysql.cj.jdbc.exceptions.CommunicationsException;
 import com.mysql.cj.jdbc.exceptions.MySQLStatementCancelledException;
 import com.mysql.cj.jdbc.exceptions.MySQLTimeoutException;
 import com.mysql.cj.jdbc.exceptions.SQLError;
@@ -99,6 +103,13 @@ import com.mysql.cj.util.Util;
 public class StatementImpl implements JdbcStatement {
     protected static final String PING_MARKER = "/* ping */";
 
+    /**
+     * First keywords of the statements that can be pipelined in batches. These neither return rows nor make the server request a local file, unlike
+     * SELECT, SHOW, CALL, LOAD DATA and the like, whose responses can't be drained without waiting for them.
+     */
+    private static final Set<String> PIPELINABLE_STATEMENT_KEYWORDS = new HashSet<>(
+            Arrays.asList("INSERT", "UPDATE", "DELETE", "REPLACE", "CREATE", "ALTER", "DROP", "TRUNCATE", "RENAME", "SET", "DO", "GRANT", "REVOKE"));
+
     protected NativeMessageBuilder commandBuilder = new NativeMessageBuilder(); // TODO use shared builder
 
     public final static byte USES_VARIABLES_FALSE = 0;
@@ -163,6 +174,9 @@ public class StatementImpl implements JdbcStatement {
      */
     protected boolean holdResultsOpenOverClose = false;
 
+    /** Heap budget for the rows of fully read result sets, 0 if unlimited */
+    protected long resultSetMemoryBudget = 0;
+
     protected ArrayList<Row> batchedGeneratedKeys = null;
 
     protected boolean retrieveGeneratedKeys = false;
@@ -254,6 +268,7 @@ public class StatementImpl implements JdbcStatement {
         }
 
         this.holdResultsOpenOverClose = pset.getBooleanProperty(PropertyKey.holdResultsOpenOverStatementClose).getValue();
+        this.resultSetMemoryBudget = pset.getMemorySizeProperty(PropertyKey.resultSetMemoryBudget).getValue();
 
         this.resultSetFactory = new ResultSetFactory(this.connection, this);
     }
@@ -264,10 +279,14 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void addBatch(String sql) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (sql != null) {
                 this.query.addBatch(sql);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -292,24 +311,9 @@ public class StatementImpl implements JdbcStatement {
             java.sql.Statement cancelStmt = null;
 
             try {
-                HostInfo hostInfo = this.session.getHostInfo();
-                String database = hostInfo.getDatabase();
-                String user = StringUtils.isNullOrEmpty(hostInfo.getUser()) ? "" : hostInfo.getUser();
-                String password = StringUtils.isNullOrEmpty(hostInfo.getPassword()) ? "" : hostInfo.getPassword();
-                NativeSession newSession = new NativeSession(this.session.getHostInfo(), this.session.getPropertySet());
-                newSession.connect(hostInfo, user, password, database, 30000, new TransactionEventHandler() {
-                    @Override
-                    public void transactionCompleted() {
-                    }
-
-                    @Override
-                    public void transactionBegun() {
-                    }
-                });
-                newSession.sendCommand(new NativeMessageBuilder().buildComQuery(newSession.getSharedSendPacket(), "KILL QUERY " + this.session.getThreadId()),
-                        false, 0);
+                CancelQueryService.killQuery(this.session);
                 setCancelStatus(CancelStatus.CANCELED_BY_USER);
-            } catch (IOException e) {
+            } catch (IOException | CJException e) {
                 throw SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
             } finally {
                 if (cancelStmt != null) {
@@ -390,8 +394,12 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void clearBatch() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.query.clearBatchedArgs();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -402,10 +410,14 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void clearWarnings() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             setClearWarningsCalled(true);
             this.warningChain = null;
             // TODO souldn't we also clear warnings from _server_ ?
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -441,7 +453,9 @@ public class StatementImpl implements JdbcStatement {
             return; // already closed
         }
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock lock = locallyScopedConn.getConnectionLock();
+        lock.lock();
+        try {
             if (this.openResults != null) {
                 for (ResultSetInternalMethods element : this.openResults) {
                     try {
@@ -453,6 +467,8 @@ public class StatementImpl implements JdbcStatement {
 
                 this.openResults.clear();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -482,7 +498,9 @@ public class StatementImpl implements JdbcStatement {
     @Override
     public void removeOpenResultSet(ResultSetInternalMethods rs) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 if (this.openResults != null) {
                     this.openResults.remove(rs);
                 }
@@ -503,6 +521,8 @@ public class StatementImpl implements JdbcStatement {
                 if (!this.isImplicitlyClosingResults && !hasMoreResults) {
                     checkAndPerformCloseOnCompletionAction();
                 }
+            } finally {
+                lock.unlock();
             }
         } catch (StatementIsClosedException e) {
             // we can't break the interface, having this be no-op in case of error is ok
@@ -512,12 +532,16 @@ public class StatementImpl implements JdbcStatement {
     @Override
     public int getOpenResultSetCount() {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 if (this.openResults != null) {
                     return this.openResults.size();
                 }
 
                 return 0;
+            } finally {
+                lock.unlock();
             }
         } catch (StatementIsClosedException e) {
             // we can't break the interface, having this be no-op in case of error is ok
@@ -532,12 +556,16 @@ public class StatementImpl implements JdbcStatement {
      */
     private void checkAndPerformCloseOnCompletionAction() {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 if (isCloseOnCompletion() && !this.dontTrackOpenResources.getValue() && getOpenResultSetCount() == 0
                         && (this.results == null || !this.results.hasRows() || this.results.isClosed())
                         && (this.generatedKeysResults == null || !this.generatedKeysResults.hasRows() || this.generatedKeysResults.isClosed())) {
                     realClose(false, false);
                 }
+            } finally {
+                lock.unlock();
             }
         } catch (SQLException e) {
         }
@@ -551,7 +579,9 @@ public class StatementImpl implements JdbcStatement {
      *             if a database access error occurs or this method is called on a closed Statement
      */
     private ResultSetInternalMethods createResultSetUsingServerFetch(String sql) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             java.sql.PreparedStatement pStmt = this.connection.prepareStatement(sql, this.query.getResultType().getIntValue(), this.resultSetConcurrency);
 
             pStmt.setFetchSize(this.query.getResultFetchSize());
@@ -574,6 +604,8 @@ public class StatementImpl implements JdbcStatement {
             this.results = rs;
 
             return rs;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -594,22 +626,30 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void enableStreamingResults() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.originalResultSetType = this.query.getResultType();
             this.originalFetchSize = this.query.getResultFetchSize();
 
             setFetchSize(Integer.MIN_VALUE);
             setResultSetType(Type.FORWARD_ONLY);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void disableStreamingResults() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (this.query.getResultFetchSize() == Integer.MIN_VALUE && this.query.getResultType() == Type.FORWARD_ONLY) {
                 setFetchSize(this.originalFetchSize);
                 setResultSetType(this.originalResultSetType);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -651,7 +691,9 @@ public class StatementImpl implements JdbcStatement {
     private boolean executeInternal(String sql, boolean returnGeneratedKeys) throws SQLException {
         JdbcConnection locallyScopedConn = checkClosed();
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock lock = locallyScopedConn.getConnectionLock();
+        lock.lock();
+        try {
             checkClosed();
 
             checkNullOrEmptyQuery(sql);
@@ -761,6 +803,8 @@ public class StatementImpl implements JdbcStatement {
             } finally {
                 this.query.getStatementExecuting().set(false);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -771,8 +815,12 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void resetCancelledState() {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.query.resetCancelledState();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -799,7 +847,9 @@ public class StatementImpl implements JdbcStatement {
     protected long[] executeBatchInternal() throws SQLException {
         JdbcConnection locallyScopedConn = checkClosed();
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock lock = locallyScopedConn.getConnectionLock();
+        lock.lock();
+        try {
             if (locallyScopedConn.isReadOnly()) {
                 throw SQLError.createSQLException(Messages.getString("Statement.34") + Messages.getString("Statement.35"),
                         MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
@@ -841,6 +891,11 @@ public class StatementImpl implements JdbcStatement {
                             return executeBatchUsingMultiQueries(multiQueriesEnabled, nbrCommands, individualStatementTimeout);
                         }
 
+                        if (locallyScopedConn.getPropertySet().getBooleanProperty(PropertyKey.pipelineBatchedStatements).getValue() && nbrCommands > 1
+                                && canPipelineBatch(batchedArgs)) {
+                            return executeBatchPipelined(nbrCommands, individualStatementTimeout);
+                        }
+
                         timeoutTask = startQueryTimer(this, individualStatementTimeout);
 
                         updateCounts = new long[nbrCommands];
@@ -912,6 +967,8 @@ public class StatementImpl implements JdbcStatement {
 
                 clearBatch();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -949,7 +1006,9 @@ public class StatementImpl implements JdbcStatement {
 
         JdbcConnection locallyScopedConn = checkClosed();
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock lock = locallyScopedConn.getConnectionLock();
+        lock.lock();
+        try {
             if (!multiQueriesEnabled) {
                 this.session.enableMultiQueries();
             }
@@ -1048,11 +1107,230 @@ public class StatementImpl implements JdbcStatement {
                     }
                 }
             }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the batched commands can be sent to the server without waiting for the result of each one of them. This is not possible if results of
+     * pipelined commands would be hidden from query interceptors, if a failing command must prevent the following ones from being executed or if a command
+     * could make the server request a local file or return rows.
+     * 
+     * @param batchedArgs
+     *            the batched SQL commands
+     * @return true if the batch can be pipelined
+     */
+    private boolean canPipelineBatch(List<Object> batchedArgs) {
+        if (!this.continueBatchOnError || this.session.shouldIntercept()) {
+            return false;
+        }
+
+        for (Object arg : batchedArgs) {
+            if (!PIPELINABLE_STATEMENT_KEYWORDS.contains(firstKeywordUc((String) arg))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the first keyword of the given statement in upper case, skipping leading comments, white space and opening parentheses.
+     * 
+     * @param sql
+     *            SQL statement
+     * @return first keyword, or an empty string if the statement doesn't start with one
+     */
+    private static String firstKeywordUc(String sql) {
+        int length = sql.length();
+        int pos = 0;
+        int commentEnd;
+        do {
+            while (pos < length && (Character.isWhitespace(sql.charAt(pos)) || sql.charAt(pos) == '(')) {
+                pos++;
+            }
+            commentEnd = findStartOfStatement(sql.substring(pos));
+            pos += commentEnd;
+        } while (commentEnd > 0);
+
+        int end = pos;
+        while (end < length && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return sql.substring(pos, end).toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Sends the batched commands to the server in windows of up to "maxPipelinedCommands" commands without waiting for the result of each one, then reads
+     * the results in the same order. Commands already sent to the server are executed even if a previous one fails, so this is used only if
+     * continueBatchOnError is true.
+     * 
+     * @param nbrCommands
+     *            number of queries in a batch
+     * @param individualStatementTimeout
+     *            timeout for a single query in a batch
+     * 
+     * @return update counts in the same manner as executeBatch()
+     * @throws SQLException
+     *             if a database access error occurs
+     */
+    private long[] executeBatchPipelined(int nbrCommands, int individualStatementTimeout) throws SQLException {
+        JdbcConnection locallyScopedConn = checkClosed();
+
+        Lock lock = locallyScopedConn.getConnectionLock();
+        lock.lock();
+        try {
+            List<Object> batchedArgs = this.query.getBatchedArgs();
+            int maxPipelinedCommands = locallyScopedConn.getPropertySet().getIntegerProperty(PropertyKey.maxPipelinedCommands).getValue();
+
+            long[] updateCounts = new long[nbrCommands];
+            for (int i = 0; i < nbrCommands; i++) {
+                updateCounts[i] = -3;
+            }
+
+            CancelQueryTask timeoutTask = null;
+            String oldDb = null;
+            SQLException sqlEx = null;
+            // batch indexes of the commands sent, in the order their results are read
+            int[] sentIndexes = new int[nbrCommands];
+            int nextIndex = 0;
+            int sentCount = 0;
+            int readCount = 0;
+            // index of the command that timed out or was cancelled, the update counts returned stop there as with serial execution
+            int stopIndex = -1;
+
+            try {
+                timeoutTask = startQueryTimer(this, individualStatementTimeout);
+
+                if (!locallyScopedConn.getDatabase().equals(getCurrentDatabase())) {
+                    oldDb = locallyScopedConn.getDatabase();
+                    locallyScopedConn.setDatabase(getCurrentDatabase());
+                }
+
+                locallyScopedConn.setSessionMaxRows(-1);
+
+                // results of asynchronous executions come first
+                this.session.readAsyncResults();
+
+                while (readCount < sentCount || (stopIndex < 0 && nextIndex < nbrCommands)) {
+                    // keep up to maxPipelinedCommands commands in flight
+                    while (stopIndex < 0 && nextIndex < nbrCommands && sentCount - readCount < maxPipelinedCommands) {
+                        int commandIndex = nextIndex++;
+                        String sql = (String) batchedArgs.get(commandIndex);
+                        if (this.doEscapeProcessing) {
+                            try {
+                                Object escapedSqlResult = EscapeProcessor.escapeSQL(sql, this.session.getServerSession().getServerTimeZone(),
+                                        this.session.getServerSession().getCapabilities().serverSupportsFracSecs(),
+                                        this.session.getServerSession().isServerTruncatesFracSecs(), getExceptionInterceptor());
+                                sql = escapedSqlResult instanceof String ? (String) escapedSqlResult : ((EscapeProcessorResult) escapedSqlResult).escapedSql;
+                            } catch (SQLException ex) {
+                                // this command fails on its own, as it does with serial execution, the others go on
+                                updateCounts[commandIndex] = EXECUTE_FAILED;
+                                sqlEx = ex;
+                                continue;
+                            }
+                        }
+                        this.session.sendPipelinedSQL(sql, null);
+                        sentIndexes[sentCount++] = commandIndex;
+                    }
+
+                    if (readCount == sentCount) {
+                        continue;
+                    }
+
+                    int commandIndex = sentIndexes[readCount];
+                    String sql = (String) batchedArgs.get(commandIndex);
+                    try {
+                        ResultSetInternalMethods rs;
+                        try {
+                            rs = this.session.readPipelinedResult(getResultSetFactory(), false);
+                        } finally {
+                            readCount++;
+                        }
+
+                        char firstStatementChar = StringUtils.firstAlphaCharUc(sql, findStartOfStatement(sql));
+                        this.results = rs;
+                        rs.setFirstCharOfQuery(firstStatementChar);
+                        this.updateCount = rs.getUpdateCount();
+                        this.lastInsertId = rs.getUpdateID();
+                        updateCounts[commandIndex] = this.updateCount;
+
+                        if (timeoutTask != null) {
+                            // we need to check the cancel state on each iteration to generate timeout exception if needed
+                            checkCancelTimeout();
+                        }
+
+                        // limit one generated key per OnDuplicateKey statement
+                        getBatchedGeneratedKeys(firstStatementChar == 'I' && containsOnDuplicateKeyInString(sql) ? 1 : 0);
+
+                    } catch (CJException | SQLException e) {
+                        SQLException ex = e instanceof SQLException ? (SQLException) e
+                                : SQLExceptionsMapping.translateException((CJException) e, getExceptionInterceptor());
+
+                        updateCounts[commandIndex] = EXECUTE_FAILED;
+
+                        if (ex instanceof CommunicationsException) {
+                            // the commands not done yet would fail the same way, their update counts stay EXECUTE_FAILED
+                            throw stopIndex < 0 ? SQLError.createBatchUpdateException(ex, updateCounts, getExceptionInterceptor())
+                                    : SQLError.createBatchUpdateException(sqlEx, Arrays.copyOf(updateCounts, stopIndex), getExceptionInterceptor());
+                        }
+
+                        if (stopIndex < 0) {
+                            sqlEx = ex;
+                            if (ex instanceof MySQLTimeoutException || ex instanceof MySQLStatementCancelledException || hasDeadlockOrTimeoutRolledBackTx(ex)) {
+                                // commands already sent are executed anyway, just don't send more
+                                stopIndex = commandIndex;
+                            }
+                        }
+                    }
+                }
+
+                if (timeoutTask != null) {
+                    stopQueryTimer(timeoutTask, true, true);
+                    timeoutTask = null;
+                }
+
+                if (stopIndex >= 0) {
+                    throw SQLError.createBatchUpdateException(sqlEx, Arrays.copyOf(updateCounts, stopIndex), getExceptionInterceptor());
+                }
+
+                if (sqlEx != null) {
+                    throw SQLError.createBatchUpdateException(sqlEx, updateCounts, getExceptionInterceptor());
+                }
+
+                return updateCounts;
+
+            } catch (CJException e) {
+                // sending failed, the commands not done yet have their update counts set to EXECUTE_FAILED already
+                throw SQLError.createBatchUpdateException(SQLExceptionsMapping.translateException(e, getExceptionInterceptor()), updateCounts,
+                        getExceptionInterceptor());
+
+            } finally {
+                // don't leave unread responses behind, they would be taken as responses to the next commands
+                while (this.session.getProtocol().getPipelinedCommandsPending() > 0) {
+                    try {
+                        this.session.readPipelinedResult(getResultSetFactory(), false);
+                    } catch (CJException e) {
+                        // ignore, the original exception is already being thrown
+                    }
+                }
+
+                stopQueryTimer(timeoutTask, false, false);
+
+                if (oldDb != null) {
+                    locallyScopedConn.setDatabase(oldDb);
+                }
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
     protected int processMultiCountsAndKeys(StatementImpl batchedStatement, int updateCountCounter, long[] updateCounts) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             updateCounts[updateCountCounter++] = batchedStatement.getLargeUpdateCount();
 
             boolean doGenKeys = this.batchedGeneratedKeys != null;
@@ -1080,6 +1358,8 @@ public class StatementImpl implements JdbcStatement {
             }
 
             return updateCountCounter;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1102,7 +1382,9 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public java.sql.ResultSet executeQuery(String sql) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             JdbcConnection locallyScopedConn = this.connection;
 
             this.retrieveGeneratedKeys = false;
@@ -1197,11 +1479,15 @@ public class StatementImpl implements JdbcStatement {
             }
 
             return this.results;
+        } finally {
+            lock.unlock();
         }
     }
 
     protected void doPingInstead() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (this.pingTarget != null) {
                 try {
                     this.pingTarget.doPing();
@@ -1216,11 +1502,15 @@ public class StatementImpl implements JdbcStatement {
 
             ResultSetInternalMethods fakeSelectOneResultSet = generatePingResultSet();
             this.results = fakeSelectOneResultSet;
+        } finally {
+            lock.unlock();
         }
     }
 
     protected ResultSetInternalMethods generatePingResultSet() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             String encoding = this.session.getServerSession().getCharacterSetMetadata();
             int collationIndex = this.session.getServerSession().getMetadataCollationIndex();
             Field[] fields = { new Field(null, "1", collationIndex, encoding, MysqlType.BIGINT, 1) };
@@ -1231,12 +1521,79 @@ public class StatementImpl implements JdbcStatement {
 
             return this.resultSetFactory.createFromResultsetRows(ResultSet.CONCUR_READ_ONLY, ResultSet.TYPE_SCROLL_INSENSITIVE,
                     new ResultsetRowsStatic(rows, new DefaultColumnDefinition(fields)));
+        } finally {
+            lock.unlock();
         }
     }
 
     public void executeSimpleNonQuery(JdbcConnection c, String nonQuery) throws SQLException {
-        synchronized (c.getConnectionMutex()) {
+        Lock lock = c.getConnectionLock();
+        lock.lock();
+        try {
             ((NativeSession) c.getSession()).<ResultSetImpl>execSQL(this, nonQuery, -1, null, false, getResultSetFactory(), null, false).close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletableFuture<ResultSet> executeAsync(String sql) throws SQLException {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
+            JdbcConnection locallyScopedConn = this.connection;
+
+            checkNullOrEmptyQuery(sql);
+
+            // a timeout would kill whichever of the pipelined statements the server is executing, not necessarily this one
+            boolean hasQueryTimeout = getTimeoutInMillis() != 0 && this.session.getPropertySet().getBooleanProperty(PropertyKey.enableQueryTimeouts).getValue();
+
+            if (this.session.shouldIntercept() || hasQueryTimeout || "LOAD".equals(firstKeywordUc(sql))
+                    || !locallyScopedConn.getDatabase().equals(getCurrentDatabase())) {
+                // can't be pipelined, but the caller still gets a future
+                CompletableFuture<ResultSet> syncResult = new CompletableFuture<>();
+                try {
+                    execute(sql);
+                    syncResult.complete(this.results);
+                } catch (SQLException ex) {
+                    syncResult.completeExceptionally(ex);
+                }
+                return syncResult;
+            }
+
+            if (this.doEscapeProcessing) {
+                Object escapedSqlResult = EscapeProcessor.escapeSQL(sql, this.session.getServerSession().getServerTimeZone(),
+                        this.session.getServerSession().getCapabilities().serverSupportsFracSecs(), this.session.getServerSession().isServerTruncatesFracSecs(),
+                        getExceptionInterceptor());
+                sql = escapedSqlResult instanceof String ? (String) escapedSqlResult : ((EscapeProcessorResult) escapedSqlResult).escapedSql;
+            }
+
+            char firstStatementChar = StringUtils.firstAlphaCharUc(sql, findStartOfStatement(sql));
+
+            if (firstStatementChar != 'S' && locallyScopedConn.isReadOnly(false)) {
+                throw SQLError.createSQLException(Messages.getString("Statement.42") + Messages.getString("Statement.43"),
+                        MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+            }
+
+            locallyScopedConn.setSessionMaxRows(firstStatementChar == 'S' ? this.maxRows : -1);
+
+            CompletableFuture<ResultSet> result = new CompletableFuture<>();
+            try {
+                this.session.<ResultSetImpl> execSQLAsync(sql, this.maxRows, getResultSetFactory(), locallyScopedConn.getConnectionLock())
+                        .whenComplete((rs, t) -> {
+                            if (t != null) {
+                                result.completeExceptionally(t instanceof CJException ? SQLExceptionsMapping.translateException((CJException) t) : t);
+                            } else {
+                                rs.setFirstCharOfQuery(firstStatementChar);
+                                result.complete(rs);
+                            }
+                        });
+            } catch (CJException e) {
+                throw SQLExceptionsMapping.translateException(e, getExceptionInterceptor());
+            }
+            return result;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1246,7 +1603,9 @@ public class StatementImpl implements JdbcStatement {
     }
 
     protected long executeUpdateInternal(String sql, boolean isBatch, boolean returnGeneratedKeys) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             JdbcConnection locallyScopedConn = this.connection;
 
             checkNullOrEmptyQuery(sql);
@@ -1279,7 +1638,7 @@ public class StatementImpl implements JdbcStatement {
 
             implicitlyCloseAllOpenResults();
 
-            // The checking and changing of databases must happen in sequence, so synchronize on the same mutex that _conn is using
+            // The checking and changing of databases must happen in sequence, so hold the same lock that _conn is using
 
             CancelQueryTask timeoutTask = null;
 
@@ -1332,6 +1691,8 @@ public class StatementImpl implements JdbcStatement {
             this.lastInsertId = rs.getUpdateID();
 
             return this.updateCount;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1352,8 +1713,12 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public java.sql.Connection getConnection() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.connection;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1364,14 +1729,20 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public int getFetchSize() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.query.getResultFetchSize();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public java.sql.ResultSet getGeneratedKeys() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.retrieveGeneratedKeys) {
                 throw SQLError.createSQLException(Messages.getString("Statement.GeneratedKeysNotRequested"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
                         getExceptionInterceptor());
@@ -1393,6 +1764,8 @@ public class StatementImpl implements JdbcStatement {
                     new ResultsetRowsStatic(this.batchedGeneratedKeys, new DefaultColumnDefinition(fields)));
 
             return this.generatedKeysResults;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1407,7 +1780,9 @@ public class StatementImpl implements JdbcStatement {
     }
 
     protected ResultSetInternalMethods getGeneratedKeysInternal(long numKeys) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             String encoding = this.session.getServerSession().getCharacterSetMetadata();
             int collationIndex = this.session.getServerSession().getMetadataCollationIndex();
             Field[] fields = new Field[1];
@@ -1457,6 +1832,8 @@ public class StatementImpl implements JdbcStatement {
                     new ResultsetRowsStatic(rowSet, new DefaultColumnDefinition(fields)));
 
             return gkRs;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1472,8 +1849,12 @@ public class StatementImpl implements JdbcStatement {
      * @return the last update ID.
      */
     public long getLastInsertID() {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.lastInsertId;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1489,7 +1870,9 @@ public class StatementImpl implements JdbcStatement {
      * @return the current update count.
      */
     public long getLongUpdateCount() {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (this.results == null) {
                 return -1;
             }
@@ -1499,24 +1882,34 @@ public class StatementImpl implements JdbcStatement {
             }
 
             return this.updateCount;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public int getMaxFieldSize() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.maxFieldSize;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public int getMaxRows() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (this.maxRows <= 0) {
                 return 0;
             }
 
             return this.maxRows;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1527,7 +1920,9 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public boolean getMoreResults(int current) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (this.results == null) {
                 return false;
             }
@@ -1603,13 +1998,19 @@ public class StatementImpl implements JdbcStatement {
                 checkAndPerformCloseOnCompletionAction();
             }
             return moreResults;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public int getQueryTimeout() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return getTimeoutInMillis() / 1000;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1683,15 +2084,23 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public java.sql.ResultSet getResultSet() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return ((this.results != null) && this.results.hasRows()) ? (java.sql.ResultSet) this.results : null;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public int getResultSetConcurrency() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.resultSetConcurrency;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1702,8 +2111,12 @@ public class StatementImpl implements JdbcStatement {
 
     protected ResultSetInternalMethods getResultSetInternal() {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 return this.results;
+            } finally {
+                lock.unlock();
             }
         } catch (StatementIsClosedException e) {
             return this.results; // you end up with the same thing as before, you'll get exception when actually trying to use it
@@ -1712,8 +2125,12 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public int getResultSetType() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.query.getResultType().getIntValue();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1724,7 +2141,9 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public java.sql.SQLWarning getWarnings() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
 
             if (isClearWarningsCalled()) {
                 return null;
@@ -1739,6 +2158,8 @@ public class StatementImpl implements JdbcStatement {
             }
 
             return this.warningChain;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1818,8 +2239,12 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void setEscapeProcessing(boolean enable) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.doEscapeProcessing = enable;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1838,20 +2263,28 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void setFetchSize(int rows) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (((rows < 0) && (rows != Integer.MIN_VALUE)) || ((this.maxRows > 0) && (rows > this.getMaxRows()))) {
                 throw SQLError.createSQLException(Messages.getString("Statement.7"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
             }
 
             this.query.setResultFetchSize(rows);
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setHoldResultsOpenOverClose(boolean holdResultsOpenOverClose) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 this.holdResultsOpenOverClose = holdResultsOpenOverClose;
+            } finally {
+                lock.unlock();
             }
         } catch (StatementIsClosedException e) {
             // FIXME: can't break interface at this point
@@ -1860,7 +2293,9 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void setMaxFieldSize(int max) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (max < 0) {
                 throw SQLError.createSQLException(Messages.getString("Statement.11"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
             }
@@ -1873,6 +2308,8 @@ public class StatementImpl implements JdbcStatement {
             }
 
             this.maxFieldSize = max;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1883,12 +2320,16 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void setQueryTimeout(int seconds) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (seconds < 0) {
                 throw SQLError.createSQLException(Messages.getString("Statement.21"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
             }
 
             setTimeoutInMillis(seconds * 1000);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1902,10 +2343,14 @@ public class StatementImpl implements JdbcStatement {
      */
     void setResultSetConcurrency(int concurrencyFlag) throws SQLException {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 this.resultSetConcurrency = concurrencyFlag;
                 // updating resultset factory because concurrency is cached there
                 this.resultSetFactory = new ResultSetFactory(this.connection, this);
+            } finally {
+                lock.unlock();
             }
         } catch (StatementIsClosedException e) {
             // FIXME: Can't break interface atm, we'll get the exception later when you try and do something useful with a closed statement...
@@ -1922,10 +2367,14 @@ public class StatementImpl implements JdbcStatement {
      */
     void setResultSetType(Resultset.Type typeFlag) throws SQLException {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 this.query.setResultType(typeFlag);
                 // updating resultset factory because type is cached there
                 this.resultSetFactory = new ResultSetFactory(this.connection, this);
+            } finally {
+                lock.unlock();
             }
         } catch (StatementIsClosedException e) {
             // FIXME: Can't break interface atm, we'll get the exception later when you try and do something useful with a closed statement...
@@ -1937,7 +2386,9 @@ public class StatementImpl implements JdbcStatement {
     }
 
     protected void getBatchedGeneratedKeys(java.sql.Statement batchedStatement) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (this.retrieveGeneratedKeys) {
                 java.sql.ResultSet rs = null;
 
@@ -1953,11 +2404,15 @@ public class StatementImpl implements JdbcStatement {
                     }
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     protected void getBatchedGeneratedKeys(int maxKeys) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (this.retrieveGeneratedKeys) {
                 java.sql.ResultSet rs = null;
 
@@ -1977,13 +2432,19 @@ public class StatementImpl implements JdbcStatement {
                     }
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     private boolean useServerFetch() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.session.getPropertySet().getBooleanProperty(PropertyKey.useCursorFetch).getValue() && this.query.getResultFetchSize() > 0
                     && this.query.getResultType() == Type.FORWARD_ONLY;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1993,8 +2454,12 @@ public class StatementImpl implements JdbcStatement {
         if (locallyScopedConn == null) {
             return true;
         }
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock lock = locallyScopedConn.getConnectionLock();
+        lock.lock();
+        try {
             return this.isClosed;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2067,6 +2532,26 @@ public class StatementImpl implements JdbcStatement {
         this.session.setLocalInfileInputStream(stream);
     }
 
+    @Override
+    public void setResultSetMemoryBudget(long bytes) throws SQLException {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
+            if (bytes < 0) {
+                throw SQLError.createSQLException(Messages.getString("Statement.ResultSetMemoryBudget"), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
+                        getExceptionInterceptor());
+            }
+            this.resultSetMemoryBudget = bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getResultSetMemoryBudget() {
+        return this.resultSetMemoryBudget;
+    }
+
     @Override
     public void setPingTarget(PingTarget pingTarget) {
         this.pingTarget = pingTarget;
@@ -2086,15 +2571,23 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public void closeOnCompletion() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.closeOnCompletion = true;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public boolean isCloseOnCompletion() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.closeOnCompletion;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2131,7 +2624,9 @@ public class StatementImpl implements JdbcStatement {
 
     @Override
     public long getLargeUpdateCount() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (this.results == null) {
                 return -1;
             }
@@ -2141,12 +2636,16 @@ public class StatementImpl implements JdbcStatement {
             }
 
             return this.results.getUpdateCount();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setLargeMaxRows(long max) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if ((max > MAX_ROWS) || (max < 0)) {
                 throw SQLError.createSQLException(Messages.getString("Statement.15") + max + " > " + MAX_ROWS + ".",
                         MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
@@ -2157,6 +2656,8 @@ public class StatementImpl implements JdbcStatement {
             }
 
             this.maxRows = (int) max;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2200,6 +2701,11 @@ public class StatementImpl implements JdbcStatement {
         return this.query.getCancelTimeoutMutex();
     }
 
+    @Override
+    public Lock getCancelTimeoutLock() {
+        return this.query.getCancelTimeoutLock();
+    }
+
     @Override
     public void closeQuery() {
         if (this.query != null) {
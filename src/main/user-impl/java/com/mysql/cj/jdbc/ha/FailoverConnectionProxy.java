@@ -185,20 +185,25 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * Local implementation for the new connection picker.
      */
     @Override
-    synchronized void pickNewConnection() throws SQLException {
-        if (this.isClosed && this.closedExplicitly) {
-            return;
-        }
+    void pickNewConnection() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.isClosed && this.closedExplicitly) {
+                return;
+            }
 
-        if (!isConnected() || readyToFallBackToPrimaryHost()) {
-            try {
-                connectTo(this.primaryHostIndex);
-            } catch (SQLException e) {
-                resetAutoFallBackCounters();
-                failOver(this.primaryHostIndex);
+            if (!isConnected() || readyToFallBackToPrimaryHost()) {
+                try {
+                    connectTo(this.primaryHostIndex);
+                } catch (SQLException e) {
+                    resetAutoFallBackCounters();
+                    failOver(this.primaryHostIndex);
+                }
+            } else {
+                failOver();
             }
-        } else {
-            failOver();
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -212,8 +217,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * @throws SQLException
      *             if an error occurs
      */
-    synchronized ConnectionImpl createConnectionForHostIndex(int hostIndex) throws SQLException {
-        return createConnectionForHost(this.hostsList.get(hostIndex));
+    ConnectionImpl createConnectionForHostIndex(int hostIndex) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            return createConnectionForHost(this.hostsList.get(hostIndex));
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -224,20 +234,25 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * @throws SQLException
      *             if an error occurs
      */
-    private synchronized void connectTo(int hostIndex) throws SQLException {
+    private void connectTo(int hostIndex) throws SQLException {
+        this.connectionLock.lock();
         try {
-            switchCurrentConnectionTo(hostIndex, createConnectionForHostIndex(hostIndex));
-        } catch (SQLException e) {
-            if (this.currentConnection != null) {
-                StringBuilder msg = new StringBuilder("Connection to ").append(isPrimaryHostIndex(hostIndex) ? "primary" : "secondary").append(" host '")
-                        .append(this.hostsList.get(hostIndex)).append("' failed");
-                try {
-                    this.currentConnection.getSession().getLog().logWarn(msg.toString(), e);
-                } catch (CJException ex) {
-                    throw SQLExceptionsMapping.translateException(e, this.currentConnection.getExceptionInterceptor());
+            try {
+                switchCurrentConnectionTo(hostIndex, createConnectionForHostIndex(hostIndex));
+            } catch (SQLException e) {
+                if (this.currentConnection != null) {
+                    StringBuilder msg = new StringBuilder("Connection to ").append(isPrimaryHostIndex(hostIndex) ? "primary" : "secondary").append(" host '")
+                            .append(this.hostsList.get(hostIndex)).append("' failed");
+                    try {
+                        this.currentConnection.getSession().getLog().logWarn(msg.toString(), e);
+                    } catch (CJException ex) {
+                        throw SQLExceptionsMapping.translateException(e, this.currentConnection.getExceptionInterceptor());
+                    }
                 }
+                throw e;
             }
-            throw e;
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -251,24 +266,29 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * @throws SQLException
      *             if an error occurs
      */
-    private synchronized void switchCurrentConnectionTo(int hostIndex, JdbcConnection connection) throws SQLException {
-        invalidateCurrentConnection();
-
-        boolean readOnly;
-        if (isPrimaryHostIndex(hostIndex)) {
-            readOnly = this.explicitlyReadOnly == null ? false : this.explicitlyReadOnly;
-        } else if (this.failoverReadOnly) {
-            readOnly = true;
-        } else if (this.explicitlyReadOnly != null) {
-            readOnly = this.explicitlyReadOnly;
-        } else if (this.currentConnection != null) {
-            readOnly = this.currentConnection.isReadOnly();
-        } else {
-            readOnly = false;
+    private void switchCurrentConnectionTo(int hostIndex, JdbcConnection connection) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            invalidateCurrentConnection();
+
+            boolean readOnly;
+            if (isPrimaryHostIndex(hostIndex)) {
+                readOnly = this.explicitlyReadOnly == null ? false : this.explicitlyReadOnly;
+            } else if (this.failoverReadOnly) {
+                readOnly = true;
+            } else if (this.explicitlyReadOnly != null) {
+                readOnly = this.explicitlyReadOnly;
+            } else if (this.currentConnection != null) {
+                readOnly = this.currentConnection.isReadOnly();
+            } else {
+                readOnly = false;
+            }
+            syncSessionState(this.currentConnection, connection, readOnly);
+            this.currentConnection = connection;
+            this.currentHostIndex = hostIndex;
+        } finally {
+            this.connectionLock.unlock();
         }
-        syncSessionState(this.currentConnection, connection, readOnly);
-        this.currentConnection = connection;
-        this.currentHostIndex = hostIndex;
     }
 
     /**
@@ -277,8 +297,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * @throws SQLException
      *             if an error occurs
      */
-    private synchronized void failOver() throws SQLException {
-        failOver(this.currentHostIndex);
+    private void failOver() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            failOver(this.currentHostIndex);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -290,71 +315,81 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * @throws SQLException
      *             if an error occurs
      */
-    private synchronized void failOver(int failedHostIdx) throws SQLException {
-        int prevHostIndex = this.currentHostIndex;
-        int nextHostIndex = nextHost(failedHostIdx, false);
-        int firstHostIndexTried = nextHostIndex;
-
-        SQLException lastExceptionCaught = null;
-        int attempts = 0;
-        boolean gotConnection = false;
-        boolean firstConnOrPassedByPrimaryHost = prevHostIndex == NO_CONNECTION_INDEX || isPrimaryHostIndex(prevHostIndex);
-        do {
-            try {
-                firstConnOrPassedByPrimaryHost = firstConnOrPassedByPrimaryHost || isPrimaryHostIndex(nextHostIndex);
+    private void failOver(int failedHostIdx) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            int prevHostIndex = this.currentHostIndex;
+            int nextHostIndex = nextHost(failedHostIdx, false);
+            int firstHostIndexTried = nextHostIndex;
+
+            SQLException lastExceptionCaught = null;
+            int attempts = 0;
+            boolean gotConnection = false;
+            boolean firstConnOrPassedByPrimaryHost = prevHostIndex == NO_CONNECTION_INDEX || isPrimaryHostIndex(prevHostIndex);
+            do {
+                try {
+                    firstConnOrPassedByPrimaryHost = firstConnOrPassedByPrimaryHost || isPrimaryHostIndex(nextHostIndex);
 
-                connectTo(nextHostIndex);
+                    connectTo(nextHostIndex);
 
-                if (firstConnOrPassedByPrimaryHost && connectedToSecondaryHost()) {
-                    resetAutoFallBackCounters();
-                }
-                gotConnection = true;
+                    if (firstConnOrPassedByPrimaryHost && connectedToSecondaryHost()) {
+                        resetAutoFallBackCounters();
+                    }
+                    gotConnection = true;
 
-            } catch (SQLException e) {
-                lastExceptionCaught = e;
+                } catch (SQLException e) {
+                    lastExceptionCaught = e;
 
-                if (shouldExceptionTriggerConnectionSwitch(e)) {
-                    int newNextHostIndex = nextHost(nextHostIndex, attempts > 0);
+                    if (shouldExceptionTriggerConnectionSwitch(e)) {
+                        int newNextHostIndex = nextHost(nextHostIndex, attempts > 0);
 
-                    if (newNextHostIndex == firstHostIndexTried && newNextHostIndex == (newNextHostIndex = nextHost(nextHostIndex, true))) { // Full turn
-                        attempts++;
+                        if (newNextHostIndex == firstHostIndexTried && newNextHostIndex == (newNextHostIndex = nextHost(nextHostIndex, true))) { // Full turn
+                            attempts++;
 
-                        try {
-                            Thread.sleep(250);
-                        } catch (InterruptedException ie) {
+                            try {
+                                Thread.sleep(250);
+                            } catch (InterruptedException ie) {
+                            }
                         }
-                    }
 
-                    nextHostIndex = newNextHostIndex;
+                        nextHostIndex = newNextHostIndex;
 
-                } else {
-                    throw e;
+                    } else {
+                        throw e;
+                    }
                 }
-            }
-        } while (attempts < this.retriesAllDown && !gotConnection);
+            } while (attempts < this.retriesAllDown && !gotConnection);
 
-        if (!gotConnection) {
-            throw lastExceptionCaught;
+            if (!gotConnection) {
+                throw lastExceptionCaught;
+            }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
     /**
      * Falls back to primary host or keep current connection if primary not available.
      */
-    synchronized void fallBackToPrimaryIfAvailable() {
-        JdbcConnection connection = null;
+    void fallBackToPrimaryIfAvailable() {
+        this.connectionLock.lock();
         try {
-            connection = createConnectionForHostIndex(this.primaryHostIndex);
-            switchCurrentConnectionTo(this.primaryHostIndex, connection);
-        } catch (SQLException e1) {
-            if (connection != null) {
-                try {
-                    connection.close();
-                } catch (SQLException e2) {
+            JdbcConnection connection = null;
+            try {
+                connection = createConnectionForHostIndex(this.primaryHostIndex);
+                switchCurrentConnectionTo(this.primaryHostIndex, connection);
+            } catch (SQLException e1) {
+                if (connection != null) {
+                    try {
+                        connection.close();
+                    } catch (SQLException e2) {
+                    }
                 }
+                // Keep current connection and reset counters
+                resetAutoFallBackCounters();
             }
-            // Keep current connection and reset counters
-            resetAutoFallBackCounters();
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -383,8 +418,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
     /**
      * Increments counter for query executions.
      */
-    synchronized void incrementQueriesIssuedSinceFailover() {
-        this.queriesIssuedSinceFailover++;
+    void incrementQueriesIssuedSinceFailover() {
+        this.connectionLock.lock();
+        try {
+            this.queriesIssuedSinceFailover++;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -393,8 +433,14 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return true if ready
      */
-    synchronized boolean readyToFallBackToPrimaryHost() {
-        return this.enableFallBackToPrimaryHost && connectedToSecondaryHost() && (secondsBeforeRetryPrimaryHostIsMet() || queriesBeforeRetryPrimaryHostIsMet());
+    boolean readyToFallBackToPrimaryHost() {
+        this.connectionLock.lock();
+        try {
+            return this.enableFallBackToPrimaryHost && connectedToSecondaryHost()
+                    && (secondsBeforeRetryPrimaryHostIsMet() || queriesBeforeRetryPrimaryHostIsMet());
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -402,8 +448,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return true if there is a connection
      */
-    synchronized boolean isConnected() {
-        return this.currentHostIndex != NO_CONNECTION_INDEX;
+    boolean isConnected() {
+        this.connectionLock.lock();
+        try {
+            return this.currentHostIndex != NO_CONNECTION_INDEX;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -413,8 +464,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      *            The host index in the global hosts list.
      * @return true if so
      */
-    synchronized boolean isPrimaryHostIndex(int hostIndex) {
-        return hostIndex == this.primaryHostIndex;
+    boolean isPrimaryHostIndex(int hostIndex) {
+        this.connectionLock.lock();
+        try {
+            return hostIndex == this.primaryHostIndex;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -422,8 +478,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return true if so
      */
-    synchronized boolean connectedToPrimaryHost() {
-        return isPrimaryHostIndex(this.currentHostIndex);
+    boolean connectedToPrimaryHost() {
+        this.connectionLock.lock();
+        try {
+            return isPrimaryHostIndex(this.currentHostIndex);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -431,8 +492,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return true if so
      */
-    synchronized boolean connectedToSecondaryHost() {
-        return this.currentHostIndex >= 0 && !isPrimaryHostIndex(this.currentHostIndex);
+    boolean connectedToSecondaryHost() {
+        this.connectionLock.lock();
+        try {
+            return this.currentHostIndex >= 0 && !isPrimaryHostIndex(this.currentHostIndex);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -440,8 +506,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return value
      */
-    private synchronized boolean secondsBeforeRetryPrimaryHostIsMet() {
-        return this.secondsBeforeRetryPrimaryHost > 0 && Util.secondsSinceMillis(this.primaryHostFailTimeMillis) >= this.secondsBeforeRetryPrimaryHost;
+    private boolean secondsBeforeRetryPrimaryHostIsMet() {
+        this.connectionLock.lock();
+        try {
+            return this.secondsBeforeRetryPrimaryHost > 0 && Util.secondsSinceMillis(this.primaryHostFailTimeMillis) >= this.secondsBeforeRetryPrimaryHost;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -449,16 +520,26 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * 
      * @return value
      */
-    private synchronized boolean queriesBeforeRetryPrimaryHostIsMet() {
-        return this.queriesBeforeRetryPrimaryHost > 0 && this.queriesIssuedSinceFailover >= this.queriesBeforeRetryPrimaryHost;
+    private boolean queriesBeforeRetryPrimaryHostIsMet() {
+        this.connectionLock.lock();
+        try {
+            return this.queriesBeforeRetryPrimaryHost > 0 && this.queriesIssuedSinceFailover >= this.queriesBeforeRetryPrimaryHost;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
      * Resets auto-fall back counters.
      */
-    private synchronized void resetAutoFallBackCounters() {
-        this.primaryHostFailTimeMillis = System.currentTimeMillis();
-        this.queriesIssuedSinceFailover = 0;
+    private void resetAutoFallBackCounters() {
+        this.connectionLock.lock();
+        try {
+            this.primaryHostFailTimeMillis = System.currentTimeMillis();
+            this.queriesIssuedSinceFailover = 0;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -468,8 +549,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      *             if an error occurs
      */
     @Override
-    synchronized void doClose() throws SQLException {
-        this.currentConnection.close();
+    void doClose() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            this.currentConnection.close();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -479,8 +565,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      *             if an error occurs
      */
     @Override
-    synchronized void doAbortInternal() throws SQLException {
-        this.currentConnection.abortInternal();
+    void doAbortInternal() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            this.currentConnection.abortInternal();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -490,8 +581,13 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      *             if an error occurs
      */
     @Override
-    synchronized void doAbort(Executor executor) throws SQLException {
-        this.currentConnection.abort(executor);
+    void doAbort(Executor executor) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            this.currentConnection.abort(executor);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /*
@@ -499,49 +595,54 @@ public class FailoverConnectionProxy extends MultiHostConnectionProxy {
      * This is the continuation of MultiHostConnectionProxy#invoke(Object, Method, Object[]).
      */
     @Override
-    public synchronized Object invokeMore(Object proxy, Method method, Object[] args) throws Throwable {
-        String methodName = method.getName();
+    public Object invokeMore(Object proxy, Method method, Object[] args) throws Throwable {
+        this.connectionLock.lock();
+        try {
+            String methodName = method.getName();
 
-        if (METHOD_SET_READ_ONLY.equals(methodName)) {
-            this.explicitlyReadOnly = (Boolean) args[0];
-            if (this.failoverReadOnly && connectedToSecondaryHost()) {
-                return null;
+            if (METHOD_SET_READ_ONLY.equals(methodName)) {
+                this.explicitlyReadOnly = (Boolean) args[0];
+                if (this.failoverReadOnly && connectedToSecondaryHost()) {
+                    return null;
+                }
             }
-        }
 
-        if (this.isClosed && !allowedOnClosedConnection(method)) {
-            if (this.autoReconnect && !this.closedExplicitly) {
-                this.currentHostIndex = NO_CONNECTION_INDEX; // Act as if this is the first connection but let it sync with the previous one.
-                pickNewConnection();
-                this.isClosed = false;
-                this.closedReason = null;
-            } else {
-                String reason = "No operations allowed after connection closed.";
-                if (this.closedReason != null) {
-                    reason += ("  " + this.closedReason);
+            if (this.isClosed && !allowedOnClosedConnection(method)) {
+                if (this.autoReconnect && !this.closedExplicitly) {
+                    this.currentHostIndex = NO_CONNECTION_INDEX; // Act as if this is the first connection but let it sync with the previous one.
+                    pickNewConnection();
+                    this.isClosed = false;
+                    this.closedReason = null;
+                } else {
+                    String reason = "No operations allowed after connection closed.";
+                    if (this.closedReason != null) {
+                        reason += ("  " + this.closedReason);
+                    }
+                    throw SQLError.createSQLException(reason, MysqlErrorNumbers.SQL_STATE_CONNECTION_NOT_OPEN, null /* no access to a interceptor here... */);
                 }
-                throw SQLError.createSQLException(reason, MysqlErrorNumbers.SQL_STATE_CONNECTION_NOT_OPEN, null /* no access to a interceptor here... */);
             }
-        }
 
-        Object result = null;
+            Object result = null;
 
-        try {
-            result = method.invoke(this.thisAsConnection, args);
-            result = proxyIfReturnTypeIsJdbcInterface(method.getReturnType(), result);
-        } catch (InvocationTargetException e) {
-            dealWithInvocationException(e);
-        }
+            try {
+                result = method.invoke(this.thisAsConnection, args);
+                result = proxyIfReturnTypeIsJdbcInterface(method.getReturnType(), result);
+            } catch (InvocationTargetException e) {
+                dealWithInvocationException(e);
+            }
 
-        if (METHOD_SET_AUTO_COMMIT.equals(methodName)) {
-            this.explicitlyAutoCommit = (Boolean) args[0];
-        }
+            if (METHOD_SET_AUTO_COMMIT.equals(methodName)) {
+                this.explicitlyAutoCommit = (Boolean) args[0];
+            }
 
-        if ((this.explicitlyAutoCommit || METHOD_COMMIT.equals(methodName) || METHOD_ROLLBACK.equals(methodName)) && readyToFallBackToPrimaryHost()) {
-            // Fall back to primary host at transaction boundary
-            fallBackToPrimaryIfAvailable();
-        }
+            if ((this.explicitlyAutoCommit || METHOD_COMMIT.equals(methodName) || METHOD_ROLLBACK.equals(methodName)) && readyToFallBackToPrimaryHost()) {
+                // Fall back to primary host at transaction boundary
+                fallBackToPrimaryIfAvailable();
+            }
 
-        return result;
+            return result;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 }
@@ -307,23 +307,28 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *             if an error occurs
      */
     @Override
-    synchronized void invalidateConnection(JdbcConnection conn) throws SQLException {
-        super.invalidateConnection(conn);
+    void invalidateConnection(JdbcConnection conn) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            super.invalidateConnection(conn);
 
-        // add host to the global blacklist, if enabled
-        if (this.isGlobalBlacklistEnabled()) {
-            addToGlobalBlacklist(this.connectionsToHostsMap.get(conn));
-        }
+            // add host to the global blacklist, if enabled
+            if (this.isGlobalBlacklistEnabled()) {
+                addToGlobalBlacklist(this.connectionsToHostsMap.get(conn));
+            }
 
-        // remove from liveConnections
-        this.liveConnections.remove(this.connectionsToHostsMap.get(conn));
-        Object mappedHost = this.connectionsToHostsMap.remove(conn);
-        if (mappedHost != null && this.hostsToListIndexMap.containsKey(mappedHost)) {
-            int hostIndex = this.hostsToListIndexMap.get(mappedHost);
-            // reset the statistics for the host
-            synchronized (this.responseTimes) {
-                this.responseTimes[hostIndex] = 0;
+            // remove from liveConnections
+            this.liveConnections.remove(this.connectionsToHostsMap.get(conn));
+            Object mappedHost = this.connectionsToHostsMap.remove(conn);
+            if (mappedHost != null && this.hostsToListIndexMap.containsKey(mappedHost)) {
+                int hostIndex = this.hostsToListIndexMap.get(mappedHost);
+                // reset the statistics for the host
+                synchronized (this.responseTimes) {
+                    this.responseTimes[hostIndex] = 0;
+                }
             }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -334,54 +339,60 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *             if an error occurs
      */
     @Override
-    public synchronized void pickNewConnection() throws SQLException {
-        if (this.isClosed && this.closedExplicitly) {
-            return;
-        }
+    public void pickNewConnection() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.isClosed && this.closedExplicitly) {
+                return;
+            }
 
-        List<String> hostPortList = Collections.unmodifiableList(this.hostsList.stream().map(hi -> hi.getHostPortPair()).collect(Collectors.toList()));
+            List<String> hostPortList = Collections.unmodifiableList(this.hostsList.stream().map(hi -> hi.getHostPortPair()).collect(Collectors.toList()));
 
-        if (this.currentConnection == null) { // startup
-            this.currentConnection = this.balancer.pickConnection(this, hostPortList, Collections.unmodifiableMap(this.liveConnections),
-                    this.responseTimes.clone(), this.retriesAllDown);
-            return;
-        }
+            if (this.currentConnection == null) { // startup
+                this.currentConnection = this.balancer.pickConnection(this, hostPortList, Collections.unmodifiableMap(this.liveConnections),
+                        this.responseTimes.clone(), this.retriesAllDown);
+                return;
+            }
 
-        if (this.currentConnection.isClosed()) {
-            invalidateCurrentConnection();
-        }
+            if (this.currentConnection.isClosed()) {
+                invalidateCurrentConnection();
+            }
 
-        int pingTimeout = this.currentConnection.getPropertySet().getIntegerProperty(PropertyKey.loadBalancePingTimeout).getValue();
-        boolean pingBeforeReturn = this.currentConnection.getPropertySet().getBooleanProperty(PropertyKey.loadBalanceValidateConnectionOnSwapServer).getValue();
+            int pingTimeout = this.currentConnection.getPropertySet().getIntegerProperty(PropertyKey.loadBalancePingTimeout).getValue();
+            boolean pingBeforeReturn = this.currentConnection.getPropertySet().getBooleanProperty(PropertyKey.loadBalanceValidateConnectionOnSwapServer)
+                    .getValue();
 
-        for (int hostsTried = 0, hostsToTry = this.hostsList.size(); hostsTried < hostsToTry; hostsTried++) {
-            ConnectionImpl newConn = null;
-            try {
-                newConn = (ConnectionImpl) this.balancer.pickConnection(this, hostPortList, Collections.unmodifiableMap(this.liveConnections),
-                        this.responseTimes.clone(), this.retriesAllDown);
+            for (int hostsTried = 0, hostsToTry = this.hostsList.size(); hostsTried < hostsToTry; hostsTried++) {
+                ConnectionImpl newConn = null;
+                try {
+                    newConn = (ConnectionImpl) this.balancer.pickConnection(this, hostPortList, Collections.unmodifiableMap(this.liveConnections),
+                            this.responseTimes.clone(), this.retriesAllDown);
 
-                if (this.currentConnection != null) {
-                    if (pingBeforeReturn) {
-                        newConn.pingInternal(true, pingTimeout);
-                    }
+                    if (this.currentConnection != null) {
+                        if (pingBeforeReturn) {
+                            newConn.pingInternal(true, pingTimeout);
+                        }
 
-                    syncSessionState(this.currentConnection, newConn);
-                }
+                        syncSessionState(this.currentConnection, newConn);
+                    }
 
-                this.currentConnection = newConn;
-                return;
+                    this.currentConnection = newConn;
+                    return;
 
-            } catch (SQLException e) {
-                if (shouldExceptionTriggerConnectionSwitch(e) && newConn != null) {
-                    // connection error, close up shop on current connection
-                    invalidateConnection(newConn);
+                } catch (SQLException e) {
+                    if (shouldExceptionTriggerConnectionSwitch(e) && newConn != null) {
+                        // connection error, close up shop on current connection
+                        invalidateConnection(newConn);
+                    }
                 }
             }
-        }
 
-        // no hosts available to swap connection to, close up.
-        this.isClosed = true;
-        this.closedReason = "Connection closed after inability to pick valid new connection during load-balance.";
+            // no hosts available to swap connection to, close up.
+            this.isClosed = true;
+            this.closedReason = "Connection closed after inability to pick valid new connection during load-balance.";
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -395,22 +406,27 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *             if an error occurs
      */
     @Override
-    public synchronized ConnectionImpl createConnectionForHost(HostInfo hostInfo) throws SQLException {
-        ConnectionImpl conn = super.createConnectionForHost(hostInfo);
+    public ConnectionImpl createConnectionForHost(HostInfo hostInfo) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            ConnectionImpl conn = super.createConnectionForHost(hostInfo);
 
-        this.liveConnections.put(hostInfo.getHostPortPair(), conn);
-        this.connectionsToHostsMap.put(conn, hostInfo.getHostPortPair());
+            this.liveConnections.put(hostInfo.getHostPortPair(), conn);
+            this.connectionsToHostsMap.put(conn, hostInfo.getHostPortPair());
 
-        this.totalPhysicalConnections++;
+            this.totalPhysicalConnections++;
 
-        for (QueryInterceptor stmtInterceptor : conn.getQueryInterceptorsInstances()) {
-            if (stmtInterceptor instanceof LoadBalancedAutoCommitInterceptor) {
-                ((LoadBalancedAutoCommitInterceptor) stmtInterceptor).resumeCounters();
-                break;
+            for (QueryInterceptor stmtInterceptor : conn.getQueryInterceptorsInstances()) {
+                if (stmtInterceptor instanceof LoadBalancedAutoCommitInterceptor) {
+                    ((LoadBalancedAutoCommitInterceptor) stmtInterceptor).resumeCounters();
+                    break;
+                }
             }
-        }
 
-        return conn;
+            return conn;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     @Override
@@ -440,89 +456,114 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      * @throws SQLException
      *             if an error occurs
      */
-    public synchronized ConnectionImpl createConnectionForHost(String hostPortPair) throws SQLException {
-        for (HostInfo hi : this.hostsList) {
-            if (hi.getHostPortPair().equals(hostPortPair)) {
-                return createConnectionForHost(hi);
+    public ConnectionImpl createConnectionForHost(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            for (HostInfo hi : this.hostsList) {
+                if (hi.getHostPortPair().equals(hostPortPair)) {
+                    return createConnectionForHost(hi);
+                }
             }
+            return null;
+        } finally {
+            this.connectionLock.unlock();
         }
-        return null;
     }
 
     /**
      * Closes all live connections.
      */
-    private synchronized void closeAllConnections() {
-        // close all underlying connections
-        for (Connection c : this.liveConnections.values()) {
-            try {
-                c.close();
-            } catch (SQLException e) {
+    private void closeAllConnections() {
+        this.connectionLock.lock();
+        try {
+            // close all underlying connections
+            for (Connection c : this.liveConnections.values()) {
+                try {
+                    c.close();
+                } catch (SQLException e) {
+                }
             }
-        }
 
-        if (!this.isClosed) {
-            if (this.connectionGroup != null) {
-                this.connectionGroup.closeConnectionProxy(this);
+            if (!this.isClosed) {
+                if (this.connectionGroup != null) {
+                    this.connectionGroup.closeConnectionProxy(this);
+                }
             }
-        }
 
-        this.liveConnections.clear();
-        this.connectionsToHostsMap.clear();
+            this.liveConnections.clear();
+            this.connectionsToHostsMap.clear();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
      * Closes all live connections.
      */
     @Override
-    synchronized void doClose() {
-        closeAllConnections();
+    void doClose() {
+        this.connectionLock.lock();
+        try {
+            closeAllConnections();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
      * Aborts all live connections
      */
     @Override
-    synchronized void doAbortInternal() {
-        // abort all underlying connections
-        for (JdbcConnection c : this.liveConnections.values()) {
-            try {
-                c.abortInternal();
-            } catch (SQLException e) {
+    void doAbortInternal() {
+        this.connectionLock.lock();
+        try {
+            // abort all underlying connections
+            for (JdbcConnection c : this.liveConnections.values()) {
+                try {
+                    c.abortInternal();
+                } catch (SQLException e) {
+                }
             }
-        }
 
-        if (!this.isClosed) {
-            if (this.connectionGroup != null) {
-                this.connectionGroup.closeConnectionProxy(this);
+            if (!this.isClosed) {
+                if (this.connectionGroup != null) {
+                    this.connectionGroup.closeConnectionProxy(this);
+                }
             }
-        }
 
-        this.liveConnections.clear();
-        this.connectionsToHostsMap.clear();
+            this.liveConnections.clear();
+            this.connectionsToHostsMap.clear();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
      * Aborts all live connections, using the provided Executor.
      */
     @Override
-    synchronized void doAbort(Executor executor) {
-        // close all underlying connections
-        for (Connection c : this.liveConnections.values()) {
-            try {
-                c.abort(executor);
-            } catch (SQLException e) {
+    void doAbort(Executor executor) {
+        this.connectionLock.lock();
+        try {
+            // close all underlying connections
+            for (Connection c : this.liveConnections.values()) {
+                try {
+                    c.abort(executor);
+                } catch (SQLException e) {
+                }
             }
-        }
 
-        if (!this.isClosed) {
-            if (this.connectionGroup != null) {
-                this.connectionGroup.closeConnectionProxy(this);
+            if (!this.isClosed) {
+                if (this.connectionGroup != null) {
+                    this.connectionGroup.closeConnectionProxy(this);
+                }
             }
-        }
 
-        this.liveConnections.clear();
-        this.connectionsToHostsMap.clear();
+            this.liveConnections.clear();
+            this.connectionsToHostsMap.clear();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -531,74 +572,80 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      * This is the continuation of MultiHostConnectionProxy#invoke(Object, Method, Object[]).
      */
     @Override
-    public synchronized Object invokeMore(Object proxy, Method method, Object[] args) throws Throwable {
-        String methodName = method.getName();
-
-        if (this.isClosed && !allowedOnClosedConnection(method) && method.getExceptionTypes().length > 0) { // TODO remove method.getExceptionTypes().length ?
-            if (this.autoReconnect && !this.closedExplicitly) {
-                // try to reconnect first!
-                this.currentConnection = null;
-                pickNewConnection();
-                this.isClosed = false;
-                this.closedReason = null;
-            } else {
-                String reason = "No operations allowed after connection closed.";
-                if (this.closedReason != null) {
-                    reason += " " + this.closedReason;
-                }
+    public Object invokeMore(Object proxy, Method method, Object[] args) throws Throwable {
+        this.connectionLock.lock();
+        try {
+            String methodName = method.getName();
+
+            // TODO remove method.getExceptionTypes().length ?
+            if (this.isClosed && !allowedOnClosedConnection(method) && method.getExceptionTypes().length > 0) {
+                if (this.autoReconnect && !this.closedExplicitly) {
+                    // try to reconnect first!
+                    this.currentConnection = null;
+                    pickNewConnection();
+                    this.isClosed = false;
+                    this.closedReason = null;
+                } else {
+                    String reason = "No operations allowed after connection closed.";
+                    if (this.closedReason != null) {
+                        reason += " " + this.closedReason;
+                    }
 
-                for (Class<?> excls : method.getExceptionTypes()) {
-                    if (SQLException.class.isAssignableFrom(excls)) {
-                        throw SQLError.createSQLException(reason, MysqlErrorNumbers.SQL_STATE_CONNECTION_NOT_OPEN,
-                                null /* no access to an interceptor here... */);
+                    for (Class<?> excls : method.getExceptionTypes()) {
+                        if (SQLException.class.isAssignableFrom(excls)) {
+                            throw SQLError.createSQLException(reason, MysqlErrorNumbers.SQL_STATE_CONNECTION_NOT_OPEN,
+                                    null /* no access to an interceptor here... */);
+                        }
                     }
+                    throw ExceptionFactory.createException(CJCommunicationsException.class, reason);
                 }
-                throw ExceptionFactory.createException(CJCommunicationsException.class, reason);
             }
-        }
 
-        if (!this.inTransaction) {
-            this.inTransaction = true;
-            this.transactionStartTime = System.nanoTime();
-            this.transactionCount++;
-        }
+            if (!this.inTransaction) {
+                this.inTransaction = true;
+                this.transactionStartTime = System.nanoTime();
+                this.transactionCount++;
+            }
 
-        Object result = null;
+            Object result = null;
 
-        try {
-            result = method.invoke(this.thisAsConnection, args);
+            try {
+                result = method.invoke(this.thisAsConnection, args);
 
-            if (result != null) {
-                if (result instanceof com.mysql.cj.jdbc.JdbcStatement) {
-                    ((com.mysql.cj.jdbc.JdbcStatement) result).setPingTarget(this);
+                if (result != null) {
+                    if (result instanceof com.mysql.cj.jdbc.JdbcStatement) {
+                        ((com.mysql.cj.jdbc.JdbcStatement) result).setPingTarget(this);
+                    }
+                    result = proxyIfReturnTypeIsJdbcInterface(method.getReturnType(), result);
                 }
-                result = proxyIfReturnTypeIsJdbcInterface(method.getReturnType(), result);
-            }
 
-        } catch (InvocationTargetException e) {
-            dealWithInvocationException(e);
+            } catch (InvocationTargetException e) {
+                dealWithInvocationException(e);
 
-        } finally {
-            if ("commit".equals(methodName) || "rollback".equals(methodName)) {
-                this.inTransaction = false;
-
-                // Update stats
-                String host = this.connectionsToHostsMap.get(this.currentConnection);
-                // avoid NPE if the connection has already been removed from connectionsToHostsMap in invalidateCurrenctConnection()
-                if (host != null) {
-                    synchronized (this.responseTimes) {
-                        Integer hostIndex = (this.hostsToListIndexMap.get(host));
-
-                        if (hostIndex != null && hostIndex < this.responseTimes.length) {
-                            this.responseTimes[hostIndex] = System.nanoTime() - this.transactionStartTime;
+            } finally {
+                if ("commit".equals(methodName) || "rollback".equals(methodName)) {
+                    this.inTransaction = false;
+
+                    // Update stats
+                    String host = this.connectionsToHostsMap.get(this.currentConnection);
+                    // avoid NPE if the connection has already been removed from connectionsToHostsMap in invalidateCurrenctConnection()
+                    if (host != null) {
+                        synchronized (this.responseTimes) {
+                            Integer hostIndex = (this.hostsToListIndexMap.get(host));
+
+                            if (hostIndex != null && hostIndex < this.responseTimes.length) {
+                                this.responseTimes[hostIndex] = System.nanoTime() - this.transactionStartTime;
+                            }
                         }
                     }
+                    pickNewConnection();
                 }
-                pickNewConnection();
             }
-        }
 
-        return result;
+            return result;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     /**
@@ -608,64 +655,72 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *             if an error occurs
      */
     @Override
-    public synchronized void doPing() throws SQLException {
-        SQLException se = null;
-        boolean foundHost = false;
-        int pingTimeout = this.currentConnection.getPropertySet().getIntegerProperty(PropertyKey.loadBalancePingTimeout).getValue();
+    public void doPing() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            SQLException se = null;
+            boolean foundHost = false;
+            int pingTimeout = this.currentConnection.getPropertySet().getIntegerProperty(PropertyKey.loadBalancePingTimeout).getValue();
 
-        synchronized (this) {
-            for (HostInfo hi : this.hostsList) {
-                String host = hi.getHostPortPair();
-                ConnectionImpl conn = this.liveConnections.get(host);
-                if (conn == null) {
-                    continue;
-                }
-                try {
-                    if (pingTimeout == 0) {
-                        conn.ping();
-                    } else {
-                        conn.pingInternal(true, pingTimeout);
-                    }
-                    foundHost = true;
-                } catch (SQLException e) {
-                    // give up if it is the current connection, otherwise NPE faking resultset later.
-                    if (host.equals(this.connectionsToHostsMap.get(this.currentConnection))) {
-                        // clean up underlying connections, since connection pool won't do it
-                        closeAllConnections();
-                        this.isClosed = true;
-                        this.closedReason = "Connection closed because ping of current connection failed.";
-                        throw e;
+            this.connectionLock.lock();
+            try {
+                for (HostInfo hi : this.hostsList) {
+                    String host = hi.getHostPortPair();
+                    ConnectionImpl conn = this.liveConnections.get(host);
+                    if (conn == null) {
+                        continue;
                     }
+                    try {
+                        if (pingTimeout == 0) {
+                            conn.ping();
+                        } else {
+                            conn.pingInternal(true, pingTimeout);
+                        }
+                        foundHost = true;
+                    } catch (SQLException e) {
+                        // give up if it is the current connection, otherwise NPE faking resultset later.
+                        if (host.equals(this.connectionsToHostsMap.get(this.currentConnection))) {
+                            // clean up underlying connections, since connection pool won't do it
+                            closeAllConnections();
+                            this.isClosed = true;
+                            this.closedReason = "Connection closed because ping of current connection failed.";
+                            throw e;
+                        }
 
-                    // if the Exception is caused by ping connection lifetime checks, don't add to blacklist
-                    if (e.getMessage().equals(Messages.getString("Connection.exceededConnectionLifetime"))) {
-                        // only set the return Exception if it's null
-                        if (se == null) {
+                        // if the Exception is caused by ping connection lifetime checks, don't add to blacklist
+                        if (e.getMessage().equals(Messages.getString("Connection.exceededConnectionLifetime"))) {
+                            // only set the return Exception if it's null
+                            if (se == null) {
+                                se = e;
+                            }
+                        } else {
+                            // overwrite the return Exception no matter what
                             se = e;
+                            if (isGlobalBlacklistEnabled()) {
+                                addToGlobalBlacklist(host);
+                            }
                         }
-                    } else {
-                        // overwrite the return Exception no matter what
-                        se = e;
-                        if (isGlobalBlacklistEnabled()) {
-                            addToGlobalBlacklist(host);
-                        }
+                        // take the connection out of the liveConnections Map
+                        this.liveConnections.remove(this.connectionsToHostsMap.get(conn));
                     }
-                    // take the connection out of the liveConnections Map
-                    this.liveConnections.remove(this.connectionsToHostsMap.get(conn));
                 }
+            } finally {
+                this.connectionLock.unlock();
             }
-        }
-        // if there were no successful pings
-        if (!foundHost) {
-            closeAllConnections();
-            this.isClosed = true;
-            this.closedReason = "Connection closed due to inability to ping any active connections.";
-            // throw the stored Exception, if exists
-            if (se != null) {
-                throw se;
+            // if there were no successful pings
+            if (!foundHost) {
+                closeAllConnections();
+                this.isClosed = true;
+                this.closedReason = "Connection closed due to inability to ping any active connections.";
+                // throw the stored Exception, if exists
+                if (se != null) {
+                    throw se;
+                }
+                // or create a new SQLException and throw it, must be no liveConnections
+                ((ConnectionImpl) this.currentConnection).throwConnectionClosedException();
             }
-            // or create a new SQLException and throw it, must be no liveConnections
-            ((ConnectionImpl) this.currentConnection).throwConnectionClosedException();
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -710,50 +765,55 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      * @return
      *         A local hosts blacklist.
      */
-    public synchronized Map<String, Long> getGlobalBlacklist() {
-        if (!isGlobalBlacklistEnabled()) {
-            if (this.hostsToRemove.isEmpty()) {
-                return new HashMap<>(1);
-            }
-            HashMap<String, Long> fakedBlacklist = new HashMap<>();
-            for (String h : this.hostsToRemove) {
-                fakedBlacklist.put(h, System.currentTimeMillis() + 5000);
+    public Map<String, Long> getGlobalBlacklist() {
+        this.connectionLock.lock();
+        try {
+            if (!isGlobalBlacklistEnabled()) {
+                if (this.hostsToRemove.isEmpty()) {
+                    return new HashMap<>(1);
+                }
+                HashMap<String, Long> fakedBlacklist = new HashMap<>();
+                for (String h : this.hostsToRemove) {
+                    fakedBlacklist.put(h, System.currentTimeMillis() + 5000);
+                }
+                return fakedBlacklist;
             }
-            return fakedBlacklist;
-        }
 
-        // Make a local copy of the blacklist
-        Map<String, Long> blacklistClone = new HashMap<>(globalBlacklist.size());
-        // Copy everything from synchronized global blacklist to local copy for manipulation
-        synchronized (globalBlacklist) {
-            blacklistClone.putAll(globalBlacklist);
-        }
-        Set<String> keys = blacklistClone.keySet();
-
-        // We're only interested in blacklisted hosts that are in the hostList
-        keys.retainAll(this.hostsList.stream().map(hi -> hi.getHostPortPair()).collect(Collectors.toList()));
-
-        // Don't need to synchronize here as we using a local copy
-        for (Iterator<String> i = keys.iterator(); i.hasNext();) {
-            String host = i.next();
-            // OK if null is returned because another thread already purged Map entry.
-            Long timeout = globalBlacklist.get(host);
-            if (timeout != null && timeout < System.currentTimeMillis()) {
-                // Timeout has expired, remove from blacklist
-                synchronized (globalBlacklist) {
-                    globalBlacklist.remove(host);
+            // Make a local copy of the blacklist
+            Map<String, Long> blacklistClone = new HashMap<>(globalBlacklist.size());
+            // Copy everything from synchronized global blacklist to local copy for manipulation
+            synchronized (globalBlacklist) {
+                blacklistClone.putAll(globalBlacklist);
+            }
+            Set<String> keys = blacklistClone.keySet();
+
+            // We're only interested in blacklisted hosts that are in the hostList
+            keys.retainAll(this.hostsList.stream().map(hi -> hi.getHostPortPair()).collect(Collectors.toList()));
+
+            // Don't need to synchronize here as we using a local copy
+            for (Iterator<String> i = keys.iterator(); i.hasNext();) {
+                String host = i.next();
+                // OK if null is returned because another thread already purged Map entry.
+                Long timeout = globalBlacklist.get(host);
+                if (timeout != null && timeout < System.currentTimeMillis()) {
+                    // Timeout has expired, remove from blacklist
+                    synchronized (globalBlacklist) {
+                        globalBlacklist.remove(host);
+                    }
+                    i.remove();
                 }
-                i.remove();
+
+            }
+            if (keys.size() == this.hostsList.size()) {
+                // return an empty blacklist, let the BalanceStrategy implementations try to connect to everything since it appears that all hosts are
+                // unavailable - we don't want to wait for loadBalanceBlacklistTimeout to expire.
+                return new HashMap<>(1);
             }
 
+            return blacklistClone;
+        } finally {
+            this.connectionLock.unlock();
         }
-        if (keys.size() == this.hostsList.size()) {
-            // return an empty blacklist, let the BalanceStrategy implementations try to connect to everything since it appears that all hosts are
-            // unavailable - we don't want to wait for loadBalanceBlacklistTimeout to expire.
-            return new HashMap<>(1);
-        }
-
-        return blacklistClone;
     }
 
     /**
@@ -772,7 +832,8 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
 
         int timeBetweenChecks = this.hostRemovalGracePeriod > 1000 ? 1000 : this.hostRemovalGracePeriod;
 
-        synchronized (this) {
+        this.connectionLock.lock();
+        try {
             addToGlobalBlacklist(hostPortPair, System.currentTimeMillis() + this.hostRemovalGracePeriod + timeBetweenChecks);
 
             long cur = System.currentTimeMillis();
@@ -791,6 +852,8 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
                     // better to swallow this and retry.
                 }
             }
+        } finally {
+            this.connectionLock.unlock();
         }
 
         removeHost(hostPortPair);
@@ -804,35 +867,40 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      * @throws SQLException
      *             if an error occurs
      */
-    public synchronized void removeHost(String hostPortPair) throws SQLException {
-        if (this.connectionGroup != null) {
-            if (this.connectionGroup.getInitialHosts().size() == 1 && this.connectionGroup.getInitialHosts().contains(hostPortPair)) {
-                throw SQLError.createSQLException(Messages.getString("LoadBalancedConnectionProxy.0"), null);
+    public void removeHost(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.connectionGroup != null) {
+                if (this.connectionGroup.getInitialHosts().size() == 1 && this.connectionGroup.getInitialHosts().contains(hostPortPair)) {
+                    throw SQLError.createSQLException(Messages.getString("LoadBalancedConnectionProxy.0"), null);
+                }
             }
-        }
-
-        this.hostsToRemove.add(hostPortPair);
 
-        this.connectionsToHostsMap.remove(this.liveConnections.remove(hostPortPair));
-        if (this.hostsToListIndexMap.remove(hostPortPair) != null) {
-            long[] newResponseTimes = new long[this.responseTimes.length - 1];
-            int newIdx = 0;
-            for (HostInfo hostInfo : this.hostsList) {
-                String host = hostInfo.getHostPortPair();
-                if (!this.hostsToRemove.contains(host)) {
-                    Integer idx = this.hostsToListIndexMap.get(host);
-                    if (idx != null && idx < this.responseTimes.length) {
-                        newResponseTimes[newIdx] = this.responseTimes[idx];
+            this.hostsToRemove.add(hostPortPair);
+
+            this.connectionsToHostsMap.remove(this.liveConnections.remove(hostPortPair));
+            if (this.hostsToListIndexMap.remove(hostPortPair) != null) {
+                long[] newResponseTimes = new long[this.responseTimes.length - 1];
+                int newIdx = 0;
+                for (HostInfo hostInfo : this.hostsList) {
+                    String host = hostInfo.getHostPortPair();
+                    if (!this.hostsToRemove.contains(host)) {
+                        Integer idx = this.hostsToListIndexMap.get(host);
+                        if (idx != null && idx < this.responseTimes.length) {
+                            newResponseTimes[newIdx] = this.responseTimes[idx];
+                        }
+                        this.hostsToListIndexMap.put(host, newIdx++);
                     }
-                    this.hostsToListIndexMap.put(host, newIdx++);
                 }
+                this.responseTimes = newResponseTimes;
             }
-            this.responseTimes = newResponseTimes;
-        }
 
-        if (hostPortPair.equals(this.currentConnection.getHostPortPair())) {
-            invalidateConnection(this.currentConnection);
-            pickNewConnection();
+            if (hostPortPair.equals(this.currentConnection.getHostPortPair())) {
+                invalidateConnection(this.currentConnection);
+                pickNewConnection();
+            }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -843,60 +911,100 @@ public class LoadBalancedConnectionProxy extends MultiHostConnectionProxy implem
      *            The host to be added.
      * @return true if host was added and false if the host list already contains it
      */
-    public synchronized boolean addHost(String hostPortPair) {
-        if (this.hostsToListIndexMap.containsKey(hostPortPair)) {
-            return false;
-        }
+    public boolean addHost(String hostPortPair) {
+        this.connectionLock.lock();
+        try {
+            if (this.hostsToListIndexMap.containsKey(hostPortPair)) {
+                return false;
+            }
 
-        long[] newResponseTimes = new long[this.responseTimes.length + 1];
-        System.arraycopy(this.responseTimes, 0, newResponseTimes, 0, this.responseTimes.length);
+            long[] newResponseTimes = new long[this.responseTimes.length + 1];
+            System.arraycopy(this.responseTimes, 0, newResponseTimes, 0, this.responseTimes.length);
 
-        this.responseTimes = newResponseTimes;
-        if (this.hostsList.stream().noneMatch(hi -> hostPortPair.equals(hi.getHostPortPair()))) {
-            this.hostsList.add(this.connectionUrl.getHostOrSpawnIsolated(hostPortPair));
-        }
-        this.hostsToListIndexMap.put(hostPortPair, this.responseTimes.length - 1);
-        this.hostsToRemove.remove(hostPortPair);
+            this.responseTimes = newResponseTimes;
+            if (this.hostsList.stream().noneMatch(hi -> hostPortPair.equals(hi.getHostPortPair()))) {
+                this.hostsList.add(this.connectionUrl.getHostOrSpawnIsolated(hostPortPair));
+            }
+            this.hostsToListIndexMap.put(hostPortPair, this.responseTimes.length - 1);
+            this.hostsToRemove.remove(hostPortPair);
 
-        return true;
+            return true;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized boolean inTransaction() {
-        return this.inTransaction;
+    public boolean inTransaction() {
+        this.connectionLock.lock();
+        try {
+            return this.inTransaction;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized long getTransactionCount() {
-        return this.transactionCount;
+    public long getTransactionCount() {
+        this.connectionLock.lock();
+        try {
+            return this.transactionCount;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized long getActivePhysicalConnectionCount() {
-        return this.liveConnections.size();
+    public long getActivePhysicalConnectionCount() {
+        this.connectionLock.lock();
+        try {
+            return this.liveConnections.size();
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized long getTotalPhysicalConnectionCount() {
-        return this.totalPhysicalConnections;
+    public long getTotalPhysicalConnectionCount() {
+        this.connectionLock.lock();
+        try {
+            return this.totalPhysicalConnections;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized long getConnectionGroupProxyID() {
-        return this.connectionGroupProxyID;
+    public long getConnectionGroupProxyID() {
+        this.connectionLock.lock();
+        try {
+            return this.connectionGroupProxyID;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized String getCurrentActiveHost() {
-        JdbcConnection c = this.currentConnection;
-        if (c != null) {
-            Object o = this.connectionsToHostsMap.get(c);
-            if (o != null) {
-                return o.toString();
+    public String getCurrentActiveHost() {
+        this.connectionLock.lock();
+        try {
+            JdbcConnection c = this.currentConnection;
+            if (c != null) {
+                Object o = this.connectionsToHostsMap.get(c);
+                if (o != null) {
+                    return o.toString();
+                }
             }
+            return null;
+        } finally {
+            this.connectionLock.unlock();
         }
-        return null;
     }
 
-    public synchronized long getCurrentTransactionDuration() {
-        if (this.inTransaction && this.transactionStartTime > 0) {
-            return System.nanoTime() - this.transactionStartTime;
+    public long getCurrentTransactionDuration() {
+        this.connectionLock.lock();
+        try {
+            if (this.inTransaction && this.transactionStartTime > 0) {
+                return System.nanoTime() - this.transactionStartTime;
+            }
+            return 0;
+        } finally {
+            this.connectionLock.unlock();
         }
-        return 0;
     }
 
     /**
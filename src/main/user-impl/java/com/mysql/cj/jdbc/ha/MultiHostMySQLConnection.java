@@ -46,6 +46,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.ServerVersion;
@@ -93,8 +94,11 @@ public class MultiHostMySQLConnection implements JdbcConnection {
 
     @Override
     public JdbcConnection getActiveMySQLConnection() {
-        synchronized (this.thisAsProxy) {
+        this.thisAsProxy.getConnectionLock().lock();
+        try {
             return this.thisAsProxy.currentConnection;
+        } finally {
+            this.thisAsProxy.getConnectionLock().unlock();
         }
     }
 
@@ -645,6 +649,11 @@ public class MultiHostMySQLConnection implements JdbcConnection {
         return getActiveMySQLConnection().getConnectionMutex();
     }
 
+    @Override
+    public Lock getConnectionLock() {
+        return getActiveMySQLConnection().getConnectionLock();
+    }
+
     @Override
     public int getSessionMaxRows() {
         return getActiveMySQLConnection().getSessionMaxRows();
@@ -729,8 +738,11 @@ public class MultiHostMySQLConnection implements JdbcConnection {
 
     @Override
     public ClientInfoProvider getClientInfoProviderImpl() throws SQLException {
-        synchronized (getThisAsProxy()) {
+        getThisAsProxy().getConnectionLock().lock();
+        try {
             return getActiveMySQLConnection().getClientInfoProviderImpl();
+        } finally {
+            getThisAsProxy().getConnectionLock().unlock();
         }
     }
 
@@ -453,40 +453,50 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         return this.slavesConnection;
     }
 
-    private synchronized boolean switchToMasterConnection() throws SQLException {
-        if (this.masterConnection == null || this.masterConnection.isClosed()) {
-            try {
-                if (initializeMasterConnection() == null) {
-                    return false;
+    private boolean switchToMasterConnection() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.masterConnection == null || this.masterConnection.isClosed()) {
+                try {
+                    if (initializeMasterConnection() == null) {
+                        return false;
+                    }
+                } catch (SQLException e) {
+                    this.currentConnection = null;
+                    throw e;
                 }
-            } catch (SQLException e) {
-                this.currentConnection = null;
-                throw e;
             }
+            if (!isMasterConnection() && this.masterConnection != null) {
+                syncSessionState(this.currentConnection, this.masterConnection, false);
+                this.currentConnection = this.masterConnection;
+            }
+            return true;
+        } finally {
+            this.connectionLock.unlock();
         }
-        if (!isMasterConnection() && this.masterConnection != null) {
-            syncSessionState(this.currentConnection, this.masterConnection, false);
-            this.currentConnection = this.masterConnection;
-        }
-        return true;
     }
 
-    private synchronized boolean switchToSlavesConnection() throws SQLException {
-        if (this.slavesConnection == null || this.slavesConnection.isClosed()) {
-            try {
-                if (initializeSlavesConnection() == null) {
-                    return false;
+    private boolean switchToSlavesConnection() throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.slavesConnection == null || this.slavesConnection.isClosed()) {
+                try {
+                    if (initializeSlavesConnection() == null) {
+                        return false;
+                    }
+                } catch (SQLException e) {
+                    this.currentConnection = null;
+                    throw e;
                 }
-            } catch (SQLException e) {
-                this.currentConnection = null;
-                throw e;
             }
+            if (!isSlavesConnection() && this.slavesConnection != null) {
+                syncSessionState(this.currentConnection, this.slavesConnection, true);
+                this.currentConnection = this.slavesConnection;
+            }
+            return true;
+        } finally {
+            this.connectionLock.unlock();
         }
-        if (!isSlavesConnection() && this.slavesConnection != null) {
-            syncSessionState(this.currentConnection, this.slavesConnection, true);
-            this.currentConnection = this.slavesConnection;
-        }
-        return true;
     }
 
     private boolean switchToSlavesConnectionIfNecessary() throws SQLException {
@@ -502,73 +512,103 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         return false;
     }
 
-    public synchronized JdbcConnection getCurrentConnection() {
-        return this.currentConnection == null ? LoadBalancedConnectionProxy.getNullLoadBalancedConnectionInstance() : this.currentConnection;
+    public JdbcConnection getCurrentConnection() {
+        this.connectionLock.lock();
+        try {
+            return this.currentConnection == null ? LoadBalancedConnectionProxy.getNullLoadBalancedConnectionInstance() : this.currentConnection;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
     public long getConnectionGroupId() {
         return this.connectionGroupID;
     }
 
-    public synchronized JdbcConnection getMasterConnection() {
-        return this.masterConnection;
+    public JdbcConnection getMasterConnection() {
+        this.connectionLock.lock();
+        try {
+            return this.masterConnection;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void promoteSlaveToMaster(String hostPortPair) throws SQLException {
-        HostInfo host = getSlaveHost(hostPortPair);
-        if (host == null) {
-            return;
-        }
-        this.masterHosts.add(host);
-        removeSlave(hostPortPair);
-        if (this.masterConnection != null) {
-            this.masterConnection.addHost(hostPortPair);
-        }
+    public void promoteSlaveToMaster(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            HostInfo host = getSlaveHost(hostPortPair);
+            if (host == null) {
+                return;
+            }
+            this.masterHosts.add(host);
+            removeSlave(hostPortPair);
+            if (this.masterConnection != null) {
+                this.masterConnection.addHost(hostPortPair);
+            }
 
-        // Switch back to the masters connection if this connection was running in fail-safe mode.
-        if (!this.readOnly && !isMasterConnection()) {
-            switchToMasterConnection();
+            // Switch back to the masters connection if this connection was running in fail-safe mode.
+            if (!this.readOnly && !isMasterConnection()) {
+                switchToMasterConnection();
+            }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
-    public synchronized void removeMasterHost(String hostPortPair) throws SQLException {
-        this.removeMasterHost(hostPortPair, true);
+    public void removeMasterHost(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            this.removeMasterHost(hostPortPair, true);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void removeMasterHost(String hostPortPair, boolean waitUntilNotInUse) throws SQLException {
-        this.removeMasterHost(hostPortPair, waitUntilNotInUse, false);
+    public void removeMasterHost(String hostPortPair, boolean waitUntilNotInUse) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            this.removeMasterHost(hostPortPair, waitUntilNotInUse, false);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void removeMasterHost(String hostPortPair, boolean waitUntilNotInUse, boolean isNowSlave) throws SQLException {
-        HostInfo host = getMasterHost(hostPortPair);
-        if (host == null) {
-            return;
-        }
-        if (isNowSlave) {
-            this.slaveHosts.add(host);
-            resetReadFromMasterWhenNoSlaves();
-        }
-        this.masterHosts.remove(host);
+    public void removeMasterHost(String hostPortPair, boolean waitUntilNotInUse, boolean isNowSlave) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            HostInfo host = getMasterHost(hostPortPair);
+            if (host == null) {
+                return;
+            }
+            if (isNowSlave) {
+                this.slaveHosts.add(host);
+                resetReadFromMasterWhenNoSlaves();
+            }
+            this.masterHosts.remove(host);
 
-        // The master connection may have been implicitly closed by a previous op., don't let it stop us.
-        if (this.masterConnection == null || this.masterConnection.isClosed()) {
-            this.masterConnection = null;
-            return;
-        }
+            // The master connection may have been implicitly closed by a previous op., don't let it stop us.
+            if (this.masterConnection == null || this.masterConnection.isClosed()) {
+                this.masterConnection = null;
+                return;
+            }
 
-        if (waitUntilNotInUse) {
-            this.masterConnection.removeHostWhenNotInUse(hostPortPair);
-        } else {
-            this.masterConnection.removeHost(hostPortPair);
-        }
+            if (waitUntilNotInUse) {
+                this.masterConnection.removeHostWhenNotInUse(hostPortPair);
+            } else {
+                this.masterConnection.removeHost(hostPortPair);
+            }
 
-        // Close the connection if that was the last master.
-        if (this.masterHosts.isEmpty()) {
-            this.masterConnection.close();
-            this.masterConnection = null;
+            // Close the connection if that was the last master.
+            if (this.masterHosts.isEmpty()) {
+                this.masterConnection.close();
+                this.masterConnection = null;
 
-            // Default behavior, no need to check this.readFromMasterWhenNoSlaves.
-            switchToSlavesConnectionIfNecessary();
+                // Default behavior, no need to check this.readFromMasterWhenNoSlaves.
+                switchToSlavesConnectionIfNecessary();
+            }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -579,57 +619,77 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         return this.masterHosts.stream().anyMatch(hi -> hostPortPair.equalsIgnoreCase(hi.getHostPortPair()));
     }
 
-    public synchronized JdbcConnection getSlavesConnection() {
-        return this.slavesConnection;
+    public JdbcConnection getSlavesConnection() {
+        this.connectionLock.lock();
+        try {
+            return this.slavesConnection;
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void addSlaveHost(String hostPortPair) throws SQLException {
-        if (this.isHostSlave(hostPortPair)) {
-            return;
-        }
-        this.slaveHosts.add(getConnectionUrl().getSlaveHostOrSpawnIsolated(hostPortPair));
-        resetReadFromMasterWhenNoSlaves();
-        if (this.slavesConnection == null) {
-            initializeSlavesConnection();
-            switchToSlavesConnectionIfNecessary();
-        } else {
-            this.slavesConnection.addHost(hostPortPair);
+    public void addSlaveHost(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (this.isHostSlave(hostPortPair)) {
+                return;
+            }
+            this.slaveHosts.add(getConnectionUrl().getSlaveHostOrSpawnIsolated(hostPortPair));
+            resetReadFromMasterWhenNoSlaves();
+            if (this.slavesConnection == null) {
+                initializeSlavesConnection();
+                switchToSlavesConnectionIfNecessary();
+            } else {
+                this.slavesConnection.addHost(hostPortPair);
+            }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
-    public synchronized void removeSlave(String hostPortPair) throws SQLException {
-        removeSlave(hostPortPair, true);
+    public void removeSlave(String hostPortPair) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            removeSlave(hostPortPair, true);
+        } finally {
+            this.connectionLock.unlock();
+        }
     }
 
-    public synchronized void removeSlave(String hostPortPair, boolean closeGently) throws SQLException {
-        HostInfo host = getSlaveHost(hostPortPair);
-        if (host == null) {
-            return;
-        }
-        this.slaveHosts.remove(host);
-        resetReadFromMasterWhenNoSlaves();
+    public void removeSlave(String hostPortPair, boolean closeGently) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            HostInfo host = getSlaveHost(hostPortPair);
+            if (host == null) {
+                return;
+            }
+            this.slaveHosts.remove(host);
+            resetReadFromMasterWhenNoSlaves();
 
-        if (this.slavesConnection == null || this.slavesConnection.isClosed()) {
-            this.slavesConnection = null;
-            return;
-        }
+            if (this.slavesConnection == null || this.slavesConnection.isClosed()) {
+                this.slavesConnection = null;
+                return;
+            }
 
-        if (closeGently) {
-            this.slavesConnection.removeHostWhenNotInUse(hostPortPair);
-        } else {
-            this.slavesConnection.removeHost(hostPortPair);
-        }
+            if (closeGently) {
+                this.slavesConnection.removeHostWhenNotInUse(hostPortPair);
+            } else {
+                this.slavesConnection.removeHost(hostPortPair);
+            }
 
-        // Close the connection if that was the last slave.
-        if (this.slaveHosts.isEmpty()) {
-            this.slavesConnection.close();
-            this.slavesConnection = null;
+            // Close the connection if that was the last slave.
+            if (this.slaveHosts.isEmpty()) {
+                this.slavesConnection.close();
+                this.slavesConnection = null;
 
-            // Default behavior, no need to check this.readFromMasterWhenNoSlaves.
-            switchToMasterConnection();
-            if (isMasterConnection()) {
-                this.currentConnection.setReadOnly(this.readOnly); // Maintain.
+                // Default behavior, no need to check this.readFromMasterWhenNoSlaves.
+                switchToMasterConnection();
+                if (isMasterConnection()) {
+                    this.currentConnection.setReadOnly(this.readOnly); // Maintain.
+                }
             }
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
@@ -640,50 +700,55 @@ public class ReplicationConnectionProxy extends MultiHostConnectionProxy impleme
         return this.slaveHosts.stream().anyMatch(hi -> hostPortPair.equalsIgnoreCase(hi.getHostPortPair()));
     }
 
-    public synchronized void setReadOnly(boolean readOnly) throws SQLException {
-        if (readOnly) {
-            if (!isSlavesConnection() || this.currentConnection.isClosed()) {
-                boolean switched = true;
-                SQLException exceptionCaught = null;
-                try {
-                    switched = switchToSlavesConnection();
-                } catch (SQLException e) {
-                    switched = false;
-                    exceptionCaught = e;
-                }
-                if (!switched && this.readFromMasterWhenNoSlaves && switchToMasterConnection()) {
-                    exceptionCaught = null; // The connection is OK. Cancel the exception, if any.
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        this.connectionLock.lock();
+        try {
+            if (readOnly) {
+                if (!isSlavesConnection() || this.currentConnection.isClosed()) {
+                    boolean switched = true;
+                    SQLException exceptionCaught = null;
+                    try {
+                        switched = switchToSlavesConnection();
+                    } catch (SQLException e) {
+                        switched = false;
+                        exceptionCaught = e;
+                    }
+                    if (!switched && this.readFromMasterWhenNoSlaves && switchToMasterConnection()) {
+                        exceptionCaught = null; // The connection is OK. Cancel the exception, if any.
+                    }
+                    if (exceptionCaught != null) {
+                        throw exceptionCaught;
+                    }
                 }
-                if (exceptionCaught != null) {
-                    throw exceptionCaught;
+            } else {
+                if (!isMasterConnection() || this.currentConnection.isClosed()) {
+                    boolean switched = true;
+                    SQLException exceptionCaught = null;
+                    try {
+                        switched = switchToMasterConnection();
+                    } catch (SQLException e) {
+                        switched = false;
+                        exceptionCaught = e;
+                    }
+                    if (!switched && switchToSlavesConnectionIfNecessary()) {
+                        exceptionCaught = null; // The connection is OK. Cancel the exception, if any.
+                    }
+                    if (exceptionCaught != null) {
+                        throw exceptionCaught;
+                    }
                 }
             }
-        } else {
-            if (!isMasterConnection() || this.currentConnection.isClosed()) {
-                boolean switched = true;
-                SQLException exceptionCaught = null;
-                try {
-                    switched = switchToMasterConnection();
-                } catch (SQLException e) {
-                    switched = false;
-                    exceptionCaught = e;
-                }
-                if (!switched && switchToSlavesConnectionIfNecessary()) {
-                    exceptionCaught = null; // The connection is OK. Cancel the exception, if any.
-                }
-                if (exceptionCaught != null) {
-                    throw exceptionCaught;
-                }
+            this.readOnly = readOnly;
+
+            /*
+             * Reset masters connection read-only state if 'readFromMasterWhenNoSlaves=true'. If there are no slaves then the masters connection will be used
+             * with read-only state in its place. Even if not, it must be reset from a possible previous read-only state.
+             */
+            if (this.readFromMasterWhenNoSlaves && isMasterConnection()) {
+                this.currentConnection.setReadOnly(this.readOnly);
             }
-        }
-        this.readOnly = readOnly;
-
-        /*
-         * Reset masters connection read-only state if 'readFromMasterWhenNoSlaves=true'. If there are no slaves then the masters connection will be used with
-         * read-only state in its place. Even if not, it must be reset from a possible previous read-only state.
-         */
-        if (this.readFromMasterWhenNoSlaves && isMasterConnection()) {
-            this.currentConnection.setReadOnly(this.readOnly);
+        } finally {
+            this.connectionLock.unlock();
         }
     }
 
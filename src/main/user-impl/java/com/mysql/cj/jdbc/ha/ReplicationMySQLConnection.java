@@ -32,6 +32,7 @@ package com.mysql.cj.jdbc.ha;
 import java.sql.SQLException;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
@@ -142,36 +143,48 @@ public class ReplicationMySQLConnection extends MultiHostMySQLConnection impleme
     }
 
     @Override
-    public synchronized void ping() throws SQLException {
-        JdbcConnection conn;
+    public void ping() throws SQLException {
+        Lock lock = getThisAsProxy().getConnectionLock();
+        lock.lock();
         try {
-            if ((conn = getValidatedMasterConnection()) != null) {
-                conn.ping();
+            JdbcConnection conn;
+            try {
+                if ((conn = getValidatedMasterConnection()) != null) {
+                    conn.ping();
+                }
+            } catch (SQLException e) {
+                if (isMasterConnection()) {
+                    throw e;
+                }
             }
-        } catch (SQLException e) {
-            if (isMasterConnection()) {
-                throw e;
-            }
-        }
-        try {
-            if ((conn = getValidatedSlavesConnection()) != null) {
-                conn.ping();
-            }
-        } catch (SQLException e) {
-            if (!isMasterConnection()) {
-                throw e;
+            try {
+                if ((conn = getValidatedSlavesConnection()) != null) {
+                    conn.ping();
+                }
+            } catch (SQLException e) {
+                if (!isMasterConnection()) {
+                    throw e;
+                }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
-    public synchronized void changeUser(String userName, String newPassword) throws SQLException {
-        JdbcConnection conn;
-        if ((conn = getValidatedMasterConnection()) != null) {
-            conn.changeUser(userName, newPassword);
-        }
-        if ((conn = getValidatedSlavesConnection()) != null) {
-            conn.changeUser(userName, newPassword);
+    public void changeUser(String userName, String newPassword) throws SQLException {
+        Lock lock = getThisAsProxy().getConnectionLock();
+        lock.lock();
+        try {
+            JdbcConnection conn;
+            if ((conn = getValidatedMasterConnection()) != null) {
+                conn.changeUser(userName, newPassword);
+            }
+            if ((conn = getValidatedSlavesConnection()) != null) {
+                conn.changeUser(userName, newPassword);
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
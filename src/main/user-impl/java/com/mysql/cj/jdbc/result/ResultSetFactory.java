@@ -31,6 +31,7 @@ package com.mysql.cj.jdbc.result;
 
 import java.sql.SQLException;
 
+import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.exceptions.WrongArgumentException;
 import com.mysql.cj.jdbc.JdbcConnection;
@@ -82,6 +83,14 @@ public class ResultSetFactory implements ProtocolEntityFactory<ResultSetImpl, Na
         }
     }
 
+    @Override
+    public long getResultSetMemoryBudget() {
+        if (this.stmt != null) {
+            return this.stmt.getResultSetMemoryBudget();
+        }
+        return this.conn.getPropertySet().getMemorySizeProperty(PropertyKey.resultSetMemoryBudget).getValue();
+    }
+
     @Override
     public ResultSetImpl createFromProtocolEntity(ProtocolEntity protocolEntity) {
         try {
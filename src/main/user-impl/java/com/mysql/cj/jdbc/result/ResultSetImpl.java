@@ -64,6 +64,9 @@ import java.util.Calendar;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.MysqlType;
@@ -93,8 +96,11 @@ import com.mysql.cj.log.ProfilerEvent;
 import com.mysql.cj.log.ProfilerEventHandler;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ResultsetRows;
+import com.mysql.cj.protocol.a.result.ColumnarRow;
+import com.mysql.cj.protocol.a.result.ColumnarRowData;
 import com.mysql.cj.protocol.a.result.NativeResultset;
 import com.mysql.cj.protocol.a.result.OkPacket;
+import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
 import com.mysql.cj.result.BigDecimalValueFactory;
 import com.mysql.cj.result.BinaryStreamValueFactory;
 import com.mysql.cj.result.BooleanValueFactory;
@@ -107,16 +113,20 @@ import com.mysql.cj.result.LocalDateTimeValueFactory;
 import com.mysql.cj.result.LocalDateValueFactory;
 import com.mysql.cj.result.LocalTimeValueFactory;
 import com.mysql.cj.result.LongValueFactory;
+import com.mysql.cj.result.Row;
 import com.mysql.cj.result.ShortValueFactory;
 import com.mysql.cj.result.SqlDateValueFactory;
 import com.mysql.cj.result.SqlTimeValueFactory;
 import com.mysql.cj.result.SqlTimestampValueFactory;
 import com.mysql.cj.result.StringValueFactory;
+import com.mysql.cj.result.ToDoubleValueFactory;
+import com.mysql.cj.result.ToIntValueFactory;
+import com.mysql.cj.result.ToLongValueFactory;
 import com.mysql.cj.result.ValueFactory;
 import com.mysql.cj.util.LogUtils;
 import com.mysql.cj.util.StringUtils;
 
-public class ResultSetImpl extends NativeResultset implements ResultSetInternalMethods, WarningListener {
+public class ResultSetImpl extends NativeResultset implements ResultSetInternalMethods, WarningListener, ColumnarResultSet, StreamableResultSet {
 
     /** Counter used to generate IDs for profiling. */
     static int resultCounter = 1;
@@ -187,11 +197,11 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     private ValueFactory<Boolean> booleanValueFactory;
     private ValueFactory<Byte> byteValueFactory;
-    private ValueFactory<Short> shortValueFactory;
-    private ValueFactory<Integer> integerValueFactory;
-    private ValueFactory<Long> longValueFactory;
-    private ValueFactory<Float> floatValueFactory;
-    private ValueFactory<Double> doubleValueFactory;
+    private ToIntValueFactory<Short> shortValueFactory;
+    private ToIntValueFactory<Integer> integerValueFactory;
+    private ToLongValueFactory<Long> longValueFactory;
+    private ToDoubleValueFactory<Float> floatValueFactory;
+    private ToDoubleValueFactory<Double> doubleValueFactory;
     private ValueFactory<BigDecimal> bigDecimalValueFactory;
     private ValueFactory<InputStream> binaryStreamValueFactory;
     private ValueFactory<Time> defaultTimeValueFactory;
@@ -282,7 +292,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         if (this.rowData.size() > 0) {
             if (this.updateCount == 1) {
                 if (this.thisRow == null) {
-                    this.rowData.close(); // empty result set
+                    // rows aren't closed here, that would release the stored row
                     this.updateCount = -1;
                 }
             }
@@ -303,7 +313,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public void initializeWithMetadata() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             initRowsWithMetadata();
 
             if (this.useUsageAdvisor) {
@@ -340,12 +352,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
                 this.session.getProtocol().getMetricsHolder().reportNumberOfTablesAccessed(tableNamesSet.size());
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public boolean absolute(int row) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (getType() == ResultSet.TYPE_FORWARD_ONLY) {
                 throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
             }
@@ -388,12 +404,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return b;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void afterLast() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (getType() == ResultSet.TYPE_FORWARD_ONLY) {
                 throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
             }
@@ -404,12 +424,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             }
 
             setRowPositionValidity();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void beforeFirst() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (getType() == ResultSet.TYPE_FORWARD_ONLY) {
                 throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
             }
@@ -422,6 +446,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             this.thisRow = null;
 
             setRowPositionValidity();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -459,7 +485,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      *             if the index is out of bounds
      */
     protected final void checkColumnBounds(int columnIndex) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if ((columnIndex < 1)) {
                 throw SQLError.createSQLException(
                         Messages.getString("ResultSet.Column_Index_out_of_range_low",
@@ -475,6 +503,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             if (this.useUsageAdvisor) {
                 this.columnUsed[columnIndex - 1] = true;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -514,8 +544,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public void clearWarnings() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             this.warningChain = null;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -549,7 +583,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public int findColumn(String columnName) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             Integer index = this.columnDefinition.findColumn(columnName, this.useColumnNamesInFindColumn, 1);
 
             if (index == -1) {
@@ -559,12 +595,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             }
 
             return index;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public boolean first() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (getType() == ResultSet.TYPE_FORWARD_ONLY) {
                 throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
             }
@@ -581,6 +621,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return b;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -636,6 +678,19 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         return getBigDecimal(findColumn(columnName), scale);
     }
 
+    @Override
+    public long getUnscaledLong(int columnIndex) throws SQLException {
+        checkRowPos();
+        checkColumnBounds(columnIndex);
+        Field f = this.columnDefinition.getFields()[columnIndex - 1];
+        return this.thisRow.getUnscaledLong(columnIndex - 1, f.getMysqlType().isDecimal() ? f.getDecimals() : 0, this.bigDecimalValueFactory);
+    }
+
+    @Override
+    public long getUnscaledLong(String columnName) throws SQLException {
+        return getUnscaledLong(findColumn(columnName));
+    }
+
     @Override
     public InputStream getBinaryStream(int columnIndex) throws SQLException {
         checkRowPos();
@@ -772,8 +827,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public double getDouble(int columnIndex) throws SQLException {
-        Double res = getObject(columnIndex, Double.TYPE);
-        return res == null ? (double) 0 : res;
+        checkRowPos();
+        checkColumnBounds(columnIndex);
+        return this.thisRow.getDouble(columnIndex - 1, this.doubleValueFactory);
     }
 
     @Override
@@ -783,8 +839,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public float getFloat(int columnIndex) throws SQLException {
-        Float res = getObject(columnIndex, Float.TYPE);
-        return res == null ? (float) 0 : res;
+        checkRowPos();
+        checkColumnBounds(columnIndex);
+        return (float) this.thisRow.getDouble(columnIndex - 1, this.floatValueFactory);
     }
 
     @Override
@@ -794,8 +851,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public int getInt(int columnIndex) throws SQLException {
-        Integer res = getObject(columnIndex, Integer.TYPE);
-        return res == null ? 0 : res;
+        checkRowPos();
+        checkColumnBounds(columnIndex);
+        return this.thisRow.getInt(columnIndex - 1, this.integerValueFactory);
     }
 
     @Override
@@ -820,8 +878,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public long getLong(int columnIndex) throws SQLException {
-        Long res = getObject(columnIndex, Long.TYPE);
-        return res == null ? 0L : res;
+        checkRowPos();
+        checkColumnBounds(columnIndex);
+        return this.thisRow.getLong(columnIndex - 1, this.longValueFactory);
     }
 
     @Override
@@ -831,8 +890,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public short getShort(int columnIndex) throws SQLException {
-        Short res = getObject(columnIndex, Short.TYPE);
-        return res == null ? (short) 0 : res;
+        checkRowPos();
+        checkColumnBounds(columnIndex);
+        return (short) this.thisRow.getInt(columnIndex - 1, this.shortValueFactory);
     }
 
     @Override
@@ -1054,23 +1114,35 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public int getFetchDirection() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.fetchDirection;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public int getFetchSize() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.fetchSize;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public char getFirstCharOfQuery() {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 return this.firstCharOfQuery;
+            } finally {
+                lock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // FIXME: Need to evolve interface
@@ -1265,7 +1337,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             throw SQLError.createSQLException("Type parameter can not be null", MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
         }
 
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (type.equals(String.class)) {
                 return (T) getString(columnIndex);
 
@@ -1390,6 +1464,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
             throw SQLError.createSQLException("Conversion not supported for type " + type.getName(), MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT,
                     getExceptionInterceptor());
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1581,12 +1657,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
     @Override
     public java.sql.Statement getStatement() throws SQLException {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 if (this.wrapperStatement != null) {
                     return this.wrapperStatement;
                 }
 
                 return this.owningStatement;
+            } finally {
+                lock.unlock();
             }
 
         } catch (SQLException sqlEx) {
@@ -1649,8 +1729,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public java.sql.SQLWarning getWarnings() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.warningChain;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1661,37 +1745,55 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean isAfterLast() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             boolean b = this.rowData.isAfterLast();
 
             return b;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public boolean isBeforeFirst() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.rowData.isBeforeFirst();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public boolean isFirst() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.rowData.isFirst();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public boolean isLast() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return this.rowData.isLast();
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public boolean last() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (getType() == ResultSet.TYPE_FORWARD_ONLY) {
                 throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
             }
@@ -1708,6 +1810,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return b;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1723,7 +1827,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean next() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
 
             boolean b;
 
@@ -1750,6 +1856,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return b;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1767,7 +1875,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      *                if a database access error occurs
      */
     public boolean prev() throws java.sql.SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
 
             int rowIndex = this.rowData.getPosition();
 
@@ -1792,17 +1902,23 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return b;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public boolean previous() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (getType() == ResultSet.TYPE_FORWARD_ONLY) {
                 throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
             }
 
             return prev();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1814,7 +1930,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             return; // already closed
         }
 
-        synchronized (locallyScopedConn.getConnectionMutex()) {
+        Lock lock = locallyScopedConn.getConnectionLock();
+        lock.lock();
+        try {
             // additional check in case ResultSet was closed while current thread was waiting for lock
             if (this.isClosed) {
                 return;
@@ -1904,6 +2022,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
                     throw exceptionDuringClose;
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1919,7 +2039,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean relative(int rows) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (getType() == ResultSet.TYPE_FORWARD_ONLY) {
                 throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
             }
@@ -1936,6 +2058,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             setRowPositionValidity();
 
             return (!this.rowData.isAfterLast() && !this.rowData.isBeforeFirst());
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1956,7 +2080,9 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public void setFetchDirection(int direction) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if ((direction != FETCH_FORWARD) && (direction != FETCH_REVERSE) && (direction != FETCH_UNKNOWN)) {
                 throw SQLError.createSQLException(Messages.getString("ResultSet.Illegal_value_for_fetch_direction_64"),
                         MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
@@ -1968,26 +2094,36 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             }
 
             this.fetchDirection = direction;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setFetchSize(int rows) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (rows < 0) { /* || rows > getMaxRows() */
                 throw SQLError.createSQLException(Messages.getString("ResultSet.Value_must_be_between_0_and_getMaxRows()_66"),
                         MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
             }
 
             this.fetchSize = rows;
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void setFirstCharOfQuery(char c) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 this.firstCharOfQuery = c;
+            } finally {
+                lock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // FIXME: Need to evolve public interface
@@ -1997,8 +2133,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
     @Override
     public void setOwningStatement(JdbcStatement owningStatement) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 this.owningStatement = (StatementImpl) owningStatement;
+            } finally {
+                lock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // FIXME: Need to evolve public interface
@@ -2013,8 +2153,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      */
     public synchronized void setResultSetConcurrency(int concurrencyFlag) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 this.resultSetConcurrency = concurrencyFlag;
+            } finally {
+                lock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // TODO: FIXME: Need to evolve public interface
@@ -2030,8 +2174,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      */
     public synchronized void setResultSetType(int typeFlag) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 this.resultSetType = typeFlag;
+            } finally {
+                lock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // TODO: FIXME: Need to evolve public interface
@@ -2046,8 +2194,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      */
     public void setServerInfo(String info) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 this.serverInfo = info;
+            } finally {
+                lock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // TODO: FIXME: Need to evolve public interface
@@ -2057,8 +2209,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
     @Override
     public synchronized void setStatementUsedForFetchingRows(JdbcPreparedStatement stmt) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 this.statementUsedForFetchingRows = stmt;
+            } finally {
+                lock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // TODO: FIXME: Need to evolve public interface
@@ -2068,8 +2224,12 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
     @Override
     public synchronized void setWrapperStatement(java.sql.Statement wrapperStatement) {
         try {
-            synchronized (checkClosed().getConnectionMutex()) {
+            Lock lock = checkClosed().getConnectionLock();
+            lock.lock();
+            try {
                 this.wrapperStatement = wrapperStatement;
+            } finally {
+                lock.unlock();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e); // TODO: FIXME: Need to evolve public interface
@@ -2553,6 +2713,122 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         return getSQLXML(findColumn(columnLabel));
     }
 
+    /**
+     * Converts the rows of this result set to column-oriented storage on first use.
+     * 
+     * @return {@link ColumnarRowData}
+     * @throws SQLException
+     *             if the result set is closed, isn't fully read or is updatable
+     */
+    private ColumnarRowData getColumnarRowData() throws SQLException {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
+            if (!(this.rowData instanceof ResultsetRowsStatic) || this.resultSetConcurrency != CONCUR_READ_ONLY) {
+                throw SQLError.createSQLException(Messages.getString("ResultSet.ColumnarNotSupported"), MysqlErrorNumbers.SQL_STATE_DRIVER_NOT_CAPABLE,
+                        getExceptionInterceptor());
+            }
+
+            ResultsetRowsStatic rows = (ResultsetRowsStatic) this.rowData;
+            ColumnarRowData columnarRowData = rows.toColumnar(getExceptionInterceptor());
+            if (this.thisRow != null && !(this.thisRow instanceof ColumnarRow)) {
+                // re-point the current row at the new storage so the original row can be collected
+                Row current = rows.get(rows.getPosition());
+                if (current != null) {
+                    this.thisRow = current;
+                }
+            }
+            return columnarRowData;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <A> A checkColumnarResult(A values, int columnIndex, String typeName) throws SQLException {
+        if (values == null) {
+            throw SQLError.createSQLException(Messages.getString("ResultSet.ColumnarWrongType", new Object[] { columnIndex, typeName }),
+                    MysqlErrorNumbers.SQL_STATE_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+        return values;
+    }
+
+    @Override
+    public int getRowCount() throws SQLException {
+        return getColumnarRowData().getRowCount();
+    }
+
+    @Override
+    public long[] getNullMask(int columnIndex) throws SQLException {
+        checkColumnBounds(columnIndex);
+        return getColumnarRowData().getNullMask(columnIndex - 1);
+    }
+
+    @Override
+    public int[] getIntColumn(int columnIndex) throws SQLException {
+        checkColumnBounds(columnIndex);
+        return checkColumnarResult(getColumnarRowData().getIntColumn(columnIndex - 1), columnIndex, "int[]");
+    }
+
+    @Override
+    public long[] getLongColumn(int columnIndex) throws SQLException {
+        checkColumnBounds(columnIndex);
+        return checkColumnarResult(getColumnarRowData().getLongColumn(columnIndex - 1), columnIndex, "long[]");
+    }
+
+    @Override
+    public double[] getDoubleColumn(int columnIndex) throws SQLException {
+        checkColumnBounds(columnIndex);
+        return checkColumnarResult(getColumnarRowData().getDoubleColumn(columnIndex - 1), columnIndex, "double[]");
+    }
+
+    @Override
+    public int[] getBytesColumnOffsets(int columnIndex) throws SQLException {
+        checkColumnBounds(columnIndex);
+        return checkColumnarResult(getColumnarRowData().getBytesColumnOffsets(columnIndex - 1), columnIndex, "byte[]");
+    }
+
+    @Override
+    public byte[] getBytesColumnData(int columnIndex) throws SQLException {
+        checkColumnBounds(columnIndex);
+        return checkColumnarResult(getColumnarRowData().getBytesColumnData(columnIndex - 1), columnIndex, "byte[]");
+    }
+
+    @Override
+    public Stream<StreamedRow> stream() throws SQLException {
+        return stream(false);
+    }
+
+    @Override
+    public Stream<StreamedRow> parallelStream() throws SQLException {
+        return stream(true);
+    }
+
+    private Stream<StreamedRow> stream(boolean parallel) throws SQLException {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
+            if (!hasRows()) {
+                return Stream.empty();
+            }
+
+            StreamedRowImpl.Decoding decoding = new StreamedRowImpl.Decoding(this.columnDefinition, this.session.getPropertySet(),
+                    this.session.getServerSession(), this);
+            if (this.rowData instanceof ResultsetRowsStatic) {
+                return StreamSupport.stream(new StaticRowSpliterator((ResultsetRowsStatic) this.rowData, decoding, 0, this.rowData.size()), parallel);
+            }
+            // rows are read from the server as the stream is consumed, one at a time
+            return StreamSupport.stream(new SequentialRowSpliterator(this.rowData, decoding, lock), false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public <T> RowMapper<T> getRowMapper(Class<T> type) throws SQLException {
+        checkClosed();
+        return RowMapperImpl.forLayout(type, this.columnDefinition);
+    }
+
     @Override
     public boolean isWrapperFor(Class<?> iface) throws SQLException {
         checkClosed();
@@ -2651,8 +2927,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
     }
 
     @Override
-    public Object getSyncMutex() {
-        return this.connection != null ? this.connection.getConnectionMutex() : null;
+    public Lock getSyncLock() {
+        return this.connection != null ? this.connection.getConnectionLock() : null;
     }
 
 }
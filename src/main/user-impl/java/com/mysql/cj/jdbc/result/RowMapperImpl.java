@@ -0,0 +1,516 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.result;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.WrongArgumentException;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.result.Field;
+
+/**
+ * {@link RowMapper} executing a plan built once per mapped class and column layout. Each mapped column is bound to a constructor argument position or to a
+ * setter {@link MethodHandle}, and to the {@link StreamedRow} getter of the property type, so that primitive properties are read through the primitive value
+ * factories, without boxing, label lookups or reflection per row.
+ * 
+ * @param <T>
+ *            mapped type
+ */
+public class RowMapperImpl<T> implements RowMapper<T> {
+
+    /** Number of column layouts cached per class, beyond which layouts are mapped with new plans not added to the cache. */
+    private static final int MAX_CACHED_LAYOUTS_PER_CLASS = 64;
+
+    /** Plans of each class by column labels; kept on the classes themselves so that caching doesn't prevent their class loaders from being unloaded. */
+    private static final ClassValue<Map<List<String>, RowMapperImpl<?>>> PLANS = new ClassValue<Map<List<String>, RowMapperImpl<?>>>() {
+        @Override
+        protected Map<List<String>, RowMapperImpl<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns the mapper of rows with the given column layout to instances of the given class, building its plan if no result set with the same column
+     * labels was mapped to this class before.
+     * 
+     * @param <T>
+     *            mapped type
+     * @param type
+     *            record class, or class with a no-argument constructor and setters
+     * @param columnDefinition
+     *            column definition of the rows to map
+     * @return row mapper
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RowMapperImpl<T> forLayout(Class<T> type, ColumnDefinition columnDefinition) {
+        Field[] fields = columnDefinition.getFields();
+        String[] labels = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            labels[i] = fields[i].getName();
+        }
+        List<String> layout = Arrays.asList(labels);
+
+        Map<List<String>, RowMapperImpl<?>> plans = PLANS.get(type);
+        RowMapperImpl<T> mapper = (RowMapperImpl<T>) plans.get(layout);
+        if (mapper == null) {
+            mapper = new RowMapperImpl<>(type, labels);
+            if (plans.size() < MAX_CACHED_LAYOUTS_PER_CLASS) {
+                RowMapperImpl<T> cached = (RowMapperImpl<T>) plans.putIfAbsent(layout, mapper);
+                if (cached != null) {
+                    mapper = cached;
+                }
+            }
+        }
+        return mapper;
+    }
+
+    private final Class<T> type;
+    /** Record canonical constructor taking an <code>Object[]</code> of arguments, or bean no-argument constructor. */
+    private final MethodHandle constructor;
+    private final ColumnBinding[] bindings;
+    /** Constructor argument position of each binding, or null for beans. */
+    private final int[] argumentPositions;
+    private final int argumentCount;
+
+    private RowMapperImpl(Class<T> type, String[] labels) {
+        this.type = type;
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = labels.length - 1; i >= 0; i--) {
+            columns.put(normalizeName(labels[i]), i + 1); // first column wins
+        }
+
+        List<ColumnBinding> boundColumns = new ArrayList<>();
+        try {
+            Object[] components = getRecordComponents(type);
+            if (components != null) {
+                Class<?>[] componentTypes = new Class<?>[components.length];
+                List<Integer> positions = new ArrayList<>();
+                Class<?> componentClass = Class.forName("java.lang.reflect.RecordComponent");
+                Method getName = componentClass.getMethod("getName");
+                Method getType = componentClass.getMethod("getType");
+                for (int i = 0; i < components.length; i++) {
+                    String name = (String) getName.invoke(components[i]);
+                    componentTypes[i] = (Class<?>) getType.invoke(components[i]);
+                    Integer columnIndex = columns.get(normalizeName(name));
+                    if (columnIndex != null) {
+                        boundColumns.add(createBinding(columnIndex, componentTypes[i], null, name));
+                        positions.add(i);
+                    }
+                }
+                Constructor<T> canonical = accessible(type.getDeclaredConstructor(componentTypes));
+                this.constructor = MethodHandles.explicitCastArguments(MethodHandles.lookup().unreflectConstructor(canonical),
+                        MethodType.genericMethodType(components.length)).asSpreader(Object[].class, components.length);
+                this.argumentPositions = positions.stream().mapToInt(Integer::intValue).toArray();
+                this.argumentCount = components.length;
+
+            } else {
+                Constructor<T> noArgs = accessible(type.getDeclaredConstructor());
+                this.constructor = MethodHandles.lookup().unreflectConstructor(noArgs).asType(MethodType.methodType(Object.class));
+                Map<Integer, Method> setters = new HashMap<>();
+                for (Method m : type.getMethods()) {
+                    if (m.getName().length() > 3 && m.getName().startsWith("set") && m.getParameterCount() == 1 && !Modifier.isStatic(m.getModifiers())) {
+                        Integer columnIndex = columns.get(normalizeName(m.getName().substring(3)));
+                        // overloaded setters: the first one of a supported type is used
+                        if (columnIndex != null && (!setters.containsKey(columnIndex) || !isSupported(setters.get(columnIndex).getParameterTypes()[0]))) {
+                            setters.put(columnIndex, m);
+                        }
+                    }
+                }
+                for (Map.Entry<Integer, Method> e : setters.entrySet()) {
+                    Method setter = accessible(e.getValue());
+                    boundColumns.add(createBinding(e.getKey(), setter.getParameterTypes()[0], MethodHandles.lookup().unreflect(setter), setter.getName()));
+                }
+                this.argumentPositions = null;
+                this.argumentCount = 0;
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("RowMapper.0", new Object[] { type.getName() }), e);
+        } catch (ReflectiveOperationException e) {
+            throw ExceptionFactory.createException(Messages.getString("RowMapper.2", new Object[] { type.getName() }), e);
+        }
+        this.bindings = boundColumns.toArray(new ColumnBinding[0]);
+    }
+
+    @Override
+    public T apply(StreamedRow row) {
+        try {
+            if (this.argumentPositions != null) {
+                Object[] arguments = new Object[this.argumentCount];
+                for (int i = 0; i < this.bindings.length; i++) {
+                    arguments[this.argumentPositions[i]] = this.bindings[i].read(row);
+                }
+                return this.type.cast((Object) this.constructor.invokeExact(arguments));
+            }
+
+            Object instance = (Object) this.constructor.invokeExact();
+            for (ColumnBinding binding : this.bindings) {
+                binding.write(instance, row);
+            }
+            return this.type.cast(instance);
+        } catch (CJException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw ExceptionFactory.createException(Messages.getString("RowMapper.2", new Object[] { this.type.getName() }), t);
+        }
+    }
+
+    /**
+     * Normalizes column labels and property names for matching, so that <code>FIRST_NAME</code> and <code>firstName</code> are the same.
+     * 
+     * @param name
+     *            label or name
+     * @return lower-cased name without underscores
+     */
+    static String normalizeName(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '_') {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Returns the record components of the given class, looked up reflectively as records aren't available on all supported Java versions.
+     * 
+     * @param type
+     *            class
+     * @return array of <code>java.lang.reflect.RecordComponent</code>, or null if the class isn't a record
+     * @throws ReflectiveOperationException
+     *             if record components can't be read
+     */
+    private static Object[] getRecordComponents(Class<?> type) throws ReflectiveOperationException {
+        Method isRecord;
+        try {
+            isRecord = Class.class.getMethod("isRecord");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        return (Boolean) isRecord.invoke(type) ? (Object[]) Class.class.getMethod("getRecordComponents").invoke(type) : null;
+    }
+
+    private static <A extends AccessibleObject> A accessible(A member) {
+        try {
+            // non-public classes, such as nested records, can be mapped if their package is open to the driver
+            member.setAccessible(true);
+        } catch (RuntimeException e) {
+            // public members of public classes are accessible anyway
+        }
+        return member;
+    }
+
+    private static boolean isSupported(Class<?> propertyType) {
+        return propertyType == int.class || propertyType == short.class || propertyType == byte.class || propertyType == long.class
+                || propertyType == double.class || propertyType == float.class || propertyType == boolean.class || ValueKind.forType(propertyType) != null;
+    }
+
+    private ColumnBinding createBinding(int columnIndex, Class<?> propertyType, MethodHandle setter, String propertyName) {
+        if (propertyType == int.class) {
+            return new IntBinding(columnIndex, setter);
+        } else if (propertyType == short.class) {
+            return new ShortBinding(columnIndex, setter);
+        } else if (propertyType == byte.class) {
+            return new ByteBinding(columnIndex, setter);
+        } else if (propertyType == long.class) {
+            return new LongBinding(columnIndex, setter);
+        } else if (propertyType == double.class) {
+            return new DoubleBinding(columnIndex, setter);
+        } else if (propertyType == float.class) {
+            return new FloatBinding(columnIndex, setter);
+        } else if (propertyType == boolean.class) {
+            return new BooleanBinding(columnIndex, setter);
+        }
+        ValueKind kind = ValueKind.forType(propertyType);
+        if (kind == null) {
+            throw ExceptionFactory.createException(WrongArgumentException.class,
+                    Messages.getString("RowMapper.1", new Object[] { this.type.getName(), propertyName, propertyType.getName() }));
+        }
+        return new ObjectBinding(columnIndex, setter, kind);
+    }
+
+    /**
+     * Binding of a column to a constructor argument or a setter.
+     */
+    private abstract static class ColumnBinding {
+        final int columnIndex;
+        /** Setter adapted to the binding's value type and taking the instance as <code>Object</code>, or null for constructor arguments. */
+        final MethodHandle setter;
+
+        ColumnBinding(int columnIndex, MethodHandle setter, Class<?> valueType) {
+            this.columnIndex = columnIndex;
+            this.setter = setter == null ? null : MethodHandles.explicitCastArguments(setter, MethodType.methodType(void.class, Object.class, valueType));
+        }
+
+        abstract Object read(StreamedRow row);
+
+        abstract void write(Object instance, StreamedRow row) throws Throwable;
+    }
+
+    private static final class IntBinding extends ColumnBinding {
+        IntBinding(int columnIndex, MethodHandle setter) {
+            super(columnIndex, setter, int.class);
+        }
+
+        @Override
+        Object read(StreamedRow row) {
+            return row.getInt(this.columnIndex);
+        }
+
+        @Override
+        void write(Object instance, StreamedRow row) throws Throwable {
+            this.setter.invokeExact(instance, row.getInt(this.columnIndex));
+        }
+    }
+
+    private static final class ShortBinding extends ColumnBinding {
+        ShortBinding(int columnIndex, MethodHandle setter) {
+            super(columnIndex, setter, short.class);
+        }
+
+        @Override
+        Object read(StreamedRow row) {
+            return row.getShort(this.columnIndex);
+        }
+
+        @Override
+        void write(Object instance, StreamedRow row) throws Throwable {
+            this.setter.invokeExact(instance, row.getShort(this.columnIndex));
+        }
+    }
+
+    private static final class ByteBinding extends ColumnBinding {
+        ByteBinding(int columnIndex, MethodHandle setter) {
+            super(columnIndex, setter, byte.class);
+        }
+
+        @Override
+        Object read(StreamedRow row) {
+            return row.getByte(this.columnIndex);
+        }
+
+        @Override
+        void write(Object instance, StreamedRow row) throws Throwable {
+            this.setter.invokeExact(instance, row.getByte(this.columnIndex));
+        }
+    }
+
+    private static final class LongBinding extends ColumnBinding {
+        LongBinding(int columnIndex, MethodHandle setter) {
+            super(columnIndex, setter, long.class);
+        }
+
+        @Override
+        Object read(StreamedRow row) {
+            return row.getLong(this.columnIndex);
+        }
+
+        @Override
+        void write(Object instance, StreamedRow row) throws Throwable {
+            this.setter.invokeExact(instance, row.getLong(this.columnIndex));
+        }
+    }
+
+    private static final class DoubleBinding extends ColumnBinding {
+        DoubleBinding(int columnIndex, MethodHandle setter) {
+            super(columnIndex, setter, double.class);
+        }
+
+        @Override
+        Object read(StreamedRow row) {
+            return row.getDouble(this.columnIndex);
+        }
+
+        @Override
+        void write(Object instance, StreamedRow row) throws Throwable {
+            this.setter.invokeExact(instance, row.getDouble(this.columnIndex));
+        }
+    }
+
+    private static final class FloatBinding extends ColumnBinding {
+        FloatBinding(int columnIndex, MethodHandle setter) {
+            super(columnIndex, setter, float.class);
+        }
+
+        @Override
+        Object read(StreamedRow row) {
+            return row.getFloat(this.columnIndex);
+        }
+
+        @Override
+        void write(Object instance, StreamedRow row) throws Throwable {
+            this.setter.invokeExact(instance, row.getFloat(this.columnIndex));
+        }
+    }
+
+    private static final class BooleanBinding extends ColumnBinding {
+        BooleanBinding(int columnIndex, MethodHandle setter) {
+            super(columnIndex, setter, boolean.class);
+        }
+
+        @Override
+        Object read(StreamedRow row) {
+            return row.getBoolean(this.columnIndex);
+        }
+
+        @Override
+        void write(Object instance, StreamedRow row) throws Throwable {
+            this.setter.invokeExact(instance, row.getBoolean(this.columnIndex));
+        }
+    }
+
+    private static final class ObjectBinding extends ColumnBinding {
+        private final ValueKind kind;
+
+        ObjectBinding(int columnIndex, MethodHandle setter, ValueKind kind) {
+            super(columnIndex, setter, Object.class);
+            this.kind = kind;
+        }
+
+        @Override
+        Object read(StreamedRow row) {
+            return this.kind.read(row, this.columnIndex);
+        }
+
+        @Override
+        void write(Object instance, StreamedRow row) throws Throwable {
+            this.setter.invokeExact(instance, this.kind.read(row, this.columnIndex));
+        }
+    }
+
+    /**
+     * Reference property types, read with SQL <code>NULL</code> as null.
+     */
+    private enum ValueKind {
+        STRING(String.class) {
+            @Override
+            Object read(StreamedRow row, int columnIndex) {
+                return row.getString(columnIndex);
+            }
+        },
+        BIG_DECIMAL(BigDecimal.class) {
+            @Override
+            Object read(StreamedRow row, int columnIndex) {
+                return row.getBigDecimal(columnIndex);
+            }
+        },
+        BYTES(byte[].class) {
+            @Override
+            Object read(StreamedRow row, int columnIndex) {
+                return row.getBytes(columnIndex);
+            }
+        },
+        LOCAL_DATE(LocalDate.class) {
+            @Override
+            Object read(StreamedRow row, int columnIndex) {
+                return row.getLocalDate(columnIndex);
+            }
+        },
+        LOCAL_TIME(LocalTime.class) {
+            @Override
+            Object read(StreamedRow row, int columnIndex) {
+                return row.getLocalTime(columnIndex);
+            }
+        },
+        LOCAL_DATE_TIME(LocalDateTime.class) {
+            @Override
+            Object read(StreamedRow row, int columnIndex) {
+                return row.getLocalDateTime(columnIndex);
+            }
+        },
+        INTEGER(Integer.class) {
+            @Override
+            Object read(StreamedRow row, int columnIndex) {
+                int value = row.getInt(columnIndex);
+                return row.wasNull() ? null : value;
+            }
+        },
+        LONG(Long.class) {
+            @Override
+            Object read(StreamedRow row, int columnIndex) {
+                long value = row.getLong(columnIndex);
+                return row.wasNull() ? null : value;
+            }
+        },
+        DOUBLE(Double.class) {
+            @Override
+            Object read(StreamedRow row, int columnIndex) {
+                double value = row.getDouble(columnIndex);
+                return row.wasNull() ? null : value;
+            }
+        },
+        BOOLEAN(Boolean.class) {
+            @Override
+            Object read(StreamedRow row, int columnIndex) {
+                boolean value = row.getBoolean(columnIndex);
+                return row.wasNull() ? null : value;
+            }
+        };
+
+        private final Class<?> type;
+
+        ValueKind(Class<?> type) {
+            this.type = type;
+        }
+
+        abstract Object read(StreamedRow row, int columnIndex);
+
+        static ValueKind forType(Class<?> propertyType) {
+            for (ValueKind kind : values()) {
+                if (kind.type == propertyType) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+}
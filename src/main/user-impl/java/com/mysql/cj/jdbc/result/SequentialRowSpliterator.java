@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.result;
+
+import java.util.Spliterator;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+
+import com.mysql.cj.protocol.ResultsetRows;
+import com.mysql.cj.result.Row;
+
+/**
+ * Spliterator over the rows of a streaming or cursor-based result set. Rows are read from the server one at a time, under the connection lock, and the
+ * spliterator never splits: a row may reuse the buffer of the previous one, and rows can't be read out of order.
+ */
+public class SequentialRowSpliterator implements Spliterator<StreamedRow> {
+
+    private final ResultsetRows rows;
+    private final StreamedRowImpl.Decoding decoding;
+    private final Lock connectionLock;
+
+    public SequentialRowSpliterator(ResultsetRows rows, StreamedRowImpl.Decoding decoding, Lock connectionLock) {
+        this.rows = rows;
+        this.decoding = decoding;
+        this.connectionLock = connectionLock;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super StreamedRow> action) {
+        Row row;
+        this.connectionLock.lock();
+        try {
+            row = this.rows.next();
+        } finally {
+            this.connectionLock.unlock();
+        }
+
+        if (row == null) {
+            return false;
+        }
+        action.accept(new StreamedRowImpl(row, this.decoding));
+        return true;
+    }
+
+    @Override
+    public Spliterator<StreamedRow> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
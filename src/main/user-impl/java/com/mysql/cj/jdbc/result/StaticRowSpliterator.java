@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.result;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
+
+/**
+ * Spliterator over a range of the rows of a fully-read result set. Ranges are split in halves, so that a parallel stream decodes the rows of each range on a
+ * different fork-join worker.
+ */
+public class StaticRowSpliterator implements Spliterator<StreamedRow> {
+
+    private final ResultsetRowsStatic rows;
+    private final StreamedRowImpl.Decoding decoding;
+    private int index;
+    private final int fence;
+
+    /**
+     * Creates a spliterator over the rows in the range [origin, fence).
+     * 
+     * @param rows
+     *            fully-read rows
+     * @param decoding
+     *            value factories of the stream
+     * @param origin
+     *            index of the first row
+     * @param fence
+     *            index after the last row
+     */
+    public StaticRowSpliterator(ResultsetRowsStatic rows, StreamedRowImpl.Decoding decoding, int origin, int fence) {
+        this.rows = rows;
+        this.decoding = decoding;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super StreamedRow> action) {
+        if (this.index < this.fence) {
+            action.accept(new StreamedRowImpl(this.rows.get(this.index++), this.decoding));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super StreamedRow> action) {
+        int i = this.index;
+        this.index = this.fence;
+        for (; i < this.fence; i++) {
+            action.accept(new StreamedRowImpl(this.rows.get(i), this.decoding));
+        }
+    }
+
+    @Override
+    public Spliterator<StreamedRow> trySplit() {
+        int lo = this.index;
+        int mid = (lo + this.fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        this.index = mid;
+        return new StaticRowSpliterator(this.rows, this.decoding, lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.fence - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
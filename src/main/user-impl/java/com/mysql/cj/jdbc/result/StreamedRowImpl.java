@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc.result;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.WarningListener;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.WrongArgumentException;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.ServerSession;
+import com.mysql.cj.result.BigDecimalValueFactory;
+import com.mysql.cj.result.BooleanValueFactory;
+import com.mysql.cj.result.ByteValueFactory;
+import com.mysql.cj.result.DoubleValueFactory;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.FloatValueFactory;
+import com.mysql.cj.result.IntegerValueFactory;
+import com.mysql.cj.result.LocalDateTimeValueFactory;
+import com.mysql.cj.result.LocalDateValueFactory;
+import com.mysql.cj.result.LocalTimeValueFactory;
+import com.mysql.cj.result.LongValueFactory;
+import com.mysql.cj.result.Row;
+import com.mysql.cj.result.ShortValueFactory;
+import com.mysql.cj.result.StringValueFactory;
+import com.mysql.cj.result.ToDoubleValueFactory;
+import com.mysql.cj.result.ToIntValueFactory;
+import com.mysql.cj.result.ToLongValueFactory;
+import com.mysql.cj.result.ValueFactory;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * {@link StreamedRow} reading the values of one {@link Row} through the value factories of its stream.
+ */
+public class StreamedRowImpl implements StreamedRow {
+
+    /**
+     * Column definition and value factories shared by all rows of a stream. The value factories keep no per-value state, so rows of a parallel stream are
+     * decoded concurrently with the same instances.
+     */
+    public static class Decoding {
+        final ColumnDefinition columnDefinition;
+        final Field[] fields;
+        final ServerSession serverSession;
+        final boolean padCharsWithSpace;
+        final boolean useColumnNamesInFindColumn;
+
+        final ValueFactory<String> stringValueFactory;
+        final ValueFactory<Boolean> booleanValueFactory;
+        final ValueFactory<Byte> byteValueFactory;
+        final ToIntValueFactory<Short> shortValueFactory;
+        final ToIntValueFactory<Integer> integerValueFactory;
+        final ToLongValueFactory<Long> longValueFactory;
+        final ToDoubleValueFactory<Float> floatValueFactory;
+        final ToDoubleValueFactory<Double> doubleValueFactory;
+        final ValueFactory<BigDecimal> bigDecimalValueFactory;
+        final ValueFactory<LocalDate> localDateValueFactory;
+        final ValueFactory<LocalTime> localTimeValueFactory;
+        final ValueFactory<LocalDateTime> localDateTimeValueFactory;
+
+        public Decoding(ColumnDefinition columnDefinition, PropertySet pset, ServerSession serverSession, WarningListener warningListener) {
+            this.columnDefinition = columnDefinition;
+            this.fields = columnDefinition.getFields();
+            this.serverSession = serverSession;
+            this.padCharsWithSpace = pset.getBooleanProperty(PropertyKey.padCharsWithSpace).getValue();
+            this.useColumnNamesInFindColumn = pset.getBooleanProperty(PropertyKey.useColumnNamesInFindColumn).getValue();
+
+            this.stringValueFactory = new StringValueFactory(pset);
+            this.booleanValueFactory = new BooleanValueFactory(pset);
+            this.byteValueFactory = new ByteValueFactory(pset);
+            this.shortValueFactory = new ShortValueFactory(pset);
+            this.integerValueFactory = new IntegerValueFactory(pset);
+            this.longValueFactory = new LongValueFactory(pset);
+            this.floatValueFactory = new FloatValueFactory(pset);
+            this.doubleValueFactory = new DoubleValueFactory(pset);
+            this.bigDecimalValueFactory = new BigDecimalValueFactory(pset);
+            this.localDateValueFactory = new LocalDateValueFactory(pset, warningListener);
+            this.localTimeValueFactory = new LocalTimeValueFactory(pset, warningListener);
+            this.localDateTimeValueFactory = new LocalDateTimeValueFactory(pset);
+        }
+    }
+
+    private final Row row;
+    private final Decoding decoding;
+
+    public StreamedRowImpl(Row row, Decoding decoding) {
+        this.row = row;
+        this.decoding = decoding;
+    }
+
+    private int checkColumnIndex(int columnIndex) {
+        if (columnIndex < 1) {
+            throw ExceptionFactory.createException(WrongArgumentException.class,
+                    Messages.getString("ResultSet.Column_Index_out_of_range_low", new Object[] { columnIndex, this.decoding.fields.length }));
+        } else if (columnIndex > this.decoding.fields.length) {
+            throw ExceptionFactory.createException(WrongArgumentException.class,
+                    Messages.getString("ResultSet.Column_Index_out_of_range_high", new Object[] { columnIndex, this.decoding.fields.length }));
+        }
+        return columnIndex - 1;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.decoding.fields.length;
+    }
+
+    @Override
+    public int findColumn(String columnLabel) {
+        int index = this.decoding.columnDefinition.findColumn(columnLabel, this.decoding.useColumnNamesInFindColumn, 1);
+        if (index == -1) {
+            throw ExceptionFactory.createException(WrongArgumentException.class,
+                    Messages.getString("ResultSet.Column____112") + columnLabel + Messages.getString("ResultSet.___not_found._113"));
+        }
+        return index;
+    }
+
+    @Override
+    public boolean wasNull() {
+        return this.row.wasNull();
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        int i = checkColumnIndex(columnIndex);
+        String stringVal = this.row.getValue(i, this.decoding.stringValueFactory);
+
+        Field f = this.decoding.fields[i];
+        if (this.decoding.padCharsWithSpace && stringVal != null && f.getMysqlTypeId() == MysqlType.FIELD_TYPE_STRING) {
+            int maxBytesPerChar = this.decoding.serverSession.getMaxBytesPerChar(f.getCollationIndex(), f.getEncoding());
+            return StringUtils.padString(stringVal, (int) f.getLength() / maxBytesPerChar);
+        }
+        return stringVal;
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) {
+        Boolean value = this.row.getValue(checkColumnIndex(columnIndex), this.decoding.booleanValueFactory);
+        return value == null ? false : value;
+    }
+
+    @Override
+    public byte getByte(int columnIndex) {
+        Byte value = this.row.getValue(checkColumnIndex(columnIndex), this.decoding.byteValueFactory);
+        return value == null ? (byte) 0 : value;
+    }
+
+    @Override
+    public short getShort(int columnIndex) {
+        return (short) this.row.getInt(checkColumnIndex(columnIndex), this.decoding.shortValueFactory);
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+        return this.row.getInt(checkColumnIndex(columnIndex), this.decoding.integerValueFactory);
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        return this.row.getLong(checkColumnIndex(columnIndex), this.decoding.longValueFactory);
+    }
+
+    @Override
+    public float getFloat(int columnIndex) {
+        return (float) this.row.getDouble(checkColumnIndex(columnIndex), this.decoding.floatValueFactory);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        return this.row.getDouble(checkColumnIndex(columnIndex), this.decoding.doubleValueFactory);
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) {
+        return this.row.getValue(checkColumnIndex(columnIndex), this.decoding.bigDecimalValueFactory);
+    }
+
+    @Override
+    public long getUnscaledLong(int columnIndex) {
+        int i = checkColumnIndex(columnIndex);
+        Field f = this.decoding.fields[i];
+        return this.row.getUnscaledLong(i, f.getMysqlType().isDecimal() ? f.getDecimals() : 0, this.decoding.bigDecimalValueFactory);
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) {
+        return this.row.getBytes(checkColumnIndex(columnIndex));
+    }
+
+    @Override
+    public LocalDate getLocalDate(int columnIndex) {
+        return this.row.getValue(checkColumnIndex(columnIndex), this.decoding.localDateValueFactory);
+    }
+
+    @Override
+    public LocalTime getLocalTime(int columnIndex) {
+        return this.row.getValue(checkColumnIndex(columnIndex), this.decoding.localTimeValueFactory);
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTime(int columnIndex) {
+        return this.row.getValue(checkColumnIndex(columnIndex), this.decoding.localDateTimeValueFactory);
+    }
+}
@@ -45,6 +45,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.MysqlType;
@@ -393,7 +394,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void deleteRow() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.isUpdatable) {
                 throw new NotUpdatable(this.notUpdatableReason);
             }
@@ -428,6 +431,8 @@ public class UpdatableResultSet extends ResultSetImpl {
             this.rowData.remove();
 
             prev(); // position on previous row - Bug#27431
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -709,8 +714,12 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public int getConcurrency() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             return (this.isUpdatable ? CONCUR_UPDATABLE : CONCUR_READ_ONLY);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -724,7 +733,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void insertRow() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 throw SQLError.createSQLException(Messages.getString("UpdatableResultSet.7"), getExceptionInterceptor());
             }
@@ -752,6 +763,8 @@ public class UpdatableResultSet extends ResultSetImpl {
 
             this.rowData.addRow(resultSetRow);
             resetInserter();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -793,7 +806,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void moveToCurrentRow() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.isUpdatable) {
                 throw new NotUpdatable(this.notUpdatableReason);
             }
@@ -802,12 +817,16 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.onInsertRow = false;
                 this.thisRow = this.savedCurrentRow;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void moveToInsertRow() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.isUpdatable) {
                 throw new NotUpdatable(this.notUpdatableReason);
             }
@@ -876,6 +895,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                     }
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -921,7 +942,9 @@ public class UpdatableResultSet extends ResultSetImpl {
             return;
         }
 
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             SQLException sqlEx = null;
 
             if (this.useUsageAdvisor) {
@@ -968,12 +991,16 @@ public class UpdatableResultSet extends ResultSetImpl {
             if (sqlEx != null) {
                 throw sqlEx;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void refreshRow() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (getType() == ResultSet.TYPE_FORWARD_ONLY) {
                 throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
             }
@@ -993,6 +1020,8 @@ public class UpdatableResultSet extends ResultSetImpl {
             }
 
             refreshRow(this.updater, this.thisRow);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1176,7 +1205,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateRow() throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.isUpdatable) {
                 throw new NotUpdatable(this.notUpdatableReason);
             }
@@ -1191,6 +1222,8 @@ public class UpdatableResultSet extends ResultSetImpl {
 
             // fixes calling updateRow() and then doing more updates on same row...
             syncUpdate();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1206,7 +1239,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateAsciiStream(int columnIndex, java.io.InputStream x, int length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1218,6 +1253,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setAsciiStream(columnIndex, x, length);
                 this.thisRow.setBytes(columnIndex - 1, STREAM_DATA_MARKER);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1228,7 +1265,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1240,6 +1279,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setBigDecimal(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, x == null ? null : StringUtils.getBytes(x.toString()));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1250,7 +1291,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateBinaryStream(int columnIndex, java.io.InputStream x, int length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1262,6 +1305,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setBinaryStream(columnIndex, x, length);
                 this.thisRow.setBytes(columnIndex - 1, x == null ? null : STREAM_DATA_MARKER);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1272,7 +1317,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateBlob(int columnIndex, java.sql.Blob blob) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1284,6 +1331,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setBlob(columnIndex, blob);
                 this.thisRow.setBytes(columnIndex - 1, blob == null ? null : STREAM_DATA_MARKER);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1294,7 +1343,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateBoolean(int columnIndex, boolean x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1306,6 +1357,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setBoolean(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, this.inserter.getBytesRepresentation(columnIndex));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1316,7 +1369,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateByte(int columnIndex, byte x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1328,6 +1383,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setByte(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, this.inserter.getBytesRepresentation(columnIndex));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1338,7 +1395,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateBytes(int columnIndex, byte[] x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1350,6 +1409,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setBytes(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, x);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1360,7 +1421,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateCharacterStream(int columnIndex, java.io.Reader x, int length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1372,6 +1435,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setCharacterStream(columnIndex, x, length);
                 this.thisRow.setBytes(columnIndex - 1, x == null ? null : STREAM_DATA_MARKER);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1382,12 +1447,16 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateClob(int columnIndex, java.sql.Clob clob) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (clob == null) {
                 updateNull(columnIndex);
             } else {
                 updateCharacterStream(columnIndex, clob.getCharacterStream(), (int) clob.length());
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1398,7 +1467,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateDate(int columnIndex, java.sql.Date x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1410,6 +1481,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setDate(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, this.inserter.getBytesRepresentation(columnIndex));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1420,7 +1493,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateDouble(int columnIndex, double x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1432,6 +1507,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setDouble(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, this.inserter.getBytesRepresentation(columnIndex));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1442,7 +1519,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateFloat(int columnIndex, float x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1454,6 +1533,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setFloat(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, this.inserter.getBytesRepresentation(columnIndex));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1464,7 +1545,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateInt(int columnIndex, int x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1476,6 +1559,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setInt(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, this.inserter.getBytesRepresentation(columnIndex));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1486,7 +1571,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateLong(int columnIndex, long x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1498,6 +1585,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setLong(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, this.inserter.getBytesRepresentation(columnIndex));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1508,7 +1597,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateNull(int columnIndex) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1520,6 +1611,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setNull(columnIndex, 0);
                 this.thisRow.setBytes(columnIndex - 1, null);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1584,7 +1677,9 @@ public class UpdatableResultSet extends ResultSetImpl {
      *             if an error occurs
      */
     protected void updateObjectInternal(int columnIndex, Object x, SQLType targetType, int scaleOrLength) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1605,6 +1700,8 @@ public class UpdatableResultSet extends ResultSetImpl {
 
                 this.thisRow.setBytes(columnIndex - 1, this.inserter.getBytesRepresentation(columnIndex));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1635,7 +1732,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateShort(int columnIndex, short x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1647,6 +1746,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setShort(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, this.inserter.getBytesRepresentation(columnIndex));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1657,7 +1758,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateString(int columnIndex, String x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1669,6 +1772,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setString(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, x == null ? null : StringUtils.getBytes(x, this.charEncoding));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1679,7 +1784,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateTime(int columnIndex, java.sql.Time x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1691,6 +1798,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setTime(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, this.inserter.getBytesRepresentation(columnIndex));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1701,7 +1810,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateTimestamp(int columnIndex, java.sql.Timestamp x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             if (!this.onInsertRow) {
                 if (!this.doingUpdates) {
                     this.doingUpdates = true;
@@ -1713,6 +1824,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setTimestamp(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, this.inserter.getBytesRepresentation(columnIndex));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1928,7 +2041,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             String fieldEncoding = this.getMetadata().getFields()[columnIndex - 1].getEncoding();
             if (fieldEncoding == null || !fieldEncoding.equals("UTF-8")) {
                 throw new SQLException(Messages.getString("ResultSet.16"));
@@ -1945,6 +2060,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setNCharacterStream(columnIndex, x, length);
                 this.thisRow.setBytes(columnIndex - 1, x == null ? null : STREAM_DATA_MARKER);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -1983,7 +2100,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateNClob(int columnIndex, java.sql.NClob nClob) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             String fieldEncoding = this.getMetadata().getFields()[columnIndex - 1].getEncoding();
             if (fieldEncoding == null || !fieldEncoding.equals("UTF-8")) {
                 throw new SQLException(Messages.getString("ResultSet.17"));
@@ -1994,6 +2113,8 @@ public class UpdatableResultSet extends ResultSetImpl {
             } else {
                 updateNCharacterStream(columnIndex, nClob.getCharacterStream(), (int) nClob.length());
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -2014,7 +2135,9 @@ public class UpdatableResultSet extends ResultSetImpl {
 
     @Override
     public void updateNString(int columnIndex, String x) throws SQLException {
-        synchronized (checkClosed().getConnectionMutex()) {
+        Lock lock = checkClosed().getConnectionLock();
+        lock.lock();
+        try {
             String fieldEncoding = this.getMetadata().getFields()[columnIndex - 1].getEncoding();
             if (fieldEncoding == null || !fieldEncoding.equals("UTF-8")) {
                 throw new SQLException(Messages.getString("ResultSet.18"));
@@ -2031,6 +2154,8 @@ public class UpdatableResultSet extends ResultSetImpl {
                 this.inserter.setNString(columnIndex, x);
                 this.thisRow.setBytes(columnIndex - 1, x == null ? null : StringUtils.getBytes(x, fieldEncoding));
             }
+        } finally {
+            lock.unlock();
         }
     }
 
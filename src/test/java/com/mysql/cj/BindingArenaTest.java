@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for BindingArena.
+ */
+public class BindingArenaTest {
+    private static void putAscii(BindingArena arena, int parameterIndex, String value) {
+        arena.begin(parameterIndex, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            arena.put(value.charAt(i));
+        }
+        arena.end();
+    }
+
+    private static String valueOf(BindingArena arena, int parameterIndex) {
+        byte[] value = arena.copyOf(parameterIndex);
+        return value == null ? null : new String(value, StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void testNumbers() {
+        BindingArena arena = new BindingArena(3);
+        arena.begin(0, 20);
+        arena.putLong(Long.MIN_VALUE);
+        arena.end();
+        arena.begin(1, 20);
+        arena.putLong(Long.MAX_VALUE);
+        arena.end();
+        arena.begin(2, 9);
+        arena.putDigits(42, 9);
+        arena.end();
+
+        assertEquals(String.valueOf(Long.MIN_VALUE), valueOf(arena, 0));
+        assertEquals(String.valueOf(Long.MAX_VALUE), valueOf(arena, 1));
+        assertEquals("000000042", valueOf(arena, 2));
+        assertEquals(9, arena.getLength(2));
+    }
+
+    @Test
+    public void testReuseAndGrowth() {
+        BindingArena arena = new BindingArena(2);
+        putAscii(arena, 0, "abc");
+        putAscii(arena, 1, "def");
+
+        // values that keep growing must not disturb their neighbours
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            sb.append((char) ('a' + i % 26));
+            putAscii(arena, 0, sb.toString());
+            assertEquals(sb.toString(), valueOf(arena, 0));
+            assertEquals("def", valueOf(arena, 1));
+        }
+
+        putAscii(arena, 1, "x");
+        assertEquals("x", valueOf(arena, 1));
+        assertEquals(sb.toString(), valueOf(arena, 0));
+    }
+
+    @Test
+    public void testAbortAndRelease() {
+        BindingArena arena = new BindingArena(2);
+        putAscii(arena, 0, "keep");
+        arena.begin(1, 10);
+        arena.put('z');
+        arena.abort();
+        assertEquals(-1, arena.getLength(1));
+        assertNull(arena.copyOf(1));
+
+        arena.release(0);
+        assertEquals(-1, arena.getLength(0));
+        assertNull(arena.copyOf(0));
+
+        putAscii(arena, 0, "again");
+        assertArrayEquals("again".getBytes(StandardCharsets.US_ASCII), arena.copyOf(0));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.jdbc.AbandonedConnectionCleanupThread;
+
+/**
+ * Tests for CancelQueryService.
+ */
+public class CancelQueryServiceTest {
+    /**
+     * Tests that the query timeout timer and the cancellation worker threads are stopped by the driver threads shutdown.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testThreadsShutDown() throws Exception {
+        CountDownLatch ran = new CountDownLatch(1);
+        CancelQueryService.schedule(ran::countDown, 0);
+        assertTrue(ran.await(10, TimeUnit.SECONDS));
+        assertFalse(getCancellationThreads().isEmpty());
+
+        AbandonedConnectionCleanupThread.uncheckedShutdown();
+
+        for (Thread t : getCancellationThreads()) {
+            t.join(10000);
+        }
+        assertTrue(getCancellationThreads().isEmpty(), "Cancellation threads still alive: " + getCancellationThreads());
+    }
+
+    private static List<Thread> getCancellationThreads() {
+        List<Thread> threads = new ArrayList<>();
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.isAlive() && t.getName().startsWith("mysql-cj-cancellation")) {
+                threads.add(t);
+            }
+        }
+        return threads;
+    }
+}
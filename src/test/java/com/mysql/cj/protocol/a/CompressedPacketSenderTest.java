@@ -34,6 +34,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.zip.InflaterOutputStream;
@@ -41,6 +42,9 @@ import java.util.zip.InflaterOutputStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.log.NullLogger;
 import com.mysql.cj.protocol.MessageSender;
 
 public class CompressedPacketSenderTest extends PacketSenderTestBase {
@@ -293,4 +297,106 @@ public class CompressedPacketSenderTest extends PacketSenderTestBase {
         assertEquals(packetSequence, sentPacket[CompressedPacketSender.COMP_HEADER_LENGTH + 3]);
         checkSequentiallyFilledPacket(sentPacket, CompressedPacketSender.COMP_HEADER_LENGTH + NativeConstants.HEADER_LENGTH, packetLen);
     }
+
+    /**
+     * Codec that delegates to zlib and counts how many times it was used.
+     */
+    static class CountingCompressionCodec extends ZlibCompressionCodec {
+        int level = -1;
+        int finishCount = 0;
+        int decompressCount = 0;
+
+        @Override
+        public void setLevel(int level) {
+            this.level = level;
+            super.setLevel(level);
+        }
+
+        @Override
+        public int finish(byte[] output, int outputOffset, int outputLength) {
+            this.finishCount++;
+            return super.finish(output, outputOffset, outputLength);
+        }
+
+        @Override
+        public void decompress(byte[] input, int inputOffset, int inputLength, byte[] output, int outputOffset, int outputLength) throws IOException {
+            this.decompressCount++;
+            super.decompress(input, inputOffset, inputLength, output, outputOffset, outputLength);
+        }
+    }
+
+    /**
+     * Tests that packets are compressed and un-compressed with a pluggable {@link PacketCompressionCodec}.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void pluggableCompressionCodec() throws IOException {
+        final int packetLen = 3000;
+        byte[] packet = new byte[packetLen];
+        fillPacketSequentially(packet);
+
+        CountingCompressionCodec senderCodec = new CountingCompressionCodec();
+        senderCodec.setLevel(9);
+        CompressedPacketSender codecSender = new CompressedPacketSender(new BufferedOutputStream(this.outputStream), senderCodec);
+        codecSender.send(packet, packetLen, (byte) 0);
+        codecSender.stop();
+        assertEquals(9, senderCodec.level);
+        assertEquals(1, senderCodec.finishCount);
+
+        byte[] sentPacket = this.outputStream.toByteArray();
+        assertTrue(sentPacket.length < packetLen);
+
+        CountingCompressionCodec readerCodec = new CountingCompressionCodec();
+        CompressedInputStream in = new CompressedInputStream(new ByteArrayInputStream(sentPacket),
+                new DefaultPropertySet().getBooleanProperty(PropertyKey.traceProtocol), new NullLogger(null), readerCodec);
+        byte[] received = new byte[NativeConstants.HEADER_LENGTH + packetLen];
+        assertEquals(received.length, in.read(received));
+        in.close();
+        assertEquals(1, readerCodec.decompressCount);
+
+        assertEquals(packetLen, NativeUtils.decodeMysqlThreeByteInteger(received));
+        checkSequentiallyFilledPacket(received, NativeConstants.HEADER_LENGTH, packetLen);
+    }
+
+    /**
+     * Tests that several packets of different sizes, sent and received through the same reusable buffers, are read back intact.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void reusedBuffersRoundTrip() throws IOException {
+        int[] packetLens = new int[] { 3000, 10, NativeConstants.MAX_PACKET_SIZE + 20000, 100, 3000 };
+
+        for (int packetLen : packetLens) {
+            byte[] packet = new byte[packetLen];
+            fillPacketSequentially(packet);
+            this.sender.send(packet, packetLen, (byte) 0);
+        }
+
+        CompressedInputStream in = new CompressedInputStream(new ByteArrayInputStream(this.outputStream.toByteArray()),
+                new DefaultPropertySet().getBooleanProperty(PropertyKey.traceProtocol), new NullLogger(null));
+        byte[] header = new byte[NativeConstants.HEADER_LENGTH];
+        for (int packetLen : packetLens) {
+            assertEquals(NativeConstants.HEADER_LENGTH, in.read(header));
+            int len = NativeUtils.decodeMysqlThreeByteInteger(header);
+            if (len == NativeConstants.MAX_PACKET_SIZE) {
+                // skip the first part of a split packet and its trailing header
+                assertEquals(len, in.skip(len));
+                assertEquals(NativeConstants.HEADER_LENGTH, in.read(header));
+                len = NativeUtils.decodeMysqlThreeByteInteger(header);
+                assertEquals(packetLen - NativeConstants.MAX_PACKET_SIZE, len);
+                assertEquals(len, in.skip(len));
+                continue;
+            }
+            assertEquals(packetLen, len);
+            byte[] payload = new byte[len];
+            int read = 0;
+            while (read < len) {
+                read += in.read(payload, read, len - read);
+            }
+            checkSequentiallyFilledPacket(payload, 0, len);
+        }
+        in.close();
+    }
 }
@@ -32,6 +32,8 @@ package com.mysql.cj.protocol.a;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.math.BigDecimal;
+
 import org.junit.jupiter.api.Test;
 
 import com.mysql.cj.Constants;
@@ -123,4 +125,46 @@ public class MysqlTextValueDecoderTest {
         assertEquals("9223372036854775807", this.valueDecoder.decodeUInt8(uint8MoreThanMaxLong1, 0, uint8MoreThanMaxLong1.length, vf));
         assertEquals("18223372036854775807", this.valueDecoder.decodeUInt8(uint8MoreThanMaxLong2, 0, uint8MoreThanMaxLong2.length, vf));
     }
+
+    @Test
+    public void testPrimitiveValues() {
+        assertEquals(Integer.MIN_VALUE, this.valueDecoder.decodeInt4(String.valueOf(Integer.MIN_VALUE).getBytes(), 0, 11));
+        assertEquals(4294967295L, this.valueDecoder.decodeUInt4("4294967295".getBytes(), 0, 10));
+        assertEquals(Long.MAX_VALUE, this.valueDecoder.decodeInt8(String.valueOf(Long.MAX_VALUE).getBytes(), 0, 19));
+        assertEquals(-1.5d, this.valueDecoder.decodeDouble("-1.5".getBytes(), 0, 4));
+        try {
+            this.valueDecoder.decodeInt4(Constants.BIG_INTEGER_MAX_INTEGER_VALUE.add(Constants.BIG_INTEGER_ONE).toString().getBytes(), 0, 10);
+            fail("Exception should be thrown for decodeInt4(Integer.MAX_VALUE + 1)");
+        } catch (NumberOutOfRange ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDecimalValues() {
+        String[] values = new String[] { "0", "-0.00", "12.34", "-12.34", "+7", "0.0000001", "999999999999999999", "-99999999.9999999999",
+                "1234567890.1234567890", "12345678901234567890.5", "1E+3", "-.5" };
+        for (String value : values) {
+            byte[] bytes = ("x" + value + "y").getBytes();
+            BigDecimal expected = new BigDecimal(value);
+            BigDecimal actual = MysqlTextValueDecoder.getBigDecimal(bytes, 1, value.length());
+            assertEquals(expected, actual, value);
+            assertEquals(expected.scale(), actual.scale(), value);
+        }
+
+        assertEquals(1234, this.valueDecoder.decodeUnscaledDecimal("12.34".getBytes(), 0, 5, 2));
+        assertEquals(-123400, this.valueDecoder.decodeUnscaledDecimal("-12.34".getBytes(), 0, 6, 4));
+        assertEquals(120, this.valueDecoder.decodeUnscaledDecimal("12".getBytes(), 0, 2, 1));
+        assertEquals(1200, this.valueDecoder.decodeUnscaledDecimal("12.000".getBytes(), 0, 6, 2));
+        assertEquals(999999999999999999L, this.valueDecoder.decodeUnscaledDecimal("999999999999999999".getBytes(), 0, 18, 0));
+        assertEquals(Long.MIN_VALUE, this.valueDecoder.decodeUnscaledDecimal("-922337203685477.5808".getBytes(), 0, 21, 4));
+        for (String value : new String[] { "12.345", "9223372036854775.808", "99999999999999999.9" }) {
+            try {
+                this.valueDecoder.decodeUnscaledDecimal(value.getBytes(), 0, value.length(), 2);
+                fail("Exception should be thrown for decodeUnscaledDecimal(" + value + ", 2)");
+            } catch (NumberOutOfRange ex) {
+                // expected
+            }
+        }
+    }
 }
@@ -30,6 +30,7 @@
 package com.mysql.cj.protocol.a;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -82,6 +83,26 @@ public class SimplePacketReaderTest {
         assertEquals(0, reader.getMessageSequence());
     }
 
+    // the header instance is recycled, make sure each read overwrites the previous values
+    @Test
+    public void reusedHeaderRead() throws IOException {
+        RuntimeProperty<Integer> maxAllowedPacket = new JdbcPropertySetImpl().getProperty(PropertyKey.maxAllowedPacket);
+        SocketConnection connection = new FixedBufferSocketConnection(new byte[] { 2, 0, 0, 1, 7, 7, 1, 0, 0, 2, 8 });
+        MessageReader<NativePacketHeader, NativePacketPayload> reader = new SimplePacketReader(connection, maxAllowedPacket);
+        NativePacketHeader hdr1 = reader.readHeader();
+        assertEquals(2, hdr1.getMessageSize());
+        assertEquals(1, hdr1.getMessageSequence());
+        NativePacketPayload payload = reader.readMessage(Optional.empty(), hdr1);
+        assertEquals(7, payload.getByteBuffer()[1]);
+        NativePacketHeader hdr2 = reader.readHeader();
+        assertSame(hdr1, hdr2);
+        assertEquals(1, hdr2.getMessageSize());
+        assertEquals(2, hdr2.getMessageSequence());
+        assertEquals(2, reader.getMessageSequence());
+        payload = reader.readMessage(Optional.of(payload), hdr2);
+        assertEquals(8, payload.getByteBuffer()[0]);
+    }
+
     // test checking of maxAllowedPacket
     @Test
     public void exceedMaxAllowedPacketHeaderRead() throws IOException {
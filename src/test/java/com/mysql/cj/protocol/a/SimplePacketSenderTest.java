@@ -158,4 +158,49 @@ public class SimplePacketSenderTest extends PacketSenderTestBase {
             }
         }
     }
+
+    /**
+     * Test that the headers stay correct when several packets of mixed sizes, including packets longer than the max packet size, are sent one after the other
+     * through the same sender, which reuses its header buffer.
+     * 
+     * @throws IOException
+     */
+    @Test
+    public void mixedPacketSizesTest() throws IOException {
+        final int[] packetLens = new int[] { NativeConstants.MAX_PACKET_SIZE + 100, 20, 0, NativeConstants.MAX_PACKET_SIZE, 1,
+                (2 * NativeConstants.MAX_PACKET_SIZE) + 7, 3 };
+        // sequence ids start close to the byte limit to check that they wrap around
+        final byte[] packetSequences = new byte[] { 126, 0, 5, (byte) 250, 1, 127, 9 };
+
+        for (int p = 0; p < packetLens.length; ++p) {
+            byte[] packet = new byte[packetLens[p]];
+            fillPacketSequentially(packet);
+            this.sender.send(packet, packetLens[p], packetSequences[p]);
+        }
+
+        // walk through everything that was written and check every header against the chunks the packets had to be split into
+        byte[] sentPackets = this.outputStream.toByteArray();
+        int offset = 0;
+        for (int p = 0; p < packetLens.length; ++p) {
+            byte packetSequence = packetSequences[p];
+            int remaining = packetLens[p];
+            int packetOffset = 0;
+            int chunkLen;
+            do {
+                chunkLen = Math.min(remaining, NativeConstants.MAX_PACKET_SIZE);
+                assertEquals(chunkLen, NativeUtils.decodeMysqlThreeByteInteger(sentPackets, offset));
+                assertEquals(packetSequence, sentPackets[offset + NativeConstants.HEADER_LENGTH - 1]);
+                offset += NativeConstants.HEADER_LENGTH;
+                if (chunkLen > 0) {
+                    assertEquals((byte) packetOffset, sentPackets[offset]);
+                    assertEquals((byte) (packetOffset + chunkLen - 1), sentPackets[offset + chunkLen - 1]);
+                }
+                offset += chunkLen;
+                packetOffset += chunkLen;
+                remaining -= chunkLen;
+                packetSequence++;
+            } while (chunkLen == NativeConstants.MAX_PACKET_SIZE); // a full chunk is always followed by another one, possibly empty
+        }
+        assertEquals(sentPackets.length, offset);
+    }
 }
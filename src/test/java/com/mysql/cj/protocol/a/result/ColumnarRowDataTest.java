@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.DoubleValueFactory;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.IntegerValueFactory;
+import com.mysql.cj.result.LongValueFactory;
+import com.mysql.cj.result.Row;
+import com.mysql.cj.result.StringValueFactory;
+
+/**
+ * Tests for {@link ColumnarRowData}.
+ */
+public class ColumnarRowDataTest {
+    private DefaultPropertySet propertySet = new DefaultPropertySet();
+
+    private static Field field(String name, MysqlType type, int typeId, int length) {
+        Field f = new Field("t", name, 0, null, type, length);
+        f.setMysqlTypeId(typeId);
+        return f;
+    }
+
+    private static byte[][] textRow(String... values) {
+        byte[][] row = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            row[i] = values[i] == null ? null : values[i].getBytes();
+        }
+        return row;
+    }
+
+    @Test
+    public void testTextRows() {
+        ColumnDefinition cd = new DefaultColumnDefinition(new Field[] { field("i", MysqlType.INT, MysqlType.FIELD_TYPE_LONG, 11),
+                field("l", MysqlType.BIGINT, MysqlType.FIELD_TYPE_LONGLONG, 20), field("d", MysqlType.DOUBLE, MysqlType.FIELD_TYPE_DOUBLE, 22),
+                field("s", MysqlType.VARCHAR, MysqlType.FIELD_TYPE_VAR_STRING, 10) });
+        List<Row> rows = new ArrayList<>();
+        rows.add(new ByteArrayRow(textRow("1", "9223372036854775807", "1.5", "abc"), null));
+        rows.add(new ByteArrayRow(textRow(null, "-2", null, ""), null));
+        rows.add(new ByteArrayRow(textRow("-3", null, "1e20", null), null));
+
+        ColumnarRowData data = new ColumnarRowData(rows, cd, null);
+        assertEquals(3, data.getRowCount());
+        assertEquals(ColumnarRowData.STORAGE_INT, data.getStorage(0));
+        assertEquals(ColumnarRowData.STORAGE_LONG, data.getStorage(1));
+        // text protocol floating point values keep their textual form
+        assertEquals(ColumnarRowData.STORAGE_BYTES, data.getStorage(2));
+        assertEquals(ColumnarRowData.STORAGE_BYTES, data.getStorage(3));
+
+        assertArrayEquals(new int[] { 1, 0, -3 }, data.getIntColumn(0));
+        assertArrayEquals(new long[] { 1, 0, -3 }, data.getLongColumn(0));
+        assertArrayEquals(new long[] { Long.MAX_VALUE, -2, 0 }, data.getLongColumn(1));
+        assertArrayEquals(new double[] { 1.5, 0, 1e20 }, data.getDoubleColumn(2));
+        assertNull(data.getDoubleColumn(3));
+        assertArrayEquals(new int[] { 0, 3, 3, 3 }, data.getBytesColumnOffsets(3));
+        assertArrayEquals("abc".getBytes(), data.getBytesColumnData(3));
+        assertArrayEquals(new long[] { 0b010 }, data.getNullMask(0));
+        assertArrayEquals(new long[] { 0b100 }, data.getNullMask(3));
+
+        // the row views return what the original rows did
+        List<Row> views = data.asRowList();
+        StringValueFactory svf = new StringValueFactory(this.propertySet);
+        for (int r = 0; r < 3; r++) {
+            Row row = rows.get(r).setMetadata(cd);
+            Row view = views.get(r).setMetadata(cd);
+            for (int c = 0; c < 4; c++) {
+                byte[] value = row.getBytes(c);
+                assertArrayEquals(value, view.getBytes(c));
+                assertEquals(value == null, view.getNull(c));
+                assertEquals(row.getValue(c, svf), view.getValue(c, svf));
+                assertEquals(value == null, view.wasNull());
+            }
+        }
+        Row first = views.get(0).setMetadata(cd);
+        assertEquals(1, first.getInt(0, new IntegerValueFactory(this.propertySet)));
+        assertEquals(Long.MAX_VALUE, first.getLong(1, new LongValueFactory(this.propertySet)));
+        assertEquals(1.5, first.getDouble(2, new DoubleValueFactory(this.propertySet)));
+        assertFalse(first.wasNull());
+        Row second = views.get(1).setMetadata(cd);
+        assertEquals(0, second.getInt(0, new IntegerValueFactory(this.propertySet)));
+        assertTrue(second.wasNull());
+    }
+
+    @Test
+    public void testZeroFill() {
+        Field f = new Field(null, null, null, null, null, 5, MysqlType.FIELD_TYPE_LONG, (short) (MysqlType.FIELD_FLAG_UNSIGNED | MysqlType.FIELD_FLAG_ZEROFILL),
+                0, 0, null, MysqlType.INT_UNSIGNED);
+        ColumnDefinition cd = new DefaultColumnDefinition(new Field[] { f });
+        List<Row> rows = new ArrayList<>();
+        rows.add(new ByteArrayRow(textRow("00042"), null));
+
+        ColumnarRowData data = new ColumnarRowData(rows, cd, null);
+        assertArrayEquals(new long[] { 42 }, data.getLongColumn(0));
+        assertArrayEquals("00042".getBytes(), data.asRowList().get(0).setMetadata(cd).getBytes(0));
+    }
+
+    @Test
+    public void testBinaryRows() {
+        ColumnDefinition cd = new DefaultColumnDefinition(new Field[] { field("t", MysqlType.TINYINT, MysqlType.FIELD_TYPE_TINY, 4),
+                field("f", MysqlType.FLOAT, MysqlType.FIELD_TYPE_FLOAT, 12), field("d", MysqlType.DOUBLE, MysqlType.FIELD_TYPE_DOUBLE, 22) });
+        byte[] f = new byte[4];
+        int fBits = Float.floatToIntBits(2.5f);
+        byte[] d = new byte[8];
+        long dBits = Double.doubleToLongBits(-0.25);
+        for (int i = 0; i < 8; i++) {
+            if (i < 4) {
+                f[i] = (byte) (fBits >>> (i * 8));
+            }
+            d[i] = (byte) (dBits >>> (i * 8));
+        }
+        List<Row> rows = new ArrayList<>();
+        rows.add(new ByteArrayRow(new byte[][] { new byte[] { -7 }, f, d }, null, new MysqlBinaryValueDecoder()));
+
+        ColumnarRowData data = new ColumnarRowData(rows, cd, null);
+        assertEquals(ColumnarRowData.STORAGE_DOUBLE, data.getStorage(1));
+        assertArrayEquals(new int[] { -7 }, data.getIntColumn(0));
+        assertArrayEquals(new double[] { 2.5 }, data.getDoubleColumn(1));
+        assertArrayEquals(new double[] { -0.25 }, data.getDoubleColumn(2));
+
+        Row view = data.asRowList().get(0).setMetadata(cd);
+        assertTrue(((ColumnarRow) view).isBinaryEncoded());
+        assertArrayEquals(new byte[] { -7 }, view.getBytes(0));
+        assertArrayEquals(f, view.getBytes(1));
+        assertArrayEquals(d, view.getBytes(2));
+    }
+}
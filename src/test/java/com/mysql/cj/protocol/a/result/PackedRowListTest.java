@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+package com.mysql.cj.protocol.a.result;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
+import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
+import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
+import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
+import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.IntegerValueFactory;
+import com.mysql.cj.result.LongValueFactory;
+import com.mysql.cj.result.Row;
+import com.mysql.cj.result.StringValueFactory;
+
+/**
+ * Tests for {@link PackedRowList}.
+ */
+public class PackedRowListTest {
+    private DefaultPropertySet propertySet = new DefaultPropertySet();
+
+    private static Field field(String name, MysqlType type, int typeId, int length) {
+        Field f = new Field("t", name, 0, null, type, length);
+        f.setMysqlTypeId(typeId);
+        return f;
+    }
+
+    @Test
+    public void testTextRows() {
+        ColumnDefinition cd = new DefaultColumnDefinition(new Field[] { field("i", MysqlType.INT, MysqlType.FIELD_TYPE_LONG, 11),
+                field("s", MysqlType.VARCHAR, MysqlType.FIELD_TYPE_VAR_STRING, 10) });
+        PackedRowList rows = new PackedRowList(cd, new MysqlTextValueDecoder(), null);
+
+        // enough rows to grow the first slab and to add further ones, including rows bigger than a slab
+        for (int i = 0; i < 20000; i++) {
+            byte[] s;
+            if (i % 5 == 0) {
+                s = null;
+            } else if (i % 7 == 0) {
+                s = new byte[0];
+            } else if (i % 5000 == 1) {
+                s = new byte[2 * 1024 * 1024];
+                Arrays.fill(s, (byte) 'x');
+            } else {
+                s = ("v" + i).getBytes();
+            }
+            rows.add(new ByteArrayRow(new byte[][] { String.valueOf(i).getBytes(), s }, null));
+        }
+        assertEquals(20000, rows.size());
+
+        IntegerValueFactory ivf = new IntegerValueFactory(this.propertySet);
+        StringValueFactory svf = new StringValueFactory(this.propertySet);
+        for (int i = 19999; i >= 0; i--) {
+            Row r = rows.get(i).setMetadata(cd);
+            assertEquals(i, r.getInt(0, ivf));
+            assertFalse(r.wasNull());
+            assertEquals(Integer.valueOf(i), r.getValue(0, ivf));
+            if (i % 5 == 0) {
+                assertNull(r.getValue(1, svf));
+                assertTrue(r.wasNull());
+                assertNull(r.getBytes(1));
+            } else if (i % 7 == 0) {
+                assertEquals("", r.getValue(1, svf));
+                assertFalse(r.wasNull());
+            } else if (i % 5000 == 1) {
+                assertEquals(2 * 1024 * 1024, r.getBytes(1).length);
+                assertEquals('x', r.getValue(1, svf).charAt(1024 * 1024));
+            } else {
+                assertEquals("v" + i, r.getValue(1, svf));
+                assertArrayEquals(("v" + i).getBytes(), r.getBytes(1));
+            }
+        }
+
+        Row removed = rows.remove(2);
+        assertArrayEquals("2".getBytes(), removed.getBytes(0));
+        assertEquals(19999, rows.size());
+        assertArrayEquals("3".getBytes(), rows.get(2).getBytes(0));
+        assertArrayEquals("v3".getBytes(), rows.get(2).getBytes(1));
+    }
+
+    @Test
+    public void testBinaryRows() {
+        ColumnDefinition cd = new DefaultColumnDefinition(new Field[] { field("l", MysqlType.BIGINT, MysqlType.FIELD_TYPE_LONGLONG, 20),
+                field("n", MysqlType.INT, MysqlType.FIELD_TYPE_LONG, 11) });
+        PackedRowList rows = new PackedRowList(cd, new MysqlBinaryValueDecoder(), null);
+        rows.add(new ByteArrayRow(new byte[][] { new byte[] { 1, 0, 0, 0, 0, 0, 0, (byte) 0x80 }, null }, null, new MysqlBinaryValueDecoder()));
+        rows.add(new ByteArrayRow(new byte[][] { null, new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff } }, null,
+                new MysqlBinaryValueDecoder()));
+
+        LongValueFactory lvf = new LongValueFactory(this.propertySet);
+        Row r = rows.get(0);
+        assertTrue(((PackedRow) r).isBinaryEncoded());
+        assertEquals(Long.MIN_VALUE + 1, r.getLong(0, lvf));
+        assertTrue(r.getNull(1));
+        r = rows.get(1);
+        assertTrue(r.getNull(0));
+        assertEquals(-1L, r.getLong(1, lvf));
+    }
+
+    @Test
+    public void testBufferRows() {
+        ColumnDefinition cd = new DefaultColumnDefinition(new Field[] { field("i", MysqlType.INT, MysqlType.FIELD_TYPE_LONG, 11),
+                field("s", MysqlType.VARCHAR, MysqlType.FIELD_TYPE_VAR_STRING, 10) });
+        PackedRowList rows = new PackedRowList(cd, new MysqlTextValueDecoder(), null);
+
+        // the same packet is reused for every row, like when reading a result set
+        NativePacketPayload packet = new NativePacketPayload(64);
+        for (int i = 0; i < 3; i++) {
+            packet.setPosition(0);
+            packet.writeBytes(StringSelfDataType.STRING_LENENC, String.valueOf(i).getBytes());
+            if (i == 1) {
+                packet.writeInteger(IntegerDataType.INT1, 0xfb); // NULL
+            } else {
+                packet.writeBytes(StringSelfDataType.STRING_LENENC, i == 2 ? new byte[0] : ("v" + i).getBytes());
+            }
+            packet.setPayloadLength(packet.getPosition());
+            packet.setPosition(0);
+            rows.add(new TextBufferRow(packet, cd, null, new MysqlTextValueDecoder()));
+        }
+
+        StringValueFactory svf = new StringValueFactory(this.propertySet);
+        IntegerValueFactory ivf = new IntegerValueFactory(this.propertySet);
+        assertEquals(0, rows.get(0).getInt(0, ivf));
+        assertEquals("v0", rows.get(0).getValue(1, svf));
+        assertEquals(1, rows.get(1).getInt(0, ivf));
+        assertTrue(rows.get(1).getNull(1));
+        assertEquals(2, rows.get(2).getInt(0, ivf));
+        assertFalse(rows.get(2).getNull(1));
+        assertEquals("", rows.get(2).getValue(1, svf));
+
+        cd = new DefaultColumnDefinition(new Field[] { field("l", MysqlType.BIGINT, MysqlType.FIELD_TYPE_LONGLONG, 20),
+                field("s", MysqlType.VARCHAR, MysqlType.FIELD_TYPE_VAR_STRING, 10), field("z", MysqlType.NULL, MysqlType.FIELD_TYPE_NULL, 0),
+                field("t", MysqlType.TINYINT, MysqlType.FIELD_TYPE_TINY, 4) });
+        rows = new PackedRowList(cd, new MysqlBinaryValueDecoder(), null);
+        for (int i = 0; i < 3; i++) {
+            packet.setPosition(0);
+            packet.writeInteger(IntegerDataType.INT1, i == 1 ? 0x08 : 0x00); // NULL bitmap, column "s" is NULL in the second row
+            packet.writeInteger(IntegerDataType.INT8, -i);
+            if (i != 1) {
+                packet.writeBytes(StringSelfDataType.STRING_LENENC, ("v" + i).getBytes());
+            }
+            packet.writeBytes(StringLengthDataType.STRING_FIXED, new byte[] { (byte) (i + 10) });
+            packet.setPayloadLength(packet.getPosition());
+            packet.setPosition(0);
+            rows.add(new BinaryBufferRow(packet, cd, null, new MysqlBinaryValueDecoder()));
+        }
+
+        LongValueFactory lvf = new LongValueFactory(this.propertySet);
+        for (int i = 0; i < 3; i++) {
+            Row r = rows.get(i);
+            assertEquals(-i, r.getLong(0, lvf));
+            if (i == 1) {
+                assertTrue(r.getNull(1));
+            } else {
+                assertEquals("v" + i, r.getValue(1, svf));
+            }
+            assertTrue(r.getNull(2));
+            assertEquals(i + 10, r.getInt(3, ivf));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+package com.mysql.cj.protocol.a.result;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.IntegerValueFactory;
+import com.mysql.cj.result.Row;
+
+/**
+ * Tests for {@link SpillingRowList}.
+ */
+public class SpillingRowListTest {
+    private ColumnDefinition cd;
+
+    public SpillingRowListTest() {
+        Field i = new Field("t", "i", 0, null, MysqlType.INT, 11);
+        i.setMysqlTypeId(MysqlType.FIELD_TYPE_LONG);
+        Field s = new Field("t", "s", 0, null, MysqlType.VARCHAR, 100);
+        s.setMysqlTypeId(MysqlType.FIELD_TYPE_VAR_STRING);
+        this.cd = new DefaultColumnDefinition(new Field[] { i, s });
+    }
+
+    private static Row row(int i, String s) {
+        return new ByteArrayRow(new byte[][] { String.valueOf(i).getBytes(), s == null ? null : s.getBytes() }, null);
+    }
+
+    @Test
+    public void testWithinBudget() {
+        SpillingRowList rows = new SpillingRowList(this.cd, 1024 * 1024, new MysqlTextValueDecoder(), null);
+        Row first = row(1, "a");
+        rows.add(first);
+        rows.add(row(2, null));
+        assertFalse(rows.isSpilled());
+        assertEquals(2, rows.size());
+        assertTrue(first == rows.get(0));
+        rows.close();
+    }
+
+    @Test
+    public void testSpill() {
+        SpillingRowList rows = new SpillingRowList(this.cd, 1000, new MysqlTextValueDecoder(), null);
+        for (int i = 0; i < 100; i++) {
+            rows.add(row(i, i % 3 == 0 ? null : "value " + i));
+        }
+        assertTrue(rows.isSpilled());
+        assertEquals(100, rows.size());
+
+        IntegerValueFactory vf = new IntegerValueFactory(new DefaultPropertySet());
+        // random access in both directions
+        for (int i = 99; i >= 0; i -= 7) {
+            Row r = rows.get(i).setMetadata(this.cd);
+            assertEquals(Integer.valueOf(i), r.getValue(0, vf));
+            if (i % 3 == 0) {
+                assertNull(r.getBytes(1));
+                assertTrue(r.getNull(1));
+            } else {
+                assertArrayEquals(("value " + i).getBytes(), r.getBytes(1));
+            }
+        }
+
+        rows.remove(0);
+        assertEquals(99, rows.size());
+        assertArrayEquals("1".getBytes(), rows.get(0).getBytes(0));
+        rows.add(row(1000, "added"));
+        assertEquals(100, rows.size());
+        assertArrayEquals("added".getBytes(), rows.get(99).getBytes(1));
+
+        rows.close();
+        assertEquals(0, rows.size());
+        assertFalse(rows.isSpilled());
+        rows.close();
+    }
+}
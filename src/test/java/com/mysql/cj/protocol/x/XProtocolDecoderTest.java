@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2015, 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.x;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.exceptions.NumberOutOfRange;
+import com.mysql.cj.result.BigDecimalValueFactory;
+import com.mysql.cj.result.ValueFactory;
+
+/**
+ * Tests for {@link XProtocolDecoder}.
+ */
+public class XProtocolDecoderTest {
+    private XProtocolDecoder decoder = new XProtocolDecoder();
+    private ValueFactory<BigDecimal> bigDecimalValueFactory = new BigDecimalValueFactory(new DefaultPropertySet());
+
+    private static byte[] bytes(int... values) {
+        byte[] b = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            b[i] = (byte) values[i];
+        }
+        return b;
+    }
+
+    @Test
+    public void testPrimitiveValues() {
+        // zigzag encoded signed varints
+        assertEquals(-1, this.decoder.decodeInt1(bytes(0x01), 0, 1));
+        assertEquals(150, this.decoder.decodeInt4(bytes(0xac, 0x02), 0, 2));
+        assertEquals(Long.MIN_VALUE, this.decoder.decodeInt8(bytes(0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0x01), 0, 10));
+        // unsigned varints
+        assertEquals(300, this.decoder.decodeUInt2(bytes(0xac, 0x02), 0, 2));
+        assertEquals(4294967295L, this.decoder.decodeUInt4(bytes(0xff, 0xff, 0xff, 0xff, 0x0f), 0, 5));
+        // little endian fixed floating point values
+        assertEquals(1.5, this.decoder.decodeFloat(bytes(0x00, 0x00, 0xc0, 0x3f), 0, 4));
+        assertEquals(-2.25, this.decoder.decodeDouble(bytes(0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02, 0xc0), 0, 8));
+    }
+
+    @Test
+    public void testDecimalValues() {
+        // scale byte followed by packed BCD digits and the sign nibble
+        byte[] positive = bytes(0x02, 0x12, 0x34, 0xc0);
+        byte[] negative = bytes(0x03, 0x12, 0x34, 0x5d);
+
+        assertEquals(new BigDecimal("12.34"), this.decoder.decodeDecimal(positive, 0, positive.length, this.bigDecimalValueFactory));
+        assertEquals(new BigDecimal("-12.345"), this.decoder.decodeDecimal(negative, 0, negative.length, this.bigDecimalValueFactory));
+
+        assertEquals(1234, this.decoder.decodeUnscaledDecimal(positive, 0, positive.length, 2));
+        assertEquals(123400, this.decoder.decodeUnscaledDecimal(positive, 0, positive.length, 4));
+        assertEquals(-12345, this.decoder.decodeUnscaledDecimal(negative, 0, negative.length, 3));
+        assertThrows(NumberOutOfRange.class, () -> this.decoder.decodeUnscaledDecimal(negative, 0, negative.length, 2));
+        assertThrows(NumberOutOfRange.class, () -> this.decoder.decodeUnscaledDecimal(positive, 0, positive.length, 18));
+    }
+}
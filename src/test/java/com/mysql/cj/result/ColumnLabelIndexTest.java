@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+
+/**
+ * Tests for {@link ColumnLabelIndex}
+ */
+public class ColumnLabelIndexTest {
+
+    private static Field[] fields(String tableName, String... labels) {
+        Field[] fields = new Field[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            fields[i] = new Field(tableName, labels[i], 33, "UTF-8", MysqlType.VARCHAR, 10);
+        }
+        return fields;
+    }
+
+    @Test
+    public void testFindColumn() {
+        ColumnLabelIndex index = new ColumnLabelIndex(fields("t1", "id", "Name", "NAME", "value", "\u00B5s"));
+
+        assertEquals(0, index.findColumn("id", false));
+        assertEquals(0, index.findColumn("ID", false));
+        assertEquals(1, index.findColumn("name", false)); // first matching column wins
+        assertEquals(1, index.findColumn("NaMe", false));
+        assertEquals(3, index.findColumn("t1.VALUE", false));
+        assertEquals(4, index.findColumn("\u00B5S", false));
+        assertEquals(4, index.findColumn("\u03BCs", false));
+        assertEquals(-1, index.findColumn("missing", false));
+        assertEquals(-1, index.findColumn("t2.value", false));
+        assertEquals(-1, index.findColumn(null, false));
+    }
+
+    @Test
+    public void testLargeLayout() {
+        String[] labels = new String[1000];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = "col" + i;
+        }
+        ColumnLabelIndex index = new ColumnLabelIndex(fields("t", labels));
+
+        for (int i = 0; i < labels.length; i++) {
+            assertEquals(i, index.findColumn("COL" + i, true));
+            assertEquals(i, index.findColumn("T.col" + i, true));
+        }
+        assertEquals(-1, index.findColumn("col1000", true));
+    }
+
+    @Test
+    public void testSharedByColumnDefinitions() {
+        DefaultColumnDefinition cdef = new DefaultColumnDefinition(fields("t", "a", "b"));
+        assertEquals(2, cdef.findColumn("B", false, 1));
+        assertEquals(-1, cdef.findColumn("c", false, 1));
+
+        DefaultColumnDefinition cached = new DefaultColumnDefinition();
+        cdef.exportTo(cached);
+        DefaultColumnDefinition other = new DefaultColumnDefinition();
+        other.initializeFrom(cached);
+
+        assertSame(cdef.getColumnLabelIndex(), other.getColumnLabelIndex());
+        assertEquals(1, other.findColumn("a", false, 1));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ClockRing.
+ */
+public class ClockRingTest {
+    @Test
+    public void testSweep() {
+        ClockRing<ClockRing.Entry> ring = new ClockRing<>(20);
+        assertNull(ring.nextVictim());
+
+        ClockRing.Entry[] entries = new ClockRing.Entry[20];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new ClockRing.Entry();
+            ring.add(entries[i]);
+        }
+        assertTrue(ring.isFull());
+        assertEquals(20, ring.size());
+
+        // accessed entries get a second chance
+        entries[0].markAccessed();
+        entries[1].markAccessed();
+        assertSame(entries[2], ring.nextVictim());
+        assertFalse(entries[0].accessed);
+        assertFalse(entries[1].accessed);
+
+        // the hand goes on from the last victim and wraps around
+        for (int i = 3; i < entries.length; i++) {
+            entries[i].markAccessed();
+        }
+        assertSame(entries[0], ring.nextVictim());
+
+        // a full turn over accessed entries still finds a victim
+        for (ClockRing.Entry entry : entries) {
+            entry.markAccessed();
+        }
+        assertSame(entries[1], ring.nextVictim());
+    }
+
+    @Test
+    public void testReplaceRemove() {
+        ClockRing<ClockRing.Entry> ring = new ClockRing<>(3);
+        ClockRing.Entry a = new ClockRing.Entry();
+        ClockRing.Entry b = new ClockRing.Entry();
+        ClockRing.Entry c = new ClockRing.Entry();
+        ring.add(a);
+        ring.add(b);
+        ring.add(c);
+
+        ClockRing.Entry d = new ClockRing.Entry();
+        assertSame(a, ring.nextVictim());
+        ring.replace(a, d);
+        assertEquals(0, d.slot);
+        assertEquals(-1, a.slot);
+
+        // the last entry takes the slot of the removed one
+        ring.remove(d);
+        assertEquals(2, ring.size());
+        assertFalse(ring.isFull());
+        assertEquals(0, c.slot);
+        assertEquals(1, b.slot);
+        ring.remove(b);
+        ring.remove(c);
+        assertEquals(0, ring.size());
+        assertNull(ring.nextVictim());
+
+        ring.add(a);
+        ring.clear();
+        assertEquals(0, ring.size());
+        assertNull(ring.nextVictim());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ConcurrentLRUCache.
+ */
+public class ConcurrentLRUCacheTest {
+    @Test
+    public void testGetPutRemove() {
+        ConcurrentLRUCache<String, Integer> cache = new ConcurrentLRUCache<>(10);
+        assertNull(cache.get("a"));
+        assertNull(cache.put("a", 1));
+        assertNull(cache.put("b", 2));
+        assertEquals(Integer.valueOf(1), cache.put("a", 3));
+        assertEquals(Integer.valueOf(3), cache.get("a"));
+        assertEquals(Integer.valueOf(3), cache.putIfAbsent("a", 4));
+        assertEquals(Integer.valueOf(3), cache.get("a"));
+
+        assertEquals(Integer.valueOf(3), cache.remove("a"));
+        assertNull(cache.remove("a"));
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.size());
+        assertTrue(cache.keySet().contains("b"));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    public void testEviction() {
+        List<Integer> evicted = new ArrayList<>();
+        ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(3, (k, v) -> evicted.add(k));
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.put(3, 3);
+
+        // recently used entries survive
+        cache.get(1);
+        cache.get(3);
+        cache.put(4, 4);
+        assertEquals(1, evicted.size());
+        assertEquals(Integer.valueOf(2), evicted.get(0));
+        assertEquals(3, cache.size());
+        assertNull(cache.get(2));
+
+        for (int i = 5; i < 100; i++) {
+            cache.put(i, i);
+            assertEquals(3, cache.size());
+        }
+        assertEquals(96, evicted.size());
+
+        // removed entries aren't notified
+        cache.remove(99);
+        assertEquals(96, evicted.size());
+
+        ConcurrentLRUCache<Integer, Integer> none = new ConcurrentLRUCache<>(0, (k, v) -> evicted.add(k));
+        none.put(1, 1);
+        assertNull(none.get(1));
+        assertEquals(97, evicted.size());
+    }
+}
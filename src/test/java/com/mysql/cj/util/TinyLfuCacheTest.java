@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of MySQL hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for TinyLfuCache.
+ */
+public class TinyLfuCacheTest {
+    @Test
+    public void testGetPutRemove() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(10);
+        assertNull(cache.get("a"));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        cache.put("a", 3);
+        assertEquals(Integer.valueOf(3), cache.get("a"));
+
+        cache.remove("a");
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testMaximumSize() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(50);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+            assertTrue(cache.size() <= 50);
+        }
+        assertEquals(50, cache.size());
+        assertEquals(950, cache.getEvictionCount());
+
+        TinyLfuCache<Integer, Integer> none = new TinyLfuCache<>(0);
+        none.put(1, 1);
+        assertNull(none.get(1));
+    }
+
+    @Test
+    public void testFrequentEntriesSurviveScans() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(100);
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 20; i++) {
+                for (int j = 0; j < 5; j++) {
+                    if (cache.get("hot" + i) == null) {
+                        cache.put("hot" + i, i);
+                    }
+                }
+            }
+            for (int i = 0; i < 200; i++) {
+                cache.put("cold" + round + "_" + i, i);
+            }
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(Integer.valueOf(i), cache.get("hot" + i));
+        }
+    }
+}
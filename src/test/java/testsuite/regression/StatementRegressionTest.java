@@ -97,6 +97,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
 
@@ -138,7 +139,7 @@ import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Resultset;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.ServerSession;
-import com.mysql.cj.util.LRUCache;
+import com.mysql.cj.util.ConcurrentLRUCache;
 import com.mysql.cj.util.TimeUtil;
 
 import testsuite.BaseQueryInterceptor;
@@ -4763,7 +4764,7 @@ public class StatementRegressionTest extends BaseTestCase {
             }
 
             @Override
-            public Object getSyncMutex() {
+            public Lock getSyncLock() {
                 return null;
             }
         };
@@ -10202,7 +10203,7 @@ public class StatementRegressionTest extends BaseTestCase {
         stmtsCacheField.setAccessible(true);
         ToIntFunction<Connection> getStmtsCacheSize = (c) -> {
             try {
-                LRUCache<?, ?> stmtsCacheObj = (LRUCache<?, ?>) stmtsCacheField.get(c);
+                ConcurrentLRUCache<?, ?> stmtsCacheObj = (ConcurrentLRUCache<?, ?>) stmtsCacheField.get(c);
                 return stmtsCacheObj == null ? -1 : stmtsCacheObj.size();
             } catch (IllegalArgumentException | IllegalAccessException e) {
                 fail("Fail getting the statemets cache size.");
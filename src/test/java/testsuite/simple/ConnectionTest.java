@@ -33,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -76,6 +77,7 @@ import org.junit.jupiter.api.Test;
 import com.mysql.cj.CharsetMapping;
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.NativeSession;
+import com.mysql.cj.PerVmParseInfoCacheFactory;
 import com.mysql.cj.PreparedQuery;
 import com.mysql.cj.Query;
 import com.mysql.cj.conf.ConnectionUrl;
@@ -105,6 +107,7 @@ import com.mysql.cj.protocol.a.TimeTrackingPacketSender;
 import com.mysql.cj.protocol.a.TracingPacketReader;
 import com.mysql.cj.protocol.a.TracingPacketSender;
 import com.mysql.cj.util.TimeUtil;
+import com.mysql.cj.util.TinyLfuCache;
 import com.mysql.jdbc.Driver;
 
 import testsuite.BaseQueryInterceptor;
@@ -880,6 +883,50 @@ public class ConnectionTest extends BaseTestCase {
         }
     }
 
+    /**
+     * Tests that connections using PerVmParseInfoCacheFactory share parsed statements and server-side prepare checks.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPerVmParseInfoCache() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.parseInfoCacheFactory.getKeyName(), PerVmParseInfoCacheFactory.class.getName());
+        props.setProperty(PropertyKey.cachePrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "true");
+        // a cache size of its own keeps this test apart from other connections
+        props.setProperty(PropertyKey.prepStmtCacheSize.getKeyName(), "317");
+
+        String sql = "SELECT ? FROM DUAL /* testPerVmParseInfoCache */";
+        Connection conn1 = null;
+        Connection conn2 = null;
+        try {
+            conn1 = getConnectionWithProps(props);
+            conn2 = getConnectionWithProps(props);
+
+            ClientPreparedStatement pstmt1 = (ClientPreparedStatement) ((JdbcConnection) conn1).clientPrepareStatement(sql);
+            ClientPreparedStatement pstmt2 = (ClientPreparedStatement) ((JdbcConnection) conn2).clientPrepareStatement(sql);
+            assertSame(pstmt1.getParseInfo(), pstmt2.getParseInfo());
+
+            TinyLfuCache<?, ?> parseInfoCache = PerVmParseInfoCacheFactory.getParseInfoCache(317);
+            assertEquals(317, parseInfoCache.getMaximumSize());
+            assertTrue(parseInfoCache.getHitCount() > 0);
+
+            conn1.prepareStatement(sql).close();
+            TinyLfuCache<?, ?> checkCache = PerVmParseInfoCacheFactory.getServerPrepareCheckCache(317);
+            long hits = checkCache.getHitCount();
+            conn2.prepareStatement(sql).close();
+            assertTrue(checkCache.getHitCount() > hits);
+        } finally {
+            if (conn1 != null) {
+                conn1.close();
+            }
+            if (conn2 != null) {
+                conn2.close();
+            }
+        }
+    }
+
     /**
      * Tests whether or not the configuration 'useLocalSessionState' actually prevents non-needed 'set autocommit=', 'set session transaction isolation ...'
      * and 'show variables like tx_isolation' queries.
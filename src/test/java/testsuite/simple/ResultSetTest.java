@@ -29,21 +29,26 @@
 
 package testsuite.simple;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.JDBCType;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
@@ -58,9 +63,11 @@ import java.time.OffsetTime;
 import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -68,8 +75,15 @@ import com.mysql.cj.CharsetMapping;
 import com.mysql.cj.MysqlType;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.exceptions.NumberOutOfRange;
 import com.mysql.cj.jdbc.ConnectionImpl;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.exceptions.CommunicationsException;
 import com.mysql.cj.jdbc.exceptions.NotUpdatable;
+import com.mysql.cj.jdbc.result.ColumnarResultSet;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.jdbc.result.RowMapper;
+import com.mysql.cj.jdbc.result.StreamableResultSet;
 
 import testsuite.BaseTestCase;
 
@@ -1447,4 +1461,549 @@ public class ResultSetTest extends BaseTestCase {
             }
         });
     }
+
+    /**
+     * Tests column-oriented access through {@link ColumnarResultSet}.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testColumnarResultSet() throws Exception {
+        createTable("testColumnarResultSet", "(id INT, big BIGINT, d DOUBLE, s VARCHAR(10))");
+        this.stmt.executeUpdate("INSERT INTO testColumnarResultSet VALUES (1, 10000000000, 0.5, 'a'), (2, NULL, 1.5, 'bc'), (3, -1, NULL, NULL)");
+
+        for (String useSPS : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useSPS);
+            Connection testConn = getConnectionWithProps(props);
+            PreparedStatement ps = testConn.prepareStatement("SELECT id, big, d, s FROM testColumnarResultSet ORDER BY id");
+            this.rs = ps.executeQuery();
+
+            assertTrue(this.rs.next());
+            ColumnarResultSet crs = this.rs.unwrap(ColumnarResultSet.class);
+            assertEquals(3, crs.getRowCount());
+            assertArrayEquals(new int[] { 1, 2, 3 }, crs.getIntColumn(1));
+            assertArrayEquals(new long[] { 10000000000L, 0, -1 }, crs.getLongColumn(2));
+            assertArrayEquals(new long[] { 0b010 }, crs.getNullMask(2));
+            assertArrayEquals(new double[] { 0.5, 1.5, 0 }, crs.getDoubleColumn(3));
+            assertArrayEquals(new int[] { 0, 1, 3, 3 }, crs.getBytesColumnOffsets(4));
+            assertArrayEquals("abc".getBytes(), crs.getBytesColumnData(4));
+            assertThrows(SQLException.class, "Column 4 can't be read as int\\[\\]\\.", () -> crs.getIntColumn(4));
+
+            // the result set is still readable row by row
+            assertEquals(1, this.rs.getInt(1));
+            assertEquals("a", this.rs.getString(4));
+            assertTrue(this.rs.next());
+            assertEquals(0, this.rs.getLong(2));
+            assertTrue(this.rs.wasNull());
+            assertEquals("bc", this.rs.getString("s"));
+            assertTrue(this.rs.next());
+            assertEquals(-1, this.rs.getLong(2));
+            assertNull(this.rs.getObject(3));
+            assertFalse(this.rs.next());
+            testConn.close();
+        }
+
+        Statement updStmt = this.conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_UPDATABLE);
+        ResultSet updRs = updStmt.executeQuery("SELECT id FROM testColumnarResultSet");
+        assertThrows(SQLException.class, "Column-oriented access is only supported for fully-read, read-only result sets\\.",
+                () -> updRs.unwrap(ColumnarResultSet.class).getRowCount());
+        updStmt.close();
+    }
+
+    /**
+     * Tests streaming result sets read ahead by a background thread.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testStreamingPrefetch() throws Exception {
+        createTable("testStreamingPrefetch", "(id INT, s VARCHAR(20))");
+        StringBuilder sb = new StringBuilder("INSERT INTO testStreamingPrefetch VALUES (0, 's0')");
+        for (int i = 1; i < 1000; i++) {
+            sb.append(", (").append(i).append(", 's").append(i).append("')");
+        }
+        this.stmt.executeUpdate(sb.toString());
+
+        for (String useSPS : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.streamingPrefetchRows.getKeyName(), "16");
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useSPS);
+            Connection testConn = getConnectionWithProps(props);
+            PreparedStatement ps = testConn.prepareStatement("SELECT id, s FROM testStreamingPrefetch ORDER BY id", ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+
+            ResultSet rs1 = ps.executeQuery();
+            for (int i = 0; i < 500; i++) {
+                assertTrue(rs1.next());
+                assertEquals(i, rs1.getInt(1));
+                assertEquals("s" + i, rs1.getString(2));
+            }
+            // the connection is still reserved for the streaming result set
+            assertThrows(SQLException.class, "Streaming result set .* is still active.*", () -> testConn.createStatement().executeQuery("SELECT 1"));
+            for (int i = 500; i < 1000; i++) {
+                assertTrue(rs1.next());
+                assertEquals(i, rs1.getInt(1));
+                assertEquals("s" + i, rs1.getString(2));
+            }
+            assertFalse(rs1.next());
+
+            // closing with unread rows drains them
+            ResultSet rs2 = ps.executeQuery();
+            assertTrue(rs2.next());
+            rs2.close();
+            ResultSet rs3 = testConn.createStatement().executeQuery("SELECT COUNT(*) FROM testStreamingPrefetch");
+            assertTrue(rs3.next());
+            assertEquals(1000, rs3.getInt(1));
+
+            // an interrupted read leaves the prefetching thread in the middle of the rows, the connection can't be used anymore
+            ResultSet rs4 = ps.executeQuery();
+            assertTrue(rs4.next());
+            Thread.currentThread().interrupt();
+            assertThrows(CommunicationsException.class, () -> rs4.next());
+            assertTrue(Thread.interrupted());
+            testConn.close();
+
+            // aborting the connection stops prefetching, reading the remaining rows fails instead of waiting for them forever
+            Connection abortedConn = getConnectionWithProps(props);
+            PreparedStatement abortedPs = abortedConn.prepareStatement("SELECT id, s FROM testStreamingPrefetch ORDER BY id", ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            abortedPs.setFetchSize(Integer.MIN_VALUE);
+            ResultSet rs5 = abortedPs.executeQuery();
+            assertTrue(rs5.next());
+            abortedConn.abort(Runnable::run);
+            assertThrows(SQLException.class, () -> {
+                while (rs5.next()) {
+                    // consume the rows prefetched before the connection was aborted
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Tests cursor-based fetching with batches requested ahead of time and sized from a memory budget.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testCursorFetchAhead() throws Exception {
+        createTable("testCursorFetchAhead", "(id INT, s VARCHAR(20))");
+        StringBuilder sb = new StringBuilder("INSERT INTO testCursorFetchAhead VALUES (0, 's0')");
+        for (int i = 1; i < 1000; i++) {
+            sb.append(", (").append(i).append(", 's").append(i).append("')");
+        }
+        this.stmt.executeUpdate(sb.toString());
+
+        for (String budget : new String[] { "0", "1k" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useCursorFetch.getKeyName(), "true");
+            props.setProperty(PropertyKey.defaultFetchSize.getKeyName(), "10");
+            props.setProperty(PropertyKey.cursorFetchAhead.getKeyName(), "true");
+            props.setProperty(PropertyKey.cursorFetchMemoryBudget.getKeyName(), budget);
+            Connection testConn = getConnectionWithProps(props);
+            PreparedStatement ps = testConn.prepareStatement("SELECT id, s FROM testCursorFetchAhead ORDER BY id");
+            ResultSet rs1 = ps.executeQuery();
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(rs1.next());
+                assertEquals(i, rs1.getInt(1));
+                assertEquals("s" + i, rs1.getString(2));
+
+                if (i % 97 == 0) {
+                    // other commands read the pending batch first
+                    ResultSet rs2 = testConn.createStatement().executeQuery("SELECT " + i);
+                    assertTrue(rs2.next());
+                    assertEquals(i, rs2.getInt(1));
+                }
+            }
+            assertFalse(rs1.next());
+            rs1.close();
+
+            // a statement closed with a batch still pending
+            rs1 = ps.executeQuery();
+            assertTrue(rs1.next());
+            ps.close();
+            ResultSet rs2 = testConn.createStatement().executeQuery("SELECT COUNT(*) FROM testCursorFetchAhead");
+            assertTrue(rs2.next());
+            assertEquals(1000, rs2.getInt(1));
+            testConn.close();
+        }
+    }
+
+    /**
+     * Tests result sets exceeding "resultSetMemoryBudget", whose rows are moved to a temporary file.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testResultSetMemoryBudget() throws Exception {
+        createTable("testResultSetMemoryBudget", "(id INT, s VARCHAR(20))");
+        StringBuilder sb = new StringBuilder("INSERT INTO testResultSetMemoryBudget VALUES (0, NULL)");
+        for (int i = 1; i < 1000; i++) {
+            sb.append(", (").append(i).append(", 's").append(i).append("')");
+        }
+        this.stmt.executeUpdate(sb.toString());
+
+        for (String useServerPrepStmts : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useServerPrepStmts);
+            props.setProperty(PropertyKey.resultSetMemoryBudget.getKeyName(), "4k");
+            Connection testConn = getConnectionWithProps(props);
+            PreparedStatement ps = testConn.prepareStatement("SELECT id, s FROM testResultSetMemoryBudget ORDER BY id", ResultSet.TYPE_SCROLL_INSENSITIVE,
+                    ResultSet.CONCUR_READ_ONLY);
+            assertEquals(4096, ((JdbcStatement) ps).getResultSetMemoryBudget());
+            ResultSet rs1 = ps.executeQuery();
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(rs1.next());
+                assertEquals(i, rs1.getInt(1));
+                assertEquals(i == 0 ? null : "s" + i, rs1.getString(2));
+            }
+            assertFalse(rs1.next());
+
+            assertTrue(rs1.absolute(500));
+            assertEquals(499, rs1.getInt(1));
+            assertTrue(rs1.previous());
+            assertEquals("s498", rs1.getString(2));
+            assertTrue(rs1.last());
+            assertEquals(1000, rs1.getRow());
+            assertTrue(rs1.first());
+            assertNull(rs1.getString(2));
+            assertTrue(rs1.wasNull());
+            rs1.close();
+
+            ((JdbcStatement) ps).setResultSetMemoryBudget(0);
+            rs1 = ps.executeQuery();
+            assertTrue(rs1.absolute(1000));
+            assertEquals(999, rs1.getInt(1));
+            rs1.close();
+
+            // a single row exceeding the budget
+            Statement st = testConn.createStatement();
+            ((JdbcStatement) st).setResultSetMemoryBudget(1);
+            rs1 = st.executeQuery("SELECT id, s FROM testResultSetMemoryBudget WHERE id = 7");
+            assertTrue(rs1.next());
+            assertEquals("s7", rs1.getString(2));
+            assertFalse(rs1.next());
+            rs1.close();
+
+            assertThrows(SQLException.class, "Illegal value for result set memory budget.*", () -> {
+                ((JdbcStatement) ps).setResultSetMemoryBudget(-1);
+                return null;
+            });
+            testConn.close();
+        }
+    }
+
+    /**
+     * Tests reading and scrolling result sets with "useCompactRowStorage".
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testCompactRowStorage() throws Exception {
+        createTable("testCompactRowStorage", "(id INT, d DOUBLE, s VARCHAR(20), b BLOB)");
+        this.stmt.executeUpdate("INSERT INTO testCompactRowStorage VALUES (1, 1.5, 'abc', 'xyz'), (2, NULL, '', NULL), (3, -2, NULL, '')");
+
+        for (String useServerPrepStmts : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useServerPrepStmts);
+            props.setProperty(PropertyKey.useCompactRowStorage.getKeyName(), "true");
+            Connection testConn = getConnectionWithProps(props);
+            PreparedStatement ps = testConn.prepareStatement("SELECT id, d, s, b FROM testCompactRowStorage ORDER BY id", ResultSet.TYPE_SCROLL_INSENSITIVE,
+                    ResultSet.CONCUR_READ_ONLY);
+            ResultSet rs1 = ps.executeQuery();
+            assertTrue(rs1.last());
+            assertEquals(3, rs1.getInt(1));
+            assertEquals(-2.0, rs1.getDouble(2));
+            assertNull(rs1.getString(3));
+            assertArrayEquals(new byte[0], rs1.getBytes(4));
+            assertTrue(rs1.previous());
+            assertEquals(2, rs1.getLong(1));
+            assertEquals(0.0, rs1.getDouble(2));
+            assertTrue(rs1.wasNull());
+            assertEquals("", rs1.getString(3));
+            assertNull(rs1.getBytes(4));
+            assertTrue(rs1.first());
+            assertEquals(1, rs1.getShort(1));
+            assertEquals(1.5f, rs1.getFloat(2));
+            assertEquals("abc", rs1.getString(3));
+            assertArrayEquals("xyz".getBytes(), rs1.getBytes(4));
+            assertFalse(rs1.absolute(4));
+            testConn.close();
+        }
+    }
+
+    /**
+     * Tests ResultSetInternalMethods.getUnscaledLong().
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testGetUnscaledLong() throws Exception {
+        createTable("testGetUnscaledLong", "(id INT, amount DECIMAL(18,4), big DECIMAL(30,2))");
+        this.stmt.executeUpdate("INSERT INTO testGetUnscaledLong VALUES (1, 12.5, 1), (2, -99999999999999.9999, 123456789012345678901234.56), (3, NULL, NULL)");
+
+        for (String useServerPrepStmts : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useServerPrepStmts);
+            Connection testConn = getConnectionWithProps(props);
+            PreparedStatement ps = testConn.prepareStatement("SELECT id, amount, big FROM testGetUnscaledLong ORDER BY id");
+            ResultSetInternalMethods rs1 = (ResultSetInternalMethods) ps.executeQuery();
+            assertTrue(rs1.next());
+            assertEquals(1, rs1.getUnscaledLong(1));
+            assertEquals(125000, rs1.getUnscaledLong(2));
+            assertEquals(new BigDecimal("12.5000"), rs1.getBigDecimal("amount"));
+            assertEquals(100, rs1.getUnscaledLong("big"));
+            assertTrue(rs1.next());
+            assertEquals(-999999999999999999L, rs1.getUnscaledLong("amount"));
+            assertThrows(SQLException.class, () -> rs1.getUnscaledLong(3));
+            assertEquals(new BigDecimal("123456789012345678901234.56"), rs1.getBigDecimal(3));
+            assertTrue(rs1.next());
+            assertEquals(0, rs1.getUnscaledLong(2));
+            assertTrue(rs1.wasNull());
+            testConn.close();
+        }
+    }
+
+    /**
+     * Tests StreamableResultSet.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testStreamableResultSet() throws Exception {
+        createTable("testStreamableResultSet", "(id INT, name VARCHAR(20), amount DECIMAL(10,2), d DATE)");
+        StringBuilder sql = new StringBuilder("INSERT INTO testStreamableResultSet VALUES ");
+        for (int i = 1; i <= 5000; i++) {
+            sql.append(i == 1 ? "" : ",").append("(").append(i).append(", 'name").append(i).append("', ").append(i).append(".25, ")
+                    .append(i % 10 == 0 ? "NULL" : "'2020-01-02'").append(")");
+        }
+        this.stmt.executeUpdate(sql.toString());
+
+        for (String useServerPrepStmts : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useServerPrepStmts);
+            Connection testConn = getConnectionWithProps(props);
+            PreparedStatement ps = testConn.prepareStatement("SELECT id, name, amount, d FROM testStreamableResultSet ORDER BY id");
+
+            ResultSet rs1 = ps.executeQuery();
+            StreamableResultSet srs = rs1.unwrap(StreamableResultSet.class);
+            assertEquals(5000 * 5001 / 2, srs.parallelStream().mapToLong(r -> r.getInt(1)).sum());
+            assertEquals(5000, srs.parallelStream().filter(r -> r.getString(r.findColumn("name")).equals("name" + r.getLong(1))).count());
+            assertEquals(500, srs.parallelStream().filter(r -> r.getLocalDate(4) == null && r.wasNull()).count());
+            List<Long> amounts = srs.parallelStream().map(r -> r.getUnscaledLong(3)).collect(Collectors.toList());
+            assertEquals(5000, amounts.size());
+            assertEquals(Long.valueOf(125), amounts.get(0));
+            assertEquals(Long.valueOf(500025), amounts.get(4999));
+            assertEquals(new BigDecimal("1.25"), srs.stream().findFirst().get().getBigDecimal(3));
+            // the cursor isn't moved by fully-read result sets
+            assertTrue(rs1.next());
+            assertEquals(1, rs1.getInt(1));
+            rs1.close();
+
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ResultSet rs2 = ps.executeQuery();
+            assertTrue(rs2.next());
+            List<Integer> ids = rs2.unwrap(StreamableResultSet.class).parallelStream().map(r -> r.getInt(1)).collect(Collectors.toList());
+            assertEquals(4999, ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                assertEquals(Integer.valueOf(i + 2), ids.get(i));
+            }
+            assertFalse(rs2.next());
+            rs2.close();
+            testConn.close();
+        }
+    }
+
+    public static class RowMapperBean {
+        private int id;
+        private String itemName;
+        private BigDecimal amount;
+        private LocalDate d;
+        private Long total;
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public void setItemName(String itemName) {
+            this.itemName = itemName;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public void setD(LocalDate d) {
+            this.d = d;
+        }
+
+        public void setTotal(Long total) {
+            this.total = total;
+        }
+    }
+
+    /**
+     * Tests mapping rows to beans with {@link StreamableResultSet#getRowMapper(Class)}.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testRowMapper() throws Exception {
+        createTable("testRowMapper", "(id INT, item_name VARCHAR(20), amount DECIMAL(10,2), d DATE, total BIGINT, ignored INT)");
+        this.stmt.executeUpdate("INSERT INTO testRowMapper VALUES (1, 'one', 1.25, '2020-01-02', 10, 0), (2, NULL, NULL, NULL, NULL, 0)");
+
+        for (String useServerPrepStmts : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useServerPrepStmts);
+            Connection testConn = getConnectionWithProps(props);
+            PreparedStatement ps = testConn.prepareStatement("SELECT * FROM testRowMapper ORDER BY id");
+
+            ResultSet rs1 = ps.executeQuery();
+            StreamableResultSet srs = rs1.unwrap(StreamableResultSet.class);
+            RowMapper<RowMapperBean> mapper = srs.getRowMapper(RowMapperBean.class);
+            List<RowMapperBean> beans = srs.stream().map(mapper).collect(Collectors.toList());
+            assertEquals(2, beans.size());
+            assertEquals(1, beans.get(0).id);
+            assertEquals("one", beans.get(0).itemName);
+            assertEquals(new BigDecimal("1.25"), beans.get(0).amount);
+            assertEquals(LocalDate.of(2020, 1, 2), beans.get(0).d);
+            assertEquals(Long.valueOf(10), beans.get(0).total);
+            assertEquals(2, beans.get(1).id);
+            assertNull(beans.get(1).itemName);
+            assertNull(beans.get(1).amount);
+            assertNull(beans.get(1).d);
+            assertNull(beans.get(1).total);
+            rs1.close();
+
+            // the plan is cached by column layout
+            ResultSet rs2 = ps.executeQuery();
+            assertSame(mapper, rs2.unwrap(StreamableResultSet.class).getRowMapper(RowMapperBean.class));
+            rs2.close();
+            testConn.close();
+        }
+
+        assertThrows(SQLException.class, "Class 'java.lang.Integer' has no accessible canonical or no-argument constructor to map rows to\\.",
+                () -> this.stmt.executeQuery("SELECT 1").unwrap(StreamableResultSet.class).getRowMapper(Integer.class));
+    }
+
+    public static class NarrowRowMapperBean {
+        private short s;
+        private byte b;
+        private float f;
+
+        public void setS(short s) {
+            this.s = s;
+        }
+
+        public void setB(byte b) {
+            this.b = b;
+        }
+
+        public void setF(float f) {
+            this.f = f;
+        }
+    }
+
+    /**
+     * Tests that short, byte and float properties mapped with {@link StreamableResultSet#getRowMapper(Class)} are range-checked the same way as by
+     * {@link ResultSet#getShort(int)}, {@link ResultSet#getByte(int)} and {@link ResultSet#getFloat(int)}.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testRowMapperNarrowing() throws Exception {
+        createTable("testRowMapperNarrowing", "(id INT, s INT, b INT, f DOUBLE)");
+        this.stmt.executeUpdate("INSERT INTO testRowMapperNarrowing VALUES (1, -300, 100, 1.5), (2, 100000, 1, 1), (3, 1, 300, 1), (4, 1, 1, 1e300)");
+
+        for (String useServerPrepStmts : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useServerPrepStmts);
+            Connection testConn = getConnectionWithProps(props);
+            PreparedStatement ps = testConn.prepareStatement("SELECT s, b, f FROM testRowMapperNarrowing WHERE id = ?");
+
+            ps.setInt(1, 1);
+            ResultSet rs = ps.executeQuery();
+            StreamableResultSet srs = rs.unwrap(StreamableResultSet.class);
+            List<NarrowRowMapperBean> beans = srs.stream().map(srs.getRowMapper(NarrowRowMapperBean.class)).collect(Collectors.toList());
+            assertEquals(1, beans.size());
+            assertEquals(-300, beans.get(0).s);
+            assertEquals(100, beans.get(0).b);
+            assertEquals(1.5f, beans.get(0).f);
+            rs.close();
+
+            String[] expectedValues = new String[] { "100000", "300", ".+" }; // doubles are formatted by the message format
+            String[] expectedTypes = new String[] { "Short", "Byte", "Float" };
+            for (int id = 2; id <= 4; id++) {
+                ps.setInt(1, id);
+                ResultSet outOfRangeRs = ps.executeQuery();
+                StreamableResultSet outOfRangeSrs = outOfRangeRs.unwrap(StreamableResultSet.class);
+                RowMapper<NarrowRowMapperBean> mapper = outOfRangeSrs.getRowMapper(NarrowRowMapperBean.class);
+                assertThrows(NumberOutOfRange.class,
+                        "Value '" + expectedValues[id - 2] + "' is outside of valid range for type java\\.lang\\." + expectedTypes[id - 2],
+                        () -> outOfRangeSrs.stream().map(mapper).collect(Collectors.toList()));
+                outOfRangeRs.close();
+            }
+            testConn.close();
+        }
+    }
+
+    /**
+     * Tests the primitive getInt(), getLong() and getDouble() getters on text and binary rows, including SQL NULL and out of range values.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPrimitiveNumericGetters() throws Exception {
+        createTable("testPrimitiveNumericGetters", "(id INT, i INT, l BIGINT, d DOUBLE, f FLOAT)");
+        this.stmt.executeUpdate("INSERT INTO testPrimitiveNumericGetters VALUES (1, -2147483648, 9223372036854775807, 1.5, 0.25), (2, NULL, NULL, NULL, NULL),"
+                + " (3, 1, 3000000000, 1e300, 1)");
+
+        for (String useServerPrepStmts : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useServerPrepStmts);
+            Connection testConn = getConnectionWithProps(props);
+            PreparedStatement ps = testConn.prepareStatement("SELECT i, l, d, f FROM testPrimitiveNumericGetters WHERE id = ?");
+
+            ps.setInt(1, 1);
+            ResultSet rs = ps.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(Integer.MIN_VALUE, rs.getInt(1));
+            assertFalse(rs.wasNull());
+            assertEquals(Integer.MIN_VALUE, rs.getLong("i"));
+            assertEquals(Long.MAX_VALUE, rs.getLong(2));
+            assertEquals(1.5, rs.getDouble(3));
+            assertEquals(1, rs.getInt(3));
+            assertEquals(0.25, rs.getDouble("f"));
+            assertEquals(Integer.MIN_VALUE, rs.getDouble(1));
+            rs.close();
+
+            ps.setInt(1, 2);
+            rs = ps.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1));
+            assertTrue(rs.wasNull());
+            assertEquals(0, rs.getLong(2));
+            assertTrue(rs.wasNull());
+            assertEquals(0, rs.getDouble(3));
+            assertTrue(rs.wasNull());
+            assertEquals(0, rs.getDouble(4));
+            assertTrue(rs.wasNull());
+            rs.close();
+
+            ps.setInt(1, 3);
+            ResultSet outOfRangeRs = ps.executeQuery();
+            assertTrue(outOfRangeRs.next());
+            assertEquals(1, outOfRangeRs.getInt(1));
+            assertEquals(3000000000L, outOfRangeRs.getLong(2));
+            assertThrows(SQLException.class, "Value '3000000000' is outside of valid range for type java\\.lang\\.Integer", () -> outOfRangeRs.getInt(2));
+            assertThrows(SQLException.class, "Value '.+' is outside of valid range for type java\\.lang\\.Long", () -> outOfRangeRs.getLong(3));
+            assertThrows(SQLException.class, "Value '.+' is outside of valid range for type java\\.lang\\.Integer", () -> outOfRangeRs.getInt(3));
+            assertEquals(1e300, outOfRangeRs.getDouble(3));
+            outOfRangeRs.close();
+
+            testConn.close();
+        }
+    }
 }
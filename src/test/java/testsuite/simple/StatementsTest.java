@@ -35,6 +35,7 @@ import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -43,7 +44,10 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.BatchUpdateException;
 import java.sql.CallableStatement;
 import java.sql.Connection;
@@ -60,14 +64,21 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
 
@@ -75,6 +86,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.mysql.cj.CancelQueryService;
 import com.mysql.cj.CharsetMapping;
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.MysqlType;
@@ -83,12 +95,15 @@ import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.jdbc.ClientPreparedStatement;
 import com.mysql.cj.jdbc.ConnectionImpl;
 import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcStatement;
 import com.mysql.cj.jdbc.ParameterBindings;
 import com.mysql.cj.jdbc.ServerPreparedStatement;
+import com.mysql.cj.jdbc.exceptions.CommunicationsException;
 import com.mysql.cj.jdbc.exceptions.MySQLStatementCancelledException;
 import com.mysql.cj.jdbc.exceptions.MySQLTimeoutException;
 import com.mysql.cj.jdbc.interceptors.ServerStatusDiffInterceptor;
-import com.mysql.cj.util.LRUCache;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.util.ConcurrentLRUCache;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.TimeUtil;
 
@@ -3800,7 +3815,7 @@ public class StatementsTest extends BaseTestCase {
         stmtsCacheField.setAccessible(true);
         ToIntFunction<Connection> getStmtsCacheSize = (c) -> {
             try {
-                LRUCache<?, ?> stmtsCacheObj = (LRUCache<?, ?>) stmtsCacheField.get(c);
+                ConcurrentLRUCache<?, ?> stmtsCacheObj = (ConcurrentLRUCache<?, ?>) stmtsCacheField.get(c);
                 return stmtsCacheObj == null ? -1 : stmtsCacheObj.size();
             } catch (IllegalArgumentException | IllegalAccessException e) {
                 fail("Fail getting the statemets cache size.");
@@ -3810,7 +3825,7 @@ public class StatementsTest extends BaseTestCase {
         Function<Connection, ServerPreparedStatement> getStmtsCacheSingleElem = (c) -> {
             try {
                 @SuppressWarnings("unchecked")
-                LRUCache<?, ServerPreparedStatement> stmtsCacheObj = (LRUCache<?, ServerPreparedStatement>) stmtsCacheField.get(c);
+                ConcurrentLRUCache<?, ServerPreparedStatement> stmtsCacheObj = (ConcurrentLRUCache<?, ServerPreparedStatement>) stmtsCacheField.get(c);
                 return stmtsCacheObj.get(stmtsCacheObj.keySet().iterator().next());
             } catch (IllegalArgumentException | IllegalAccessException e) {
                 fail("Fail getting the statemets cache element.");
@@ -4074,4 +4089,608 @@ public class StatementsTest extends BaseTestCase {
             }
         } while ((useSPS = !useSPS) || (cachePS = !cachePS));
     }
+
+    /**
+     * Tests that client-side prepared statements run often enough get promoted to cached server-side prepared statements with
+     * 'prepStmtPromotionThreshold'.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPrepStmtPromotion() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "false");
+        props.setProperty(PropertyKey.cachePrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.prepStmtPromotionThreshold.getKeyName(), "3");
+
+        Connection testConn = getConnectionWithProps(props);
+        try {
+            String sql = "SELECT ? + 1";
+            PreparedStatement promotedPstmt = null;
+            for (int i = 0; i < 6; i++) {
+                PreparedStatement testPstmt = testConn.prepareStatement(sql);
+                if (i < 3) {
+                    assertFalse(testPstmt instanceof ServerPreparedStatement);
+                } else if (i == 3) {
+                    assertTrue(testPstmt instanceof ServerPreparedStatement);
+                    promotedPstmt = testPstmt;
+                } else {
+                    // the promoted statement is cached
+                    assertSame(promotedPstmt, testPstmt);
+                }
+
+                testPstmt.setInt(1, i);
+                this.rs = testPstmt.executeQuery();
+                assertTrue(this.rs.next());
+                assertEquals(i + 1, this.rs.getInt(1));
+                testPstmt.close();
+            }
+
+            // statements run less often stay client-side
+            PreparedStatement testPstmt = testConn.prepareStatement("SELECT ? + 2");
+            assertFalse(testPstmt instanceof ServerPreparedStatement);
+            testPstmt.close();
+        } finally {
+            testConn.close();
+        }
+    }
+
+    /**
+     * Test for Statement.executeBatch() with pipelineBatchedStatements=true. Validate update counts returned and generated keys, with and without failing
+     * queries, using windows smaller and larger than the batch.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testStmtExecuteBatchPipelined() throws Exception {
+        for (String maxPipelinedCommands : new String[] { "2", "128" }) {
+            Connection testConn = getConnectionWithProps("pipelineBatchedStatements=true,maxPipelinedCommands=" + maxPipelinedCommands);
+            Statement testStmt = testConn.createStatement();
+
+            createTable("testStmtExecuteBatchPipelined", "(id BIGINT AUTO_INCREMENT PRIMARY KEY, n INT)");
+
+            testStmt.addBatch("INSERT INTO testStmtExecuteBatchPipelined (n) VALUES (1)");
+            testStmt.addBatch("INSERT INTO testStmtExecuteBatchPipelined (n) VALUES (2), (3)");
+            testStmt.addBatch("INSERT INTO testStmtExecuteBatchPipelined (n) VALUES (4)");
+
+            int[] counts = testStmt.executeBatch();
+            assertEquals(3, counts.length);
+            assertEquals(1, counts[0]);
+            assertEquals(2, counts[1]);
+            assertEquals(1, counts[2]);
+
+            this.rs = testStmt.getGeneratedKeys();
+            long generatedKey = 0;
+            while (this.rs.next()) {
+                assertEquals(++generatedKey, this.rs.getLong(1));
+            }
+            assertEquals(4, generatedKey);
+
+            this.rs = testStmt.executeQuery("SELECT SUM(n) FROM testStmtExecuteBatchPipelined");
+            assertTrue(this.rs.next());
+            assertEquals(10, this.rs.getInt(1));
+
+            testStmt.addBatch("INSERT INTO testStmtExecuteBatchPipelined (n) VALUES (5)");
+            testStmt.addBatch("INSERT INTO testStmtExecuteBatchPipelined VALUES (6)");
+            testStmt.addBatch("INSERT INTO testStmtExecuteBatchPipelined (n) VALUES (7), (8)");
+            testStmt.addBatch("INSERT INTO testStmtExecuteBatchPipelined (n) VALUES ('nine')");
+            testStmt.addBatch("UPDATE testStmtExecuteBatchPipelined SET n = n + 10 WHERE n < 3");
+            testStmt.addBatch("DELETE FROM testStmtExecuteBatchPipelined WHERE n = 0");
+
+            try {
+                testStmt.executeBatch();
+                fail("BatchUpdateException expected");
+            } catch (BatchUpdateException e) {
+                counts = e.getUpdateCounts();
+                assertEquals(6, counts.length);
+                assertEquals(1, counts[0]);
+                assertEquals(Statement.EXECUTE_FAILED, counts[1]);
+                assertEquals(2, counts[2]);
+                assertEquals(Statement.EXECUTE_FAILED, counts[3]);
+                assertEquals(2, counts[4]);
+                assertEquals(0, counts[5]);
+            }
+
+            // the connection must still be usable after the pipeline was drained
+            this.rs = testStmt.executeQuery("SELECT COUNT(*) FROM testStmtExecuteBatchPipelined");
+            assertTrue(this.rs.next());
+            assertEquals(7, this.rs.getInt(1));
+
+            // a command that can't even be escaped fails on its own, in the middle of the pipeline
+            testStmt.addBatch("INSERT INTO testStmtExecuteBatchPipelined (n) VALUES (20)");
+            testStmt.addBatch("INSERT INTO testStmtExecuteBatchPipelined (n) VALUES (YEAR({d '2020'}))");
+            testStmt.addBatch("INSERT INTO testStmtExecuteBatchPipelined (n) VALUES (21)");
+            try {
+                testStmt.executeBatch();
+                fail("BatchUpdateException expected");
+            } catch (BatchUpdateException e) {
+                assertTrue(e.getMessage().contains("DATE escape sequence"));
+                counts = e.getUpdateCounts();
+                assertEquals(3, counts.length);
+                assertEquals(1, counts[0]);
+                assertEquals(Statement.EXECUTE_FAILED, counts[1]);
+                assertEquals(1, counts[2]);
+            }
+
+            this.rs = testStmt.executeQuery("SELECT COUNT(*) FROM testStmtExecuteBatchPipelined");
+            assertTrue(this.rs.next());
+            assertEquals(9, this.rs.getInt(1));
+
+            testConn.close();
+        }
+    }
+
+    /**
+     * Test for Statement.executeBatch() with pipelineBatchedStatements=true and statements that can't be pipelined hidden behind comments. A LOAD DATA LOCAL
+     * statement makes the server request the file before returning its result, so the batch must be executed serially.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testStmtExecuteBatchPipelinedNotPipelinable() throws Exception {
+        createTable("testStmtExecuteBatchPipelinedNP", "(field1 INT, field2 VARCHAR(255))");
+        InputStream stream = new ByteArrayInputStream("1\tabcd\n2\tefgh".getBytes());
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.allowLoadLocalInfile.getKeyName(), "true");
+        props.setProperty(PropertyKey.pipelineBatchedStatements.getKeyName(), "true");
+        Connection testConn = getConnectionWithProps(props);
+        Statement testStmt = testConn.createStatement();
+
+        try {
+            ((com.mysql.cj.jdbc.JdbcStatement) testStmt).setLocalInfileInputStream(stream);
+            testStmt.addBatch("INSERT INTO testStmtExecuteBatchPipelinedNP VALUES (0, 'zero')");
+            testStmt.addBatch("/* load the stream */ LOAD DATA LOCAL INFILE 'bogusFileName' INTO TABLE testStmtExecuteBatchPipelinedNP");
+            testStmt.addBatch("-- last row\nINSERT INTO testStmtExecuteBatchPipelinedNP VALUES (3, 'ijkl')");
+
+            int[] counts = testStmt.executeBatch();
+            assertEquals(3, counts.length);
+            assertEquals(1, counts[0]);
+            assertEquals(2, counts[1]);
+            assertEquals(1, counts[2]);
+            assertEquals(-1, stream.read());
+
+            this.rs = testStmt.executeQuery("SELECT COUNT(*), SUM(field1) FROM testStmtExecuteBatchPipelinedNP");
+            assertTrue(this.rs.next());
+            assertEquals(4, this.rs.getInt(1));
+            assertEquals(6, this.rs.getInt(2));
+        } finally {
+            ((com.mysql.cj.jdbc.JdbcStatement) testStmt).setLocalInfileInputStream(null);
+            testConn.close();
+        }
+    }
+
+    /**
+     * Test for JdbcStatement.executeAsync(). Many statements in flight on the same connection, mixed with synchronous statements.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testExecuteAsync() throws Exception {
+        createTable("testExecuteAsync", "(id INT PRIMARY KEY, n INT)");
+
+        Connection testConn = getConnectionWithProps("");
+        JdbcStatement testStmt = (JdbcStatement) testConn.createStatement();
+
+        List<CompletableFuture<ResultSet>> inserts = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            inserts.add(testStmt.executeAsync("INSERT INTO testExecuteAsync VALUES (" + i + ", " + i * 10 + ")"));
+        }
+        CompletableFuture<ResultSet> duplicate = testStmt.executeAsync("INSERT INTO testExecuteAsync VALUES (1, 0)");
+        CompletableFuture<ResultSet> select = testStmt.executeAsync("SELECT id, n FROM testExecuteAsync ORDER BY id");
+
+        // a synchronous statement reads all pending results first
+        this.rs = testConn.createStatement().executeQuery("SELECT COUNT(*) FROM testExecuteAsync");
+        assertTrue(this.rs.next());
+        assertEquals(100, this.rs.getInt(1));
+
+        for (CompletableFuture<ResultSet> insert : inserts) {
+            assertEquals(1, ((ResultSetInternalMethods) insert.get(10, TimeUnit.SECONDS)).getUpdateCount());
+        }
+
+        try {
+            duplicate.get(10, TimeUnit.SECONDS);
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof SQLException);
+            assertEquals(MysqlErrorNumbers.ER_DUP_ENTRY, ((SQLException) e.getCause()).getErrorCode());
+        }
+
+        this.rs = select.get(10, TimeUnit.SECONDS);
+        for (int i = 1; i <= 100; i++) {
+            assertTrue(this.rs.next());
+            assertEquals(i, this.rs.getInt(1));
+            assertEquals(i * 10, this.rs.getInt(2));
+        }
+        assertFalse(this.rs.next());
+
+        // results are delivered without any further synchronous operation
+        this.rs = testStmt.executeAsync("SELECT SUM(n) FROM testExecuteAsync").thenApply(r -> r).get(10, TimeUnit.SECONDS);
+        assertTrue(this.rs.next());
+        assertEquals(50500, this.rs.getInt(1));
+
+        // statements with a query timeout are executed synchronously, so that the timeout cancels this statement and not another pipelined one
+        testStmt.setQueryTimeout(1);
+        long begin = System.currentTimeMillis();
+        CompletableFuture<ResultSet> timedOut = testStmt.executeAsync("/* sleep */ SELECT SLEEP(30)");
+        assertTrue(timedOut.isDone());
+        assertTrue(System.currentTimeMillis() - begin < 30000, "Probably wasn't actually cancelled");
+        try {
+            timedOut.get();
+            fail("ExecutionException expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof MySQLTimeoutException);
+        }
+        testStmt.setQueryTimeout(0);
+
+        // when the connection is lost, every result still pending fails with the communications failure
+        List<CompletableFuture<ResultSet>> pending = new ArrayList<>();
+        pending.add(testStmt.executeAsync("SELECT SLEEP(30)"));
+        for (int i = 0; i < 3; i++) {
+            pending.add(testStmt.executeAsync("SELECT " + i));
+        }
+        this.stmt.execute("KILL " + ((JdbcConnection) testConn).getId());
+        for (CompletableFuture<ResultSet> future : pending) {
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                fail("ExecutionException expected");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof CommunicationsException, "Unexpected exception: " + e.getCause());
+            }
+        }
+
+        testConn.close();
+    }
+
+    /**
+     * Tests that query timeouts reuse the control sessions kept by {@link CancelQueryService}.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testQueryTimeoutControlSessionsReuse() throws Exception {
+        Connection testConn = getConnectionWithProps("queryCancellationSessionsPerHost=1");
+        Statement testStmt = testConn.createStatement();
+        testStmt.setQueryTimeout(1);
+
+        long issued = CancelQueryService.getCancellationsIssued();
+        long opened = CancelQueryService.getControlSessionsOpened();
+
+        for (int i = 0; i < 3; i++) {
+            long begin = System.currentTimeMillis();
+            assertThrows(MySQLTimeoutException.class, () -> testStmt.executeQuery("SELECT SLEEP(30)"));
+            assertTrue(System.currentTimeMillis() - begin < 30000, "Probably wasn't actually cancelled");
+        }
+
+        assertEquals(issued + 3, CancelQueryService.getCancellationsIssued());
+        // the first timeout may open a control session, the others must reuse it
+        assertTrue(CancelQueryService.getControlSessionsOpened() - opened <= 1);
+        assertTrue(CancelQueryService.getIdleControlSessions() >= 1);
+
+        // connections with different networking settings don't share control sessions
+        Connection otherConn = getConnectionWithProps("queryCancellationSessionsPerHost=1,connectTimeout=12345");
+        Statement otherStmt = otherConn.createStatement();
+        otherStmt.setQueryTimeout(1);
+        opened = CancelQueryService.getControlSessionsOpened();
+        assertThrows(MySQLTimeoutException.class, () -> otherStmt.executeQuery("SELECT SLEEP(30)"));
+        assertEquals(opened + 1, CancelQueryService.getControlSessionsOpened());
+        otherConn.close();
+
+        testStmt.setQueryTimeout(0);
+        this.rs = testStmt.executeQuery("SELECT 1");
+        assertTrue(this.rs.next());
+        assertEquals(1, this.rs.getInt(1));
+
+        testConn.close();
+    }
+
+    /**
+     * Tests that statements executed from many virtual threads sharing one connection don't pin their carrier threads while they wait for the connection
+     * lock or for the server. Virtual threads and JFR are used through reflection, the test is skipped on JVMs that don't have them.
+     */
+    @Test
+    public void testVirtualThreadsNotPinned() throws Exception {
+        Method ofVirtual = null;
+        Class<?> recordingClass = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            recordingClass = Class.forName("jdk.jfr.Recording");
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            // no virtual threads in this JVM
+        }
+        assumeTrue(ofVirtual != null && recordingClass != null, "Virtual threads and JFR are required.");
+        Method unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+
+        Object recording = recordingClass.getConstructor().newInstance();
+        Object pinnedSettings = recordingClass.getMethod("enable", String.class).invoke(recording, "jdk.VirtualThreadPinned");
+        Class.forName("jdk.jfr.EventSettings").getMethod("withThreshold", Duration.class).invoke(pinnedSettings, Duration.ZERO);
+        recordingClass.getMethod("start").invoke(recording);
+
+        Connection testConn = getConnectionWithProps("useServerPrepStmts=true");
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final int n = i;
+            Runnable task = () -> {
+                try {
+                    if (n % 2 == 0) {
+                        try (Statement testStmt = testConn.createStatement(); ResultSet testRs = testStmt.executeQuery("SELECT SLEEP(0.01), " + n)) {
+                            assertTrue(testRs.next());
+                            assertEquals(n, testRs.getInt(2));
+                        }
+                    } else {
+                        try (PreparedStatement testPstmt = testConn.prepareStatement("SELECT SLEEP(0.01), ?")) {
+                            testPstmt.setInt(1, n);
+                            try (ResultSet testRs = testPstmt.executeQuery()) {
+                                assertTrue(testRs.next());
+                                assertEquals(n, testRs.getInt(2));
+                            }
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            };
+            threads.add((Thread) unstarted.invoke(ofVirtual.invoke(null), task));
+        }
+        for (Thread t : threads) {
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        testConn.close();
+
+        recordingClass.getMethod("stop").invoke(recording);
+        Path dump = Files.createTempFile("testVirtualThreadsNotPinned", ".jfr");
+        try {
+            recordingClass.getMethod("dump", Path.class).invoke(recording, dump);
+            List<?> events = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile").getMethod("readAllEvents", Path.class).invoke(null, dump);
+            Method getEventType = Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getEventType");
+            Method getName = Class.forName("jdk.jfr.EventType").getMethod("getName");
+            for (Object event : events) {
+                assertFalse("jdk.VirtualThreadPinned".equals(getName.invoke(getEventType.invoke(event))), "Carrier thread pinned: " + event);
+            }
+        } finally {
+            recordingClass.getMethod("close").invoke(recording);
+            Files.deleteIfExists(dump);
+        }
+
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+    }
+
+    /**
+     * Tests caching of result set metadata per server-prepared statement, and statements executed while the server omits the metadata.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testServerPreparedStatementMetadataCache() throws Exception {
+        createTable("testSPSMetadataCache", "(id INT, s VARCHAR(20))");
+        this.stmt.executeUpdate("INSERT INTO testSPSMetadataCache VALUES (1, 'a'), (2, 'b')");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.cacheResultSetMetadata.getKeyName(), "true");
+        Connection testConn = getConnectionWithProps(props);
+        PreparedStatement ps = testConn.prepareStatement("SELECT ?, s FROM testSPSMetadataCache WHERE id = ?");
+
+        for (int i = 1; i <= 2; i++) {
+            ps.setInt(1, 10);
+            ps.setInt(2, i);
+            ResultSet rs1 = ps.executeQuery();
+            assertTrue(rs1.next());
+            assertEquals(10, rs1.getInt(1));
+            assertEquals(i == 1 ? "a" : "b", rs1.getString("s"));
+            assertEquals(Types.BIGINT, rs1.getMetaData().getColumnType(1));
+        }
+
+        // changed parameter types change the result columns
+        ps.setString(1, "abc");
+        ps.setInt(2, 1);
+        ResultSet rs1 = ps.executeQuery();
+        assertTrue(rs1.next());
+        assertEquals("abc", rs1.getString(1));
+        assertEquals(Types.VARCHAR, rs1.getMetaData().getColumnType(1));
+
+        if (versionMeetsMinimum(8, 0, 3)) {
+            Statement testStmt = testConn.createStatement();
+            testStmt.execute("SET resultset_metadata = NONE");
+            try {
+                ps.setString(1, "def");
+                ps.setInt(2, 2);
+                rs1 = ps.executeQuery();
+                assertTrue(rs1.next());
+                assertEquals("def", rs1.getString(1));
+                assertEquals("b", rs1.getString("s"));
+
+                assertThrows(SQLException.class, "The server didn't send the result set metadata.*", () -> {
+                    testStmt.executeQuery("SELECT 1 FROM testSPSMetadataCache");
+                    return null;
+                });
+            } finally {
+                testStmt.execute("SET resultset_metadata = FULL");
+            }
+        }
+        testConn.close();
+    }
+
+    /**
+     * Test for ServerPreparedStatement.executeBatch() with pipelineBatchedStatements=true. Validate update counts returned and generated keys, with and without
+     * failing executions and parameter type changes, using windows smaller and larger than the batch.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testServerPrepStmtExecuteBatchPipelined() throws Exception {
+        for (String maxPipelinedCommands : new String[] { "2", "128" }) {
+            Connection testConn = getConnectionWithProps("useServerPrepStmts=true,pipelineBatchedStatements=true,maxPipelinedCommands=" + maxPipelinedCommands);
+
+            createTable("testServerPrepStmtExecuteBatchPipelined", "(id BIGINT AUTO_INCREMENT PRIMARY KEY, n INT UNIQUE)");
+
+            PreparedStatement testPstmt = testConn.prepareStatement("INSERT INTO testServerPrepStmtExecuteBatchPipelined (n) VALUES (?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            assertTrue(testPstmt instanceof ServerPreparedStatement);
+            for (int i = 1; i <= 5; i++) {
+                testPstmt.setInt(1, i);
+                testPstmt.addBatch();
+            }
+
+            int[] counts = testPstmt.executeBatch();
+            assertEquals(5, counts.length);
+            for (int count : counts) {
+                assertEquals(1, count);
+            }
+
+            this.rs = testPstmt.getGeneratedKeys();
+            long generatedKey = 0;
+            while (this.rs.next()) {
+                assertEquals(++generatedKey, this.rs.getLong(1));
+            }
+            assertEquals(5, generatedKey);
+
+            testPstmt.setInt(1, 6);
+            testPstmt.addBatch();
+            testPstmt.setInt(1, 1); // duplicate key
+            testPstmt.addBatch();
+            testPstmt.setInt(1, 7);
+            testPstmt.addBatch();
+
+            try {
+                testPstmt.executeBatch();
+                fail("BatchUpdateException expected");
+            } catch (BatchUpdateException e) {
+                counts = e.getUpdateCounts();
+                assertEquals(3, counts.length);
+                assertEquals(1, counts[0]);
+                assertEquals(Statement.EXECUTE_FAILED, counts[1]);
+                assertEquals(1, counts[2]);
+            }
+
+            testPstmt = testConn.prepareStatement("UPDATE testServerPrepStmtExecuteBatchPipelined SET n = n + 100 WHERE n = ?");
+            testPstmt.setInt(1, 6);
+            testPstmt.addBatch();
+            testPstmt.setString(1, "7");
+            testPstmt.addBatch();
+            testPstmt.setLong(1, 0);
+            testPstmt.addBatch();
+            counts = testPstmt.executeBatch();
+            assertEquals(3, counts.length);
+            assertEquals(1, counts[0]);
+            assertEquals(1, counts[1]);
+            assertEquals(0, counts[2]);
+
+            // an execution that can't even be sent fails on its own, in the middle of the pipeline
+            testPstmt = testConn.prepareStatement("INSERT INTO testServerPrepStmtExecuteBatchPipelined (n) VALUES (? + ?)");
+            testPstmt.setInt(1, 200);
+            testPstmt.setInt(2, 1);
+            testPstmt.addBatch();
+            testPstmt.clearParameters();
+            testPstmt.setInt(1, 300); // second parameter not set
+            testPstmt.addBatch();
+            testPstmt.setInt(1, 200);
+            testPstmt.setInt(2, 2);
+            testPstmt.addBatch();
+            try {
+                testPstmt.executeBatch();
+                fail("BatchUpdateException expected");
+            } catch (BatchUpdateException e) {
+                counts = e.getUpdateCounts();
+                assertEquals(3, counts.length);
+                assertEquals(1, counts[0]);
+                assertEquals(Statement.EXECUTE_FAILED, counts[1]);
+                assertEquals(1, counts[2]);
+            }
+
+            // the connection must still be usable after the pipeline was drained
+            this.rs = testConn.createStatement().executeQuery("SELECT COUNT(*), SUM(n) FROM testServerPrepStmtExecuteBatchPipelined");
+            assertTrue(this.rs.next());
+            assertEquals(9, this.rs.getInt(1));
+            assertEquals(15 + 106 + 107 + 201 + 202, this.rs.getInt(2));
+
+            testConn.close();
+        }
+    }
+
+    /**
+     * Tests that client prepared statement parameters written through the binding arena (useBindingArena=true) produce the same SQL literals and the same
+     * stored values as the legacy encoding, for strings that need escaping, multibyte and surrogate-pair strings, NO_BACKSLASH_ESCAPES, and DATE, TIME and
+     * TIMESTAMP values with fractional seconds rounding and truncation.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testClientPrepStmtBindingArena() throws Exception {
+        createTable("testClientPrepStmtBindingArena", "(id INT, s VARCHAR(100), d DATE, t TIME, ts TIMESTAMP(6) NULL) DEFAULT CHARSET=utf8mb4");
+
+        String[] strings = new String[] { "plain", "it's", "back\\slash", "\\'", "\"double\"", "ctrl\n\r\u001a\u0000", "caf\u00e9 \u20ac",
+                "smile \ud83d\ude00 \ud83d\ude00" };
+        Timestamp[] timestamps = new Timestamp[] { Timestamp.valueOf("2020-02-29 23:59:59.999999999"), Timestamp.valueOf("2020-01-01 10:20:30.123456789"),
+                Timestamp.valueOf("1999-12-31 00:00:00.5") };
+        Date date = Date.valueOf("2020-02-29");
+        Time time = Time.valueOf("23:59:58");
+
+        // { sql_mode, sendFractionalSeconds, expected value of the first timestamp }
+        List<String[]> configs = new ArrayList<>();
+        configs.add(new String[] { "", "true", "2020-03-01 00:00:00.0" });
+        configs.add(new String[] { "NO_BACKSLASH_ESCAPES", "true", "2020-03-01 00:00:00.0" });
+        configs.add(new String[] { "", "false", "2020-02-29 23:59:59.0" });
+        if (versionMeetsMinimum(8, 0, 8)) {
+            configs.add(new String[] { "TIME_TRUNCATE_FRACTIONAL", "true", "2020-02-29 23:59:59.999999" });
+        }
+
+        for (String[] config : configs) {
+            List<List<String>> sqlByArena = new ArrayList<>();
+            List<List<String>> valuesByArena = new ArrayList<>();
+
+            for (String useBindingArena : new String[] { "false", "true" }) {
+                final String testCase = String.format("Case: [sql_mode=%s, sendFractionalSeconds=%s, useBindingArena=%s]", config[0], config[1],
+                        useBindingArena);
+
+                Properties props = new Properties();
+                props.setProperty(PropertyKey.characterEncoding.getKeyName(), "UTF-8");
+                props.setProperty(PropertyKey.sessionVariables.getKeyName(), "sql_mode='" + config[0] + "'");
+                props.setProperty(PropertyKey.sendFractionalSeconds.getKeyName(), config[1]);
+                props.setProperty(PropertyKey.useBindingArena.getKeyName(), useBindingArena);
+                Connection testConn = getConnectionWithProps(props);
+                testConn.createStatement().execute("TRUNCATE TABLE testClientPrepStmtBindingArena");
+
+                List<String> sql = new ArrayList<>();
+                PreparedStatement testPstmt = testConn.prepareStatement("INSERT INTO testClientPrepStmtBindingArena VALUES (?, ?, ?, ?, ?)");
+                assertTrue(testPstmt instanceof ClientPreparedStatement, testCase);
+                for (int i = 0; i < strings.length; i++) {
+                    testPstmt.setInt(1, i);
+                    testPstmt.setString(2, strings[i]);
+                    testPstmt.setDate(3, date);
+                    testPstmt.setTime(4, time);
+                    testPstmt.setTimestamp(5, timestamps[i % timestamps.length]);
+                    sql.add(((ClientPreparedStatement) testPstmt).asSql());
+                    assertEquals(1, testPstmt.executeUpdate(), testCase);
+                }
+
+                List<String> values = new ArrayList<>();
+                this.rs = testConn.createStatement().executeQuery("SELECT id, s, d, t, ts FROM testClientPrepStmtBindingArena ORDER BY id");
+                for (int i = 0; i < strings.length; i++) {
+                    assertTrue(this.rs.next(), testCase);
+                    assertEquals(strings[i], this.rs.getString(2), testCase);
+                    assertEquals(date, this.rs.getDate(3), testCase);
+                    assertEquals(time, this.rs.getTime(4), testCase);
+                    if (i == 0) {
+                        assertEquals(Timestamp.valueOf(config[2]), this.rs.getTimestamp(5), testCase);
+                    }
+                    values.add(this.rs.getString(2) + "|" + this.rs.getString(3) + "|" + this.rs.getString(4) + "|" + this.rs.getString(5));
+                }
+                assertFalse(this.rs.next(), testCase);
+
+                sqlByArena.add(sql);
+                valuesByArena.add(values);
+                testConn.close();
+            }
+
+            assertEquals(sqlByArena.get(0), sqlByArena.get(1), "sql_mode=" + config[0] + ", sendFractionalSeconds=" + config[1]);
+            assertEquals(valuesByArena.get(0), valuesByArena.get(1), "sql_mode=" + config[0] + ", sendFractionalSeconds=" + config[1]);
+        }
+    }
 }
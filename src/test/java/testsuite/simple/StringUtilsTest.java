@@ -31,6 +31,8 @@ package testsuite.simple;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.Charset;
@@ -39,12 +41,15 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.Callable;
 
 import org.junit.jupiter.api.Test;
 
+import com.mysql.cj.exceptions.WrongArgumentException;
 import com.mysql.cj.util.LazyString;
+import com.mysql.cj.util.StringDecoder;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.StringUtils.SearchMode;
 
@@ -1358,4 +1363,34 @@ public class StringUtilsTest extends BaseTestCase {
             assertEquals(origBytes[i], unquotedBytes[i]);
         }
     }
+
+    /**
+     * Tests that StringDecoder builds the same strings as the JDK decoders.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testStringDecoder() throws Exception {
+        Random random = new Random(1L);
+        byte[][] values = new byte[][] { new byte[0], "plain ASCII value".getBytes("US-ASCII"), "caf\u00e9 \u20ac \u4e2d\u6587 \ud83d\ude00".getBytes("UTF-8"),
+                new byte[] { 'a', (byte) 0x80, (byte) 0x9F, (byte) 0xA0, (byte) 0xFF }, new byte[] { 'a', (byte) 0xC3, (byte) 0x28, (byte) 0xF0, 'b' },
+                new byte[256] };
+        random.nextBytes(values[values.length - 1]);
+
+        for (String encoding : new String[] { "UTF-8", "US-ASCII", "ISO8859_1", "Cp1252", "Cp1250", "SJIS", "GBK", "UTF-16", "UTF-32" }) {
+            StringDecoder decoder = StringDecoder.forEncoding(encoding);
+            assertSame(decoder, StringDecoder.forEncoding(encoding));
+            for (byte[] value : values) {
+                assertEquals(new String(value, encoding), decoder.decode(value, 0, value.length), encoding);
+                if (value.length > 2) {
+                    assertEquals(new String(value, 1, value.length - 2, encoding), decoder.decode(value, 1, value.length - 2), encoding);
+                    assertEquals(new String(value, 1, value.length - 2, encoding), StringUtils.toString(value, 1, value.length - 2, encoding), encoding);
+                }
+            }
+        }
+
+        byte[] value = "value".getBytes();
+        assertEquals(new String(value), StringDecoder.forEncoding(null).decode(value, 0, value.length));
+        assertThrows(WrongArgumentException.class, () -> StringDecoder.forEncoding("no-such-encoding"));
+    }
 }